@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jandex.AnnotationUsageBuilder;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.testing.generator.GeneratedDomainModel;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks extracting {@linkplain org.hibernate.models.source.spi.AnnotationUsage annotation usages}
+ * from Jandex for the classes, fields and methods of the model, via {@linkplain AnnotationUsageBuilder#collectUsages}
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class AnnotationUsageBenchmarks {
+	@Param( { "100", "1000", "10000" } )
+	public int modelSize;
+
+	private SourceModelBuildingContextImpl buildingContext;
+	private final List<org.jboss.jandex.AnnotationTarget> jandexTargets = new ArrayList<>();
+	private final List<AnnotationTarget> targets = new ArrayList<>();
+
+	@Setup( Level.Trial )
+	public void prepareTargets() {
+		final GeneratedDomainModel model = BenchmarkModels.generate( modelSize );
+		final Index jandexIndex = model.buildJandexIndex();
+		buildingContext = new SourceModelBuildingContextImpl( model.getClassLoading(), jandexIndex );
+
+		for ( String className : model.getManagedClassNames() ) {
+			final ClassInfo classInfo = jandexIndex.getClassByName( DotName.createSimple( className ) );
+			final ClassDetails classDetails = buildingContext.getClassDetailsRegistry().resolveClassDetails( className );
+			jandexTargets.add( classInfo );
+			targets.add( classDetails );
+
+			for ( FieldInfo fieldInfo : classInfo.fields() ) {
+				jandexTargets.add( fieldInfo );
+				targets.add( classDetails.findFieldByName( fieldInfo.name() ) );
+			}
+
+			for ( MethodInfo methodInfo : classInfo.methods() ) {
+				if ( methodInfo.isConstructor() ) {
+					continue;
+				}
+				jandexTargets.add( methodInfo );
+				targets.add( classDetails.findMethod( (methodDetails) -> methodDetails.getName().equals( methodInfo.name() )
+						&& methodDetails.getArgumentTypes().size() == methodInfo.parametersCount() ) );
+			}
+		}
+	}
+
+	@Benchmark
+	public void collectUsages(Blackhole blackhole) {
+		for ( int i = 0; i < targets.size(); i++ ) {
+			blackhole.consume( AnnotationUsageBuilder.collectUsages( jandexTargets.get( i ), targets.get( i ), buildingContext ) );
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.benchmarks;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+
+/**
+ * ManagedResources for the classes of a generated benchmark model
+ *
+ * @author Steve Ebersole
+ */
+public class BenchmarkManagedResources implements ManagedResources {
+	private final Collection<Class<?>> knownClasses;
+
+	public BenchmarkManagedResources(Collection<Class<?>> knownClasses) {
+		this.knownClasses = knownClasses;
+	}
+
+	@Override
+	public Collection<ConverterDescriptor> getAttributeConverterDescriptors() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Collection<Class<?>> getAnnotatedClassReferences() {
+		return knownClasses;
+	}
+
+	@Override
+	public Collection<String> getAnnotatedClassNames() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Collection<String> getAnnotatedPackageNames() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Collection<Binding<BindableMappingDescriptor>> getXmlMappingBindings() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Map<String, Class<?>> getExtraQueryImports() {
+		return Collections.emptyMap();
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.benchmarks;
+
+import org.hibernate.models.testing.generator.DomainModelGenerator;
+import org.hibernate.models.testing.generator.GeneratedDomainModel;
+
+/**
+ * The generated domain models used as input to the benchmarks
+ *
+ * @author Steve Ebersole
+ */
+public class BenchmarkModels {
+	/**
+	 * Generate the benchmark model with the given number of entities
+	 */
+	public static GeneratedDomainModel generate(int entityCount) {
+		return new DomainModelGenerator()
+				.packageName( "org.hibernate.models.benchmarks.generated" )
+				.entityCount( entityCount )
+				.hierarchyDepth( 2 )
+				.attributeCount( 8 )
+				.associationDensity( 1 )
+				.propertyAccessRatio( 0.25 )
+				.namedQueryCount( 2 )
+				.converterCount( 5 )
+				.generateOrmXml( true )
+				.generate();
+	}
+
+	private BenchmarkModels() {
+		// disallow direct instantiation
+	}
+}
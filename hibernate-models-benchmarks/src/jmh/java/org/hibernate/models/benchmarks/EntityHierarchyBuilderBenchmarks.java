@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.models.orm.categorize.internal.DomainModelCategorizationCollector;
+import org.hibernate.models.orm.categorize.internal.EntityHierarchyBuilder;
+import org.hibernate.models.orm.categorize.internal.ModelCategorizationContextImpl;
+import org.hibernate.models.orm.categorize.spi.EntityHierarchy;
+import org.hibernate.models.orm.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.testing.generator.GeneratedDomainModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building the entity hierarchies of a categorized model, via
+ * {@linkplain EntityHierarchyBuilder#createEntityHierarchies}
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class EntityHierarchyBuilderBenchmarks {
+	@Param( { "100", "1000", "10000" } )
+	public int modelSize;
+
+	private Set<ClassDetails> rootEntities;
+	private ModelCategorizationContextImpl categorizationContext;
+
+	@Setup( Level.Trial )
+	public void categorizeModel() {
+		final GeneratedDomainModel model = BenchmarkModels.generate( modelSize );
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+				model.getClassLoading(),
+				model.buildJandexIndex(),
+				ManagedResourcesProcessor::preFillRegistries
+		);
+
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final DomainModelCategorizationCollector collector = new DomainModelCategorizationCollector(
+				true,
+				classDetailsRegistry
+		);
+		for ( String className : model.getManagedClassNames() ) {
+			collector.apply( classDetailsRegistry.resolveClassDetails( className ) );
+		}
+
+		rootEntities = collector.getRootEntities();
+		categorizationContext = new ModelCategorizationContextImpl(
+				classDetailsRegistry.makeImmutableCopy(),
+				buildingContext.getAnnotationDescriptorRegistry().makeImmutableCopy(),
+				collector.getGlobalRegistrations()
+		);
+	}
+
+	@Benchmark
+	public Set<EntityHierarchy> createEntityHierarchies() {
+		return EntityHierarchyBuilder.createEntityHierarchies(
+				rootEntities,
+				(identifiableType) -> {},
+				categorizationContext
+		);
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.testing.generator.GeneratedDomainModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks building {@linkplain ClassDetails} from loaded classes, via
+ * {@linkplain JdkBuilders#buildClassDetailsStatic}
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class JdkBuildersBenchmarks {
+	@Param( { "100", "1000", "10000" } )
+	public int modelSize;
+
+	private GeneratedDomainModel model;
+	private List<Class<?>> classes;
+	private SourceModelBuildingContextImpl buildingContext;
+
+	@Setup( Level.Trial )
+	public void generateModel() {
+		model = BenchmarkModels.generate( modelSize );
+		classes = model.loadClasses( model.getManagedClassNames() );
+	}
+
+	@Setup( Level.Iteration )
+	public void createBuildingContext() {
+		buildingContext = new SourceModelBuildingContextImpl( model.getClassLoading(), null );
+	}
+
+	@Benchmark
+	public void buildClassDetails(Blackhole blackhole) {
+		for ( int i = 0; i < classes.size(); i++ ) {
+			final ClassDetails classDetails = JdkBuilders.buildClassDetailsStatic( classes.get( i ), buildingContext );
+			blackhole.consume( classDetails.getFields() );
+			blackhole.consume( classDetails.getMethods() );
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.categorize.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.models.testing.generator.GeneratedDomainModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the complete categorization pipeline, via
+ * {@linkplain ManagedResourcesProcessor#processManagedResources}
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class ManagedResourcesProcessorBenchmarks {
+	@Param( { "100", "1000", "10000" } )
+	public int modelSize;
+
+	private StandardServiceRegistry serviceRegistry;
+	private BootstrapContextImpl bootstrapContext;
+	private ManagedResources managedResources;
+
+	@Setup( Level.Trial )
+	public void prepareBootstrap() {
+		final GeneratedDomainModel model = BenchmarkModels.generate( modelSize );
+
+		final BootstrapServiceRegistry bootstrapServiceRegistry = new BootstrapServiceRegistryBuilder()
+				.applyClassLoader( model.getClassLoader() )
+				.build();
+		serviceRegistry = new StandardServiceRegistryBuilder( bootstrapServiceRegistry ).build();
+		bootstrapContext = new BootstrapContextImpl(
+				serviceRegistry,
+				new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+		);
+		bootstrapContext.injectJandexView( model.buildJandexIndex() );
+
+		managedResources = new BenchmarkManagedResources( model.loadClasses( model.getManagedClassNames() ) );
+	}
+
+	@TearDown( Level.Trial )
+	public void releaseBootstrap() {
+		StandardServiceRegistryBuilder.destroy( serviceRegistry );
+	}
+
+	@Benchmark
+	public CategorizedDomainModel processManagedResources() {
+		return ManagedResourcesProcessor.processManagedResources( managedResources, bootstrapContext );
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
+import org.hibernate.models.testing.generator.GeneratedDomainModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks JAXB binding of a generated orm.xml, via {@linkplain MappingBinder#bind}
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class MappingBinderBenchmarks {
+	@Param( { "100", "1000", "10000" } )
+	public int modelSize;
+
+	@Param( { "false", "true" } )
+	public boolean validate;
+
+	private byte[] ormXml;
+	private MappingBinder mappingBinder;
+	private Origin origin;
+
+	@Setup( Level.Trial )
+	public void prepareBinder() {
+		final GeneratedDomainModel model = BenchmarkModels.generate( modelSize );
+		ormXml = model.getOrmXml();
+		mappingBinder = new MappingBinder(
+				(resourceName) -> model.getClassLoader().getResourceAsStream( resourceName ),
+				validate ? MappingBinder.VALIDATING : MappingBinder.NON_VALIDATING
+		);
+		origin = new Origin( SourceType.OTHER, "generated-orm.xml" );
+	}
+
+	@Benchmark
+	public Binding<JaxbBindableMappingDescriptor> bind() {
+		return mappingBinder.bind( new ByteArrayInputStream( ormXml ), origin );
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.categorize;
+
+import org.hibernate.models.Incubating;
+
+/**
+ * Settings which influence how {@linkplain org.hibernate.models.orm.categorize.spi.ManagedResourcesProcessor}
+ * builds the categorized domain model.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public interface ModelCategorizationSettings {
+	/**
+	 * Whether the source model registries should be primed from the Jandex index
+	 * using multiple threads.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.models.orm.categorize.spi.ManagedResourcesProcessor#preFillRegistriesInParallel
+	 */
+	String PARALLEL_PRIMING = "hibernate.models.parallel_priming";
+
+	/**
+	 * Whether the source model registries should be primed with just the managed
+	 * classes (and the types they reference) rather than every class in the Jandex
+	 * index.  Other classes are resolved on demand.  Takes precedence over
+	 * {@linkplain #PARALLEL_PRIMING}.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.models.orm.categorize.internal.ManagedTypesRegistryPrimer
+	 */
+	String LAZY_PRIMING = "hibernate.models.lazy_priming";
+
+	/**
+	 * Comma-separated list of packages whose classes may be primed as referenced
+	 * attribute types when using {@linkplain #LAZY_PRIMING lazy priming}.  When not
+	 * specified, all packages are included.
+	 */
+	String PRIMING_INCLUDED_PACKAGES = "hibernate.models.priming.included_packages";
+
+	/**
+	 * Comma-separated list of packages whose classes should never be primed as
+	 * referenced attribute types when using {@linkplain #LAZY_PRIMING lazy priming}.
+	 * Takes precedence over {@linkplain #PRIMING_INCLUDED_PACKAGES}.
+	 */
+	String PRIMING_EXCLUDED_PACKAGES = "hibernate.models.priming.excluded_packages";
+
+	/**
+	 * A {@linkplain org.hibernate.models.source.spi.SourceModelContext} holding the model shared by multiple
+	 * persistence units (a common model jar, e.g.), generally a
+	 * {@linkplain org.hibernate.models.source.internal.SourceModelBuildingContextImpl building context}
+	 * created for that purpose, which must be layered over the
+	 * {@linkplain org.hibernate.models.orm.categorize.internal.OrmAnnotationHelper#getOrmPlatform() ORM platform}.
+	 * When specified, the source model registries are layered over those of
+	 * the shared context - shared classes are looked up there rather than built again, and classes
+	 * overridden by XML are copied into the registries of the persistence unit.
+	 * <p/>
+	 * The shared context should be fully populated before being used, and is not modified.
+	 */
+	String SHARED_SOURCE_MODEL = "hibernate.models.shared_source_model";
+
+	/**
+	 * Whether managed classes which are not part of the Jandex index supplied by the
+	 * {@linkplain org.hibernate.boot.spi.BootstrapContext#getJandexView() bootstrap context}
+	 * (or all managed classes, if no index is supplied) should be indexed during bootstrap.
+	 * Otherwise, such classes are built using reflection.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see #JANDEX_INDEX_CACHE_DIRECTORY
+	 */
+	String JANDEX_INDEXING = "hibernate.models.jandex_indexing";
+
+	/**
+	 * Directory in which to cache the Jandex index built when {@linkplain #JANDEX_INDEXING indexing}
+	 * managed classes.  When specified, an index whose class file fingerprints match the current
+	 * class files is read from the cache rather than being built.
+	 * <p/>
+	 * Caching is disabled by default.
+	 *
+	 * @see org.hibernate.models.orm.categorize.internal.JandexIndexCache
+	 */
+	String JANDEX_INDEX_CACHE_DIRECTORY = "hibernate.models.jandex_index_cache_directory";
+}
@@ -11,8 +11,6 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 
-import org.hibernate.annotations.Any;
-import org.hibernate.annotations.ManyToAny;
 import org.hibernate.boot.model.source.spi.AttributePath;
 import org.hibernate.boot.model.source.spi.AttributeRole;
 import org.hibernate.boot.model.source.spi.NaturalIdMutability;
@@ -23,19 +21,10 @@ import org.hibernate.models.orm.MultipleAttributeNaturesException;
 import org.hibernate.models.orm.categorize.spi.AttributeMetadata;
 import org.hibernate.models.orm.categorize.spi.ManagedTypeMetadata;
 import org.hibernate.models.orm.categorize.spi.ModelCategorizationContext;
-import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.MemberDetails;
 
-import jakarta.persistence.Basic;
-import jakarta.persistence.ElementCollection;
-import jakarta.persistence.Embedded;
-import jakarta.persistence.EmbeddedId;
-import jakarta.persistence.ManyToMany;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
-
 import static org.hibernate.models.internal.CollectionHelper.arrayList;
 import static org.hibernate.models.orm.categorize.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
 
@@ -47,6 +36,54 @@ import static org.hibernate.models.orm.categorize.ModelCategorizationLogging.MOD
  * @author Brett Meyer
  */
 public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata {
+	// annotations indicating (explicitly or implicitly) the nature of an attribute - see #determineAttributeNature
+	private static final AnnotationDescriptorSet BASIC_NATURE = AnnotationDescriptorSet.of( JpaAnnotations.BASIC );
+	private static final AnnotationDescriptorSet EMBEDDED_NATURE = AnnotationDescriptorSet.of(
+			JpaAnnotations.EMBEDDED,
+			JpaAnnotations.EMBEDDED_ID
+	);
+	private static final AnnotationDescriptorSet ANY_NATURE = AnnotationDescriptorSet.of( HibernateAnnotations.ANY );
+	private static final AnnotationDescriptorSet TO_ONE_NATURE = AnnotationDescriptorSet.of(
+			JpaAnnotations.ONE_TO_ONE,
+			JpaAnnotations.MANY_TO_ONE
+	);
+	private static final AnnotationDescriptorSet PLURAL_NATURE = AnnotationDescriptorSet.of(
+			JpaAnnotations.ONE_TO_MANY,
+			JpaAnnotations.MANY_TO_MANY,
+			JpaAnnotations.ELEMENT_COLLECTION,
+			HibernateAnnotations.MANY_TO_ANY
+	);
+	private static final AnnotationDescriptorSet IMPLICIT_BASIC_NATURE = AnnotationDescriptorSet.of(
+			JpaAnnotations.TEMPORAL,
+			JpaAnnotations.LOB,
+			JpaAnnotations.ENUMERATED,
+			JpaAnnotations.CONVERT,
+			JpaAnnotations.CONVERTS,
+			JpaAnnotations.VERSION,
+			HibernateAnnotations.GENERATED,
+			HibernateAnnotations.NATIONALIZED,
+			HibernateAnnotations.TZ_COLUMN,
+			HibernateAnnotations.TZ_STORAGE,
+			HibernateAnnotations.TYPE,
+			HibernateAnnotations.TENANT_ID,
+			HibernateAnnotations.JAVA_TYPE,
+			HibernateAnnotations.JDBC_TYPE_CODE,
+			HibernateAnnotations.JDBC_TYPE
+	);
+	private static final AnnotationDescriptorSet IMPLICIT_EMBEDDED_NATURE = AnnotationDescriptorSet.of(
+			HibernateAnnotations.EMBEDDABLE_INSTANTIATOR,
+			HibernateAnnotations.COMPOSITE_TYPE
+	);
+	private static final AnnotationDescriptorSet IMPLICIT_ANY_NATURE = AnnotationDescriptorSet.of(
+			HibernateAnnotations.ANY_DISCRIMINATOR,
+			HibernateAnnotations.ANY_DISCRIMINATOR_VALUE,
+			HibernateAnnotations.ANY_DISCRIMINATOR_VALUES,
+			HibernateAnnotations.ANY_KEY_JAVA_TYPE,
+			HibernateAnnotations.ANY_KEY_JAVA_CLASS,
+			HibernateAnnotations.ANY_KEY_JDBC_TYPE,
+			HibernateAnnotations.ANY_KEY_JDBC_TYPE_CODE
+	);
+
 	private final ClassDetails classDetails;
 	private final ModelCategorizationContext modelContext;
 
@@ -177,40 +214,24 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// first, look for explicit nature annotations
 
-		final AnnotationUsage<Any> any = backingMember.getAnnotationUsage( HibernateAnnotations.ANY );
-		final AnnotationUsage<Basic> basic = backingMember.getAnnotationUsage( JpaAnnotations.BASIC );
-		final AnnotationUsage<ElementCollection> elementCollection = backingMember.getAnnotationUsage( JpaAnnotations.ELEMENT_COLLECTION );
-		final AnnotationUsage<Embedded> embedded = backingMember.getAnnotationUsage( JpaAnnotations.EMBEDDED );
-		final AnnotationUsage<EmbeddedId> embeddedId = backingMember.getAnnotationUsage( JpaAnnotations.EMBEDDED_ID );
-		final AnnotationUsage<ManyToAny> manyToAny = backingMember.getAnnotationUsage( HibernateAnnotations.MANY_TO_ANY );
-		final AnnotationUsage<ManyToMany> manyToMany = backingMember.getAnnotationUsage( JpaAnnotations.MANY_TO_MANY );
-		final AnnotationUsage<ManyToOne> manyToOne = backingMember.getAnnotationUsage( JpaAnnotations.MANY_TO_ONE );
-		final AnnotationUsage<OneToMany> oneToMany = backingMember.getAnnotationUsage( JpaAnnotations.ONE_TO_MANY );
-		final AnnotationUsage<OneToOne> oneToOne = backingMember.getAnnotationUsage( JpaAnnotations.ONE_TO_ONE );
-
-		if ( basic != null ) {
+		if ( backingMember.hasAnyAnnotationUsage( BASIC_NATURE ) ) {
 			natures.add( AttributeMetadata.AttributeNature.BASIC );
 		}
 
-		if ( embedded != null
-				|| embeddedId != null
+		if ( backingMember.hasAnyAnnotationUsage( EMBEDDED_NATURE )
 				|| ( backingMember.getType() != null && backingMember.getType().getAnnotationUsage( JpaAnnotations.EMBEDDABLE ) != null ) ) {
 			natures.add( AttributeMetadata.AttributeNature.EMBEDDED );
 		}
 
-		if ( any != null ) {
+		if ( backingMember.hasAnyAnnotationUsage( ANY_NATURE ) ) {
 			natures.add( AttributeMetadata.AttributeNature.ANY );
 		}
 
-		if ( oneToOne != null
-				|| manyToOne != null ) {
+		if ( backingMember.hasAnyAnnotationUsage( TO_ONE_NATURE ) ) {
 			natures.add( AttributeMetadata.AttributeNature.TO_ONE );
 		}
 
-		final boolean plural = oneToMany != null
-				|| manyToMany != null
-				|| elementCollection != null
-				|| manyToAny != null;
+		final boolean plural = backingMember.hasAnyAnnotationUsage( PLURAL_NATURE );
 		if ( plural ) {
 			natures.add( AttributeMetadata.AttributeNature.PLURAL );
 		}
@@ -221,37 +242,17 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 
 		if ( !plural ) {
 			// first implicit basic nature
-			if ( backingMember.getAnnotationUsage( JpaAnnotations.TEMPORAL ) != null
-					|| backingMember.getAnnotationUsage( JpaAnnotations.LOB ) != null
-					|| backingMember.getAnnotationUsage( JpaAnnotations.ENUMERATED ) != null
-					|| backingMember.getAnnotationUsage( JpaAnnotations.CONVERT ) != null
-					|| backingMember.getAnnotationUsage( JpaAnnotations.VERSION ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.GENERATED ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.NATIONALIZED ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.TZ_COLUMN ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.TZ_STORAGE ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.TYPE ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.TENANT_ID ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.JAVA_TYPE ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.JDBC_TYPE_CODE ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.JDBC_TYPE ) != null ) {
+			if ( backingMember.hasAnyAnnotationUsage( IMPLICIT_BASIC_NATURE ) ) {
 				natures.add( AttributeMetadata.AttributeNature.BASIC );
 			}
 
 			// then embedded
-			if ( backingMember.getAnnotationUsage( HibernateAnnotations.EMBEDDABLE_INSTANTIATOR ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.COMPOSITE_TYPE ) != null ) {
+			if ( backingMember.hasAnyAnnotationUsage( IMPLICIT_EMBEDDED_NATURE ) ) {
 				natures.add( AttributeMetadata.AttributeNature.EMBEDDED );
 			}
 
 			// and any
-			if ( backingMember.getAnnotationUsage( HibernateAnnotations.ANY_DISCRIMINATOR ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.ANY_DISCRIMINATOR_VALUE ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.ANY_DISCRIMINATOR_VALUES ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.ANY_KEY_JAVA_TYPE ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.ANY_KEY_JAVA_CLASS ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.ANY_KEY_JDBC_TYPE ) != null
-					|| backingMember.getAnnotationUsage( HibernateAnnotations.ANY_KEY_JDBC_TYPE_CODE ) != null ) {
+			if ( backingMember.hasAnyAnnotationUsage( IMPLICIT_ANY_NATURE ) ) {
 				natures.add( AttributeMetadata.AttributeNature.ANY );
 			}
 		}
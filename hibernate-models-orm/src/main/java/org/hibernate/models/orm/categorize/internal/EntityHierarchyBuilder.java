@@ -17,6 +17,7 @@ import org.hibernate.models.orm.categorize.spi.EntityHierarchy;
 import org.hibernate.models.orm.categorize.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.orm.JpaAnnotations;
 import org.hibernate.models.orm.categorize.spi.ModelCategorizationContext;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
 import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
@@ -27,6 +28,8 @@ import org.hibernate.models.source.spi.MethodDetails;
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
 
+import static org.hibernate.models.orm.categorize.internal.OrmAnnotationHelper.ENTITY_HIERARCHY_INHERITANCE;
+
 /**
  * Builds {@link EntityHierarchy} references from
  * {@linkplain ClassDetailsRegistry#forEachClassDetails managed classes}.
@@ -34,6 +37,10 @@ import jakarta.persistence.AccessType;
  * @author Steve Ebersole
  */
 public class EntityHierarchyBuilder {
+	private static final AnnotationDescriptorSet ID_ANNOTATIONS = AnnotationDescriptorSet.of(
+			JpaAnnotations.ID,
+			JpaAnnotations.EMBEDDED_ID
+	);
 
 	/**
 	 * Pre-processes the annotated entities from the index and create a set of entity hierarchies which can be bound
@@ -98,15 +105,15 @@ public class EntityHierarchyBuilder {
 	private AccessType determineDefaultAccessTypeForHierarchy(ClassDetails rootEntityType) {
 		assert rootEntityType != null;
 
-		ClassDetails current = rootEntityType;
-		while ( current != null ) {
-			// look for `@Access` on the class
-			final AnnotationUsage<Access> accessAnnotation = current.getAnnotationUsage( JpaAnnotations.ACCESS );
-			if ( accessAnnotation != null ) {
-				return accessAnnotation.getAttributeValue( "value" );
-			}
+		// the nearest `@Access` within the hierarchy, if one
+		final AnnotationUsage<Access> accessAnnotation = rootEntityType.getEffectiveAnnotationUsage(
+				JpaAnnotations.ACCESS,
+				ENTITY_HIERARCHY_INHERITANCE
+		);
+		final AnnotationTarget accessTarget = accessAnnotation == null ? null : accessAnnotation.getAnnotationTarget();
 
-			// look for `@Id` or `@EmbeddedId`
+		// an `@Id` or `@EmbeddedId` below the `@Access` takes precedence
+		for ( ClassDetails current = rootEntityType; current != null && current != accessTarget; current = current.getSuperType() ) {
 			final AnnotationTarget idMember = determineIdMember( current );
 			if ( idMember != null ) {
 				switch ( idMember.getKind() ) {
@@ -121,8 +128,10 @@ public class EntityHierarchyBuilder {
 					}
 				}
 			}
+		}
 
-			current = current.getSuperType();
+		if ( accessAnnotation != null ) {
+			return accessAnnotation.getAttributeValue( "value" );
 		}
 
 		// 2.3.1 Default Access Type
@@ -136,8 +145,7 @@ public class EntityHierarchyBuilder {
 		final List<MethodDetails> methods = current.getMethods();
 		for ( int i = 0; i < methods.size(); i++ ) {
 			final MethodDetails methodDetails = methods.get( i );
-			if ( methodDetails.getAnnotationUsage( JpaAnnotations.ID ) != null
-					|| methodDetails.getAnnotationUsage( JpaAnnotations.EMBEDDED_ID ) != null ) {
+			if ( methodDetails.hasAnyAnnotationUsage( ID_ANNOTATIONS ) ) {
 				return methodDetails;
 			}
 		}
@@ -145,8 +153,7 @@ public class EntityHierarchyBuilder {
 		final List<FieldDetails> fields = current.getFields();
 		for ( int i = 0; i < fields.size(); i++ ) {
 			final FieldDetails fieldDetails = fields.get( i );
-			if ( fieldDetails.getAnnotationUsage( JpaAnnotations.ID ) != null
-					|| fieldDetails.getAnnotationUsage( JpaAnnotations.EMBEDDED_ID ) != null ) {
+			if ( fieldDetails.hasAnyAnnotationUsage( ID_ANNOTATIONS ) ) {
 				return fieldDetails;
 			}
 		}
@@ -6,7 +6,6 @@
  */
 package org.hibernate.models.orm.categorize.internal;
 
-import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -16,11 +15,15 @@ import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.OptimisticLocking;
 import org.hibernate.annotations.TenantId;
 import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.HibernateAnnotations;
+import org.hibernate.models.orm.JpaAnnotations;
 import org.hibernate.models.orm.categorize.spi.IdMapping;
 import org.hibernate.models.orm.categorize.spi.AttributeMetadata;
 import org.hibernate.models.orm.categorize.spi.EntityHierarchy;
+import org.hibernate.models.orm.categorize.spi.EntityTypeMetadata;
 import org.hibernate.models.orm.categorize.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.orm.categorize.spi.ModelCategorizationContext;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.MemberDetails;
@@ -31,7 +34,7 @@ import jakarta.persistence.IdClass;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.Version;
 
-import static org.hibernate.models.orm.categorize.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+import static org.hibernate.models.orm.categorize.internal.OrmAnnotationHelper.ENTITY_HIERARCHY_INHERITANCE;
 
 /**
  * Used to collect useful details about a hierarchy as we build its metadata
@@ -39,6 +42,13 @@ import static org.hibernate.models.orm.categorize.ModelCategorizationLogging.MOD
  * @author Steve Ebersole
  */
 public class HierarchyMetadataCollector implements RootEntityAndSuperTypeConsumer {
+	private static final AnnotationDescriptorSet ATTRIBUTE_ANNOTATIONS = AnnotationDescriptorSet.of(
+			JpaAnnotations.EMBEDDED_ID,
+			JpaAnnotations.ID,
+			JpaAnnotations.VERSION,
+			HibernateAnnotations.TENANT_ID
+	);
+
 	private final EntityHierarchy entityHierarchy;
 	private final ModelCategorizationContext context;
 
@@ -135,17 +145,23 @@ public class HierarchyMetadataCollector implements RootEntityAndSuperTypeConsume
 
 		final ClassDetails classDetails = typeMetadata.getClassDetails();
 
-		inheritanceAnnotation = applyLocalAnnotation( Inheritance.class, classDetails, inheritanceAnnotation );
-		optimisticLockingAnnotation = applyLocalAnnotation( OptimisticLocking.class, classDetails, optimisticLockingAnnotation );
-		cacheAnnotation = applyLocalAnnotation( Cache.class, classDetails, cacheAnnotation );
-		naturalIdCacheAnnotation = applyLocalAnnotation( NaturalIdCache.class, classDetails, naturalIdCacheAnnotation );
-		idClassAnnotation = applyLocalAnnotation( IdClass.class, classDetails, idClassAnnotation );
+		if ( typeMetadata instanceof EntityTypeMetadata ) {
+			// the root entity - its effective usages already account for its mapped-superclasses
+			inheritanceAnnotation = classDetails.getEffectiveAnnotationUsage( JpaAnnotations.INHERITANCE, ENTITY_HIERARCHY_INHERITANCE );
+			optimisticLockingAnnotation = classDetails.getEffectiveAnnotationUsage( HibernateAnnotations.OPTIMISTIC_LOCKING, ENTITY_HIERARCHY_INHERITANCE );
+			cacheAnnotation = classDetails.getEffectiveAnnotationUsage( HibernateAnnotations.CACHE, ENTITY_HIERARCHY_INHERITANCE );
+			naturalIdCacheAnnotation = classDetails.getEffectiveAnnotationUsage( HibernateAnnotations.NATURAL_ID_CACHE, ENTITY_HIERARCHY_INHERITANCE );
+			idClassAnnotation = classDetails.getEffectiveAnnotationUsage( JpaAnnotations.ID_CLASS, ENTITY_HIERARCHY_INHERITANCE );
+		}
 
 		final boolean collectIds = collectedIdAttributes == null;
 		if ( collectIds || versionAttribute == null || tenantIdAttribute == null ) {
 			// walk the attributes
 			typeMetadata.forEachAttribute( (index, attributeMetadata) -> {
 				final MemberDetails attributeMember = attributeMetadata.getMember();
+				if ( !attributeMember.hasAnyAnnotationUsage( ATTRIBUTE_ANNOTATIONS ) ) {
+					return;
+				}
 
 				if ( collectIds ) {
 					final AnnotationUsage<EmbeddedId> eIdAnn = attributeMember.getAnnotationUsage( EmbeddedId.class );
@@ -174,25 +190,6 @@ public class HierarchyMetadataCollector implements RootEntityAndSuperTypeConsume
 		}
 	}
 
-	private <A extends Annotation> AnnotationUsage<A> applyLocalAnnotation(Class<A> annotationType, ClassDetails classDetails, AnnotationUsage<A> currentValue) {
-		final AnnotationUsage<A> localInheritanceAnnotation = classDetails.getAnnotationUsage( annotationType );
-		if ( localInheritanceAnnotation != null ) {
-			if ( currentValue != null ) {
-				MODEL_CATEGORIZATION_LOGGER.debugf(
-						"Ignoring @%s from %s in favor of usage from %s",
-						annotationType.getSimpleName(),
-						classDetails.getName(),
-						currentValue.getAnnotationTarget().getName()
-				);
-			}
-			else {
-				return localInheritanceAnnotation;
-			}
-		}
-
-		return currentValue;
-	}
-
 	public void collectIdAttribute(AttributeMetadata member) {
 		assert member != null;
 
@@ -0,0 +1,324 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.categorize.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.spi.ClassLoading;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+import static org.hibernate.models.orm.categorize.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+import static org.hibernate.models.orm.categorize.ModelCategorizationLogging.MODEL_CATEGORIZATION_MSG_LOGGER;
+
+/**
+ * Builds a Jandex index of managed classes during bootstrap, optionally caching the index
+ * in a directory so that later bootstraps read the index rather than parsing the class files again.
+ * <p/>
+ * Cache files are keyed by a SHA-256 digest over the names of the indexed classes and a fingerprint
+ * of each class file - the CRC recorded for the jar entry when the class comes from a jar, the size
+ * and last-modified time of the file when the class comes from a directory, so that the class files
+ * need not be read.  Only for other sources is a CRC32 of the class file bytes used.  Changing any of
+ * the classes therefore results in a different cache file.
+ * <p/>
+ * Using a cache file marks it as recently used; after writing a new cache file, only the
+ * {@value #MAX_CACHE_FILES} most recently used cache files of the directory are kept.
+ * <p/>
+ * Cache files are memory-mapped for reading.
+ *
+ * @author Steve Ebersole
+ */
+public class JandexIndexCache {
+	/**
+	 * The number of cache files kept in the cache directory
+	 */
+	public static final int MAX_CACHE_FILES = 10;
+
+	private static final String FILE_PREFIX = "jandex-";
+	private static final String FILE_SUFFIX = ".idx";
+
+	/**
+	 * Build an index of the named classes, without caching.  Classes whose class file
+	 * cannot be located are not indexed.
+	 */
+	public static Index buildIndex(Collection<String> classNames, ClassLoading classLoading) {
+		return buildIndex( locateClassFiles( classNames, classLoading ) );
+	}
+
+	/**
+	 * Resolve the index of the named classes, reading it from the cache in the given
+	 * directory if possible; otherwise the index is built and written to the cache.
+	 * Classes whose class file cannot be located are not indexed.
+	 */
+	public static Index resolveIndex(Collection<String> classNames, ClassLoading classLoading, Path cacheDirectory) {
+		final Map<String, URL> classFiles = locateClassFiles( classNames, classLoading );
+
+		final Path file = resolveFile( cacheDirectory, computeKey( classFiles ) );
+		final Index cached = read( file );
+		if ( cached != null ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Using cached Jandex index - %s", file );
+			markUsed( file );
+			return cached;
+		}
+
+		final Index index = buildIndex( classFiles );
+		try {
+			write( file, index );
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Wrote Jandex index cache - %s", file );
+			evict( cacheDirectory );
+		}
+		catch (IOException e) {
+			MODEL_CATEGORIZATION_MSG_LOGGER.unableToWriteJandexIndexCache( cacheDirectory.toString(), e );
+		}
+		return index;
+	}
+
+	private static void markUsed(Path file) {
+		try {
+			Files.setLastModifiedTime( file, FileTime.fromMillis( System.currentTimeMillis() ) );
+		}
+		catch (IOException e) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( e, "Unable to mark Jandex index cache as used - %s", file );
+		}
+	}
+
+	/**
+	 * Delete all but the {@value #MAX_CACHE_FILES} most recently used cache files of the directory
+	 */
+	public static void evict(Path directory) throws IOException {
+		final List<Path> cacheFiles = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream( directory, FILE_PREFIX + "*" + FILE_SUFFIX )) {
+			for ( Path file : files ) {
+				cacheFiles.add( file );
+			}
+		}
+		if ( cacheFiles.size() <= MAX_CACHE_FILES ) {
+			return;
+		}
+
+		final Map<Path, FileTime> lastUsed = new HashMap<>();
+		for ( int i = 0; i < cacheFiles.size(); i++ ) {
+			lastUsed.put( cacheFiles.get( i ), Files.getLastModifiedTime( cacheFiles.get( i ) ) );
+		}
+		cacheFiles.sort( Comparator.comparing( lastUsed::get, Comparator.reverseOrder() ) );
+		for ( int i = MAX_CACHE_FILES; i < cacheFiles.size(); i++ ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Evicting Jandex index cache - %s", cacheFiles.get( i ) );
+			Files.deleteIfExists( cacheFiles.get( i ) );
+		}
+	}
+
+	/**
+	 * The cache file for the given key within the given directory
+	 */
+	public static Path resolveFile(Path directory, String key) {
+		return directory.resolve( FILE_PREFIX + key + FILE_SUFFIX );
+	}
+
+	private static Map<String, URL> locateClassFiles(Collection<String> classNames, ClassLoading classLoading) {
+		// sorted, so that the key does not depend on discovery order
+		final Map<String, URL> classFiles = new TreeMap<>();
+		for ( String className : classNames ) {
+			final URL classFile = classLoading.locateResource( StringHelper.classNameToResourceName( className ) );
+			if ( classFile == null ) {
+				MODEL_CATEGORIZATION_LOGGER.debugf( "Unable to locate class file for `%s`; it will not be indexed", className );
+				continue;
+			}
+			classFiles.put( className, classFile );
+		}
+		return classFiles;
+	}
+
+	private static Index buildIndex(Map<String, URL> classFiles) {
+		final Indexer indexer = new Indexer();
+		for ( URL classFile : classFiles.values() ) {
+			try (InputStream stream = classFile.openStream()) {
+				indexer.index( stream );
+			}
+			catch (IOException e) {
+				throw new ModelsException( "Unable to index class file - " + classFile, e );
+			}
+		}
+		return indexer.complete();
+	}
+
+	/**
+	 * Hex form of the digest over the class names and their class file fingerprints
+	 */
+	public static String computeKey(Map<String, URL> classFiles) {
+		final MessageDigest messageDigest = createDigest();
+		final ByteBuffer fingerprintBuffer = ByteBuffer.allocate( 2 * Long.BYTES );
+		for ( Map.Entry<String, URL> entry : classFiles.entrySet() ) {
+			messageDigest.update( entry.getKey().getBytes( StandardCharsets.UTF_8 ) );
+			// separator, so that adjacent values cannot run together
+			messageDigest.update( (byte) 0 );
+
+			fingerprintBuffer.clear();
+			fingerprint( entry.getValue(), fingerprintBuffer );
+			messageDigest.update( fingerprintBuffer.array() );
+		}
+
+		final byte[] digest = messageDigest.digest();
+		final StringBuilder buffer = new StringBuilder( digest.length * 2 );
+		for ( byte b : digest ) {
+			buffer.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) );
+			buffer.append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return buffer.toString();
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new ModelsException( "Unable to create digest for Jandex index cache", e );
+		}
+	}
+
+	/**
+	 * Puts two longs identifying the current content of the class file into the buffer
+	 */
+	private static void fingerprint(URL classFile, ByteBuffer buffer) {
+		try {
+			if ( "file".equals( classFile.getProtocol() ) ) {
+				// exploded directory - the file attributes, rather than reading the file
+				final Path path = Paths.get( classFile.toURI() );
+				final BasicFileAttributes attributes = Files.readAttributes( path, BasicFileAttributes.class );
+				buffer.putLong( attributes.size() );
+				buffer.putLong( attributes.lastModifiedTime().toMillis() );
+				return;
+			}
+
+			final URLConnection connection = classFile.openConnection();
+			if ( connection instanceof JarURLConnection ) {
+				// the jar already records a checksum of the entry
+				final JarEntry jarEntry = ( (JarURLConnection) connection ).getJarEntry();
+				if ( jarEntry.getCrc() != -1 ) {
+					buffer.putLong( jarEntry.getSize() );
+					buffer.putLong( jarEntry.getCrc() );
+					return;
+				}
+			}
+
+			final CRC32 crc32 = new CRC32();
+			try (InputStream stream = connection.getInputStream()) {
+				final byte[] bytes = new byte[8192];
+				int read;
+				while ( ( read = stream.read( bytes ) ) >= 0 ) {
+					crc32.update( bytes, 0, read );
+				}
+			}
+			buffer.putLong( -1 );
+			buffer.putLong( crc32.getValue() );
+		}
+		catch (IOException | URISyntaxException e) {
+			throw new ModelsException( "Unable to fingerprint class file - " + classFile, e );
+		}
+	}
+
+	/**
+	 * Read the index from the given cache file, returning {@code null} if there is no usable index.
+	 */
+	public static Index read(Path file) {
+		if ( !Files.isRegularFile( file ) ) {
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open( file, StandardOpenOption.READ )) {
+			final ByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+			return new IndexReader( new ByteBufferInputStream( buffer ) ).read();
+		}
+		catch (IOException | IllegalArgumentException e) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( e, "Unable to read Jandex index cache - %s", file );
+			return null;
+		}
+	}
+
+	/**
+	 * Write the index to the given cache file
+	 */
+	public static void write(Path file, Index index) throws IOException {
+		final Path directory = file.getParent();
+		Files.createDirectories( directory );
+		final Path tempFile = Files.createTempFile( directory, FILE_PREFIX, ".tmp" );
+
+		try {
+			try (OutputStream output = new BufferedOutputStream( Files.newOutputStream( tempFile ) )) {
+				new IndexWriter( output ).write( index );
+			}
+			Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		finally {
+			Files.deleteIfExists( tempFile );
+		}
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if ( length == 0 ) {
+				return 0;
+			}
+			if ( !buffer.hasRemaining() ) {
+				return -1;
+			}
+			final int count = Math.min( length, buffer.remaining() );
+			buffer.get( bytes, offset, count );
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.categorize.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.source.internal.jandex.JandexPackageDetails;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MemberDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.RegistryPrimer;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import static org.hibernate.models.orm.categorize.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+
+/**
+ * RegistryPrimer which only primes the managed classes rather than every class
+ * in the Jandex index.  For each managed class it registers -<ul>
+ *     <li>the class itself and its closure of super-types</li>
+ *     <li>the types of its persistable attributes which are part of the Jandex index (embeddables, etc.)</li>
+ *     <li>its package, if the package has a {@code package-info} class in the Jandex index</li>
+ * </ul>
+ * Anything else is left to be resolved on demand.
+ * <p/>
+ * The set of attribute types followed may be further limited by package include and
+ * exclude filters.  Excludes take precedence over includes; no includes means all
+ * packages are included.
+ *
+ * @author Steve Ebersole
+ */
+public class ManagedTypesRegistryPrimer implements RegistryPrimer {
+	private final Collection<String> managedClassNames;
+	private final List<String> includedPackages;
+	private final List<String> excludedPackages;
+
+	public ManagedTypesRegistryPrimer(Collection<String> managedClassNames) {
+		this( managedClassNames, Collections.emptyList(), Collections.emptyList() );
+	}
+
+	public ManagedTypesRegistryPrimer(
+			Collection<String> managedClassNames,
+			List<String> includedPackages,
+			List<String> excludedPackages) {
+		this.managedClassNames = managedClassNames;
+		this.includedPackages = includedPackages;
+		this.excludedPackages = excludedPackages;
+	}
+
+	@Override
+	public void primeRegistries(Contributions contributions, SourceModelBuildingContext buildingContext) {
+		final IndexView jandexIndex = buildingContext.getJandexIndex();
+		if ( jandexIndex == null ) {
+			return;
+		}
+
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+
+		final Set<String> processedNames = new HashSet<>();
+		final Deque<String> namesToProcess = new ArrayDeque<>( managedClassNames );
+
+		while ( !namesToProcess.isEmpty() ) {
+			final String className = namesToProcess.removeFirst();
+			if ( !processedNames.add( className ) ) {
+				continue;
+			}
+
+			// resolving the class also resolves its super-types and interfaces
+			final ClassDetails classDetails = classDetailsRegistry.resolveClassDetails( className );
+			if ( classDetails == null ) {
+				continue;
+			}
+
+			primePackage( className, jandexIndex, classDetailsRegistry, buildingContext );
+
+			ClassDetails current = classDetails;
+			while ( current != null ) {
+				collectAttributeTypes( current, jandexIndex, namesToProcess, processedNames );
+				current = current.getSuperType();
+			}
+		}
+
+		MODEL_CATEGORIZATION_LOGGER.debugf(
+				"Primed registries from %s managed class names; processed %s classes",
+				managedClassNames.size(),
+				processedNames.size()
+		);
+	}
+
+	private void collectAttributeTypes(
+			ClassDetails classDetails,
+			IndexView jandexIndex,
+			Deque<String> namesToProcess,
+			Set<String> processedNames) {
+		final List<FieldDetails> fields = classDetails.getFields();
+		for ( int i = 0; i < fields.size(); i++ ) {
+			collectAttributeType( fields.get( i ), jandexIndex, namesToProcess, processedNames );
+		}
+
+		final List<MethodDetails> methods = classDetails.getMethods();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodDetails methodDetails = methods.get( i );
+			if ( methodDetails.getMethodKind() == MethodDetails.MethodKind.GETTER ) {
+				collectAttributeType( methodDetails, jandexIndex, namesToProcess, processedNames );
+			}
+		}
+	}
+
+	private void collectAttributeType(
+			MemberDetails memberDetails,
+			IndexView jandexIndex,
+			Deque<String> namesToProcess,
+			Set<String> processedNames) {
+		if ( !memberDetails.isPersistable() ) {
+			return;
+		}
+
+		// only the name is needed here - avoid resolving the details of the type
+		final String typeName = memberDetails.getTypeName();
+		if ( typeName == null || processedNames.contains( typeName ) ) {
+			return;
+		}
+
+		if ( !isIncluded( typeName ) ) {
+			return;
+		}
+
+		final ClassInfo typeInfo = jandexIndex.getClassByName( DotName.createSimple( typeName ) );
+		if ( typeInfo != null ) {
+			namesToProcess.addLast( typeName );
+		}
+	}
+
+	private static void primePackage(
+			String className,
+			IndexView jandexIndex,
+			ClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext buildingContext) {
+		// the class's package, plus its enclosing packages, whose annotations apply as well
+		String packageName = StringHelper.qualifier( className );
+		while ( StringHelper.isNotEmpty( packageName ) ) {
+			final String packageInfoName = packageName + ".package-info";
+			if ( classDetailsRegistry.findPackageDetails( packageInfoName ) != null ) {
+				// enclosing packages were handled along with it
+				return;
+			}
+
+			final ClassInfo packageInfo = jandexIndex.getClassByName( DotName.createSimple( packageInfoName ) );
+			if ( packageInfo != null ) {
+				classDetailsRegistry.resolvePackageDetails(
+						packageInfoName,
+						() -> new JandexPackageDetails( packageInfo, buildingContext )
+				);
+			}
+
+			packageName = StringHelper.qualifier( packageName );
+		}
+	}
+
+	/**
+	 * Whether the given class name passes the package include/exclude filters
+	 */
+	public boolean isIncluded(String className) {
+		for ( int i = 0; i < excludedPackages.size(); i++ ) {
+			if ( isInPackage( className, excludedPackages.get( i ) ) ) {
+				return false;
+			}
+		}
+
+		if ( includedPackages.isEmpty() ) {
+			return true;
+		}
+
+		for ( int i = 0; i < includedPackages.size(); i++ ) {
+			if ( isInPackage( className, includedPackages.get( i ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isInPackage(String className, String packageName) {
+		return className.startsWith( packageName )
+				&& className.length() > packageName.length()
+				&& className.charAt( packageName.length() ) == '.';
+	}
+}
@@ -13,12 +13,44 @@ import java.util.function.Consumer;
 import org.hibernate.models.orm.HibernateAnnotations;
 import org.hibernate.models.orm.JpaAnnotations;
 import org.hibernate.models.source.AnnotationAccessException;
+import org.hibernate.models.source.internal.SourceModelPlatform;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
+import org.hibernate.models.source.spi.AnnotationInheritance;
+
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
 
 /**
  * @author Steve Ebersole
  */
 public class OrmAnnotationHelper {
+	/**
+	 * Class-level annotations which apply to an entity when defined on one of its entity or
+	 * mapped-superclass super types (unless defined locally).  Other super types are ignored.
+	 * <p/>
+	 * Entity listeners are not included - they are cumulative across the hierarchy (unless
+	 * excluded by {@code @ExcludeSuperclassListeners}) rather than overridden.
+	 */
+	public static final AnnotationInheritance ENTITY_HIERARCHY_INHERITANCE = AnnotationInheritance.of(
+			AnnotationDescriptorSet.of(
+					JpaAnnotations.ACCESS,
+					JpaAnnotations.INHERITANCE,
+					JpaAnnotations.CACHEABLE,
+					JpaAnnotations.ID_CLASS,
+					HibernateAnnotations.OPTIMISTIC_LOCKING,
+					HibernateAnnotations.CACHE,
+					HibernateAnnotations.NATURAL_ID_CACHE
+			),
+			AnnotationDescriptorSet.of( JpaAnnotations.ENTITY, JpaAnnotations.MAPPED_SUPERCLASS )
+	);
+
+	/**
+	 * The {@linkplain SourceModelPlatform platform} containing the base-line Java types plus
+	 * the descriptors for all JPA and Hibernate annotations.  Built once, on first access.
+	 */
+	public static SourceModelPlatform getOrmPlatform() {
+		return OrmPlatformHolder.ORM_PLATFORM;
+	}
 
 	public static void forEachOrmAnnotation(Consumer<AnnotationDescriptor<?>> consumer) {
 		JpaAnnotations.forEachAnnotation( consumer );
@@ -44,4 +76,11 @@ public class OrmAnnotationHelper {
 			}
 		}
 	}
+
+	private static class OrmPlatformHolder {
+		private static final SourceModelPlatform ORM_PLATFORM = new SourceModelPlatform(
+				SIMPLE_CLASS_LOADING,
+				(contributions, buildingContext) -> forEachOrmAnnotation( contributions::registerAnnotation )
+		);
+	}
 }
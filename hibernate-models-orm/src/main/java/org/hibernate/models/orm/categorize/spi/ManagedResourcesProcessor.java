@@ -6,26 +6,44 @@
  */
 package org.hibernate.models.orm.categorize.spi;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.boot.model.process.spi.ManagedResources;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.models.ModelsException;
 import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.internal.StringHelper;
 import org.hibernate.models.orm.categorize.internal.ClassLoaderServiceLoading;
 import org.hibernate.models.orm.categorize.internal.DomainModelCategorizationCollector;
+import org.hibernate.models.orm.categorize.internal.JandexIndexCache;
+import org.hibernate.models.orm.categorize.internal.ManagedTypesRegistryPrimer;
 import org.hibernate.models.orm.categorize.internal.ModelCategorizationContextImpl;
+import org.hibernate.models.orm.categorize.internal.OrmAnnotationHelper;
 import org.hibernate.models.orm.categorize.ModelCategorizationLogging;
+import org.hibernate.models.orm.categorize.ModelCategorizationSettings;
 import org.hibernate.models.orm.categorize.xml.spi.XmlProcessingResult;
 import org.hibernate.models.orm.categorize.xml.spi.XmlPreProcessingResult;
 import org.hibernate.models.orm.categorize.xml.spi.XmlPreProcessor;
 import org.hibernate.models.orm.categorize.xml.spi.XmlProcessor;
+import org.hibernate.models.source.internal.ClassDetailsRegistryConcurrent;
+import org.hibernate.models.source.internal.ClassDetailsRegistryImmutable;
 import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
 import org.hibernate.models.source.internal.jandex.JandexClassDetails;
-import org.hibernate.models.source.internal.jandex.JandexIndexerHelper;
 import org.hibernate.models.source.internal.jandex.JandexPackageDetails;
 import org.hibernate.models.source.internal.jdk.JdkBuilders;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
@@ -33,12 +51,14 @@ import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.RegistryPrimer;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.SourceModelContext;
 import org.hibernate.models.spi.ClassLoading;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 
 import static org.hibernate.models.orm.categorize.internal.EntityHierarchyBuilder.createEntityHierarchies;
 
@@ -49,6 +69,9 @@ import static org.hibernate.models.orm.categorize.internal.EntityHierarchyBuilde
  * @author Steve Ebersole
  */
 public class ManagedResourcesProcessor {
+	// number of known classes each priming thread claims at a time
+	private static final int PRIMING_SLICE_SIZE = 256;
+
 	public static CategorizedDomainModel processManagedResources(
 			ManagedResources managedResources,
 			BootstrapContext bootstrapContext) {
@@ -82,11 +105,18 @@ public class ManagedResourcesProcessor {
 
 		// At this point we know all managed class names across all sources.
 		// Resolve the Jandex Index and build the SourceModelBuildingContext.
-		final IndexView jandexIndex = resolveJandexIndex( allKnownClassNames, bootstrapContext.getJandexView(), classLoading );
-		final SourceModelBuildingContextImpl sourceModelBuildingContext = new SourceModelBuildingContextImpl(
+		final ConfigurationService configurationService = bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+		final IndexView jandexIndex = resolveJandexIndex(
+				allKnownClassNames,
+				bootstrapContext.getJandexView(),
 				classLoading,
+				configurationService
+		);
+		final SourceModelBuildingContextImpl sourceModelBuildingContext = createBuildingContext(
+				allKnownClassNames,
 				jandexIndex,
-				ManagedResourcesProcessor::preFillRegistries
+				classLoading,
+				configurationService
 		);
 
 
@@ -114,6 +144,11 @@ public class ManagedResourcesProcessor {
 				mutableClassDetailsRegistry
 		);
 
+		if ( configurationService.getSettings().get( ModelCategorizationSettings.SHARED_SOURCE_MODEL ) != null ) {
+			// copy the shared classes overridden by XML before any are modified
+			xmlPreProcessingResult.getMappedClasses().forEach( mutableClassDetailsRegistry::resolveClassDetailsForModification );
+		}
+
 		final XmlProcessingResult xmlProcessingResult = XmlProcessor.processXml( xmlPreProcessingResult, modelCategorizationCollector, sourceModelBuildingContext );
 
 		allKnownClassNames.forEach( (className) -> {
@@ -142,6 +177,13 @@ public class ManagedResourcesProcessor {
 
 		final ClassDetailsRegistry classDetailsRegistryImmutable = mutableClassDetailsRegistry
 				.makeImmutableCopy();
+		if ( ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER.isDebugEnabled()
+				&& classDetailsRegistryImmutable instanceof ClassDetailsRegistryImmutable ) {
+			ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER.debugf(
+					"Created immutable ClassDetailsRegistry - %s",
+					( (ClassDetailsRegistryImmutable) classDetailsRegistryImmutable ).getFootprint()
+			);
+		}
 
 		final AnnotationDescriptorRegistry annotationDescriptorRegistryImmutable = sourceModelBuildingContext
 				.getAnnotationDescriptorRegistry()
@@ -192,29 +234,157 @@ public class ManagedResourcesProcessor {
 		}
 	}
 
+	private static SourceModelBuildingContextImpl createBuildingContext(
+			List<String> allKnownClassNames,
+			IndexView jandexIndex,
+			ClassLoading classLoading,
+			ConfigurationService configurationService) {
+		final boolean lazyPriming = configurationService.getSetting(
+				ModelCategorizationSettings.LAZY_PRIMING,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		final SourceModelContext parentContext = resolveParentContext( configurationService );
+		if ( lazyPriming ) {
+			final ManagedTypesRegistryPrimer registryPrimer = new ManagedTypesRegistryPrimer(
+					allKnownClassNames,
+					packageNames( configurationService, ModelCategorizationSettings.PRIMING_INCLUDED_PACKAGES ),
+					packageNames( configurationService, ModelCategorizationSettings.PRIMING_EXCLUDED_PACKAGES )
+			);
+			return new SourceModelBuildingContextImpl(
+					classLoading,
+					jandexIndex,
+					registryPrimer,
+					false,
+					parentContext
+			);
+		}
+
+		final boolean parallelPriming = configurationService.getSetting(
+				ModelCategorizationSettings.PARALLEL_PRIMING,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		return new SourceModelBuildingContextImpl(
+				classLoading,
+				jandexIndex,
+				parallelPriming
+						? ManagedResourcesProcessor::preFillRegistriesInParallel
+						: ManagedResourcesProcessor::preFillRegistries,
+				parallelPriming,
+				parentContext
+		);
+	}
+
+	private static SourceModelContext resolveParentContext(ConfigurationService configurationService) {
+		final Object sharedSourceModel = configurationService.getSettings().get( ModelCategorizationSettings.SHARED_SOURCE_MODEL );
+		if ( sharedSourceModel == null ) {
+			return OrmAnnotationHelper.getOrmPlatform();
+		}
+		if ( !( sharedSourceModel instanceof SourceModelContext ) ) {
+			throw new ModelsException(
+					"Setting `" + ModelCategorizationSettings.SHARED_SOURCE_MODEL
+							+ "` must be a SourceModelContext - " + sharedSourceModel.getClass().getName()
+			);
+		}
+		final SourceModelContext sharedContext = (SourceModelContext) sharedSourceModel;
+		if ( !sharedContext.isLayeredOver( OrmAnnotationHelper.getOrmPlatform() ) ) {
+			// the units' registries would otherwise be missing the ORM annotation descriptors
+			throw new ModelsException(
+					"Setting `" + ModelCategorizationSettings.SHARED_SOURCE_MODEL
+							+ "` must be a SourceModelContext layered over the ORM platform (see `OrmAnnotationHelper#getOrmPlatform`)"
+			);
+		}
+		return sharedContext;
+	}
+
+	private static List<String> packageNames(ConfigurationService configurationService, String settingName) {
+		final String setting = configurationService.getSetting( settingName, StandardConverters.STRING );
+		if ( StringHelper.isBlank( setting ) ) {
+			return Collections.emptyList();
+		}
+
+		final List<String> packageNames = new ArrayList<>();
+		for ( String packageName : setting.split( "," ) ) {
+			if ( StringHelper.isNotBlank( packageName ) ) {
+				packageNames.add( packageName.trim() );
+			}
+		}
+		return packageNames;
+	}
+
+	private static IndexView resolveJandexIndex(
+			List<String> allKnownClassNames,
+			IndexView suppliedJandexIndex,
+			ClassLoading classLoading,
+			ConfigurationService configurationService) {
+		final boolean indexing = configurationService.getSetting(
+				ModelCategorizationSettings.JANDEX_INDEXING,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		if ( !indexing ) {
+			return suppliedJandexIndex;
+		}
+
+		final String cacheDirectory = configurationService.getSetting(
+				ModelCategorizationSettings.JANDEX_INDEX_CACHE_DIRECTORY,
+				StandardConverters.STRING
+		);
+		return resolveJandexIndex(
+				allKnownClassNames,
+				suppliedJandexIndex,
+				classLoading,
+				StringHelper.isBlank( cacheDirectory ) ? null : Paths.get( cacheDirectory.trim() )
+		);
+	}
+
+	/**
+	 * Form of {@linkplain #resolveJandexIndex(List, IndexView, ClassLoading, Path)} without caching
+	 */
 	public static IndexView resolveJandexIndex(
 			List<String> allKnownClassNames,
 			IndexView suppliedJandexIndex,
 			ClassLoading classLoading) {
-		// todo : we could build a new Jandex (Composite)Index that includes the `managedResources#getAnnotatedClassNames`
-		// 		and all classes from `managedResources#getXmlMappingBindings`.  Only really worth it in the case
-		//		of runtime enhancement.  This would definitely need to be toggle-able.
-		//		+
-		//		For now, let's not as it does not matter for this PoC
-		if ( 1 == 1 ) {
-			return suppliedJandexIndex;
+		return resolveJandexIndex( allKnownClassNames, suppliedJandexIndex, classLoading, null );
+	}
+
+	/**
+	 * Resolve the Jandex index to use - the supplied index (if one) plus an index of the
+	 * managed classes which are not part of the supplied index.
+	 *
+	 * @param cacheDirectory Directory in which to cache the index of the managed classes;
+	 * may be {@code null} in which case the index is always built
+	 *
+	 * @see JandexIndexCache
+	 */
+	public static IndexView resolveJandexIndex(
+			List<String> allKnownClassNames,
+			IndexView suppliedJandexIndex,
+			ClassLoading classLoading,
+			Path cacheDirectory) {
+		final Set<String> classNamesToIndex = new LinkedHashSet<>();
+		for ( int i = 0; i < allKnownClassNames.size(); i++ ) {
+			final String knownClassName = allKnownClassNames.get( i );
+			if ( suppliedJandexIndex == null
+					|| suppliedJandexIndex.getClassByName( DotName.createSimple( knownClassName ) ) == null ) {
+				classNamesToIndex.add( knownClassName );
+			}
 		}
 
-		final Indexer jandexIndexer = new Indexer();
-		for ( String knownClassName : allKnownClassNames ) {
-			JandexIndexerHelper.apply( knownClassName, jandexIndexer, classLoading );
+		if ( classNamesToIndex.isEmpty() ) {
+			return suppliedJandexIndex;
 		}
 
+		final Index managedClassesIndex = cacheDirectory == null
+				? JandexIndexCache.buildIndex( classNamesToIndex, classLoading )
+				: JandexIndexCache.resolveIndex( classNamesToIndex, classLoading, cacheDirectory );
+
 		if ( suppliedJandexIndex == null ) {
-			return jandexIndexer.complete();
+			return managedClassesIndex;
 		}
 
-		return CompositeIndex.create( suppliedJandexIndex, jandexIndexer.complete() );
+		return CompositeIndex.create( suppliedJandexIndex, managedClassesIndex );
 	}
 
 	public static void preFillRegistries(RegistryPrimer.Contributions contributions, SourceModelBuildingContext buildingContext) {
@@ -227,33 +397,128 @@ public class ManagedResourcesProcessor {
 		final AnnotationDescriptorRegistry annotationDescriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
 
 		for ( ClassInfo knownClass : jandexIndex.getKnownClasses() ) {
-			final String className = knownClass.name().toString();
-			if ( className.endsWith( "package-info" ) ) {
-				classDetailsRegistry.resolvePackageDetails(
-						className,
-						() -> new JandexPackageDetails( knownClass, buildingContext )
-				);
-				continue;
+			preFill( knownClass, classDetailsRegistry, annotationDescriptorRegistry, buildingContext );
+		}
+	}
+
+	/**
+	 * Form of {@linkplain #preFillRegistries} which splits the known classes across
+	 * multiple threads.
+	 * <p/>
+	 * A thread resolving a class which another thread is building waits for it (see
+	 * {@linkplain ClassDetailsRegistryConcurrent}), so the work is done by threads dedicated
+	 * to priming rather than by a shared pool such as the common ForkJoinPool.
+	 * <p/>
+	 * Requires that the ClassDetailsRegistry support concurrent resolution (see
+	 * {@linkplain ClassDetailsRegistryConcurrent}); otherwise falls back to the
+	 * sequential form.  The primed registries contain the same details as with the
+	 * sequential form.
+	 */
+	public static void preFillRegistriesInParallel(RegistryPrimer.Contributions contributions, SourceModelBuildingContext buildingContext) {
+		final IndexView jandexIndex = buildingContext.getJandexIndex();
+		if ( jandexIndex == null ) {
+			return;
+		}
+
+		if ( !( buildingContext.getClassDetailsRegistry() instanceof ClassDetailsRegistryConcurrent ) ) {
+			ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER.debug(
+					"ClassDetailsRegistry does not support concurrent resolution; priming registries sequentially"
+			);
+			preFillRegistries( contributions, buildingContext );
+			return;
+		}
+
+		final ClassInfo[] knownClasses = jandexIndex.getKnownClasses().toArray( new ClassInfo[0] );
+		final int sliceCount = ( knownClasses.length + PRIMING_SLICE_SIZE - 1 ) / PRIMING_SLICE_SIZE;
+		final int threadCount = Math.min( Runtime.getRuntime().availableProcessors(), sliceCount );
+		if ( threadCount <= 1 ) {
+			preFillRegistries( contributions, buildingContext );
+			return;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threadCount, (runnable) -> {
+			final Thread thread = new Thread( runnable, "hibernate-models-priming" );
+			thread.setDaemon( true );
+			return thread;
+		} );
+		try {
+			final AtomicInteger nextSlice = new AtomicInteger();
+			final List<Future<?>> futures = new ArrayList<>( threadCount );
+			for ( int i = 0; i < threadCount; i++ ) {
+				futures.add( executor.submit( () -> preFillSlices( knownClasses, nextSlice, buildingContext ) ) );
+			}
+			for ( int i = 0; i < futures.size(); i++ ) {
+				futures.get( i ).get();
+			}
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
 			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new ModelsException( "Unable to prime registries", cause );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ModelsException( "Interrupted while priming registries", e );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
 
-			if ( knownClass.isAnnotation() ) {
-				// it is always safe to load the annotation classes - we will never be enhancing them
-				//noinspection rawtypes
-				final Class annotationClass = buildingContext
-						.getClassLoading()
-						.classForName( className );
-				//noinspection unchecked
-				annotationDescriptorRegistry.resolveDescriptor(
-						annotationClass,
-						(t) -> JdkBuilders.buildAnnotationDescriptor( annotationClass, buildingContext )
-				);
+	/**
+	 * Pre-fills the registries for slices of the known classes, claiming the
+	 * next unprocessed slice until none remain
+	 */
+	private static void preFillSlices(
+			ClassInfo[] knownClasses,
+			AtomicInteger nextSlice,
+			SourceModelBuildingContext buildingContext) {
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final AnnotationDescriptorRegistry annotationDescriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+		int start;
+		while ( ( start = nextSlice.getAndIncrement() * PRIMING_SLICE_SIZE ) < knownClasses.length ) {
+			final int end = Math.min( start + PRIMING_SLICE_SIZE, knownClasses.length );
+			for ( int i = start; i < end; i++ ) {
+				preFill( knownClasses[i], classDetailsRegistry, annotationDescriptorRegistry, buildingContext );
 			}
+		}
+	}
 
-			classDetailsRegistry.resolveClassDetails(
+	private static void preFill(
+			ClassInfo knownClass,
+			ClassDetailsRegistry classDetailsRegistry,
+			AnnotationDescriptorRegistry annotationDescriptorRegistry,
+			SourceModelBuildingContext buildingContext) {
+		final String className = knownClass.name().toString();
+		if ( className.endsWith( "package-info" ) ) {
+			classDetailsRegistry.resolvePackageDetails(
 					className,
-					() -> new JandexClassDetails( knownClass, buildingContext )
+					() -> new JandexPackageDetails( knownClass, buildingContext )
 			);
+			return;
 		}
-	}
 
+		if ( knownClass.isAnnotation() ) {
+			// it is always safe to load the annotation classes - we will never be enhancing them
+			//noinspection rawtypes
+			final Class annotationClass = buildingContext
+					.getClassLoading()
+					.classForName( className );
+			//noinspection unchecked
+			annotationDescriptorRegistry.resolveDescriptor(
+					annotationClass,
+					(t) -> JdkBuilders.buildAnnotationDescriptor( annotationClass, buildingContext )
+			);
+		}
+
+		classDetailsRegistry.resolveClassDetails(
+				className,
+				() -> new JandexClassDetails( knownClass, buildingContext )
+		);
+	}
 }
@@ -103,7 +103,7 @@ public class ManagedTypeProcessor {
 		else {
 			memberAdjuster = ManagedTypeProcessor::adjustNonDynamicTypeMember;
 			final String className = XmlProcessingHelper.determineClassName( jaxbRoot, jaxbEntity );
-			classDetails = (MutableClassDetails) sourceModelBuildingContext.getClassDetailsRegistry().resolveClassDetails( className );
+			classDetails = (MutableClassDetails) sourceModelBuildingContext.getClassDetailsRegistry().resolveClassDetailsForModification( className );
 			classAccessType = coalesce(
 					jaxbEntity.getAccess(),
 					persistenceUnitMetadata.getAccessType()
@@ -482,7 +482,7 @@ public class ManagedTypeProcessor {
 			final String className = XmlProcessingHelper.determineClassName( jaxbRoot, jaxbEntity );
 			final MutableClassDetails classDetails = (MutableClassDetails) sourceModelBuildingContext
 					.getClassDetailsRegistry()
-					.resolveClassDetails( className );
+					.resolveClassDetailsForModification( className );
 
 			final AccessType classAccessType = coalesce(
 					jaxbEntity.getAccess(),
@@ -555,7 +555,7 @@ public class ManagedTypeProcessor {
 		final String className = XmlProcessingHelper.determineClassName( jaxbRoot, jaxbMappedSuperclass );
 		final MutableClassDetails classDetails = (MutableClassDetails) sourceModelBuildingContext
 				.getClassDetailsRegistry()
-				.resolveClassDetails( className );
+				.resolveClassDetailsForModification( className );
 
 		classDetails.clearMemberAnnotationUsages();
 		classDetails.clearAnnotationUsages();
@@ -592,7 +592,7 @@ public class ManagedTypeProcessor {
 			final String className = XmlProcessingHelper.determineClassName( jaxbRoot, jaxbMappedSuperclass );
 			final MutableClassDetails classDetails = (MutableClassDetails) sourceModelBuildingContext
 					.getClassDetailsRegistry()
-					.resolveClassDetails( className );
+					.resolveClassDetailsForModification( className );
 
 			processMappedSuperclassMetadata( jaxbMappedSuperclass, classDetails, persistenceUnitMetadata, sourceModelBuildingContext );
 		} );
@@ -639,7 +639,7 @@ public class ManagedTypeProcessor {
 			final String className = XmlProcessingHelper.determineClassName( jaxbRoot, jaxbEmbeddable );
 			classDetails = (MutableClassDetails) sourceModelBuildingContext
 					.getClassDetailsRegistry()
-					.resolveClassDetails( className );
+					.resolveClassDetailsForModification( className );
 			classAccessType = coalesce(
 					jaxbEmbeddable.getAccess(),
 					persistenceUnitMetadata.getAccessType()
@@ -689,7 +689,7 @@ public class ManagedTypeProcessor {
 			final String className = XmlProcessingHelper.determineClassName( jaxbRoot, jaxbEmbeddable );
 			final MutableClassDetails classDetails = (MutableClassDetails) sourceModelBuildingContext
 					.getClassDetailsRegistry()
-					.resolveClassDetails( className );
+					.resolveClassDetailsForModification( className );
 
 			AttributeProcessor.processAttributes(
 					jaxbEmbeddable.getAttributes(),
@@ -881,7 +881,7 @@ public class XmlAnnotationHelper {
 				classDetails
 		);
 		final MutableClassDetails entityListenerClass = (MutableClassDetails) buildingContext.getClassDetailsRegistry()
-				.resolveClassDetails( jaxbEntityListener.getClazz() );
+				.resolveClassDetailsForModification( jaxbEntityListener.getClazz() );
 		applyLifecycleCallbacks( jaxbEntityListener, entityListenerClass, buildingContext );
 		final List<ClassDetails> values = entityListeners.getAttributeValue( "value" );
 		if ( values != null ) {
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.models.orm.categorize.internal.JandexIndexCache;
+import org.hibernate.models.orm.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.models.source.SourceModelTestHelper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class JandexIndexCacheTests {
+	@Test
+	void testIndexCacheRoundTrip(@TempDir Path cacheDirectory) throws Exception {
+		final List<String> classNames = List.of(
+				Person.class.getName(),
+				Root.class.getName(),
+				Sub.class.getName(),
+				"org.hibernate.models.orm.process.DoesNotExist"
+		);
+
+		// cold start - builds and writes the index
+		final Index cold = JandexIndexCache.resolveIndex( classNames, SIMPLE_CLASS_LOADING, cacheDirectory );
+		assertThat( cold.getKnownClasses() ).hasSize( 3 );
+		final List<Path> cacheFiles = listCacheFiles( cacheDirectory );
+		assertThat( cacheFiles ).hasSize( 1 );
+		assertThat( cacheFiles.get( 0 ).getFileName().toString() ).startsWith( "jandex-" ).endsWith( ".idx" );
+
+		// warm start - reads the cached index
+		final Index warm = JandexIndexCache.resolveIndex( classNames, SIMPLE_CLASS_LOADING, cacheDirectory );
+		assertThat( warm.getKnownClasses() ).hasSize( 3 );
+		assertThat( warm.getClassByName( DotName.createSimple( Sub.class.getName() ) ).superName().toString() )
+				.isEqualTo( Root.class.getName() );
+		assertThat( JandexIndexCache.read( cacheFiles.get( 0 ) ) ).isNotNull();
+
+		// a different set of classes uses a different cache file
+		JandexIndexCache.resolveIndex( List.of( Person.class.getName() ), SIMPLE_CLASS_LOADING, cacheDirectory );
+		assertThat( listCacheFiles( cacheDirectory ) ).hasSize( 2 );
+	}
+
+	@Test
+	void testUnreadableCache(@TempDir Path cacheDirectory) throws Exception {
+		final List<String> classNames = List.of( Person.class.getName() );
+		JandexIndexCache.resolveIndex( classNames, SIMPLE_CLASS_LOADING, cacheDirectory );
+		final Path cacheFile = listCacheFiles( cacheDirectory ).get( 0 );
+		Files.write( cacheFile, new byte[] { 1, 2, 3 } );
+		assertThat( JandexIndexCache.read( cacheFile ) ).isNull();
+
+		// rebuilt and re-written
+		final Index index = JandexIndexCache.resolveIndex( classNames, SIMPLE_CLASS_LOADING, cacheDirectory );
+		assertThat( index.getKnownClasses() ).hasSize( 1 );
+		assertThat( JandexIndexCache.read( cacheFile ) ).isNotNull();
+	}
+
+	@Test
+	void testDirectoryClassFileKey(@TempDir Path classesDirectory) throws Exception {
+		final Path classFile = classesDirectory.resolve( "Person.class" );
+		Files.write( classFile, new byte[] { 1, 2, 3 } );
+		final Map<String, URL> classFiles = Map.of( Person.class.getName(), classFile.toUri().toURL() );
+		final String key = JandexIndexCache.computeKey( classFiles );
+		assertThat( JandexIndexCache.computeKey( classFiles ) ).isEqualTo( key );
+
+		// same size, but modified
+		Files.write( classFile, new byte[] { 3, 2, 1 } );
+		Files.setLastModifiedTime( classFile, FileTime.fromMillis( System.currentTimeMillis() + 60_000 ) );
+		assertThat( JandexIndexCache.computeKey( classFiles ) ).isNotEqualTo( key );
+	}
+
+	@Test
+	void testEviction(@TempDir Path cacheDirectory) throws Exception {
+		final Index index = SourceModelTestHelper.buildJandexIndex( SIMPLE_CLASS_LOADING, Person.class );
+		final long now = System.currentTimeMillis();
+		final List<Path> staleFiles = new ArrayList<>();
+		for ( int i = 0; i < JandexIndexCache.MAX_CACHE_FILES; i++ ) {
+			final Path staleFile = JandexIndexCache.resolveFile( cacheDirectory, "stale" + i );
+			JandexIndexCache.write( staleFile, index );
+			Files.setLastModifiedTime( staleFile, FileTime.fromMillis( now - ( i + 1 ) * 60_000L ) );
+			staleFiles.add( staleFile );
+		}
+
+		// writing a new cache file evicts the least recently used one
+		final List<String> classNames = List.of( Person.class.getName() );
+		JandexIndexCache.resolveIndex( classNames, SIMPLE_CLASS_LOADING, cacheDirectory );
+		final List<Path> cacheFiles = new ArrayList<>( listCacheFiles( cacheDirectory ) );
+		assertThat( cacheFiles ).hasSize( JandexIndexCache.MAX_CACHE_FILES );
+		assertThat( cacheFiles ).doesNotContain( staleFiles.get( JandexIndexCache.MAX_CACHE_FILES - 1 ) );
+		cacheFiles.removeAll( staleFiles );
+		assertThat( cacheFiles ).hasSize( 1 );
+
+		// using a cache file marks it as recently used
+		final Path cacheFile = cacheFiles.get( 0 );
+		final FileTime lastUsed = FileTime.fromMillis( now - 3_600_000L );
+		Files.setLastModifiedTime( cacheFile, lastUsed );
+		JandexIndexCache.resolveIndex( classNames, SIMPLE_CLASS_LOADING, cacheDirectory );
+		assertThat( Files.getLastModifiedTime( cacheFile ) ).isGreaterThan( lastUsed );
+	}
+
+	@Test
+	void testCompositeWithSuppliedIndex() {
+		final Index suppliedIndex = SourceModelTestHelper.buildJandexIndex( SIMPLE_CLASS_LOADING, Person.class );
+
+		final IndexView jandexIndex = ManagedResourcesProcessor.resolveJandexIndex(
+				List.of( Person.class.getName(), Root.class.getName(), Sub.class.getName() ),
+				suppliedIndex,
+				SIMPLE_CLASS_LOADING
+		);
+		assertThat( jandexIndex ).isInstanceOf( CompositeIndex.class );
+		assertThat( jandexIndex.getKnownClasses() ).hasSize( suppliedIndex.getKnownClasses().size() + 2 );
+		assertThat( jandexIndex.getClassByName( DotName.createSimple( Sub.class.getName() ) ) ).isNotNull();
+
+		// everything already indexed
+		assertThat( ManagedResourcesProcessor.resolveJandexIndex( List.of( Person.class.getName() ), suppliedIndex, SIMPLE_CLASS_LOADING ) )
+				.isSameAs( suppliedIndex );
+	}
+
+	private static List<Path> listCacheFiles(Path cacheDirectory) throws IOException {
+		try (Stream<Path> files = Files.list( cacheDirectory )) {
+			return files.collect( Collectors.toList() );
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import java.util.List;
+
+import org.hibernate.models.orm.categorize.internal.ManagedTypesRegistryPrimer;
+import org.hibernate.models.source.SourceModelTestHelper;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.type.YesNoConverter;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class LazyPrimingTests {
+	@Test
+	void testOnlyManagedTypesArePrimed() {
+		final Index jandexIndex = SourceModelTestHelper.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Person.class,
+				Root.class,
+				Sub.class,
+				MyStringConverter.class,
+				YesNoConverter.class
+		);
+
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				jandexIndex,
+				new ManagedTypesRegistryPrimer( List.of( Sub.class.getName() ) )
+		);
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+
+		// the managed class and its super-types
+		assertThat( classDetailsRegistry.findClassDetails( Sub.class.getName() ) ).isNotNull();
+		assertThat( classDetailsRegistry.findClassDetails( Root.class.getName() ) ).isNotNull();
+
+		// not referenced from the managed classes
+		assertThat( classDetailsRegistry.findClassDetails( Person.class.getName() ) ).isNull();
+		assertThat( classDetailsRegistry.findClassDetails( MyStringConverter.class.getName() ) ).isNull();
+		assertThat( classDetailsRegistry.findClassDetails( YesNoConverter.class.getName() ) ).isNull();
+
+		// but still resolvable on demand
+		assertThat( classDetailsRegistry.resolveClassDetails( Person.class.getName() ) ).isNotNull();
+		assertThat( classDetailsRegistry.findClassDetails( Person.class.getName() ) ).isNotNull();
+	}
+
+	@Test
+	void testPackageFilters() {
+		final ManagedTypesRegistryPrimer registryPrimer = new ManagedTypesRegistryPrimer(
+				List.of(),
+				List.of( "org.hibernate.models" ),
+				List.of( "org.hibernate.models.orm.process" )
+		);
+
+		assertThat( registryPrimer.isIncluded( "org.hibernate.models.orm.xml.SimpleEntity" ) ).isTrue();
+		assertThat( registryPrimer.isIncluded( Person.class.getName() ) ).isFalse();
+		assertThat( registryPrimer.isIncluded( "org.hibernate.modelsx.Thing" ) ).isFalse();
+		assertThat( registryPrimer.isIncluded( "com.acme.Thing" ) ).isFalse();
+	}
+}
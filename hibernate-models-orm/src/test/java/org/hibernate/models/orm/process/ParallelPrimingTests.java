@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.models.orm.categorize.spi.ManagedResourcesProcessor;
+import org.hibernate.models.source.SourceModelTestHelper;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.type.CharBooleanConverter;
+import org.hibernate.type.YesNoConverter;
+import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ParallelPrimingTests {
+	@Test
+	void testParallelMatchesSequential() {
+		final Index jandexIndex = SourceModelTestHelper.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Person.class,
+				Root.class,
+				Sub.class,
+				MyStringConverter.class,
+				MyUuidConverter.class,
+				YesNoConverter.class,
+				CharBooleanConverter.class,
+				BasicValueConverter.class,
+				StringJavaType.class,
+				AbstractClassJavaType.class
+		);
+
+		final SourceModelBuildingContextImpl sequentialContext = new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				jandexIndex,
+				ManagedResourcesProcessor::preFillRegistries
+		);
+		final SourceModelBuildingContextImpl parallelContext = new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				jandexIndex,
+				ManagedResourcesProcessor::preFillRegistriesInParallel,
+				true
+		);
+
+		final ClassDetailsRegistry sequentialRegistry = sequentialContext.getClassDetailsRegistry();
+		final ClassDetailsRegistry parallelRegistry = parallelContext.getClassDetailsRegistry();
+
+		final Set<String> sequentialNames = collectClassNames( sequentialRegistry );
+		final Set<String> parallelNames = collectClassNames( parallelRegistry );
+		assertThat( parallelNames ).isEqualTo( sequentialNames );
+		assertThat( parallelNames ).contains( Person.class.getName(), Root.class.getName(), Sub.class.getName() );
+
+		// registration order differs between the 2, but the snapshots are ordered the same
+		final ClassDetailsRegistry sequentialSnapshot = sequentialRegistry.makeImmutableCopy();
+		final ClassDetailsRegistry parallelSnapshot = parallelRegistry.makeImmutableCopy();
+		for ( String name : sequentialNames ) {
+			assertThat( subTypeNames( parallelRegistry, name ) )
+					.as( "Direct subtypes of " + name )
+					.containsExactlyInAnyOrderElementsOf( subTypeNames( sequentialRegistry, name ) );
+			assertThat( subTypeNames( parallelSnapshot, name ) )
+					.as( "Snapshot direct subtypes of " + name )
+					.containsExactlyElementsOf( subTypeNames( sequentialSnapshot, name ) )
+					.doesNotHaveDuplicates()
+					.isSorted();
+		}
+
+		assertThat( parallelRegistry.getClassDetails( Sub.class.getName() ).getSuperType() )
+				.isSameAs( parallelRegistry.getClassDetails( Root.class.getName() ) );
+	}
+
+	private static Set<String> collectClassNames(ClassDetailsRegistry registry) {
+		final Set<String> names = new HashSet<>();
+		registry.forEachClassDetails( (classDetails) -> names.add( classDetails.getClassName() ) );
+		return names;
+	}
+
+	private static List<String> subTypeNames(ClassDetailsRegistry registry, String name) {
+		final List<String> names = new ArrayList<>();
+		registry.forEachDirectSubType( name, (classDetails) -> names.add( classDetails.getClassName() ) );
+		return names;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.models.source.UnknownAnnotationAttributeException;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.AttributeDescriptor;
+
+/**
+ * Base support for AnnotationDescriptor implementations.
+ * <p/>
+ * Descriptors are annotation targets in the sense of {@linkplain java.lang.annotation.ElementType#ANNOTATION_TYPE},
+ * but we do not currently model the usages of annotations on annotations.
+ *
+ * @author Steve Ebersole
+ */
+public abstract class AbstractAnnotationDescriptor<A extends Annotation> implements AnnotationDescriptor<A> {
+	private volatile AnnotationExtractionPlan extractionPlan;
+
+	/**
+	 * The plan for extracting attribute values from usages of this annotation, built on first access
+	 */
+	public AnnotationExtractionPlan getExtractionPlan() {
+		AnnotationExtractionPlan plan = extractionPlan;
+		if ( plan == null ) {
+			plan = new AnnotationExtractionPlan( this );
+			extractionPlan = plan;
+		}
+		return plan;
+	}
+
+	@Override
+	public <V> AttributeDescriptor<V> getAttribute(String name) {
+		final List<AttributeDescriptor<?>> attributeDescriptors = getAttributes();
+		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
+			final AttributeDescriptor<?> attributeDescriptor = attributeDescriptors.get( i );
+			if ( attributeDescriptor.getName().equals( name ) ) {
+				//noinspection unchecked
+				return (AttributeDescriptor<V>) attributeDescriptor;
+			}
+		}
+		throw new UnknownAnnotationAttributeException( getAnnotationType(), name );
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getAnnotationUsage(AnnotationDescriptor<X> descriptor) {
+		// there are none
+		return null;
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getAnnotationUsage(Class<X> type) {
+		// there are none
+		return null;
+	}
+
+	@Override
+	public boolean hasAnyAnnotationUsage(AnnotationDescriptorSet descriptors) {
+		// there are none
+		return false;
+	}
+
+	@Override
+	public List<AnnotationUsage<?>> getAnnotationUsages(AnnotationDescriptorSet descriptors) {
+		// there are none
+		return Collections.emptyList();
+	}
+
+	@Override
+	public <X extends Annotation> List<AnnotationUsage<X>> getRepeatedAnnotationUsages(AnnotationDescriptor<X> type) {
+		// there are none
+		return null;
+	}
+
+	@Override
+	public <X extends Annotation> List<AnnotationUsage<X>> getRepeatedAnnotationUsages(Class<X> type) {
+		// there are none
+		return null;
+	}
+
+	@Override
+	public <X extends Annotation> void forEachAnnotationUsage(
+			AnnotationDescriptor<X> type,
+			Consumer<AnnotationUsage<X>> consumer) {
+		// there are none
+	}
+
+	@Override
+	public <X extends Annotation> void forEachAnnotationUsage(Class<X> type, Consumer<AnnotationUsage<X>> consumer) {
+		// there are none
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotationUsage(
+			AnnotationDescriptor<X> type,
+			String matchName,
+			String attributeToMatch) {
+		// there are none
+		return null;
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotationUsage(
+			Class<X> type,
+			String matchName,
+			String attributeToMatch) {
+		// there are none
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "AnnotationDescriptor(" + getName() + ")";
+	}
+}
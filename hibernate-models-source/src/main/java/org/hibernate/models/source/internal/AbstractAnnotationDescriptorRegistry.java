@@ -15,22 +15,55 @@ import org.hibernate.models.ModelsException;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 
+import org.jboss.jandex.DotName;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class AbstractAnnotationDescriptorRegistry implements AnnotationDescriptorRegistry {
 	protected final Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap;
+	protected final Map<DotName, AnnotationDescriptor<?>> descriptorsByName;
 	protected final Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap;
 
+	/**
+	 * Read-only registry consulted for descriptors not registered here, or {@code null}
+	 */
+	protected final AnnotationDescriptorRegistry parent;
+
 	public AbstractAnnotationDescriptorRegistry() {
-		this( new ConcurrentHashMap<>(), new ConcurrentHashMap<>() );
+		this( null );
+	}
+
+	public AbstractAnnotationDescriptorRegistry(AnnotationDescriptorRegistry parent) {
+		this( new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), parent );
 	}
 
 	public AbstractAnnotationDescriptorRegistry(
 			Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap,
+			Map<DotName, AnnotationDescriptor<?>> descriptorsByName,
 			Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap) {
+		this( descriptorMap, descriptorsByName, repeatableByContainerMap, null );
+	}
+
+	public AbstractAnnotationDescriptorRegistry(
+			Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap,
+			Map<DotName, AnnotationDescriptor<?>> descriptorsByName,
+			Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap,
+			AnnotationDescriptorRegistry parent) {
 		this.descriptorMap = descriptorMap;
+		this.descriptorsByName = descriptorsByName;
 		this.repeatableByContainerMap = repeatableByContainerMap;
+		this.parent = parent;
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationDescriptor<A> findDescriptor(DotName annotationName) {
+		//noinspection unchecked
+		final AnnotationDescriptor<A> local = (AnnotationDescriptor<A>) descriptorsByName.get( annotationName );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		return parent.findDescriptor( annotationName );
 	}
 
 	/**
@@ -44,7 +77,11 @@ public abstract class AbstractAnnotationDescriptorRegistry implements Annotation
 	@Override
 	public <A extends Annotation> AnnotationDescriptor<A> getContainedRepeatableDescriptor(AnnotationDescriptor<A> containerDescriptor) {
 		//noinspection unchecked
-		return (AnnotationDescriptor<A>) repeatableByContainerMap.get( containerDescriptor );
+		final AnnotationDescriptor<A> local = (AnnotationDescriptor<A>) repeatableByContainerMap.get( containerDescriptor );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		return parent.getContainedRepeatableDescriptor( containerDescriptor );
 	}
 
 	/**
@@ -6,18 +6,30 @@
  */
 package org.hibernate.models.source.internal;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.CollectionHelper;
 import org.hibernate.models.source.UnknownClassException;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.PackageDetails;
 
 /**
+ * Base support for ClassDetailsRegistry implementations.
+ * <p/>
+ * A registry may be layered over a read-only {@linkplain #parent parent} registry (see
+ * {@linkplain SourceModelPlatform}).  Lookups fall through to the parent for classes and
+ * packages not registered here; new registrations are always made here.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegistry {
@@ -29,23 +41,81 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 	// for packages containing a package-info.class file
 	protected final Map<String, PackageDetails> packageDetailsMap;
 
+	// read-only registry consulted for classes not registered here, or null
+	protected final ClassDetailsRegistry parent;
+
+	// built on first use, discarded when a package is registered
+	private volatile PackageTree packageTree;
+	private final AtomicInteger packageRegistrationCount = new AtomicInteger();
+
 
 	protected AbstractClassDetailsRegistry() {
-		this( new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>() );
+		this( (ClassDetailsRegistry) null );
+	}
+
+	protected AbstractClassDetailsRegistry(ClassDetailsRegistry parent) {
+		this( new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), parent );
 	}
 
 	protected AbstractClassDetailsRegistry(
 			Map<String, ClassDetails> classDetailsMap,
 			Map<String, List<ClassDetails>> subTypeClassDetailsMap,
 			Map<String, PackageDetails> packageDetailsMap) {
+		this( classDetailsMap, subTypeClassDetailsMap, packageDetailsMap, null );
+	}
+
+	protected AbstractClassDetailsRegistry(
+			Map<String, ClassDetails> classDetailsMap,
+			Map<String, List<ClassDetails>> subTypeClassDetailsMap,
+			Map<String, PackageDetails> packageDetailsMap,
+			ClassDetailsRegistry parent) {
 		this.classDetailsMap = classDetailsMap;
 		this.subTypeClassDetailsMap = subTypeClassDetailsMap;
 		this.packageDetailsMap = packageDetailsMap;
+		this.parent = parent;
 	}
 
 	@Override
 	public List<ClassDetails> getDirectSubTypes(String superTypeName) {
-		return subTypeClassDetailsMap.get( superTypeName );
+		final List<ClassDetails> local = subTypeClassDetailsMap.get( superTypeName );
+		if ( parent == null ) {
+			return local;
+		}
+
+		final List<ClassDetails> inherited = parent.getDirectSubTypes( superTypeName );
+		if ( CollectionHelper.isEmpty( inherited ) ) {
+			return local;
+		}
+		if ( CollectionHelper.isEmpty( local ) && !isShadowingAny( inherited ) ) {
+			return inherited;
+		}
+		final List<ClassDetails> combined = new ArrayList<>( inherited.size() + ( local == null ? 0 : local.size() ) );
+		for ( int i = 0; i < inherited.size(); i++ ) {
+			final ClassDetails subType = inherited.get( i );
+			if ( !classDetailsMap.containsKey( subType.getClassName() ) ) {
+				combined.add( subType );
+			}
+		}
+		if ( local != null ) {
+			combined.addAll( local );
+		}
+		return combined;
+	}
+
+	/**
+	 * Whether any of the given classes (from the parent) has been replaced by a
+	 * registration here
+	 */
+	private boolean isShadowingAny(List<ClassDetails> inherited) {
+		if ( classDetailsMap.isEmpty() ) {
+			return false;
+		}
+		for ( int i = 0; i < inherited.size(); i++ ) {
+			if ( classDetailsMap.containsKey( inherited.get( i ).getClassName() ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -59,14 +129,62 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 		}
 	}
 
+	@Override
+	public List<ClassDetails> getAllSubTypes(String superTypeName) {
+		final List<ClassDetails> directSubTypes = getDirectSubTypes( superTypeName );
+		if ( directSubTypes == null || directSubTypes.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		final List<ClassDetails> result = new ArrayList<>();
+		collectSubTypes( directSubTypes, result );
+		return result;
+	}
+
+	private void collectSubTypes(List<ClassDetails> subTypes, List<ClassDetails> result) {
+		for ( int i = 0; i < subTypes.size(); i++ ) {
+			final ClassDetails subType = subTypes.get( i );
+			result.add( subType );
+			final List<ClassDetails> subSubTypes = getDirectSubTypes( subType.getName() );
+			if ( subSubTypes != null ) {
+				collectSubTypes( subSubTypes, result );
+			}
+		}
+	}
+
+	@Override
+	public void forEachSubType(String superTypeName, ClassDetailsConsumer consumer) {
+		final List<ClassDetails> subTypes = getAllSubTypes( superTypeName );
+		for ( int i = 0; i < subTypes.size(); i++ ) {
+			consumer.consume( subTypes.get( i ) );
+		}
+	}
+
+	@Override
+	public void forEachSubType(
+			String superTypeName,
+			Class<? extends Annotation> annotationType,
+			ClassDetailsConsumer consumer) {
+		final List<ClassDetails> subTypes = getAllSubTypes( superTypeName );
+		for ( int i = 0; i < subTypes.size(); i++ ) {
+			final ClassDetails subType = subTypes.get( i );
+			if ( subType.getAnnotationUsage( annotationType ) != null ) {
+				consumer.consume( subType );
+			}
+		}
+	}
+
 	@Override
 	public ClassDetails findClassDetails(String name) {
-		return classDetailsMap.get( name );
+		final ClassDetails local = classDetailsMap.get( name );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		return parent.findClassDetails( name );
 	}
 
 	@Override
 	public ClassDetails getClassDetails(String name) {
-		final ClassDetails named = classDetailsMap.get( name );
+		final ClassDetails named = findClassDetails( name );
 		if ( named == null ) {
 			if ( "void".equals( name ) ) {
 				return null;
@@ -78,6 +196,13 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 
 	@Override
 	public void forEachClassDetails(ClassDetailsConsumer consumer) {
+		if ( parent != null ) {
+			parent.forEachClassDetails( (classDetails) -> {
+				if ( !classDetailsMap.containsKey( classDetails.getClassName() ) ) {
+					consumer.consume( classDetails );
+				}
+			} );
+		}
 		for ( Map.Entry<String, ClassDetails> entry : classDetailsMap.entrySet() ) {
 			consumer.consume( entry.getValue() );
 		}
@@ -95,7 +220,7 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 			throw new ModelsException( "Resolve " + name + " as a package, not a class" );
 		}
 
-		final ClassDetails existing = classDetailsMap.get( name );
+		final ClassDetails existing = findClassDetails( name );
 		if ( existing != null ) {
 			return existing;
 		}
@@ -114,7 +239,7 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 			throw new ModelsException( "Resolve " + name + " as a package, not a class" );
 		}
 
-		final ClassDetails existing = classDetailsMap.get( name );
+		final ClassDetails existing = findClassDetails( name );
 		if ( existing != null ) {
 			return existing;
 		}
@@ -126,7 +251,11 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 
 	@Override
 	public PackageDetails findPackageDetails(String name) {
-		return packageDetailsMap.get( name );
+		final PackageDetails local = packageDetailsMap.get( name );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		return parent.findPackageDetails( name );
 	}
 
 	@Override
@@ -140,6 +269,13 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 
 	@Override
 	public void forEachPackageDetails(PackageDetailsConsumer consumer) {
+		if ( parent != null ) {
+			parent.forEachPackageDetails( (packageDetails) -> {
+				if ( !packageDetailsMap.containsKey( packageDetails.getName() ) ) {
+					consumer.consume( packageDetails );
+				}
+			} );
+		}
 		for ( Map.Entry<String, PackageDetails> entry : packageDetailsMap.entrySet() ) {
 			consumer.consume( entry.getValue() );
 		}
@@ -147,12 +283,39 @@ public abstract class AbstractClassDetailsRegistry implements ClassDetailsRegist
 
 	@Override
 	public PackageDetails resolvePackageDetails(String packageName, PackageDetailsCreator creator) {
-		final PackageDetails existing = packageDetailsMap.get( packageName );
+		final PackageDetails existing = findPackageDetails( packageName );
 		if ( existing != null ) {
 			return existing;
 		}
 
-		return createPackageDetails( packageName, creator );
+		final PackageDetails created = createPackageDetails( packageName, creator );
+		packageRegistrationCount.incrementAndGet();
+		packageTree = null;
+		return created;
+	}
+
+	@Override
+	public PackageDetails findNearestPackageDetails(String packageName) {
+		return getPackageTree().findNearestPackageDetails( packageName );
+	}
+
+	@Override
+	public PackageDetails findNearestPackageDetails(String packageName, AnnotationDescriptor<?> descriptor) {
+		return getPackageTree().findNearestPackageDetails( packageName, descriptor );
+	}
+
+	protected PackageTree getPackageTree() {
+		PackageTree tree = packageTree;
+		if ( tree == null ) {
+			final int registrationCount = packageRegistrationCount.get();
+			tree = new PackageTree( this );
+			packageTree = tree;
+			if ( registrationCount != packageRegistrationCount.get() ) {
+				// a package was registered concurrently - do not keep the (possibly stale) tree
+				packageTree = null;
+			}
+		}
+		return tree;
 	}
 
 	protected abstract PackageDetails createPackageDetails(String packageName, PackageDetailsCreator creator);
@@ -13,14 +13,25 @@ import org.hibernate.models.ModelsException;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 
+import org.jboss.jandex.DotName;
+
 /**
  * @author Steve Ebersole
  */
 public class AnnotationDescriptorRegistryImmutable extends AbstractAnnotationDescriptorRegistry {
 	public AnnotationDescriptorRegistryImmutable(
 			Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap,
+			Map<DotName, AnnotationDescriptor<?>> descriptorsByName,
 			Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap) {
-		super( descriptorMap, repeatableByContainerMap );
+		this( descriptorMap, descriptorsByName, repeatableByContainerMap, null );
+	}
+
+	public AnnotationDescriptorRegistryImmutable(
+			Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap,
+			Map<DotName, AnnotationDescriptor<?>> descriptorsByName,
+			Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap,
+			AnnotationDescriptorRegistry parent) {
+		super( descriptorMap, descriptorsByName, repeatableByContainerMap, parent );
 	}
 
 	@Override
@@ -34,9 +45,26 @@ public class AnnotationDescriptorRegistryImmutable extends AbstractAnnotationDes
 			DescriptorCreator<A> creator) {
 		//noinspection unchecked
 		final AnnotationDescriptor<A> descriptor = (AnnotationDescriptor<A>) descriptorMap.get( javaType );
-		if ( descriptor == null ) {
+		if ( descriptor != null ) {
+			return descriptor;
+		}
+
+		// it may have been registered by name only
+		final AnnotationDescriptor<A> namedDescriptor = findDescriptor( DotName.createSimple( javaType.getName() ) );
+		if ( namedDescriptor == null ) {
 			throw new ModelsException( "AnnotationDescriptorRegistry is immutable - " + javaType.getName() );
 		}
+		return namedDescriptor;
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
+			DotName annotationName,
+			NamedDescriptorCreator creator) {
+		final AnnotationDescriptor<A> descriptor = findDescriptor( annotationName );
+		if ( descriptor == null ) {
+			throw new ModelsException( "AnnotationDescriptorRegistry is immutable - " + annotationName );
+		}
 		return descriptor;
 	}
 
@@ -13,8 +13,19 @@ import org.hibernate.models.source.internal.jdk.AnnotationDescriptorImpl;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 
+import org.jboss.jandex.DotName;
+
 /**
- * Access to AnnotationDescriptor instances based on a number of look-ups
+ * Access to AnnotationDescriptor instances based on a number of look-ups.
+ * <p/>
+ * Descriptors are keyed by both the annotation Class and the annotation {@linkplain DotName name}.
+ * Descriptors resolved {@linkplain #resolveDescriptor(DotName, NamedDescriptorCreator) by name}
+ * (generally from Jandex) may not have loaded the annotation Class, so are registered by name
+ * only and located by name when later requested by Class.
+ * <p/>
+ * A registry may be layered over a read-only {@linkplain #parent parent} registry (see
+ * {@linkplain SourceModelPlatform}); descriptors not registered here are located from
+ * the parent.
  *
  * @author Steve Ebersole
  */
@@ -22,8 +33,13 @@ public class AnnotationDescriptorRegistryStandard extends AbstractAnnotationDesc
 	public AnnotationDescriptorRegistryStandard() {
 	}
 
+	public AnnotationDescriptorRegistryStandard(AnnotationDescriptorRegistry parent) {
+		super( parent );
+	}
+
 	public void register(AnnotationDescriptor<?> descriptor) {
 		descriptorMap.put( descriptor.getAnnotationType(), descriptor );
+		descriptorsByName.put( DotName.createSimple( descriptor.getName() ), descriptor );
 		if ( descriptor.getRepeatableContainer() != null ) {
 			// the descriptor is repeatable - register it under its container
 			repeatableByContainerMap.put( descriptor.getRepeatableContainer(), descriptor );
@@ -45,11 +61,55 @@ public class AnnotationDescriptorRegistryStandard extends AbstractAnnotationDesc
 			return existing;
 		}
 
+		final DotName annotationName = DotName.createSimple( javaType.getName() );
+		final AnnotationDescriptor<A> existingNamed = findDescriptor( annotationName );
+		if ( existingNamed != null ) {
+			descriptorMap.putIfAbsent( javaType, existingNamed );
+			return existingNamed;
+		}
+
 		final AnnotationDescriptor<A> created = creator.createDescriptor( javaType );
-		descriptorMap.put( javaType, created );
+		return registerIfAbsent( javaType, created );
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
+			DotName annotationName,
+			NamedDescriptorCreator creator) {
+		final AnnotationDescriptor<A> existing = findDescriptor( annotationName );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		//noinspection unchecked
+		final AnnotationDescriptor<A> created = (AnnotationDescriptor<A>) creator.createDescriptor( annotationName );
+		//noinspection unchecked
+		final AnnotationDescriptor<A> registered = (AnnotationDescriptor<A>) descriptorsByName.putIfAbsent( annotationName, created );
+		if ( registered != null ) {
+			return registered;
+		}
+
+		if ( created.getRepeatableContainer() != null ) {
+			repeatableByContainerMap.putIfAbsent( created.getRepeatableContainer(), created );
+		}
 		return created;
 	}
 
+	/**
+	 * Registers the descriptor unless one is already registered for the type, in which
+	 * case the existing one is returned.  This ensures all concurrent callers see the
+	 * same descriptor.
+	 */
+	private <A extends Annotation> AnnotationDescriptor<A> registerIfAbsent(Class<A> javaType, AnnotationDescriptor<A> descriptor) {
+		//noinspection unchecked
+		final AnnotationDescriptor<A> existing = (AnnotationDescriptor<A>) descriptorMap.putIfAbsent( javaType, descriptor );
+		if ( existing != null ) {
+			return existing;
+		}
+		descriptorsByName.putIfAbsent( DotName.createSimple( javaType.getName() ), descriptor );
+		return descriptor;
+	}
+
 	private <A extends Annotation> AnnotationDescriptor<A> buildAdHocAnnotationDescriptor(Class<A> javaType) {
 		final Repeatable repeatable = javaType.getAnnotation( Repeatable.class );
 		final AnnotationDescriptor<? extends Annotation> containerDescriptor;
@@ -61,13 +121,11 @@ public class AnnotationDescriptorRegistryStandard extends AbstractAnnotationDesc
 			containerDescriptor = null;
 		}
 
-		final AnnotationDescriptorImpl<A> descriptor = new AnnotationDescriptorImpl<>( javaType, containerDescriptor );
-		descriptorMap.put( javaType, descriptor );
-		return descriptor;
+		return registerIfAbsent( javaType, new AnnotationDescriptorImpl<>( javaType, containerDescriptor ) );
 	}
 
 	@Override
 	public AnnotationDescriptorRegistry makeImmutableCopy() {
-		return new AnnotationDescriptorRegistryImmutable( descriptorMap, repeatableByContainerMap );
+		return new AnnotationDescriptorRegistryImmutable( descriptorMap, descriptorsByName, repeatableByContainerMap, parent );
 	}
 }
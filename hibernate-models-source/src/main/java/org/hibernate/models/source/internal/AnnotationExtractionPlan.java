@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.AttributeDescriptor;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.ValueExtractor;
+import org.hibernate.models.source.spi.ValueTypeDescriptor;
+
+import org.jboss.jandex.AnnotationInstance;
+
+/**
+ * Precompiled plan for extracting the attribute values of usages of a particular annotation.
+ * <p/>
+ * The plan holds the {@linkplain ValueExtractor extractors} for each attribute, indexed by the
+ * attribute's position in {@linkplain AnnotationDescriptor#getAttributes()}.  The extractors for
+ * each source (Jandex, JDK) are built once, on first use, and then reused for every usage.
+ *
+ * @see #forDescriptor
+ *
+ * @author Steve Ebersole
+ */
+public class AnnotationExtractionPlan {
+	public static final Object[] NO_VALUES = new Object[0];
+	private static final int[] NO_POSITIONS = new int[0];
+
+	private final AttributeDescriptor<?>[] attributes;
+	private final String[] attributeNames;
+	private final int[] classReferencePositions;
+
+	private volatile ValueExtractor<AnnotationInstance,?>[] jandexExtractors;
+	private volatile ValueExtractor<Annotation,?>[] jdkExtractors;
+
+	public AnnotationExtractionPlan(AnnotationDescriptor<?> annotationDescriptor) {
+		final List<AttributeDescriptor<?>> attributeDescriptors = annotationDescriptor.getAttributes();
+		this.attributes = attributeDescriptors.toArray( new AttributeDescriptor<?>[0] );
+		this.attributeNames = new String[attributes.length];
+		int classReferenceCount = 0;
+		for ( int i = 0; i < attributes.length; i++ ) {
+			attributeNames[i] = attributes[i].getName();
+			if ( refersToClasses( attributes[i].getTypeDescriptor() ) ) {
+				classReferenceCount++;
+			}
+		}
+
+		if ( classReferenceCount == 0 ) {
+			this.classReferencePositions = NO_POSITIONS;
+		}
+		else {
+			this.classReferencePositions = new int[classReferenceCount];
+			int index = 0;
+			for ( int i = 0; i < attributes.length; i++ ) {
+				if ( refersToClasses( attributes[i].getTypeDescriptor() ) ) {
+					classReferencePositions[index++] = i;
+				}
+			}
+		}
+	}
+
+	private static boolean refersToClasses(ValueTypeDescriptor<?> typeDescriptor) {
+		if ( typeDescriptor instanceof ArrayTypeDescriptor ) {
+			return refersToClasses( ( (ArrayTypeDescriptor<?>) typeDescriptor ).getElementTypeDescriptor() );
+		}
+		return typeDescriptor instanceof ClassTypeDescriptor
+				|| typeDescriptor instanceof NestedTypeDescriptor;
+	}
+
+	/**
+	 * The plan for the given descriptor.  Plans are cached on the descriptor when supported.
+	 */
+	public static AnnotationExtractionPlan forDescriptor(AnnotationDescriptor<?> annotationDescriptor) {
+		if ( annotationDescriptor instanceof AbstractAnnotationDescriptor ) {
+			return ( (AbstractAnnotationDescriptor<?>) annotationDescriptor ).getExtractionPlan();
+		}
+		return new AnnotationExtractionPlan( annotationDescriptor );
+	}
+
+	public int getAttributeCount() {
+		return attributes.length;
+	}
+
+	/**
+	 * The positions of the attributes whose values may refer to classes - Class values and nested
+	 * annotations (which may hold Class values), or arrays of either.
+	 */
+	public int[] getClassReferencePositions() {
+		return classReferencePositions;
+	}
+
+	/**
+	 * The name of the attribute at the given position
+	 */
+	public String getAttributeName(int position) {
+		return attributeNames[position];
+	}
+
+	/**
+	 * The position of the named attribute, or {@code -1} if the annotation defines no such attribute
+	 */
+	public int positionOf(String attributeName) {
+		for ( int i = 0; i < attributeNames.length; i++ ) {
+			if ( attributeNames[i].equals( attributeName ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Extract the value of the attribute at the given position from a Jandex annotation
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <V> V extractValue(
+			AnnotationInstance annotation,
+			int position,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		final ValueExtractor extractor = resolveJandexExtractors( buildingContext )[position];
+		return (V) extractor.extractValue( annotation, (AttributeDescriptor) attributes[position], target, buildingContext );
+	}
+
+	/**
+	 * Extract the values of all attributes from a JDK annotation, indexed by attribute position
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public Object[] extractValues(
+			Annotation annotation,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		if ( attributes.length == 0 ) {
+			return NO_VALUES;
+		}
+
+		final ValueExtractor[] extractors = resolveJdkExtractors( buildingContext );
+		final Object[] values = new Object[attributes.length];
+		for ( int i = 0; i < attributes.length; i++ ) {
+			values[i] = extractors[i].extractValue( annotation, (AttributeDescriptor) attributes[i], target, buildingContext );
+		}
+		return values;
+	}
+
+	private ValueExtractor<AnnotationInstance,?>[] resolveJandexExtractors(SourceModelBuildingContext buildingContext) {
+		ValueExtractor<AnnotationInstance,?>[] extractors = jandexExtractors;
+		if ( extractors == null ) {
+			// races here are benign - each thread builds an equivalent array
+			//noinspection unchecked
+			extractors = new ValueExtractor[attributes.length];
+			for ( int i = 0; i < attributes.length; i++ ) {
+				extractors[i] = attributes[i].getTypeDescriptor().createJandexExtractor( buildingContext );
+			}
+			jandexExtractors = extractors;
+		}
+		return extractors;
+	}
+
+	private ValueExtractor<Annotation,?>[] resolveJdkExtractors(SourceModelBuildingContext buildingContext) {
+		ValueExtractor<Annotation,?>[] extractors = jdkExtractors;
+		if ( extractors == null ) {
+			//noinspection unchecked
+			extractors = new ValueExtractor[attributes.length];
+			for ( int i = 0; i < attributes.length; i++ ) {
+				extractors[i] = attributes[i].getTypeDescriptor().createJdkExtractor( buildingContext );
+			}
+			jdkExtractors = extractors;
+		}
+		return extractors;
+	}
+}
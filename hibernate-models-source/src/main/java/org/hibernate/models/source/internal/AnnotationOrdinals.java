@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns dense int ordinals to annotation types, used as the key for
+ * {@linkplain AnnotationUsages array-backed usage storage}.  An implementation detail of the
+ * {@linkplain org.hibernate.models.source.spi.AnnotationDescriptor descriptors} - consumers use
+ * {@linkplain org.hibernate.models.source.spi.AnnotationDescriptor#getOrdinal()}.
+ * <p/>
+ * Ordinals are per annotation type rather than per registry because descriptors
+ * (e.g. {@code JpaAnnotations}) are shared across registries.  They are keyed by the
+ * annotation type name so that an ordinal can be assigned without loading the annotation
+ * class (see {@linkplain org.hibernate.models.source.internal.jandex.JandexAnnotationDescriptor}).
+ * <p/>
+ * An ordinal is held by an {@linkplain Ordinal} token, which is referenced by the descriptors
+ * using it and by the annotation Class (through a {@linkplain ClassValue}).  Once the token is
+ * no longer reachable - the annotation types of a discarded class loader, or Jandex descriptors
+ * of a discarded context - the ordinal is released and reused for the next type assigned one.
+ * The ordinals in use therefore stay bounded by the number of annotation types alive at once,
+ * rather than growing with every type ever seen.
+ *
+ * @author Steve Ebersole
+ */
+public class AnnotationOrdinals {
+	private static final Map<String, OrdinalReference> ORDINALS_BY_NAME = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<Ordinal> RELEASED = new ReferenceQueue<>();
+
+	// assignment state, guarded by the lock
+	private static final Object LOCK = new Object();
+	private static final BitSet FREE_ORDINALS = new BitSet();
+	private static int nextOrdinal;
+
+	private static final ClassValue<Ordinal> ORDINALS = new ClassValue<>() {
+		@Override
+		protected Ordinal computeValue(Class<?> type) {
+			return acquire( type.getName() );
+		}
+	};
+
+	/**
+	 * The ordinal for the given annotation type.  Held for as long as the annotation Class is.
+	 */
+	public static int ordinalOf(Class<? extends Annotation> annotationType) {
+		return ORDINALS.get( annotationType ).getValue();
+	}
+
+	/**
+	 * The ordinal token for the annotation type with the given name.  The ordinal is only
+	 * reserved while the token is reachable, so callers keep a reference to the token for as
+	 * long as they use its value.
+	 */
+	public static Ordinal acquire(String annotationTypeName) {
+		final Ordinal existing = find( annotationTypeName );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		synchronized ( LOCK ) {
+			releaseCollected();
+
+			final OrdinalReference reference = ORDINALS_BY_NAME.get( annotationTypeName );
+			if ( reference != null ) {
+				final Ordinal ordinal = reference.get();
+				if ( ordinal != null ) {
+					return ordinal;
+				}
+				// collected, but not yet enqueued - take its ordinal over directly
+				reference.released = true;
+				return register( annotationTypeName, reference.value );
+			}
+
+			final int free = FREE_ORDINALS.nextSetBit( 0 );
+			if ( free >= 0 ) {
+				FREE_ORDINALS.clear( free );
+				return register( annotationTypeName, free );
+			}
+			return register( annotationTypeName, nextOrdinal++ );
+		}
+	}
+
+	private static Ordinal find(String annotationTypeName) {
+		final OrdinalReference reference = ORDINALS_BY_NAME.get( annotationTypeName );
+		return reference == null ? null : reference.get();
+	}
+
+	private static Ordinal register(String annotationTypeName, int value) {
+		final Ordinal ordinal = new Ordinal( value );
+		ORDINALS_BY_NAME.put( annotationTypeName, new OrdinalReference( annotationTypeName, ordinal ) );
+		return ordinal;
+	}
+
+	private static void releaseCollected() {
+		OrdinalReference reference;
+		while ( ( reference = (OrdinalReference) RELEASED.poll() ) != null ) {
+			ORDINALS_BY_NAME.remove( reference.name, reference );
+			if ( !reference.released ) {
+				reference.released = true;
+				FREE_ORDINALS.set( reference.value );
+			}
+		}
+	}
+
+	/**
+	 * The upper bound (exclusive) of the ordinals assigned so far.  Released ordinals are
+	 * reused, so this is bounded by the number of annotation types alive at once.
+	 */
+	public static int ordinalCount() {
+		synchronized ( LOCK ) {
+			return nextOrdinal;
+		}
+	}
+
+	private AnnotationOrdinals() {
+		// disallow direct instantiation
+	}
+
+	/**
+	 * Reserves an ordinal for as long as it is reachable
+	 */
+	public static final class Ordinal {
+		private final int value;
+
+		private Ordinal(int value) {
+			this.value = value;
+		}
+
+		public int getValue() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return "Ordinal(" + value + ")";
+		}
+	}
+
+	private static class OrdinalReference extends WeakReference<Ordinal> {
+		private final String name;
+		private final int value;
+		// guarded by the lock
+		private boolean released;
+
+		private OrdinalReference(String name, Ordinal ordinal) {
+			super( ordinal, RELEASED );
+			this.name = name;
+			this.value = ordinal.getValue();
+		}
+	}
+}
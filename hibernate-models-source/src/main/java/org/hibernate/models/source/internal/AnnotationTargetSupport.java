@@ -8,10 +8,10 @@ package org.hibernate.models.source.internal;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
@@ -20,11 +20,15 @@ import org.hibernate.models.source.spi.SourceModelBuildingContext;
  */
 public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 	SourceModelBuildingContext getBuildingContext();
-	Map<Class<? extends Annotation>, AnnotationUsage<? extends Annotation>> getUsageMap();
+
+	/**
+	 * The usages of annotations on this target
+	 */
+	AnnotationUsages getUsages();
 
 	@Override
 	default <A extends Annotation> AnnotationUsage<A> getAnnotationUsage(AnnotationDescriptor<A> descriptor) {
-		return AnnotationUsageHelper.getUsage( descriptor, getUsageMap() );
+		return AnnotationUsageHelper.getUsage( descriptor, getUsages() );
 	}
 
 	@Override
@@ -32,9 +36,19 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 		return getAnnotationUsage( getBuildingContext().getAnnotationDescriptorRegistry().getDescriptor( type ) );
 	}
 
+	@Override
+	default boolean hasAnyAnnotationUsage(AnnotationDescriptorSet descriptors) {
+		return getUsages().isAnyPresent( descriptors );
+	}
+
+	@Override
+	default List<AnnotationUsage<?>> getAnnotationUsages(AnnotationDescriptorSet descriptors) {
+		return getUsages().findAll( descriptors );
+	}
+
 	@Override
 	default <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotationUsages(AnnotationDescriptor<A> type) {
-		return AnnotationUsageHelper.getRepeatedUsages( type, getUsageMap() );
+		return AnnotationUsageHelper.getRepeatedUsages( type, getUsages() );
 	}
 
 	@Override
@@ -60,7 +74,7 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 			AnnotationDescriptor<X> type,
 			String matchName,
 			String attributeToMatch) {
-		return AnnotationUsageHelper.getNamedUsage( type, matchName, attributeToMatch, getUsageMap() );
+		return AnnotationUsageHelper.getNamedUsage( type, matchName, attributeToMatch, getUsages() );
 	}
 
 	@Override
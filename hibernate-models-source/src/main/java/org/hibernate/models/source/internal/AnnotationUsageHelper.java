@@ -7,10 +7,7 @@
 package org.hibernate.models.source.internal;
 
 import java.lang.annotation.Annotation;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import org.hibernate.models.internal.CollectionHelper;
 import org.hibernate.models.source.AnnotationAccessException;
@@ -31,22 +28,21 @@ import org.hibernate.models.source.spi.AnnotationUsage;
 public class AnnotationUsageHelper {
 	public static <A extends Annotation> AnnotationUsage<A> findUsage(
 			AnnotationDescriptor<A> type,
-			Map<Class<? extends Annotation>,AnnotationUsage<? extends Annotation>> usageMap) {
-		//noinspection unchecked
-		return (AnnotationUsage<A>) usageMap.get( type.getAnnotationType() );
+			AnnotationUsages usages) {
+		return usages.find( type );
 	}
 
 	/**
-	 * Get the {@link AnnotationUsage} from the {@code usageMap} for the given {@code type}
+	 * Get the {@link AnnotationUsage} from the {@code usages} for the given {@code type}
 	 */
 	public static <A extends Annotation> AnnotationUsage<A> getUsage(
 			AnnotationDescriptor<A> type,
-			Map<Class<? extends Annotation>,AnnotationUsage<? extends Annotation>> usageMap) {
-		final AnnotationUsage<A> found = findUsage( type, usageMap );
+			AnnotationUsages usages) {
+		final AnnotationUsage<A> found = findUsage( type, usages );
 		if ( found == null ) {
 			final AnnotationDescriptor<?> repeatableContainer = type.getRepeatableContainer();
 			if ( repeatableContainer != null ) {
-				final AnnotationUsage<? extends Annotation> containerUsage = findUsage( repeatableContainer, usageMap );
+				final AnnotationUsage<? extends Annotation> containerUsage = findUsage( repeatableContainer, usages );
 				if ( containerUsage != null ) {
 					final List<AnnotationUsage<A>> nestedUsages = containerUsage.getAttributeValue( "value" );
 					if ( CollectionHelper.isEmpty( nestedUsages ) ) {
@@ -61,73 +57,28 @@ public class AnnotationUsageHelper {
 		return found;
 	}
 
+	/**
+	 * Get all usages of the given {@code type} from the {@code usages} - the direct usage plus any from
+	 * its container, flattened once and kept by the {@code usages}.
+	 */
 	public static <A extends Annotation> List<AnnotationUsage<A>> getRepeatedUsages(
 			AnnotationDescriptor<A> type,
-			Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap) {
-		// e.g. `@NamedQuery`
-		final AnnotationUsage<A> usage = findUsage( type, usageMap );
-		// e.g. `@NamedQueries`
-		final AnnotationUsage<?> containerUsage = type.getRepeatableContainer() != null
-				? findUsage( type.getRepeatableContainer(), usageMap )
-				: null;
-
-		if ( containerUsage != null ) {
-			final List<AnnotationUsage<A>> repetitions = containerUsage.getAttributeValue( "value" );
-			if ( CollectionHelper.isNotEmpty( repetitions ) ) {
-				if ( usage != null ) {
-					// we can have both when repeatable + inherited are mixed
-					final ArrayList<AnnotationUsage<A>> combined = new ArrayList<>( repetitions );
-					combined.add( usage );
-					return combined;
-				}
-				return repetitions;
-			}
-		}
-
-		if ( usage != null ) {
-			return Collections.singletonList( usage );
-		}
-
-		return Collections.emptyList();
+			AnnotationUsages usages) {
+		return usages.findRepeated( type );
 	}
 
+	/**
+	 * Get the usage of the given {@code type} from the {@code usages} whose {@code attributeToMatch}
+	 * attribute value matches {@code matchValue}, using the name index kept by the {@code usages}.
+	 */
 	public static <A extends Annotation> AnnotationUsage<A> getNamedUsage(
 			AnnotationDescriptor<A> type,
 			String matchValue,
 			String attributeToMatch,
-			Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap) {
-		final AnnotationUsage<?> annotationUsage = usageMap.get( type.getAnnotationType() );
-		if ( annotationUsage != null ) {
-			if ( nameMatches( annotationUsage, matchValue, attributeToMatch ) ) {
-				//noinspection unchecked
-				return (AnnotationUsage<A>) annotationUsage;
-			}
-			return null;
-		}
-
-		final AnnotationDescriptor<?> containerType = type.getRepeatableContainer();
-		if ( containerType != null ) {
-			final AnnotationUsage<?> containerUsage = usageMap.get( containerType.getAnnotationType() );
-			if ( containerUsage != null ) {
-				final List<AnnotationUsage<A>> repeatedUsages = containerUsage.getAttributeValue( "value" );
-				for ( int i = 0; i < repeatedUsages.size(); i++ ) {
-					final AnnotationUsage<A> repeatedUsage = repeatedUsages.get( i );
-					if ( nameMatches( repeatedUsage, matchValue, attributeToMatch ) ) {
-						return repeatedUsage;
-					}
-				}
-			}
-		}
-
-		return null;
+			AnnotationUsages usages) {
+		return usages.findNamed( type, matchValue, attributeToMatch );
 	}
 
-	private static boolean nameMatches(AnnotationUsage<?> annotationUsage, String matchValue, String attributeToMatch) {
-		final String name = annotationUsage.getAttributeValue( attributeToMatch );
-		return matchValue.equals( name );
-	}
-
-
 	private AnnotationUsageHelper() {
 	}
 }
@@ -0,0 +1,258 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.hibernate.models.source.internal.jandex.JandexPackageDetails;
+import org.hibernate.models.source.internal.jdk.JdkClassDetails;
+import org.hibernate.models.source.internal.jdk.JdkPackageDetailsImpl;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * Inverted index from annotation type to the targets using it, used to implement
+ * {@linkplain org.hibernate.models.source.spi.SharedAnnotationScope} for the
+ * {@linkplain SourceModelBuildingContext}.
+ * <p/>
+ * Targets are located from 3 sources -<ol>
+ *     <li>
+ *         The Jandex index, via {@linkplain IndexView#getAnnotationsWithRepeatable}, for
+ *         annotations declared on classes, fields, methods and packages
+ *     </li>
+ *     <li>
+ *         The registered classes and packages built from the JDK (those not in the Jandex index,
+ *         or all of them when there is no index), which the Jandex index cannot answer for.  Their
+ *         annotations are not indexed, so these targets are scanned on each request - classes which
+ *         are not registered are not seen.
+ *     </li>
+ *     <li>
+ *         Targets to which usages are {@linkplain MutableAnnotationTarget#addAnnotationUsage added}
+ *         (generally {@linkplain org.hibernate.models.source.internal.dynamic.DynamicAnnotationUsage}
+ *         from XML processing)
+ *     </li>
+ * </ol>
+ * The usages themselves are always read from the located targets, so the results reflect
+ * usages added, replaced or removed after the fact.
+ *
+ * @author Steve Ebersole
+ */
+public class AnnotationUsageIndex {
+	private final SourceModelBuildingContext buildingContext;
+	private final Map<Class<? extends Annotation>, List<AnnotationTarget>> addedUsageTargets = new ConcurrentHashMap<>();
+
+	public AnnotationUsageIndex(SourceModelBuildingContext buildingContext) {
+		this.buildingContext = buildingContext;
+	}
+
+	/**
+	 * Notifies the index of the building context (if any) that the given usage was added to the target
+	 */
+	public static void usageAdded(AnnotationTargetSupport target, AnnotationUsage<?> usage) {
+		final SourceModelBuildingContext buildingContext = target.getBuildingContext();
+		if ( buildingContext instanceof SourceModelBuildingContextImpl ) {
+			( (SourceModelBuildingContextImpl) buildingContext ).getAnnotationUsageIndex().usageAdded( (AnnotationTarget) target, usage );
+		}
+	}
+
+	/**
+	 * Callback for a usage being added to the given target
+	 */
+	public void usageAdded(AnnotationTarget target, AnnotationUsage<?> usage) {
+		final List<AnnotationTarget> targets = addedUsageTargets.computeIfAbsent(
+				usage.getAnnotationType(),
+				(type) -> Collections.synchronizedList( new ArrayList<>() )
+		);
+		targets.add( target );
+	}
+
+	public <A extends Annotation> List<AnnotationUsage<A>> getAllUsages(Class<A> annotationType) {
+		final List<AnnotationUsage<A>> usages = new ArrayList<>();
+		forEachUsage( annotationType, usages::add );
+		return usages;
+	}
+
+	public <A extends Annotation> void forEachUsage(Class<A> annotationType, Consumer<AnnotationUsage<A>> consumer) {
+		final AnnotationDescriptor<A> descriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( annotationType );
+
+		// a target may be located more than once (repeated usages, added usages)
+		final Set<AnnotationTarget> processedTargets = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+		final IndexView jandexIndex = buildingContext.getJandexIndex();
+		if ( jandexIndex != null ) {
+			final Collection<AnnotationInstance> annotations = jandexIndex.getAnnotationsWithRepeatable(
+					DotName.createSimple( annotationType.getName() ),
+					jandexIndex
+			);
+			for ( AnnotationInstance annotation : annotations ) {
+				final AnnotationTarget target = resolveTarget( annotation.target() );
+				if ( target != null ) {
+					visitTarget( target, descriptor, processedTargets, consumer );
+				}
+			}
+		}
+
+		visitJdkTargets( descriptor, processedTargets, consumer );
+
+		visitAddedUsageTargets( annotationType, descriptor, processedTargets, consumer );
+		if ( descriptor.getRepeatableContainer() != null ) {
+			visitAddedUsageTargets(
+					descriptor.getRepeatableContainer().getAnnotationType(),
+					descriptor,
+					processedTargets,
+					consumer
+			);
+		}
+	}
+
+	private <A extends Annotation> void visitAddedUsageTargets(
+			Class<? extends Annotation> key,
+			AnnotationDescriptor<A> descriptor,
+			Set<AnnotationTarget> processedTargets,
+			Consumer<AnnotationUsage<A>> consumer) {
+		final List<AnnotationTarget> targets = addedUsageTargets.get( key );
+		if ( targets == null ) {
+			return;
+		}
+
+		final AnnotationTarget[] targetsCopy;
+		//noinspection SynchronizationOnLocalVariableOrMethodParameter
+		synchronized ( targets ) {
+			targetsCopy = targets.toArray( new AnnotationTarget[0] );
+		}
+		for ( int i = 0; i < targetsCopy.length; i++ ) {
+			visitTarget( targetsCopy[i], descriptor, processedTargets, consumer );
+		}
+	}
+
+	private <A extends Annotation> void visitJdkTargets(
+			AnnotationDescriptor<A> descriptor,
+			Set<AnnotationTarget> processedTargets,
+			Consumer<AnnotationUsage<A>> consumer) {
+		// collected first, as visiting the targets may register more classes
+		final List<AnnotationTarget> jdkTargets = new ArrayList<>();
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		classDetailsRegistry.forEachClassDetails( (classDetails) -> {
+			if ( classDetails instanceof JdkClassDetails ) {
+				jdkTargets.add( classDetails );
+			}
+		} );
+		classDetailsRegistry.forEachPackageDetails( (packageDetails) -> {
+			if ( packageDetails instanceof JdkPackageDetailsImpl ) {
+				jdkTargets.add( packageDetails );
+			}
+		} );
+
+		for ( int i = 0; i < jdkTargets.size(); i++ ) {
+			final AnnotationTarget target = jdkTargets.get( i );
+			visitTarget( target, descriptor, processedTargets, consumer );
+			if ( target instanceof ClassDetails ) {
+				final List<FieldDetails> fields = ( (ClassDetails) target ).getFields();
+				for ( int j = 0; j < fields.size(); j++ ) {
+					visitTarget( fields.get( j ), descriptor, processedTargets, consumer );
+				}
+				final List<MethodDetails> methods = ( (ClassDetails) target ).getMethods();
+				for ( int j = 0; j < methods.size(); j++ ) {
+					visitTarget( methods.get( j ), descriptor, processedTargets, consumer );
+				}
+			}
+		}
+	}
+
+	private static <A extends Annotation> void visitTarget(
+			AnnotationTarget target,
+			AnnotationDescriptor<A> descriptor,
+			Set<AnnotationTarget> processedTargets,
+			Consumer<AnnotationUsage<A>> consumer) {
+		if ( !processedTargets.add( target ) ) {
+			return;
+		}
+		target.getRepeatedAnnotationUsages( descriptor ).forEach( consumer );
+	}
+
+	private AnnotationTarget resolveTarget(org.jboss.jandex.AnnotationTarget jandexTarget) {
+		if ( jandexTarget == null ) {
+			return null;
+		}
+
+		switch ( jandexTarget.kind() ) {
+			case CLASS: {
+				final ClassInfo classInfo = jandexTarget.asClass();
+				final String className = classInfo.name().toString();
+				if ( className.endsWith( "package-info" ) ) {
+					return buildingContext.getClassDetailsRegistry().resolvePackageDetails(
+							className,
+							() -> new JandexPackageDetails( classInfo, buildingContext )
+					);
+				}
+				return buildingContext.getClassDetailsRegistry().resolveClassDetails( className );
+			}
+			case FIELD: {
+				final FieldInfo fieldInfo = jandexTarget.asField();
+				final ClassDetails declaringClass = buildingContext
+						.getClassDetailsRegistry()
+						.resolveClassDetails( fieldInfo.declaringClass().name().toString() );
+				return declaringClass.findFieldByName( fieldInfo.name() );
+			}
+			case METHOD: {
+				final MethodInfo methodInfo = jandexTarget.asMethod();
+				final ClassDetails declaringClass = buildingContext
+						.getClassDetailsRegistry()
+						.resolveClassDetails( methodInfo.declaringClass().name().toString() );
+				return declaringClass.findMethod( (methodDetails) -> matches( methodDetails, methodInfo ) );
+			}
+			default: {
+				// method parameters, type annotations, etc. are not targets in our model
+				return null;
+			}
+		}
+	}
+
+	private static boolean matches(MethodDetails methodDetails, MethodInfo methodInfo) {
+		if ( !methodInfo.name().equals( methodDetails.getName() ) ) {
+			return false;
+		}
+
+		final List<ClassDetails> argumentTypes = methodDetails.getArgumentTypes();
+		if ( argumentTypes.size() != methodInfo.parametersCount() ) {
+			return false;
+		}
+
+		for ( int i = 0; i < argumentTypes.size(); i++ ) {
+			final ClassDetails argumentType = argumentTypes.get( i );
+			final String argumentTypeName = argumentType == null ? null : argumentType.getClassName();
+			if ( !methodInfo.parameterType( i ).name().toString().equals( argumentTypeName ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,409 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+/**
+ * The annotation usages of a single {@linkplain AnnotationTargetSupport target}, keyed by
+ * {@linkplain AnnotationDescriptor#getOrdinal() annotation ordinal}.
+ * <p/>
+ * Stored as a pair of small parallel arrays sorted by ordinal, rather than a
+ * {@linkplain java.util.HashMap} - targets generally have very few usages and there are
+ * a great many targets.
+ * <p/>
+ * Also maintains a single-word presence mask over the ordinals (bit {@code ordinal % 64} per usage),
+ * its size independent of the ordinal values.  Most lookups for absent annotations, including
+ * checks for any of a {@linkplain AnnotationDescriptorSet set of annotations}, are answered by
+ * the mask alone; a hit is confirmed against the ordinals.
+ * <p/>
+ * The {@linkplain #findRepeated repeated usages} of a repeatable annotation (direct usage plus
+ * those from its container) are flattened into an immutable list on first request and kept,
+ * along with an index of them by name for {@linkplain #findNamed named lookups}.  These are
+ * discarded whenever the usages change.
+ *
+ * @author Steve Ebersole
+ */
+public class AnnotationUsages {
+	private static final int[] NO_ORDINALS = new int[0];
+	private static final AnnotationUsage<?>[] NO_USAGES = new AnnotationUsage<?>[0];
+	private static final RepeatedUsages[] NO_REPEATED = new RepeatedUsages[0];
+	private static final int LINEAR_SCAN_LIMIT = 8;
+
+	private int[] ordinals;
+	private AnnotationUsage<?>[] usages;
+	private int size;
+	private long presenceMask;
+
+	// derived on request - replaced (never modified) so it can be read without locking
+	private volatile RepeatedUsages[] repeatedUsages = NO_REPEATED;
+
+	public AnnotationUsages() {
+		this( 0 );
+	}
+
+	public AnnotationUsages(int expectedSize) {
+		if ( expectedSize == 0 ) {
+			ordinals = NO_ORDINALS;
+			usages = NO_USAGES;
+		}
+		else {
+			ordinals = new int[expectedSize];
+			usages = new AnnotationUsage<?>[expectedSize];
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public <A extends Annotation> AnnotationUsage<A> find(AnnotationDescriptor<A> descriptor) {
+		//noinspection unchecked
+		return (AnnotationUsage<A>) find( descriptor.getOrdinal() );
+	}
+
+	public AnnotationUsage<?> find(Class<? extends Annotation> annotationType) {
+		return find( AnnotationOrdinals.ordinalOf( annotationType ) );
+	}
+
+	public AnnotationUsage<?> find(int ordinal) {
+		if ( ( presenceMask & ( 1L << ordinal ) ) == 0 ) {
+			return null;
+		}
+		final int index = indexOf( ordinal );
+		return index < 0 ? null : usages[index];
+	}
+
+	/**
+	 * Whether a usage of the annotation with the given ordinal is present
+	 */
+	public boolean isPresent(int ordinal) {
+		return ( presenceMask & ( 1L << ordinal ) ) != 0 && indexOf( ordinal ) >= 0;
+	}
+
+	/**
+	 * Whether a usage of any of the given annotations is present
+	 */
+	public boolean isAnyPresent(AnnotationDescriptorSet descriptors) {
+		if ( ( presenceMask & descriptors.getPresenceMask() ) == 0 ) {
+			return false;
+		}
+		for ( int i = 0; i < size; i++ ) {
+			if ( descriptors.matchesPresence( ordinals[i] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The usages of any of the given annotations, in ordinal order
+	 */
+	public List<AnnotationUsage<?>> findAll(AnnotationDescriptorSet descriptors) {
+		if ( ( presenceMask & descriptors.getMask() ) == 0 ) {
+			return Collections.emptyList();
+		}
+
+		List<AnnotationUsage<?>> result = null;
+		for ( int i = 0; i < size; i++ ) {
+			if ( descriptors.containsOrdinal( ordinals[i] ) ) {
+				if ( result == null ) {
+					result = new ArrayList<>( Math.min( size, descriptors.size() ) );
+				}
+				result.add( usages[i] );
+			}
+		}
+		return result == null ? Collections.emptyList() : result;
+	}
+
+	/**
+	 * All usages of the given annotation - the direct usage plus any from its
+	 * {@linkplain AnnotationDescriptor#getRepeatableContainer() container}.
+	 *
+	 * @return An immutable list of the usages, or an empty list if none
+	 */
+	public <A extends Annotation> List<AnnotationUsage<A>> findRepeated(AnnotationDescriptor<A> type) {
+		if ( !isPresentOrContained( type ) ) {
+			return Collections.emptyList();
+		}
+		//noinspection unchecked,rawtypes
+		return (List) resolveRepeatedUsages( type ).usages;
+	}
+
+	/**
+	 * The first of the {@linkplain #findRepeated repeated usages} of the given annotation whose
+	 * {@code attributeToMatch} attribute value equals {@code matchValue}, or {@code null}
+	 */
+	public <A extends Annotation> AnnotationUsage<A> findNamed(
+			AnnotationDescriptor<A> type,
+			String matchValue,
+			String attributeToMatch) {
+		if ( !isPresentOrContained( type ) ) {
+			return null;
+		}
+
+		RepeatedUsages repeated = resolveRepeatedUsages( type );
+		if ( !attributeToMatch.equals( repeated.indexedAttribute ) ) {
+			repeated = register( repeated.indexedBy( attributeToMatch ) );
+		}
+		//noinspection unchecked
+		return (AnnotationUsage<A>) repeated.usagesByName.get( matchValue );
+	}
+
+	private boolean isPresentOrContained(AnnotationDescriptor<?> type) {
+		if ( isPresent( type.getOrdinal() ) ) {
+			return true;
+		}
+		final AnnotationDescriptor<?> containerType = type.getRepeatableContainer();
+		return containerType != null && isPresent( containerType.getOrdinal() );
+	}
+
+	private RepeatedUsages resolveRepeatedUsages(AnnotationDescriptor<?> type) {
+		final int ordinal = type.getOrdinal();
+		final RepeatedUsages[] current = repeatedUsages;
+		for ( int i = 0; i < current.length; i++ ) {
+			if ( current[i].getOrdinal() == ordinal ) {
+				return current[i];
+			}
+		}
+		return register( new RepeatedUsages( type, flatten( type ) ) );
+	}
+
+	private List<AnnotationUsage<?>> flatten(AnnotationDescriptor<?> type) {
+		// e.g. `@NamedQuery`
+		final AnnotationUsage<?> usage = find( type.getOrdinal() );
+		// e.g. `@NamedQueries`
+		final AnnotationUsage<?> containerUsage = type.getRepeatableContainer() != null
+				? find( type.getRepeatableContainer().getOrdinal() )
+				: null;
+
+		if ( containerUsage != null ) {
+			final List<AnnotationUsage<?>> repetitions = containerUsage.getAttributeValue( "value" );
+			if ( repetitions != null && !repetitions.isEmpty() ) {
+				final AnnotationUsage<?>[] flattened = repetitions.toArray( new AnnotationUsage<?>[ repetitions.size() + ( usage == null ? 0 : 1 ) ] );
+				if ( usage != null ) {
+					// we can have both when repeatable + inherited are mixed
+					flattened[repetitions.size()] = usage;
+				}
+				return List.of( flattened );
+			}
+		}
+
+		if ( usage != null ) {
+			return List.of( usage );
+		}
+		return List.of();
+	}
+
+	private synchronized RepeatedUsages register(RepeatedUsages repeated) {
+		final RepeatedUsages[] current = repeatedUsages;
+		for ( int i = 0; i < current.length; i++ ) {
+			if ( current[i].getOrdinal() == repeated.getOrdinal() ) {
+				final RepeatedUsages[] updated = current.clone();
+				updated[i] = repeated;
+				repeatedUsages = updated;
+				return repeated;
+			}
+		}
+		final RepeatedUsages[] updated = Arrays.copyOf( current, current.length + 1 );
+		updated[current.length] = repeated;
+		repeatedUsages = updated;
+		return repeated;
+	}
+
+	private void discardRepeatedUsages() {
+		if ( repeatedUsages != NO_REPEATED ) {
+			repeatedUsages = NO_REPEATED;
+		}
+	}
+
+	/**
+	 * The ordinal of the usage at the given position, in ordinal order
+	 */
+	public int ordinalAt(int index) {
+		return ordinals[index];
+	}
+
+	/**
+	 * The usage at the given position, in ordinal order
+	 */
+	public AnnotationUsage<?> usageAt(int index) {
+		return usages[index];
+	}
+
+	/**
+	 * Add the usage, replacing any existing usage of the same annotation type
+	 *
+	 * @return The replaced usage, if one
+	 */
+	public AnnotationUsage<?> put(AnnotationUsage<?> usage) {
+		return put( AnnotationOrdinals.ordinalOf( usage.getAnnotationType() ), usage );
+	}
+
+	/**
+	 * Add the usage under the given {@linkplain AnnotationDescriptor#getOrdinal() ordinal}, replacing
+	 * any existing usage of the same annotation type.  Allows adding a usage without accessing its
+	 * {@linkplain AnnotationUsage#getAnnotationType() annotation type}.
+	 *
+	 * @return The replaced usage, if one
+	 */
+	public AnnotationUsage<?> put(int ordinal, AnnotationUsage<?> usage) {
+		discardRepeatedUsages();
+
+		final int index = indexOf( ordinal );
+		if ( index >= 0 ) {
+			final AnnotationUsage<?> previous = usages[index];
+			usages[index] = usage;
+			return previous;
+		}
+
+		final int insertionPoint = -( index + 1 );
+		if ( size == ordinals.length ) {
+			final int capacity = size + ( size >> 1 ) + 1;
+			ordinals = Arrays.copyOf( ordinals, capacity );
+			usages = Arrays.copyOf( usages, capacity );
+		}
+		System.arraycopy( ordinals, insertionPoint, ordinals, insertionPoint + 1, size - insertionPoint );
+		System.arraycopy( usages, insertionPoint, usages, insertionPoint + 1, size - insertionPoint );
+		ordinals[insertionPoint] = ordinal;
+		usages[insertionPoint] = usage;
+		size++;
+
+		presenceMask |= 1L << ordinal;
+		return null;
+	}
+
+	/**
+	 * Remove the usage of the given annotation type
+	 *
+	 * @return The removed usage, if one
+	 */
+	public AnnotationUsage<?> remove(Class<? extends Annotation> annotationType) {
+		final int ordinal = AnnotationOrdinals.ordinalOf( annotationType );
+		if ( ( presenceMask & ( 1L << ordinal ) ) == 0 ) {
+			return null;
+		}
+		final int index = indexOf( ordinal );
+		if ( index < 0 ) {
+			return null;
+		}
+		discardRepeatedUsages();
+
+		final AnnotationUsage<?> removed = usages[index];
+		System.arraycopy( ordinals, index + 1, ordinals, index, size - index - 1 );
+		System.arraycopy( usages, index + 1, usages, index, size - index - 1 );
+		size--;
+		usages[size] = null;
+
+		// other ordinals may share the bit
+		long mask = 0;
+		for ( int i = 0; i < size; i++ ) {
+			mask |= 1L << ordinals[i];
+		}
+		presenceMask = mask;
+		return removed;
+	}
+
+	public void clear() {
+		discardRepeatedUsages();
+		Arrays.fill( usages, 0, size, null );
+		size = 0;
+		presenceMask = 0;
+	}
+
+	/**
+	 * Release any unused capacity
+	 */
+	public void trimToSize() {
+		if ( size < ordinals.length ) {
+			ordinals = size == 0 ? NO_ORDINALS : Arrays.copyOf( ordinals, size );
+			usages = size == 0 ? NO_USAGES : Arrays.copyOf( usages, size );
+		}
+	}
+
+	public void forEach(Consumer<AnnotationUsage<?>> consumer) {
+		for ( int i = 0; i < size; i++ ) {
+			consumer.accept( usages[i] );
+		}
+	}
+
+	private int indexOf(int ordinal) {
+		if ( size > LINEAR_SCAN_LIMIT ) {
+			return Arrays.binarySearch( ordinals, 0, size, ordinal );
+		}
+
+		// generally the arrays are small, where a linear scan beats a binary search
+		for ( int i = 0; i < size; i++ ) {
+			final int candidate = ordinals[i];
+			if ( candidate == ordinal ) {
+				return i;
+			}
+			if ( candidate > ordinal ) {
+				return -( i + 1 );
+			}
+		}
+		return -( size + 1 );
+	}
+
+	/**
+	 * The flattened usages of a repeatable annotation, optionally indexed by the value of one attribute
+	 */
+	private static class RepeatedUsages {
+		// kept (rather than its ordinal) so the ordinal stays reserved for as long as it is cached
+		private final AnnotationDescriptor<?> type;
+		private final List<AnnotationUsage<?>> usages;
+		private final String indexedAttribute;
+		private final Map<String, AnnotationUsage<?>> usagesByName;
+
+		private RepeatedUsages(AnnotationDescriptor<?> type, List<AnnotationUsage<?>> usages) {
+			this( type, usages, null, null );
+		}
+
+		private RepeatedUsages(
+				AnnotationDescriptor<?> type,
+				List<AnnotationUsage<?>> usages,
+				String indexedAttribute,
+				Map<String, AnnotationUsage<?>> usagesByName) {
+			this.type = type;
+			this.usages = usages;
+			this.indexedAttribute = indexedAttribute;
+			this.usagesByName = usagesByName;
+		}
+
+		private RepeatedUsages indexedBy(String attributeName) {
+			final Map<String, AnnotationUsage<?>> usagesByName = new HashMap<>( usages.size() * 2 );
+			for ( int i = 0; i < usages.size(); i++ ) {
+				final AnnotationUsage<?> usage = usages.get( i );
+				final String name = usage.getAttributeValue( attributeName );
+				if ( name != null ) {
+					// first one wins, as with a scan of the usages
+					usagesByName.putIfAbsent( name, usage );
+				}
+			}
+			return new RepeatedUsages( type, usages, attributeName, usagesByName );
+		}
+
+		private int getOrdinal() {
+			return type.getOrdinal();
+		}
+	}
+}
@@ -40,6 +40,10 @@ public class ArrayTypeDescriptor<V> implements ValueTypeDescriptor<List<V>> {
 		this.elementTypeDescriptor = elementTypeDescriptor;
 	}
 
+	public ValueTypeDescriptor<V> getElementTypeDescriptor() {
+		return elementTypeDescriptor;
+	}
+
 	@Override
 	public Class<List<V>> getWrappedValueType() {
 		//noinspection unchecked,rawtypes
@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import org.hibernate.models.source.spi.ArrayTypeDetails;
+import org.hibernate.models.source.spi.TypeDetails;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ArrayTypeDetailsImpl implements ArrayTypeDetails {
+	private final TypeDetails componentType;
+
+	public ArrayTypeDetailsImpl(TypeDetails componentType) {
+		assert componentType != null;
+		this.componentType = componentType;
+	}
+
+	@Override
+	public TypeDetails getComponentType() {
+		return componentType;
+	}
+
+	@Override
+	public String getName() {
+		return componentType.getName() + "[]";
+	}
+
+	@Override
+	public String toString() {
+		return "ArrayTypeDetails(" + getName() + ")";
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+/**
+ * Lazy reference to the {@linkplain ClassDetails} for the type of a member.  Records just
+ * the name of the type (or the Class, for reflection) - the ClassDetails are resolved through
+ * the {@linkplain SourceModelBuildingContext#getClassDetailsRegistry() registry} when first needed.
+ * <p/>
+ * Most member types (String, collections, library types, ...) are never inspected beyond their
+ * name, so this avoids building ClassDetails for them.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassDetailsHandle {
+	private final DotName typeName;
+	private final Class<?> javaType;
+	private final SourceModelBuildingContext buildingContext;
+
+	private String name;
+	private volatile ClassDetails classDetails;
+
+	private ClassDetailsHandle(DotName typeName, Class<?> javaType, SourceModelBuildingContext buildingContext) {
+		this.typeName = typeName;
+		this.javaType = javaType;
+		this.buildingContext = buildingContext;
+	}
+
+	/**
+	 * Handle for already resolved ClassDetails
+	 */
+	public static ClassDetailsHandle of(ClassDetails classDetails) {
+		final ClassDetailsHandle handle = new ClassDetailsHandle( null, null, null );
+		handle.classDetails = classDetails;
+		return handle;
+	}
+
+	/**
+	 * Handle for the given Jandex class name
+	 */
+	public static ClassDetailsHandle from(DotName className, SourceModelBuildingContext buildingContext) {
+		return new ClassDetailsHandle( className, null, buildingContext );
+	}
+
+	/**
+	 * Handle for the given Jandex type, or {@code null} for {@code void} (or no type)
+	 */
+	public static ClassDetailsHandle from(Type jandexType, SourceModelBuildingContext buildingContext) {
+		if ( jandexType == null || jandexType.kind() == Type.Kind.VOID ) {
+			return null;
+		}
+		return new ClassDetailsHandle( jandexType.name(), null, buildingContext );
+	}
+
+	/**
+	 * Handle for the given Java type, or {@code null} for {@code void} (or no type)
+	 */
+	public static ClassDetailsHandle from(Class<?> javaType, SourceModelBuildingContext buildingContext) {
+		if ( javaType == null || javaType == void.class ) {
+			return null;
+		}
+		return new ClassDetailsHandle( null, javaType, buildingContext );
+	}
+
+	/**
+	 * The name of the type, available without resolving the ClassDetails
+	 */
+	public String getName() {
+		if ( name == null ) {
+			// racy, but the result is always the same
+			if ( javaType != null ) {
+				name = javaType.getName();
+			}
+			else if ( typeName != null ) {
+				name = typeName.toString();
+			}
+			else {
+				name = classDetails.getName();
+			}
+		}
+		return name;
+	}
+
+	/**
+	 * Whether the ClassDetails have already been resolved
+	 */
+	public boolean isResolved() {
+		return classDetails != null;
+	}
+
+	/**
+	 * The ClassDetails for the type, resolving them if not already
+	 */
+	public ClassDetails resolve() {
+		ClassDetails resolved = classDetails;
+		if ( resolved == null ) {
+			if ( javaType != null ) {
+				resolved = buildingContext.getClassDetailsRegistry().resolveClassDetails(
+						javaType.getName(),
+						() -> JdkBuilders.buildClassDetailsStatic( javaType, buildingContext )
+				);
+			}
+			else {
+				resolved = buildingContext.getClassDetailsRegistry().resolveClassDetails( getName() );
+			}
+			classDetails = resolved;
+		}
+		return resolved;
+	}
+
+	/**
+	 * Null-safe form of {@linkplain #resolve()}
+	 */
+	public static ClassDetails resolve(ClassDetailsHandle handle) {
+		return handle == null ? null : handle.resolve();
+	}
+
+	/**
+	 * Null-safe form of {@linkplain #getName()}
+	 */
+	public static String getName(ClassDetailsHandle handle) {
+		return handle == null ? null : handle.getName();
+	}
+
+	@Override
+	public String toString() {
+		return "ClassDetailsHandle(" + getName() + ")";
+	}
+}
@@ -6,7 +6,21 @@
  */
 package org.hibernate.models.source.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MemberDetails;
+import org.hibernate.models.source.spi.MethodDetails;
 
 /**
  * @author Steve Ebersole
@@ -17,6 +31,19 @@ public class ClassDetailsHelper {
 			return true;
 		}
 
+		final ClassDetailsRegistryImmutable indexedRegistry = findIndexedRegistry( classDetails );
+		if ( indexedRegistry != null ) {
+			final ClassDetails checkDetails = indexedRegistry.findClassDetails( checkType.getName() );
+			if ( checkDetails != null ) {
+				final TypeHierarchyIndex typeHierarchyIndex = indexedRegistry.getTypeHierarchyIndex();
+				final int id = typeHierarchyIndex.idOf( classDetails );
+				final int checkId = typeHierarchyIndex.idOf( checkDetails );
+				if ( id >= 0 && checkId >= 0 ) {
+					return typeHierarchyIndex.isImplementor( id, checkId );
+				}
+			}
+		}
+
 		if ( classDetails.getSuperType() != null  ) {
 			if ( classDetails.getSuperType().isImplementor( checkType ) ) {
 				return true;
@@ -34,10 +61,23 @@ public class ClassDetailsHelper {
 	}
 
 	public static boolean isImplementor(ClassDetails checkType, ClassDetails classDetails) {
+		if ( classDetails == checkType ) {
+			return true;
+		}
 		if ( classDetails.getClassName().equals( checkType.getClassName() ) ) {
 			return true;
 		}
 
+		final ClassDetailsRegistryImmutable indexedRegistry = findIndexedRegistry( classDetails );
+		if ( indexedRegistry != null ) {
+			final TypeHierarchyIndex typeHierarchyIndex = indexedRegistry.getTypeHierarchyIndex();
+			final int id = typeHierarchyIndex.idOf( classDetails );
+			final int checkId = typeHierarchyIndex.idOf( checkType );
+			if ( id >= 0 && checkId >= 0 ) {
+				return typeHierarchyIndex.isImplementor( id, checkId );
+			}
+		}
+
 		if ( classDetails.getSuperType() != null  ) {
 			if ( classDetails.getSuperType().isImplementor( checkType ) ) {
 				return true;
@@ -53,4 +93,147 @@ public class ClassDetailsHelper {
 
 		return false;
 	}
+
+	/**
+	 * The registry of the class's building context, if it has a {@linkplain TypeHierarchyIndex type hierarchy index}
+	 * (e.g. the frozen registry of a {@linkplain SourceModelPlatform platform}), or {@code null}
+	 */
+	private static ClassDetailsRegistryImmutable findIndexedRegistry(ClassDetails classDetails) {
+		if ( !( classDetails instanceof ClassDetailsSupport ) ) {
+			return null;
+		}
+		final ClassDetailsRegistry registry = ( (ClassDetailsSupport) classDetails ).getBuildingContext().getClassDetailsRegistry();
+		return registry instanceof ClassDetailsRegistryImmutable ? (ClassDetailsRegistryImmutable) registry : null;
+	}
+
+	/**
+	 * Collect all super types of the given class - superclasses, nearest first, followed by
+	 * interfaces.  Uses the {@linkplain TypeHierarchyIndex type hierarchy index} of the class's
+	 * registry if it has one covering the class, otherwise walks the hierarchy.
+	 *
+	 * @see TypeHierarchyIndex#getAllSuperTypes
+	 */
+	public static List<ClassDetails> collectSuperTypes(ClassDetails classDetails) {
+		final ClassDetailsRegistryImmutable indexedRegistry = findIndexedRegistry( classDetails );
+		if ( indexedRegistry != null ) {
+			final List<ClassDetails> superTypes = indexedRegistry.getTypeHierarchyIndex().getAllSuperTypes( classDetails );
+			if ( superTypes != null ) {
+				return superTypes;
+			}
+		}
+
+		final List<ClassDetails> superClasses = new ArrayList<>();
+		final Set<ClassDetails> interfaces = new LinkedHashSet<>();
+		for ( ClassDetails current = classDetails; current != null; current = current.getSuperType() ) {
+			if ( current != classDetails ) {
+				superClasses.add( current );
+			}
+			collectInterfaces( current, interfaces );
+		}
+		if ( superClasses.isEmpty() && interfaces.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		superClasses.addAll( interfaces );
+		return superClasses;
+	}
+
+	private static void collectInterfaces(ClassDetails classDetails, Set<ClassDetails> interfaces) {
+		final List<ClassDetails> implementedInterfaces = classDetails.getImplementedInterfaceTypes();
+		for ( int i = 0; i < implementedInterfaces.size(); i++ ) {
+			final ClassDetails interfaceDetails = implementedInterfaces.get( i );
+			if ( interfaces.add( interfaceDetails ) ) {
+				collectInterfaces( interfaceDetails, interfaces );
+			}
+		}
+	}
+
+	/**
+	 * Collect the names of the classes the given class refers to - its super type and interfaces, the
+	 * (generic) types of its members and the Class values of the annotations on it and its members.
+	 * Type variables are only considered through the (erased) type of the members.
+	 */
+	public static Set<String> collectReferencedClassNames(ClassDetails classDetails) {
+		final Set<String> classNames = new HashSet<>();
+		addClassName( classDetails.getSuperType(), classNames );
+		final List<ClassDetails> interfaces = classDetails.getImplementedInterfaceTypes();
+		for ( int i = 0; i < interfaces.size(); i++ ) {
+			addClassName( interfaces.get( i ), classNames );
+		}
+		collectAnnotationReferences( classDetails, classNames );
+
+		final List<FieldDetails> fields = classDetails.getFields();
+		for ( int i = 0; i < fields.size(); i++ ) {
+			collectMemberReferences( fields.get( i ), classNames );
+		}
+
+		final List<MethodDetails> methods = classDetails.getMethods();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodDetails methodDetails = methods.get( i );
+			collectMemberReferences( methodDetails, classNames );
+			addClassName( methodDetails.getReturnType(), classNames );
+			final List<ClassDetails> argumentTypes = methodDetails.getArgumentTypes();
+			for ( int a = 0; a < argumentTypes.size(); a++ ) {
+				addClassName( argumentTypes.get( a ), classNames );
+			}
+		}
+		return classNames;
+	}
+
+	private static void collectMemberReferences(MemberDetails memberDetails, Set<String> classNames) {
+		// the name is enough - avoid resolving the (lazily resolved) type
+		final String typeName = memberDetails.getTypeName();
+		if ( typeName != null ) {
+			classNames.add( typeName );
+		}
+		TypeDetailsHelper.collectClassNames( memberDetails.getGenericType(), classNames );
+		collectAnnotationReferences( memberDetails, classNames );
+	}
+
+	private static void collectAnnotationReferences(AnnotationTarget target, Set<String> classNames) {
+		if ( !( target instanceof AnnotationTargetSupport ) ) {
+			return;
+		}
+		final AnnotationTargetSupport targetSupport = (AnnotationTargetSupport) target;
+		final AnnotationUsages usages = targetSupport.getUsages();
+		for ( int i = 0; i < usages.size(); i++ ) {
+			collectAnnotationReferences( usages.usageAt( i ), targetSupport, classNames );
+		}
+	}
+
+	private static void collectAnnotationReferences(
+			AnnotationUsage<?> usage,
+			AnnotationTargetSupport target,
+			Set<String> classNames) {
+		final AnnotationDescriptor<?> descriptor = target.getBuildingContext()
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( usage.getAnnotationType() );
+		final AnnotationExtractionPlan extractionPlan = AnnotationExtractionPlan.forDescriptor( descriptor );
+		// only Class values and nested annotations can refer to classes
+		final int[] classReferencePositions = extractionPlan.getClassReferencePositions();
+		for ( int i = 0; i < classReferencePositions.length; i++ ) {
+			final Object value = usage.getAttributeValue( extractionPlan.getAttributeName( classReferencePositions[i] ) );
+			collectValueReferences( value, target, classNames );
+		}
+	}
+
+	private static void collectValueReferences(Object value, AnnotationTargetSupport target, Set<String> classNames) {
+		if ( value instanceof ClassDetails ) {
+			addClassName( (ClassDetails) value, classNames );
+		}
+		else if ( value instanceof AnnotationUsage ) {
+			collectAnnotationReferences( (AnnotationUsage<?>) value, target, classNames );
+		}
+		else if ( value instanceof List ) {
+			final List<?> values = (List<?>) value;
+			for ( int i = 0; i < values.size(); i++ ) {
+				collectValueReferences( values.get( i ), target, classNames );
+			}
+		}
+	}
+
+	private static void addClassName(ClassDetails classDetails, Set<String> classNames) {
+		if ( classDetails != null ) {
+			classNames.add( classDetails.getName() );
+		}
+	}
 }
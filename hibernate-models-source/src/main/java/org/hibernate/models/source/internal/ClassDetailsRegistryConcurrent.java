@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsBuilder;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.PackageDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+/**
+ * ClassDetailsRegistry which is safe to use from multiple threads.
+ * <p/>
+ * Resolution is "single-flight" - at most one {@link ClassDetails} is ever built
+ * for a given name, no matter how many threads ask for it concurrently.  Threads
+ * asking for a name which is currently being built by another thread wait for that
+ * build to finish and share its result.
+ * <p/>
+ * Direct subtypes are kept in registration order, which depends on thread scheduling;
+ * {@linkplain #makeImmutableCopy() snapshots} order them by name.
+ *
+ * @implNote Builds recurse through super-types and interfaces, which always form an
+ * acyclic graph; a thread therefore never waits on a build which (transitively) waits
+ * on it.  ClassDetails register themselves while still being constructed; such early
+ * registrations are only visible to the building thread and are published to other
+ * threads once the build completes.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassDetailsRegistryConcurrent extends ClassDetailsRegistryStandard {
+	private final ConcurrentHashMap<String, InFlightBuild> inFlightBuilds = new ConcurrentHashMap<>();
+
+	public ClassDetailsRegistryConcurrent(SourceModelBuildingContext context) {
+		super( context );
+	}
+
+	public ClassDetailsRegistryConcurrent(SourceModelBuildingContext context, ClassDetailsRegistry parent) {
+		super( context, parent );
+	}
+
+	@Override
+	public void addClassDetails(String name, ClassDetails classDetails) {
+		final InFlightBuild build = inFlightBuilds.get( name );
+		if ( build != null && build.owner == Thread.currentThread() ) {
+			// registration from within the build - hold it back until the build completes
+			build.provisional = classDetails;
+			return;
+		}
+		super.addClassDetails( name, classDetails );
+	}
+
+	@Override
+	protected void addSubType(String superTypeName, ClassDetails classDetails) {
+		// each ClassDetails reaches here once (see `#addClassDetails`), so the add need not check
+		// for dupes; the lock is only held for the append itself
+		subTypeClassDetailsMap.computeIfAbsent(
+				superTypeName,
+				(name) -> Collections.synchronizedList( new ArrayList<>() )
+		).add( classDetails );
+	}
+
+	@Override
+	protected PackageDetails createPackageDetails(String packageName, PackageDetailsCreator creator) {
+		final PackageDetails created = creator.createPackageDetails();
+		final PackageDetails existing = packageDetailsMap.putIfAbsent( packageName, created );
+		return existing == null ? created : existing;
+	}
+
+	@Override
+	protected ClassDetails createClassDetails(String name, ClassDetailsBuilder creator) {
+		return singleFlight( name, () -> super.createClassDetails( name, creator ) );
+	}
+
+	@Override
+	protected ClassDetails createClassDetails(String name, ClassDetailsCreator creator) {
+		return singleFlight( name, () -> super.createClassDetails( name, creator ) );
+	}
+
+	private ClassDetails singleFlight(String name, Supplier<ClassDetails> builder) {
+		final InFlightBuild build = new InFlightBuild();
+		final InFlightBuild existingBuild = inFlightBuilds.putIfAbsent( name, build );
+		if ( existingBuild != null ) {
+			return existingBuild.await( name );
+		}
+
+		try {
+			// another thread may have completed the build between our check of
+			// `classDetailsMap` and claiming the in-flight slot
+			ClassDetails classDetails = classDetailsMap.get( name );
+			if ( classDetails == null ) {
+				classDetails = builder.get();
+				super.addClassDetails( name, classDetails );
+			}
+			build.complete( classDetails );
+			return classDetails;
+		}
+		catch (RuntimeException | Error e) {
+			build.fail( e );
+			throw e;
+		}
+		finally {
+			inFlightBuilds.remove( name, build );
+		}
+	}
+
+	private static class InFlightBuild {
+		private final Thread owner = Thread.currentThread();
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+
+		private ClassDetails provisional;
+		private volatile ClassDetails result;
+		private volatile Throwable failure;
+
+		private void complete(ClassDetails result) {
+			this.result = result;
+			latch.countDown();
+		}
+
+		private void fail(Throwable failure) {
+			this.failure = failure;
+			latch.countDown();
+		}
+
+		private ClassDetails await(String name) {
+			if ( owner == Thread.currentThread() ) {
+				if ( provisional != null ) {
+					return provisional;
+				}
+				throw new ModelsException( "Circular resolution of ClassDetails - " + name );
+			}
+
+			try {
+				latch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ModelsException( "Interrupted while waiting for ClassDetails - " + name, e );
+			}
+
+			if ( failure != null ) {
+				throw new ModelsException( "Concurrent resolution of ClassDetails failed - " + name, failure );
+			}
+			return result;
+		}
+	}
+}
@@ -6,24 +6,172 @@
  */
 package org.hibernate.models.source.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.CollectionHelper;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.PackageDetails;
 
 /**
+ * Immutable snapshot of a ClassDetailsRegistry.
+ * <p/>
+ * The state is copied into {@linkplain CompactNameMap compact}, read-only structures
+ * when the snapshot is created.  Direct subtypes are ordered by name.
+ * <p/>
+ * Lookups by name which miss the snapshot fall back to the source registry.  Class values and
+ * member types are resolved lazily, through the registry of the building context, so classes
+ * first referenced after the snapshot was created are registered (once) in the source registry.
+ * Other changes to the source registry are not visible.
+ * <p/>
+ * The transitive closure of subtypes is computed once, as a single depth-first ordering of the
+ * class tree in which the subtypes of each class form a contiguous range; {@linkplain #getAllSubTypes}
+ * returns a view of that range.
+ *
  * @author Steve Ebersole
  */
 public class ClassDetailsRegistryImmutable extends AbstractClassDetailsRegistry {
+	private static final Comparator<ClassDetails> SUB_TYPE_ORDER = Comparator.comparing( ClassDetails::getName );
+
+	private final TypeHierarchyIndex typeHierarchyIndex;
+	private final Map<String, List<ClassDetails>> allSubTypesMap;
+
+	// registry the snapshot was created from, consulted for classes resolved afterward, or null
+	private final ClassDetailsRegistry source;
+
 	public ClassDetailsRegistryImmutable(
 			Map<String, ClassDetails> classDetailsMap,
 			Map<String, List<ClassDetails>> subTypeClassDetailsMap,
 			Map<String, PackageDetails> packageDetailsMap) {
-		super( classDetailsMap, subTypeClassDetailsMap, packageDetailsMap );
+		this( classDetailsMap, subTypeClassDetailsMap, packageDetailsMap, null );
+	}
+
+	public ClassDetailsRegistryImmutable(
+			Map<String, ClassDetails> classDetailsMap,
+			Map<String, List<ClassDetails>> subTypeClassDetailsMap,
+			Map<String, PackageDetails> packageDetailsMap,
+			ClassDetailsRegistry source) {
+		super(
+				CompactNameMap.copyOf( classDetailsMap ),
+				CompactNameMap.copyOf( compactSubTypes( subTypeClassDetailsMap ) ),
+				CompactNameMap.copyOf( packageDetailsMap )
+		);
+		this.typeHierarchyIndex = TypeHierarchyIndex.build( classDetailsMap.values() );
+		this.allSubTypesMap = CompactNameMap.copyOf( buildSubTypeClosure( this.classDetailsMap, this.subTypeClassDetailsMap ) );
+		this.source = source;
+	}
+
+	private static Map<String, List<ClassDetails>> buildSubTypeClosure(
+			Map<String, ClassDetails> classDetailsMap,
+			Map<String, List<ClassDetails>> subTypeClassDetailsMap) {
+		// visit the roots by name so the ordering is stable
+		final Set<String> superTypeNames = new TreeSet<>();
+		subTypeClassDetailsMap.forEach( (name, subTypes) -> superTypeNames.add( name ) );
+
+		final List<ClassDetails> ordering = new ArrayList<>();
+		final Map<String, int[]> ranges = new HashMap<>( superTypeNames.size() * 2 );
+		for ( String superTypeName : superTypeNames ) {
+			final ClassDetails superType = classDetailsMap.get( superTypeName );
+			final boolean isRoot = superType == null
+					|| superType.getSuperType() == null
+					|| subTypeClassDetailsMap.get( superType.getSuperType().getName() ) == null;
+			if ( isRoot ) {
+				collectSubTypes( superTypeName, subTypeClassDetailsMap, ordering, ranges );
+			}
+		}
+		for ( String superTypeName : superTypeNames ) {
+			if ( !ranges.containsKey( superTypeName ) ) {
+				// not reachable from a root, e.g. registered under a different name
+				collectSubTypes( superTypeName, subTypeClassDetailsMap, ordering, ranges );
+			}
+		}
+
+		final List<ClassDetails> orderingList = List.of( ordering.toArray( new ClassDetails[0] ) );
+		final Map<String, List<ClassDetails>> result = new HashMap<>( ranges.size() * 2 );
+		ranges.forEach( (name, range) -> result.put( name, orderingList.subList( range[0], range[1] ) ) );
+		return result;
+	}
+
+	private static void collectSubTypes(
+			String superTypeName,
+			Map<String, List<ClassDetails>> subTypeClassDetailsMap,
+			List<ClassDetails> ordering,
+			Map<String, int[]> ranges) {
+		final List<ClassDetails> directSubTypes = subTypeClassDetailsMap.get( superTypeName );
+		if ( directSubTypes == null || ranges.containsKey( superTypeName ) ) {
+			return;
+		}
+
+		final int start = ordering.size();
+		for ( int i = 0; i < directSubTypes.size(); i++ ) {
+			final ClassDetails subType = directSubTypes.get( i );
+			ordering.add( subType );
+
+			final int[] existing = ranges.get( subType.getName() );
+			if ( existing == null ) {
+				collectSubTypes( subType.getName(), subTypeClassDetailsMap, ordering, ranges );
+			}
+			else {
+				// already laid out - repeat its range here
+				for ( int e = existing[0]; e < existing[1]; e++ ) {
+					ordering.add( ordering.get( e ) );
+				}
+			}
+		}
+		ranges.put( superTypeName, new int[] { start, ordering.size() } );
+	}
+
+	private static Map<String, List<ClassDetails>> compactSubTypes(Map<String, List<ClassDetails>> subTypeClassDetailsMap) {
+		final Map<String, List<ClassDetails>> result = new HashMap<>( subTypeClassDetailsMap.size() * 2 );
+		for ( Map.Entry<String, List<ClassDetails>> entry : subTypeClassDetailsMap.entrySet() ) {
+			final List<ClassDetails> subTypes = entry.getValue();
+			if ( CollectionHelper.isEmpty( subTypes ) ) {
+				continue;
+			}
+			// ordered by name, so the snapshot does not depend on the order (or threads) in which
+			// the subtypes were registered.  `List.of` stores the elements in an exactly-sized array
+			final ClassDetails[] sorted = subTypes.toArray( new ClassDetails[0] );
+			Arrays.sort( sorted, SUB_TYPE_ORDER );
+			result.put( entry.getKey(), List.of( sorted ) );
+		}
+		return result;
+	}
+
+	/**
+	 * An estimate of the memory used by the structures of this registry, excluding
+	 * the ClassDetails and PackageDetails themselves
+	 */
+	public Footprint getFootprint() {
+		int subTypeEntryCount = 0;
+		for ( List<ClassDetails> subTypes : subTypeClassDetailsMap.values() ) {
+			subTypeEntryCount += subTypes.size();
+		}
+
+		return new Footprint(
+				(CompactNameMap<?>) classDetailsMap,
+				(CompactNameMap<?>) subTypeClassDetailsMap,
+				(CompactNameMap<?>) packageDetailsMap,
+				subTypeEntryCount
+		);
+	}
+
+	@Override
+	public ClassDetails findClassDetails(String name) {
+		final ClassDetails found = super.findClassDetails( name );
+		if ( found != null || source == null ) {
+			return found;
+		}
+		return source.findClassDetails( name );
 	}
 
 	@Override
@@ -60,4 +208,112 @@ public class ClassDetailsRegistryImmutable extends AbstractClassDetailsRegistry
 	public ClassDetailsRegistry makeImmutableCopy() {
 		return this;
 	}
+
+	/**
+	 * The index over the hierarchy of the registered classes, used for
+	 * {@linkplain #isImplementor} and {@linkplain #getAllSuperTypes}
+	 */
+	public TypeHierarchyIndex getTypeHierarchyIndex() {
+		return typeHierarchyIndex;
+	}
+
+	@Override
+	public List<ClassDetails> getAllSubTypes(String superTypeName) {
+		final List<ClassDetails> allSubTypes = allSubTypesMap.get( superTypeName );
+		return allSubTypes == null ? Collections.emptyList() : allSubTypes;
+	}
+
+	@Override
+	public boolean isImplementor(ClassDetails classDetails, ClassDetails checkType) {
+		final int id = typeHierarchyIndex.idOf( classDetails );
+		final int checkId = typeHierarchyIndex.idOf( checkType );
+		if ( id >= 0 && checkId >= 0 ) {
+			return typeHierarchyIndex.isImplementor( id, checkId );
+		}
+		return super.isImplementor( classDetails, checkType );
+	}
+
+	@Override
+	public List<ClassDetails> getAllSuperTypes(ClassDetails classDetails) {
+		final List<ClassDetails> superTypes = typeHierarchyIndex.getAllSuperTypes( classDetails );
+		if ( superTypes != null ) {
+			return superTypes;
+		}
+		return super.getAllSuperTypes( classDetails );
+	}
+
+	/**
+	 * Estimated memory footprint of a {@linkplain ClassDetailsRegistryImmutable}, assuming
+	 * compressed object references.
+	 */
+	public static class Footprint {
+		private static final int OBJECT_HEADER = 12;
+		private static final int ARRAY_HEADER = 16;
+		private static final int REFERENCE = 4;
+
+		private final int classCount;
+		private final int packageCount;
+		private final int superTypeCount;
+		private final int subTypeEntryCount;
+		private final int tableSlots;
+		private final long estimatedBytes;
+
+		private Footprint(
+				CompactNameMap<?> classDetailsMap,
+				CompactNameMap<?> subTypeClassDetailsMap,
+				CompactNameMap<?> packageDetailsMap,
+				int subTypeEntryCount) {
+			this.classCount = classDetailsMap.size();
+			this.packageCount = packageDetailsMap.size();
+			this.superTypeCount = subTypeClassDetailsMap.size();
+			this.subTypeEntryCount = subTypeEntryCount;
+			this.tableSlots = classDetailsMap.capacity()
+					+ subTypeClassDetailsMap.capacity()
+					+ packageDetailsMap.capacity();
+
+			// each table : the map object, plus key and value arrays
+			final long tables = 3L * ( OBJECT_HEADER + 4L * REFERENCE + 2L * ARRAY_HEADER )
+					+ 2L * REFERENCE * tableSlots;
+			// each subtype list : the list object plus its array
+			final long subTypeLists = superTypeCount * (long) ( OBJECT_HEADER + REFERENCE + ARRAY_HEADER )
+					+ (long) REFERENCE * subTypeEntryCount;
+			this.estimatedBytes = tables + subTypeLists;
+		}
+
+		public int getClassCount() {
+			return classCount;
+		}
+
+		public int getPackageCount() {
+			return packageCount;
+		}
+
+		public int getSuperTypeCount() {
+			return superTypeCount;
+		}
+
+		public int getSubTypeEntryCount() {
+			return subTypeEntryCount;
+		}
+
+		public int getTableSlots() {
+			return tableSlots;
+		}
+
+		public long getEstimatedBytes() {
+			return estimatedBytes;
+		}
+
+		@Override
+		public String toString() {
+			return "Footprint("
+					+ "classes=" + classCount
+					+ ", packages=" + packageCount
+					+ ", superTypes=" + superTypeCount
+					+ ", subTypeEntries=" + subTypeEntryCount
+					+ ", tableSlots=" + tableSlots
+					+ ", estimatedBytes=" + estimatedBytes
+					+ ")";
+		}
+	}
 }
@@ -7,11 +7,15 @@
 package org.hibernate.models.source.internal;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.models.ModelsException;
-import org.hibernate.models.source.UnknownClassException;
-import org.hibernate.models.source.internal.jandex.JandexBuilders;
 import org.hibernate.models.source.internal.jdk.JdkBuilders;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsBuilder;
@@ -19,10 +23,11 @@ import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.PackageDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
-import org.jboss.jandex.IndexView;
-
 /**
  * Standard ClassDetailsRegistry implementation.
+ * <p/>
+ * May be layered over a read-only parent registry, generally that of the
+ * {@linkplain SourceModelPlatform platform}; see {@linkplain AbstractClassDetailsRegistry}.
  *
  * @author Steve Ebersole
  */
@@ -30,7 +35,18 @@ public class ClassDetailsRegistryStandard extends AbstractClassDetailsRegistry {
 	private final StandardClassDetailsBuilder standardClassDetailsBuilder;
 	private final SourceModelBuildingContext context;
 
+	// names of the classes being copied by #copyOnWrite, whose originals are hidden meanwhile.
+	// volatile, as lookups from other threads read it without locking
+	private volatile Set<String> pendingCopies = Set.of();
+	// names of the classes resolved for modification, which are never rebuilt
+	private final Set<String> modifiableNames = ConcurrentHashMap.newKeySet();
+
 	public ClassDetailsRegistryStandard(SourceModelBuildingContext context) {
+		this( context, null );
+	}
+
+	public ClassDetailsRegistryStandard(SourceModelBuildingContext context, ClassDetailsRegistry parent) {
+		super( parent );
 		this.context = context;
 		this.standardClassDetailsBuilder = new StandardClassDetailsBuilder( JdkBuilders.DEFAULT_BUILDER, context.getJandexIndex() );
 	}
@@ -45,23 +61,146 @@ public class ClassDetailsRegistryStandard extends AbstractClassDetailsRegistry {
 		if ( name.endsWith( "package-info" ) ) {
 			throw new ModelsException( "Register " + name + " as a package, not a class" );
 		}
-		classDetailsMap.put( name, classDetails );
+		final ClassDetails previous = classDetailsMap.put( name, classDetails );
+		if ( previous == classDetails ) {
+			// already registered (ClassDetails register themselves during construction)
+			return;
+		}
 
 		if ( classDetails.getSuperType() != null ) {
-			List<ClassDetails> subTypes = subTypeClassDetailsMap.get( classDetails.getSuperType().getName() );
-			if ( subTypes == null ) {
-				subTypes = new ArrayList<>();
-				subTypeClassDetailsMap.put( classDetails.getSuperType().getName(), subTypes );
-			}
-			subTypes.add( classDetails );
+			addSubType( classDetails.getSuperType().getName(), classDetails );
 		}
 	}
 
+	protected void addSubType(String superTypeName, ClassDetails classDetails) {
+		List<ClassDetails> subTypes = subTypeClassDetailsMap.get( superTypeName );
+		if ( subTypes == null ) {
+			subTypes = new ArrayList<>();
+			subTypeClassDetailsMap.put( superTypeName, subTypes );
+		}
+		subTypes.add( classDetails );
+	}
+
 	@Override
 	public ClassDetails resolveClassDetails(String name) {
 		return resolveClassDetails( name, standardClassDetailsBuilder );
 	}
 
+	/**
+	 * The builder used to {@linkplain #resolveClassDetails(String) resolve} classes by name,
+	 * which keeps statistics about the classes it builds
+	 */
+	public StandardClassDetailsBuilder getStandardClassDetailsBuilder() {
+		return standardClassDetailsBuilder;
+	}
+
+	@Override
+	public ClassDetails resolveClassDetailsForModification(String name) {
+		modifiableNames.add( name );
+
+		final ClassDetails local = classDetailsMap.get( name );
+		if ( local != null ) {
+			return local;
+		}
+
+		if ( parent == null || parent.findClassDetails( name ) == null ) {
+			return resolveClassDetails( name );
+		}
+
+		// the class is owned by the parent - copy it (and the classes referring to it) into this registry
+		return copyOnWrite( name );
+	}
+
+	/**
+	 * Builds a local copy of the named class, along with every class which refers to it - directly or
+	 * through another copied class - so that none of them keeps referring to the original.  Referrers
+	 * are its subtypes and the classes whose interfaces, members (including their type arguments) or
+	 * annotation Class values refer to it.  They are looked for among the classes registered here and
+	 * with the parent registries, up to the one owning the class.  Local referrers are rebuilt as well,
+	 * except those already resolved for modification (which might have been modified).
+	 */
+	private ClassDetails copyOnWrite(String name) {
+		final Map<String, List<String>> referrersByName = new HashMap<>();
+		final List<Map.Entry<String, ClassDetails>> candidates = referrerCandidates( name );
+		for ( int i = 0; i < candidates.size(); i++ ) {
+			final Map.Entry<String, ClassDetails> candidate = candidates.get( i );
+			for ( String referencedName : ClassDetailsHelper.collectReferencedClassNames( candidate.getValue() ) ) {
+				referrersByName.computeIfAbsent( referencedName, (key) -> new ArrayList<>() ).add( candidate.getKey() );
+			}
+		}
+
+		final Set<String> namesToCopy = new LinkedHashSet<>();
+		namesToCopy.add( name );
+		final List<String> queue = new ArrayList<>( namesToCopy );
+		for ( int i = 0; i < queue.size(); i++ ) {
+			final List<String> referrers = referrersByName.get( queue.get( i ) );
+			if ( referrers == null ) {
+				continue;
+			}
+			for ( int r = 0; r < referrers.size(); r++ ) {
+				final String referrer = referrers.get( r );
+				if ( !modifiableNames.contains( referrer ) && namesToCopy.add( referrer ) ) {
+					queue.add( referrer );
+				}
+			}
+		}
+
+		for ( String nameToCopy : namesToCopy ) {
+			unregister( nameToCopy );
+		}
+
+		// while copying, the originals are hidden so that references between the copies (super
+		// types, annotation Class values, ...) resolve to the copies, whatever the order
+		pendingCopies = namesToCopy;
+		try {
+			for ( String nameToCopy : namesToCopy ) {
+				resolveClassDetails( nameToCopy );
+			}
+		}
+		finally {
+			pendingCopies = Set.of();
+		}
+		return classDetailsMap.get( name );
+	}
+
+	/**
+	 * The classes which might refer to the named class.  Classes of a parent registry can only
+	 * refer to classes of that registry or its own parents, so the registries above the one owning
+	 * the class (e.g. the platform) need not be considered.
+	 */
+	private List<Map.Entry<String, ClassDetails>> referrerCandidates(String name) {
+		final List<Map.Entry<String, ClassDetails>> candidates = new ArrayList<>( classDetailsMap.entrySet() );
+		ClassDetailsRegistry registry = parent;
+		while ( registry instanceof AbstractClassDetailsRegistry ) {
+			final AbstractClassDetailsRegistry ancestor = (AbstractClassDetailsRegistry) registry;
+			candidates.addAll( ancestor.classDetailsMap.entrySet() );
+			if ( ancestor.classDetailsMap.containsKey( name ) ) {
+				break;
+			}
+			registry = ancestor.parent;
+		}
+		return candidates;
+	}
+
+	private void unregister(String name) {
+		final ClassDetails previous = classDetailsMap.remove( name );
+		if ( previous != null && previous.getSuperType() != null ) {
+			final List<ClassDetails> siblings = subTypeClassDetailsMap.get( previous.getSuperType().getName() );
+			if ( siblings != null ) {
+				siblings.remove( previous );
+			}
+		}
+	}
+
+	@Override
+	public ClassDetails findClassDetails(String name) {
+		final ClassDetails local = classDetailsMap.get( name );
+		if ( local != null || pendingCopies.contains( name ) ) {
+			return local;
+		}
+		return super.findClassDetails( name );
+	}
+
 	@Override
 	protected ClassDetails createClassDetails(String name, ClassDetailsBuilder creator) {
 		final ClassDetails created = creator.buildClassDetails( name, context );
@@ -83,32 +222,35 @@ public class ClassDetailsRegistryStandard extends AbstractClassDetailsRegistry {
 		return created;
 	}
 
-	private static class StandardClassDetailsBuilder implements ClassDetailsBuilder {
-		private final boolean tryJandex;
-		private final ClassDetailsBuilder fallbackClassDetailsBuilder;
-
-		public StandardClassDetailsBuilder(ClassDetailsBuilder fallbackClassDetailsBuilder, IndexView jandexIndex) {
-			this.fallbackClassDetailsBuilder = fallbackClassDetailsBuilder;
-			this.tryJandex = jandexIndex != null;
+	@Override
+	public ClassDetailsRegistry makeImmutableCopy() {
+		if ( parent == null ) {
+			return new ClassDetailsRegistryImmutable( classDetailsMap, subTypeClassDetailsMap, packageDetailsMap, this );
 		}
 
-		@Override
-		public ClassDetails buildClassDetails(String name, SourceModelBuildingContext buildingContext) {
-			if ( tryJandex ) {
-				try {
-					return JandexBuilders.buildClassDetailsStatic( name, buildingContext );
-				}
-				catch (UnknownClassException e) {
-					// generally means the class is not in the Jandex index - try the fallback
-				}
-			}
+		// the snapshot is self-contained - copy in the state of the parent as well
+		final Map<String, ClassDetails> allClassDetails = new HashMap<>();
+		parent.forEachClassDetails( (classDetails) -> allClassDetails.put( classDetails.getClassName(), classDetails ) );
+		allClassDetails.putAll( classDetailsMap );
 
-			return fallbackClassDetailsBuilder.buildClassDetails( name, buildingContext );
+		final Set<String> superTypeNames = new HashSet<>( subTypeClassDetailsMap.keySet() );
+		allClassDetails.forEach( (name, classDetails) -> {
+			if ( classDetails.getSuperType() != null ) {
+				superTypeNames.add( classDetails.getSuperType().getName() );
+			}
+		} );
+		final Map<String, List<ClassDetails>> allSubTypes = new HashMap<>( superTypeNames.size() * 2 );
+		for ( String superTypeName : superTypeNames ) {
+			final List<ClassDetails> subTypes = getDirectSubTypes( superTypeName );
+			if ( subTypes != null ) {
+				allSubTypes.put( superTypeName, subTypes );
+			}
 		}
-	}
 
-	@Override
-	public ClassDetailsRegistry makeImmutableCopy() {
-		return new ClassDetailsRegistryImmutable( classDetailsMap, subTypeClassDetailsMap, packageDetailsMap );
+		final Map<String, PackageDetails> allPackageDetails = new HashMap<>();
+		parent.forEachPackageDetails( (packageDetails) -> allPackageDetails.put( packageDetails.getName(), packageDetails ) );
+		allPackageDetails.putAll( packageDetailsMap );
+
+		return new ClassDetailsRegistryImmutable( allClassDetails, allSubTypes, allPackageDetails, this );
 	}
 }
@@ -12,6 +12,8 @@ import java.util.List;
 import org.hibernate.models.internal.CollectionHelper;
 import org.hibernate.models.internal.IndexedConsumer;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
+import org.hibernate.models.source.spi.AnnotationInheritance;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.FieldDetails;
@@ -21,6 +23,22 @@ import org.hibernate.models.source.spi.MethodDetails;
  * @author Steve Ebersole
  */
 public interface ClassDetailsSupport extends MutableClassDetails, AnnotationTargetSupport, MutableAnnotationTarget {
+	/**
+	 * The cache of effective annotation usages for this class
+	 */
+	EffectiveAnnotationUsages getEffectiveUsages();
+
+	@Override
+	default <A extends Annotation> AnnotationUsage<A> getEffectiveAnnotationUsage(
+			AnnotationDescriptor<A> descriptor,
+			AnnotationInheritance inheritance) {
+		return AnnotationUsageHelper.getUsage( descriptor, getEffectiveUsages().getEffectiveUsages( this, inheritance ) );
+	}
+
+	@Override
+	default boolean hasAnyEffectiveAnnotationUsage(AnnotationDescriptorSet descriptors, AnnotationInheritance inheritance) {
+		return getEffectiveUsages().getEffectiveUsages( this, inheritance ).isAnyPresent( descriptors );
+	}
 
 	@Override
 	default void forEachField(IndexedConsumer<FieldDetails> consumer) {
@@ -66,6 +84,12 @@ public interface ClassDetailsSupport extends MutableClassDetails, AnnotationTarg
 
 		if ( type.isInherited() && getSuperType() != null ) {
 			final List<AnnotationUsage<A>> inheritedUsages = getSuperType().getRepeatedAnnotationUsages( type );
+			if ( CollectionHelper.isEmpty( inheritedUsages ) ) {
+				return localUsages;
+			}
+			if ( localUsages.isEmpty() ) {
+				return inheritedUsages;
+			}
 			return CollectionHelper.join( localUsages, inheritedUsages );
 		}
 
@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassTypeDetails;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ClassTypeDetailsImpl implements ClassTypeDetails {
+	private final ClassDetailsHandle classDetails;
+
+	public ClassTypeDetailsImpl(ClassDetailsHandle classDetails) {
+		assert classDetails != null;
+		this.classDetails = classDetails;
+	}
+
+	@Override
+	public String getName() {
+		return classDetails.getName();
+	}
+
+	@Override
+	public ClassDetails getClassDetails() {
+		return classDetails.resolve();
+	}
+
+	@Override
+	public String toString() {
+		return "ClassTypeDetails(" + getName() + ")";
+	}
+}
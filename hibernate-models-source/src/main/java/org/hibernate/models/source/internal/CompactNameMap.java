@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only Map keyed by (interned) names, backed by an open-addressing table using
+ * linear probing.  Built once from another Map; has no per-entry node objects and
+ * no concurrency overhead.
+ *
+ * @author Steve Ebersole
+ */
+public class CompactNameMap<V> extends AbstractMap<String, V> {
+	private static final CompactNameMap<?> EMPTY = new CompactNameMap<>( new String[1], new Object[1], 0 );
+
+	private final String[] keys;
+	private final Object[] values;
+	private final int mask;
+	private final int size;
+
+	private CompactNameMap(String[] keys, Object[] values, int size) {
+		this.keys = keys;
+		this.values = values;
+		this.mask = keys.length - 1;
+		this.size = size;
+	}
+
+	public static <V> CompactNameMap<V> copyOf(Map<String, ? extends V> source) {
+		if ( source.isEmpty() ) {
+			//noinspection unchecked
+			return (CompactNameMap<V>) EMPTY;
+		}
+
+		final int capacity = tableSize( source.size() );
+		final String[] keys = new String[capacity];
+		final Object[] values = new Object[capacity];
+		final int mask = capacity - 1;
+
+		int size = 0;
+		for ( Entry<String, ? extends V> entry : source.entrySet() ) {
+			final String key = entry.getKey().intern();
+			int index = spread( key.hashCode() ) & mask;
+			while ( keys[index] != null ) {
+				index = ( index + 1 ) & mask;
+			}
+			keys[index] = key;
+			values[index] = entry.getValue();
+			size++;
+		}
+
+		return new CompactNameMap<>( keys, values, size );
+	}
+
+	/**
+	 * Power-of-two table size keeping the load factor at or below 2/3
+	 */
+	private static int tableSize(int entryCount) {
+		final int minimum = entryCount + ( entryCount >> 1 ) + 1;
+		return Integer.highestOneBit( minimum - 1 ) << 1;
+	}
+
+	private static int spread(int hash) {
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private int indexOf(Object key) {
+		if ( !( key instanceof String ) ) {
+			return -1;
+		}
+
+		int index = spread( key.hashCode() ) & mask;
+		String candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( candidate == key || candidate.equals( key ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public V get(Object key) {
+		final int index = indexOf( key );
+		//noinspection unchecked
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * The number of slots in the underlying table
+	 */
+	public int capacity() {
+		return keys.length;
+	}
+
+	@Override
+	public Set<Entry<String, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<String, V>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private class EntryIterator implements Iterator<Entry<String, V>> {
+		private int next = advance( 0 );
+
+		private int advance(int from) {
+			int index = from;
+			while ( index < keys.length && keys[index] == null ) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < keys.length;
+		}
+
+		@Override
+		public Entry<String, V> next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final int index = next;
+			next = advance( index + 1 );
+			//noinspection unchecked
+			return new SimpleImmutableEntry<>( keys[index], (V) values[index] );
+		}
+	}
+}
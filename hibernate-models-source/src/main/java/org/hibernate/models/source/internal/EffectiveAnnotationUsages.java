@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.source.spi.AnnotationInheritance;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+/**
+ * Cache of the {@linkplain ClassDetails#getEffectiveAnnotationUsage effective annotation usages}
+ * of a class - its local usages merged with those it inherits from its super types - per
+ * {@linkplain AnnotationInheritance inheritance rules}.  Held by each class.
+ * <p/>
+ * Computed once, on first access, from the cached results of the super type; later lookups
+ * are against the merged {@linkplain AnnotationUsages usages}, which never share the live local
+ * usages of a class.  Changes to the annotations within the hierarchy made after that are not
+ * reflected.
+ *
+ * @author Steve Ebersole
+ */
+public class EffectiveAnnotationUsages {
+	private static final AnnotationUsages NONE = new AnnotationUsages();
+
+	private volatile Map<AnnotationInheritance, Resolution> resolutions;
+
+	/**
+	 * The usages effective for the class - its local usages plus those inherited
+	 */
+	public AnnotationUsages getEffectiveUsages(ClassDetailsSupport classDetails, AnnotationInheritance inheritance) {
+		return resolve( classDetails, inheritance ).effective;
+	}
+
+	/**
+	 * The usages the class passes along to its subclasses
+	 */
+	public AnnotationUsages getInheritableUsages(ClassDetailsSupport classDetails, AnnotationInheritance inheritance) {
+		return resolve( classDetails, inheritance ).inheritable;
+	}
+
+	private Resolution resolve(ClassDetailsSupport classDetails, AnnotationInheritance inheritance) {
+		Map<AnnotationInheritance, Resolution> map = resolutions;
+		if ( map == null ) {
+			synchronized ( this ) {
+				map = resolutions;
+				if ( map == null ) {
+					map = new ConcurrentHashMap<>();
+					resolutions = map;
+				}
+			}
+		}
+
+		final Resolution existing = map.get( inheritance );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		// computed outside the map, as this recurses into the super type.  racy, but the result is always the same
+		final Resolution resolution = computeResolution( classDetails, inheritance );
+		final Resolution previous = map.putIfAbsent( inheritance, resolution );
+		return previous == null ? resolution : previous;
+	}
+
+	private static Resolution computeResolution(ClassDetailsSupport classDetails, AnnotationInheritance inheritance) {
+		final AnnotationUsages localUsages = classDetails.getUsages();
+		final AnnotationUsages inheritedUsages = inheritedUsages( classDetails.getSuperType(), inheritance );
+
+		// always merged into a copy, even with nothing inherited - the local usages can still change
+		final AnnotationUsages effective = merge( inheritedUsages, localUsages, null, null );
+
+		final AnnotationUsages inheritable;
+		if ( localUsages.isEmpty() || !inheritance.isContributor( classDetails ) ) {
+			inheritable = inheritedUsages;
+		}
+		else {
+			final AnnotationDescriptorRegistry descriptorRegistry = classDetails.getBuildingContext().getAnnotationDescriptorRegistry();
+			inheritable = merge( inheritedUsages, localUsages, inheritance, descriptorRegistry );
+		}
+
+		return new Resolution( effective, inheritable );
+	}
+
+	private static AnnotationUsages inheritedUsages(ClassDetails superType, AnnotationInheritance inheritance) {
+		if ( superType instanceof ClassDetailsSupport ) {
+			final ClassDetailsSupport superTypeSupport = (ClassDetailsSupport) superType;
+			return superTypeSupport.getEffectiveUsages().getInheritableUsages( superTypeSupport, inheritance );
+		}
+		return NONE;
+	}
+
+	/**
+	 * Merge the usages, with {@code overrides} replacing any usage of the same annotation from {@code base}.
+	 * If {@code inheritance} is given, only the inheritable {@code overrides} are included.
+	 */
+	private static AnnotationUsages merge(
+			AnnotationUsages base,
+			AnnotationUsages overrides,
+			AnnotationInheritance inheritance,
+			AnnotationDescriptorRegistry descriptorRegistry) {
+		final AnnotationUsages merged = new AnnotationUsages( base.size() + overrides.size() );
+		for ( int i = 0; i < base.size(); i++ ) {
+			merged.put( base.ordinalAt( i ), base.usageAt( i ) );
+		}
+		boolean anyApplied = false;
+		for ( int i = 0; i < overrides.size(); i++ ) {
+			final AnnotationUsage<?> usage = overrides.usageAt( i );
+			if ( inheritance != null ) {
+				final AnnotationDescriptor<?> descriptor = descriptorRegistry.getDescriptor( usage.getAnnotationType() );
+				if ( !inheritance.isInheritable( descriptor ) ) {
+					continue;
+				}
+			}
+			merged.put( overrides.ordinalAt( i ), usage );
+			anyApplied = true;
+		}
+
+		if ( !anyApplied ) {
+			// nothing inheritable locally
+			return base;
+		}
+		merged.trimToSize();
+		return merged;
+	}
+
+	private static class Resolution {
+		private final AnnotationUsages effective;
+		private final AnnotationUsages inheritable;
+
+		private Resolution(AnnotationUsages effective, AnnotationUsages inheritable) {
+			this.effective = effective;
+			this.inheritable = inheritable;
+		}
+	}
+}
@@ -41,6 +41,15 @@ public class NestedTypeDescriptor<A extends Annotation> extends AbstractTypeDesc
 		this.annotationType = annotationType;
 	}
 
+	/**
+	 * Form used when the descriptor for the nested annotation is already known, which
+	 * avoids needing the annotation Class
+	 */
+	public NestedTypeDescriptor(AnnotationDescriptor<A> descriptor) {
+		this.annotationType = null;
+		this.descriptor = descriptor;
+	}
+
 	@Override
 	public Class<AnnotationUsage<A>> getWrappedValueType() {
 		//noinspection unchecked,rawtypes
@@ -109,7 +118,7 @@ public class NestedTypeDescriptor<A extends Annotation> extends AbstractTypeDesc
 		return String.format(
 				Locale.ROOT,
 				"AttributeTypeDescriptor(%s)",
-				descriptor.getAnnotationType().getName()
+				descriptor != null ? descriptor.getName() : annotationType.getName()
 		);
 	}
 }
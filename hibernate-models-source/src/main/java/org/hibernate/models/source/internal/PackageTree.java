@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.PackageDetails;
+
+/**
+ * Tree of the {@linkplain PackageDetails packages} registered with a {@linkplain ClassDetailsRegistry},
+ * where each package's parent is its nearest enclosing registered package - e.g. {@code com.acme} for
+ * {@code com.acme.model}, if registered.
+ * <p/>
+ * Answers "nearest package (this one or an enclosing one) with a usage of annotation X", memoizing both
+ * the node for each package name asked about and, per node, the result for each annotation.  Resolving
+ * package annotations for many classes of the same package therefore costs a lookup per class
+ * rather than a walk.
+ * <p/>
+ * Built from the registrations at the time; the registry discards it when a package is registered.
+ *
+ * @author Steve Ebersole
+ */
+public class PackageTree {
+	private static final String PACKAGE_INFO_SUFFIX = ".package-info";
+
+	private final Map<String, PackageDetails> packageDetailsByName;
+	private final Node root = new Node( "", null, null );
+	private final Map<String, Node> nodesByPackageName = new ConcurrentHashMap<>();
+
+	public PackageTree(ClassDetailsRegistry classDetailsRegistry) {
+		final Map<String, PackageDetails> packageDetailsByName = new HashMap<>();
+		classDetailsRegistry.forEachPackageDetails( (packageDetails) -> {
+			packageDetailsByName.put( toPackageName( packageDetails.getName() ), packageDetails );
+		} );
+		this.packageDetailsByName = packageDetailsByName;
+	}
+
+	/**
+	 * The package name for a PackageDetails name, which might be the name of the {@code package-info} class
+	 */
+	public static String toPackageName(String name) {
+		return name.endsWith( PACKAGE_INFO_SUFFIX )
+				? name.substring( 0, name.length() - PACKAGE_INFO_SUFFIX.length() )
+				: name;
+	}
+
+	/**
+	 * The registered package which is either the named package or the nearest enclosing one, or {@code null}
+	 */
+	public PackageDetails findNearestPackageDetails(String packageName) {
+		return resolveNode( toPackageName( packageName ) ).packageDetails;
+	}
+
+	/**
+	 * The registered package, either the named package or the nearest enclosing one, with a usage of
+	 * the described annotation (or its {@linkplain AnnotationDescriptor#getRepeatableContainer() container}),
+	 * or {@code null}
+	 */
+	public PackageDetails findNearestPackageDetails(String packageName, AnnotationDescriptor<?> descriptor) {
+		return resolveNode( toPackageName( packageName ) ).findNearest( descriptor ).packageDetails;
+	}
+
+	/**
+	 * Same as {@linkplain #findNearestPackageDetails(String, AnnotationDescriptor)} for the package of the named class
+	 */
+	public PackageDetails findNearestPackageDetailsForClass(String className, AnnotationDescriptor<?> descriptor) {
+		return findNearestPackageDetails( StringHelper.qualifier( className ), descriptor );
+	}
+
+	private Node resolveNode(String packageName) {
+		if ( packageName.isEmpty() ) {
+			return root;
+		}
+
+		final Node existing = nodesByPackageName.get( packageName );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Node parent = resolveNode( StringHelper.qualifier( packageName ) );
+		final PackageDetails packageDetails = packageDetailsByName.get( packageName );
+		// unregistered packages share the node of their nearest registered enclosing package
+		final Node node = packageDetails == null ? parent : new Node( packageName, packageDetails, parent );
+		final Node raced = nodesByPackageName.putIfAbsent( packageName, node );
+		return raced == null ? node : raced;
+	}
+
+	private class Node {
+		private final String packageName;
+		private final PackageDetails packageDetails;
+		private final Node parent;
+
+		// nearest node with a usage, keyed by annotation name - ordinals are reused once released
+		private final Map<String, Node> nearestByAnnotationName = new ConcurrentHashMap<>();
+
+		private Node(String packageName, PackageDetails packageDetails, Node parent) {
+			this.packageName = packageName;
+			this.packageDetails = packageDetails;
+			this.parent = parent;
+		}
+
+		private Node findNearest(AnnotationDescriptor<?> descriptor) {
+			if ( this == root ) {
+				return root;
+			}
+
+			final Node existing = nearestByAnnotationName.get( descriptor.getName() );
+			if ( existing != null ) {
+				return existing;
+			}
+
+			// presence checks include the container of a repeatable annotation
+			return findNearest( descriptor, AnnotationDescriptorSet.of( descriptor ) );
+		}
+
+		private Node findNearest(AnnotationDescriptor<?> descriptor, AnnotationDescriptorSet descriptorSet) {
+			if ( this == root ) {
+				return root;
+			}
+
+			final Node existing = nearestByAnnotationName.get( descriptor.getName() );
+			if ( existing != null ) {
+				return existing;
+			}
+
+			// computed outside the map, as this recurses into the parent.  racy, but the result is always the same
+			final Node nearest = packageDetails.hasAnyAnnotationUsage( descriptorSet )
+					? this
+					: parent.findNearest( descriptor, descriptorSet );
+			nearestByAnnotationName.putIfAbsent( descriptor.getName(), nearest );
+			return nearest;
+		}
+
+		@Override
+		public String toString() {
+			return "PackageTree.Node(" + packageName + ")";
+		}
+	}
+}
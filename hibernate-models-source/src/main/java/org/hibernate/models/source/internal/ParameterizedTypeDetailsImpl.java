@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.List;
+
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ParameterizedTypeDetails;
+import org.hibernate.models.source.spi.TypeDetails;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ParameterizedTypeDetailsImpl implements ParameterizedTypeDetails {
+	private final ClassDetailsHandle rawClassDetails;
+	private final List<TypeDetails> arguments;
+
+	public ParameterizedTypeDetailsImpl(ClassDetailsHandle rawClassDetails, List<TypeDetails> arguments) {
+		assert rawClassDetails != null;
+		this.rawClassDetails = rawClassDetails;
+		this.arguments = arguments;
+	}
+
+	@Override
+	public ClassDetails getRawClassDetails() {
+		return rawClassDetails.resolve();
+	}
+
+	@Override
+	public String getRawClassName() {
+		return rawClassDetails.getName();
+	}
+
+	/**
+	 * The raw class handle, for building derived types
+	 */
+	public ClassDetailsHandle getRawClassHandle() {
+		return rawClassDetails;
+	}
+
+	@Override
+	public List<TypeDetails> getArguments() {
+		return arguments;
+	}
+
+	@Override
+	public String getName() {
+		final StringBuilder buffer = new StringBuilder( getRawClassName() ).append( '<' );
+		for ( int i = 0; i < arguments.size(); i++ ) {
+			if ( i > 0 ) {
+				buffer.append( ", " );
+			}
+			buffer.append( arguments.get( i ).getName() );
+		}
+		return buffer.append( '>' ).toString();
+	}
+
+	@Override
+	public String toString() {
+		return "ParameterizedTypeDetails(" + getName() + ")";
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
+
+/**
+ * Cache of the {@linkplain TypeDetailsHelper#resolveRelativeType resolutions} of a member's
+ * type relative to the concrete subtypes of its declaring class, keyed by the subtype's name.
+ * Held by each member, so the member and its declaring class are implied.
+ * <p/>
+ * Types which do not refer to type variables resolve to themselves and are not cached.  Neither are
+ * resolutions relative to a container from a different building context - e.g. an application class
+ * extending a {@linkplain SourceModelPlatform platform} class - as the member is shared by other contexts.
+ *
+ * @author Steve Ebersole
+ */
+public class RelativeTypeCache {
+	private volatile Map<String, TypeDetails> resolutions;
+
+	public TypeDetails resolve(TypeDetails type, ClassDetails container, SourceModelBuildingContext buildingContext) {
+		if ( !TypeDetailsHelper.containsTypeVariables( type ) ) {
+			return type;
+		}
+
+		if ( !isFromContext( container, buildingContext ) ) {
+			return TypeDetailsHelper.resolveRelativeType( type, container );
+		}
+
+		Map<String, TypeDetails> map = resolutions;
+		if ( map == null ) {
+			synchronized ( this ) {
+				map = resolutions;
+				if ( map == null ) {
+					map = new ConcurrentHashMap<>();
+					resolutions = map;
+				}
+			}
+		}
+		return map.computeIfAbsent(
+				container.getName(),
+				(name) -> TypeDetailsHelper.resolveRelativeType( type, container )
+		);
+	}
+
+	private static boolean isFromContext(ClassDetails container, SourceModelBuildingContext buildingContext) {
+		return container instanceof AnnotationTargetSupport
+				&& ( (AnnotationTargetSupport) container ).getBuildingContext() == buildingContext;
+	}
+}
@@ -18,6 +18,7 @@ import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.RegistryPrimer;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.SourceModelContext;
 import org.hibernate.models.spi.ClassLoading;
 
 import org.jboss.jandex.IndexView;
@@ -28,9 +29,11 @@ import org.jboss.jandex.IndexView;
 public class SourceModelBuildingContextImpl implements SourceModelBuildingContext {
 	private final ClassLoading classLoadingAccess;
 	private final IndexView jandexIndex;
+	private final SourceModelContext parent;
 
 	private final AnnotationDescriptorRegistryStandard descriptorRegistry;
 	private final ClassDetailsRegistryStandard classDetailsRegistry;
+	private final AnnotationUsageIndex annotationUsageIndex;
 
 	public SourceModelBuildingContextImpl(ClassLoading classLoadingAccess, IndexView jandexIndex) {
 		this( classLoadingAccess, jandexIndex, null );
@@ -40,13 +43,51 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 			ClassLoading classLoadingAccess,
 			IndexView jandexIndex,
 			RegistryPrimer registryPrimer) {
-		this.classLoadingAccess = classLoadingAccess;
-		this.jandexIndex = jandexIndex;
+		this( classLoadingAccess, jandexIndex, registryPrimer, false );
+	}
 
-		this.descriptorRegistry = new AnnotationDescriptorRegistryStandard();
-		this.classDetailsRegistry = new ClassDetailsRegistryStandard( this );
+	/**
+	 * @param concurrentResolution Whether the ClassDetailsRegistry should support resolution
+	 * from multiple threads.  See {@linkplain ClassDetailsRegistryConcurrent}
+	 */
+	public SourceModelBuildingContextImpl(
+			ClassLoading classLoadingAccess,
+			IndexView jandexIndex,
+			RegistryPrimer registryPrimer,
+			boolean concurrentResolution) {
+		this( classLoadingAccess, jandexIndex, registryPrimer, concurrentResolution, SourceModelPlatform.baseline() );
+	}
 
-		primeRegistries( registryPrimer );
+	/**
+	 * @param concurrentResolution Whether the ClassDetailsRegistry should support resolution
+	 * from multiple threads.  See {@linkplain ClassDetailsRegistryConcurrent}
+	 * @param parent The shared registrations the registries of this context are layered over - generally
+	 * a {@linkplain SourceModelPlatform platform}, or another context holding a model shared by
+	 * multiple persistence units.  {@code null} indicates this context holds all registrations itself.
+	 */
+	public SourceModelBuildingContextImpl(
+			ClassLoading classLoadingAccess,
+			IndexView jandexIndex,
+			RegistryPrimer registryPrimer,
+			boolean concurrentResolution,
+			SourceModelContext parent) {
+		this.classLoadingAccess = classLoadingAccess;
+		this.jandexIndex = jandexIndex;
+		this.parent = parent;
+
+		final AnnotationDescriptorRegistry parentDescriptorRegistry = parent == null
+				? null
+				: parent.getAnnotationDescriptorRegistry();
+		final ClassDetailsRegistry parentClassDetailsRegistry = parent == null
+				? null
+				: parent.getClassDetailsRegistry();
+		this.descriptorRegistry = new AnnotationDescriptorRegistryStandard( parentDescriptorRegistry );
+		this.classDetailsRegistry = concurrentResolution
+				? new ClassDetailsRegistryConcurrent( this, parentClassDetailsRegistry )
+				: new ClassDetailsRegistryStandard( this, parentClassDetailsRegistry );
+		this.annotationUsageIndex = new AnnotationUsageIndex( this );
+
+		primeRegistries( registryPrimer, parent == null );
 	}
 
 	@Override
@@ -59,6 +100,11 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 		return classDetailsRegistry;
 	}
 
+	@Override
+	public boolean isLayeredOver(SourceModelContext context) {
+		return context == this || ( parent != null && parent.isLayeredOver( context ) );
+	}
+
 	@Override
 	public ClassLoading getClassLoading() {
 		return classLoadingAccess;
@@ -69,20 +115,27 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 		return jandexIndex;
 	}
 
+	public AnnotationUsageIndex getAnnotationUsageIndex() {
+		return annotationUsageIndex;
+	}
+
 	@Override
 	public <A extends Annotation> List<AnnotationUsage<A>> getAllAnnotationUsages(Class<A> annotationType) {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		return annotationUsageIndex.getAllUsages( annotationType );
 	}
 
 	@Override
 	public <A extends Annotation> void forEachAnnotationUsage(Class<A> annotationType, Consumer<AnnotationUsage<A>> consumer) {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		annotationUsageIndex.forEachUsage( annotationType, consumer );
 	}
 
 
 
-	private void primeRegistries(RegistryPrimer registryPrimer) {
-		BaseLineJavaTypes.forEachJavaType( this::primeClassDetails );
+	private void primeRegistries(RegistryPrimer registryPrimer, boolean primeJavaTypes) {
+		if ( primeJavaTypes ) {
+			// otherwise, these come from the platform
+			BaseLineJavaTypes.forEachJavaType( this::primeClassDetails );
+		}
 
 		if ( registryPrimer != null ) {
 			registryPrimer.primeRegistries( new RegistryContributions(), this );
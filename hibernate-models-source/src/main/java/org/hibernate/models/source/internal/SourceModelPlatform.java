@@ -0,0 +1,258 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.source.internal.jdk.AnnotationDescriptorImpl;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsBuilder;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.RegistryPrimer;
+import org.hibernate.models.source.spi.SourceModelContext;
+import org.hibernate.models.spi.ClassLoading;
+
+import org.jboss.jandex.DotName;
+
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Shared, read-only layer of registrations (the {@linkplain BaseLineJavaTypes base-line Java types}
+ * plus any "standard" annotation descriptors) used as the parent of the registries of each
+ * {@linkplain SourceModelBuildingContextImpl building context}.  Fully built and then frozen when
+ * created; its {@linkplain ClassDetails} are shared and must not be mutated.
+ *
+ * @author Steve Ebersole
+ */
+public class SourceModelPlatform implements SourceModelContext {
+	private final PlatformContext platformContext;
+
+	/**
+	 * Create a platform containing just the base-line Java types.
+	 *
+	 * @see #baseline()
+	 */
+	public SourceModelPlatform() {
+		this( SIMPLE_CLASS_LOADING, null );
+	}
+
+	/**
+	 * Create a platform containing the base-line Java types plus the registrations
+	 * made by the given {@code registryPrimer}.
+	 *
+	 * @param classLoading Class loading available to the {@code registryPrimer}
+	 * @param registryPrimer Contributes the platform registrations; may be {@code null}
+	 */
+	public SourceModelPlatform(ClassLoading classLoading, RegistryPrimer registryPrimer) {
+		this.platformContext = new PlatformContext( classLoading, registryPrimer );
+		resolveMembers( platformContext.getClassDetailsRegistry() );
+		platformContext.freeze();
+	}
+
+	/**
+	 * The platform containing just the base-line Java types, which is used
+	 * unless a building context is given a specific platform
+	 */
+	public static SourceModelPlatform baseline() {
+		return BaselineHolder.BASELINE;
+	}
+
+	@Override
+	public ClassDetailsRegistry getClassDetailsRegistry() {
+		return platformContext.getClassDetailsRegistry();
+	}
+
+	@Override
+	public AnnotationDescriptorRegistry getAnnotationDescriptorRegistry() {
+		return platformContext.getAnnotationDescriptorRegistry();
+	}
+
+	private static void resolveMembers(ClassDetailsRegistry classDetailsRegistry) {
+		// member types are resolved lazily - resolve (and register) them now
+		final List<ClassDetails> platformClasses = registeredClasses( classDetailsRegistry );
+		for ( int i = 0; i < platformClasses.size(); i++ ) {
+			final ClassDetails classDetails = platformClasses.get( i );
+			final List<FieldDetails> fields = classDetails.getFields();
+			for ( int f = 0; f < fields.size(); f++ ) {
+				fields.get( f ).getType();
+			}
+			final List<MethodDetails> methods = classDetails.getMethods();
+			for ( int m = 0; m < methods.size(); m++ ) {
+				final MethodDetails method = methods.get( m );
+				method.getType();
+				method.getReturnType();
+				method.getArgumentTypes();
+			}
+		}
+
+		// the interfaces of all registered classes (including those just registered) are
+		// needed to index the type hierarchy when freezing
+		int resolvedCount = 0;
+		List<ClassDetails> registered = registeredClasses( classDetailsRegistry );
+		while ( resolvedCount < registered.size() ) {
+			for ( int i = 0; i < registered.size(); i++ ) {
+				registered.get( i ).getImplementedInterfaceTypes();
+			}
+			resolvedCount = registered.size();
+			registered = registeredClasses( classDetailsRegistry );
+		}
+	}
+
+	private static List<ClassDetails> registeredClasses(ClassDetailsRegistry classDetailsRegistry) {
+		final List<ClassDetails> classes = new ArrayList<>();
+		classDetailsRegistry.forEachClassDetails( classes::add );
+		return classes;
+	}
+
+	private static class BaselineHolder {
+		private static final SourceModelPlatform BASELINE = new SourceModelPlatform();
+	}
+
+	/**
+	 * The building context of the platform classes.  Once {@linkplain #freeze() frozen}, its
+	 * registries are the frozen copies.
+	 *
+	 * @implNote The frozen registries are published along with the platform, through its final field.
+	 */
+	private static class PlatformContext extends SourceModelBuildingContextImpl {
+		private ClassDetailsRegistry frozenClassDetailsRegistry;
+		private AnnotationDescriptorRegistry frozenDescriptorRegistry;
+
+		private PlatformContext(ClassLoading classLoading, RegistryPrimer registryPrimer) {
+			super( classLoading, null, registryPrimer, true, null );
+		}
+
+		private void freeze() {
+			frozenClassDetailsRegistry = new FrozenClassDetailsRegistry(
+					(AbstractClassDetailsRegistry) super.getClassDetailsRegistry()
+			);
+			frozenDescriptorRegistry = new FrozenAnnotationDescriptorRegistry(
+					(AbstractAnnotationDescriptorRegistry) super.getAnnotationDescriptorRegistry()
+			);
+		}
+
+		@Override
+		public ClassDetailsRegistry getClassDetailsRegistry() {
+			return frozenClassDetailsRegistry == null
+					? super.getClassDetailsRegistry()
+					: frozenClassDetailsRegistry;
+		}
+
+		@Override
+		public AnnotationDescriptorRegistry getAnnotationDescriptorRegistry() {
+			return frozenDescriptorRegistry == null
+					? super.getAnnotationDescriptorRegistry()
+					: frozenDescriptorRegistry;
+		}
+	}
+
+	/**
+	 * Frozen platform ClassDetailsRegistry.  Classes referred to by the platform classes which were
+	 * not registered when frozen are built by the given creator - always from a {@link Class}
+	 * reference - once, on first reference.  They are kept apart from the registrations, so they
+	 * are neither visible to the building contexts nor part of the type hierarchy.
+	 */
+	private static class FrozenClassDetailsRegistry extends ClassDetailsRegistryImmutable {
+		private final Map<String, ClassDetails> referencedClassDetailsMap = new ConcurrentHashMap<>();
+
+		private FrozenClassDetailsRegistry(AbstractClassDetailsRegistry registry) {
+			super( registry.classDetailsMap, registry.subTypeClassDetailsMap, registry.packageDetailsMap );
+		}
+
+		@Override
+		protected ClassDetails createClassDetails(String name, ClassDetailsBuilder creator) {
+			throw new ModelsException( "Platform ClassDetailsRegistry is immutable - " + name );
+		}
+
+		@Override
+		protected ClassDetails createClassDetails(String name, ClassDetailsCreator creator) {
+			if ( creator == null ) {
+				throw new ModelsException( "Platform ClassDetailsRegistry is immutable - " + name );
+			}
+
+			final ClassDetails existing = referencedClassDetailsMap.get( name );
+			if ( existing != null ) {
+				return existing;
+			}
+
+			// built outside the map, as building may refer to other classes.  racy, but only one is kept
+			final ClassDetails created = creator.createClassDetails();
+			final ClassDetails raced = referencedClassDetailsMap.putIfAbsent( name, created );
+			return raced == null ? created : raced;
+		}
+
+		@Override
+		public void addClassDetails(ClassDetails classDetails) {
+			// ClassDetails register themselves as they are built - these are not kept
+		}
+
+		@Override
+		public void addClassDetails(String name, ClassDetails classDetails) {
+		}
+	}
+
+	/**
+	 * Frozen platform AnnotationDescriptorRegistry.  Descriptors for annotations which are not
+	 * registered (e.g. those used on the members of the platform classes) are built but not registered.
+	 */
+	private static class FrozenAnnotationDescriptorRegistry extends AnnotationDescriptorRegistryImmutable {
+		private FrozenAnnotationDescriptorRegistry(AbstractAnnotationDescriptorRegistry registry) {
+			super( registry.descriptorMap, registry.descriptorsByName, registry.repeatableByContainerMap );
+		}
+
+		@Override
+		public <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
+				Class<A> javaType,
+				DescriptorCreator<A> creator) {
+			//noinspection unchecked
+			final AnnotationDescriptor<A> existing = (AnnotationDescriptor<A>) descriptorMap.get( javaType );
+			if ( existing != null ) {
+				return existing;
+			}
+			final AnnotationDescriptor<A> existingNamed = findDescriptor( DotName.createSimple( javaType.getName() ) );
+			if ( existingNamed != null ) {
+				return existingNamed;
+			}
+			return creator == null
+					? buildAdHocAnnotationDescriptor( javaType )
+					: creator.createDescriptor( javaType );
+		}
+
+		@Override
+		public <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
+				DotName annotationName,
+				NamedDescriptorCreator creator) {
+			final AnnotationDescriptor<A> existing = findDescriptor( annotationName );
+			if ( existing != null ) {
+				return existing;
+			}
+			if ( creator == null ) {
+				throw new ModelsException( "Platform AnnotationDescriptorRegistry is immutable - " + annotationName );
+			}
+			//noinspection unchecked
+			return (AnnotationDescriptor<A>) creator.createDescriptor( annotationName );
+		}
+
+		private <A extends Annotation> AnnotationDescriptor<A> buildAdHocAnnotationDescriptor(Class<A> javaType) {
+			final Repeatable repeatable = javaType.getAnnotation( Repeatable.class );
+			final AnnotationDescriptor<? extends Annotation> containerDescriptor = repeatable == null
+					? null
+					: getDescriptor( repeatable.value() );
+			return new AnnotationDescriptorImpl<>( javaType, containerDescriptor );
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.models.source.internal.jandex.JandexBuilders;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsBuilder;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.jboss.jandex.IndexView;
+
+/**
+ * The ClassDetailsBuilder used by {@linkplain ClassDetailsRegistryStandard} - builds from the
+ * Jandex index, if there is one, falling back to another builder (generally reflection) for
+ * classes which are not part of the index.
+ * <p/>
+ * Misses are determined by lookup rather than by exception, and the names found to be missing
+ * from the index are remembered so that the index is probed only once per name.
+ * <p/>
+ * Keeps counts of hits and misses per backend, which may be used to tune the coverage of the index.
+ *
+ * @author Steve Ebersole
+ */
+public class StandardClassDetailsBuilder implements ClassDetailsBuilder {
+	private final IndexView jandexIndex;
+	private final ClassDetailsBuilder fallbackClassDetailsBuilder;
+
+	// names known to not be part of the Jandex index
+	private final Set<String> jandexMisses = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder jandexHitCount = new LongAdder();
+	private final LongAdder jandexMissCount = new LongAdder();
+	private final LongAdder knownMissCount = new LongAdder();
+	private final LongAdder fallbackCount = new LongAdder();
+
+	public StandardClassDetailsBuilder(ClassDetailsBuilder fallbackClassDetailsBuilder, IndexView jandexIndex) {
+		this.fallbackClassDetailsBuilder = fallbackClassDetailsBuilder;
+		this.jandexIndex = jandexIndex;
+	}
+
+	@Override
+	public ClassDetails buildClassDetails(String name, SourceModelBuildingContext buildingContext) {
+		if ( jandexIndex != null ) {
+			if ( jandexMisses.contains( name ) ) {
+				knownMissCount.increment();
+			}
+			else {
+				final ClassDetails fromJandex = JandexBuilders.findClassDetails( name, jandexIndex, buildingContext );
+				if ( fromJandex != null ) {
+					jandexHitCount.increment();
+					return fromJandex;
+				}
+				jandexMissCount.increment();
+				jandexMisses.add( name );
+			}
+		}
+
+		fallbackCount.increment();
+		return fallbackClassDetailsBuilder.buildClassDetails( name, buildingContext );
+	}
+
+	/**
+	 * The number of classes built from the Jandex index
+	 */
+	public long getJandexHitCount() {
+		return jandexHitCount.sum();
+	}
+
+	/**
+	 * The number of times the Jandex index was probed for a class it does not contain
+	 */
+	public long getJandexMissCount() {
+		return jandexMissCount.sum();
+	}
+
+	/**
+	 * The number of times probing the Jandex index was skipped because the class
+	 * was already known to not be part of it
+	 */
+	public long getKnownMissCount() {
+		return knownMissCount.sum();
+	}
+
+	/**
+	 * The number of classes built using the fallback builder
+	 */
+	public long getFallbackCount() {
+		return fallbackCount.sum();
+	}
+
+	public String getReport() {
+		return String.format(
+				Locale.ROOT,
+				"StandardClassDetailsBuilder(jandex-hits=%s, jandex-misses=%s, known-misses=%s, fallbacks=%s)",
+				getJandexHitCount(),
+				getJandexMissCount(),
+				getKnownMissCount(),
+				getFallbackCount()
+		);
+	}
+
+	@Override
+	public String toString() {
+		return getReport();
+	}
+}
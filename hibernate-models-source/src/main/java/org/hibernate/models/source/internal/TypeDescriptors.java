@@ -9,8 +9,16 @@ package org.hibernate.models.source.internal;
 import java.lang.annotation.Annotation;
 
 import org.hibernate.models.ModelsException;
+import org.hibernate.models.source.internal.jandex.JandexBuilders;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
 import org.hibernate.models.source.spi.ValueTypeDescriptor;
 
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
 import static org.hibernate.models.source.internal.BooleanTypeDescriptor.BOOLEAN_TYPE_DESCRIPTOR;
 import static org.hibernate.models.source.internal.ByteTypeDescriptor.BYTE_TYPE_DESCRIPTOR;
 import static org.hibernate.models.source.internal.CharacterTypeDescriptor.CHARACTER_TYPE_DESCRIPTOR;
@@ -26,6 +34,8 @@ import static org.hibernate.models.source.internal.StringTypeDescriptor.STRING_T
  * @author Steve Ebersole
  */
 public class TypeDescriptors {
+	private static final DotName STRING = DotName.createSimple( String.class );
+	private static final DotName CLASS = DotName.createSimple( Class.class );
 
 	@SuppressWarnings("unchecked")
 	public static <T,W> ValueTypeDescriptor<W> resolveTypeDescriptor(Class<T> attributeType) {
@@ -88,4 +98,84 @@ public class TypeDescriptors {
 
 		throw new ModelsException( "Unsupported attribute value type - " + attributeType.getName() );
 	}
+
+	/**
+	 * Resolve the type descriptor for an annotation attribute based on its Jandex {@linkplain Type}.
+	 * <p/>
+	 * Nested annotation types are resolved through the {@linkplain JandexBuilders#resolveAnnotationDescriptor descriptor registry}
+	 * without loading their Class.  Enum types need the enum Class in order to produce the enum values;
+	 * types not known to the Jandex index fall back to {@linkplain #resolveTypeDescriptor(Class)}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <W> ValueTypeDescriptor<W> resolveTypeDescriptor(Type attributeType, SourceModelBuildingContext buildingContext) {
+		assert attributeType != null;
+
+		switch ( attributeType.kind() ) {
+			case PRIMITIVE: {
+				switch ( attributeType.asPrimitiveType().primitive() ) {
+					case BYTE: {
+						return (ValueTypeDescriptor<W>) BYTE_TYPE_DESCRIPTOR;
+					}
+					case BOOLEAN: {
+						return (ValueTypeDescriptor<W>) BOOLEAN_TYPE_DESCRIPTOR;
+					}
+					case SHORT: {
+						return (ValueTypeDescriptor<W>) SHORT_TYPE_DESCRIPTOR;
+					}
+					case INT: {
+						return (ValueTypeDescriptor<W>) INTEGER_TYPE_DESCRIPTOR;
+					}
+					case LONG: {
+						return (ValueTypeDescriptor<W>) LONG_TYPE_DESCRIPTOR;
+					}
+					case FLOAT: {
+						return (ValueTypeDescriptor<W>) FLOAT_TYPE_DESCRIPTOR;
+					}
+					case DOUBLE: {
+						return (ValueTypeDescriptor<W>) DOUBLE_TYPE_DESCRIPTOR;
+					}
+					case CHAR: {
+						return (ValueTypeDescriptor<W>) CHARACTER_TYPE_DESCRIPTOR;
+					}
+					default: {
+						throw new ModelsException( "Unsupported attribute value type - " + attributeType );
+					}
+				}
+			}
+			case ARRAY: {
+				//noinspection deprecation
+				final ValueTypeDescriptor<?> elementTypeDescriptor = resolveTypeDescriptor(
+						attributeType.asArrayType().component(),
+						buildingContext
+				);
+				return (ValueTypeDescriptor<W>) new ArrayTypeDescriptor<>( elementTypeDescriptor );
+			}
+			case CLASS:
+			case PARAMETERIZED_TYPE: {
+				final DotName typeName = attributeType.name();
+				if ( STRING.equals( typeName ) ) {
+					return (ValueTypeDescriptor<W>) STRING_TYPE_DESCRIPTOR;
+				}
+				if ( CLASS.equals( typeName ) ) {
+					return (ValueTypeDescriptor<W>) CLASS_TYPE_DESCRIPTOR;
+				}
+
+				final IndexView jandexIndex = buildingContext.getJandexIndex();
+				final ClassInfo typeInfo = jandexIndex == null ? null : jandexIndex.getClassByName( typeName );
+				if ( typeInfo != null && typeInfo.isAnnotation() ) {
+					final AnnotationDescriptor<? extends Annotation> nestedDescriptor = JandexBuilders.resolveAnnotationDescriptor(
+							typeName,
+							buildingContext
+					);
+					//noinspection rawtypes
+					return new NestedTypeDescriptor( nestedDescriptor );
+				}
+
+				return resolveTypeDescriptor( buildingContext.getClassLoading().classForName( typeName.toString() ) );
+			}
+			default: {
+				throw new ModelsException( "Unsupported attribute value type - " + attributeType );
+			}
+		}
+	}
 }
@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.models.source.spi.ArrayTypeDetails;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassTypeDetails;
+import org.hibernate.models.source.spi.ParameterizedTypeDetails;
+import org.hibernate.models.source.spi.TypeDetails;
+import org.hibernate.models.source.spi.TypeVariableDetails;
+import org.hibernate.models.source.spi.WildcardTypeDetails;
+
+/**
+ * Helper for dealing with {@linkplain TypeDetails}, mainly resolving type variables
+ * relative to a concrete subtype.
+ *
+ * @author Steve Ebersole
+ */
+public class TypeDetailsHelper {
+	/**
+	 * TypeDetails for a plain reference to the given class
+	 */
+	public static TypeDetails forClass(ClassDetails classDetails) {
+		return classDetails == null ? null : new ClassTypeDetailsImpl( ClassDetailsHandle.of( classDetails ) );
+	}
+
+	/**
+	 * Whether the type refers to any type variables, in which case it might be
+	 * resolved differently relative to different subtypes
+	 */
+	public static boolean containsTypeVariables(TypeDetails type) {
+		if ( type == null ) {
+			return false;
+		}
+		switch ( type.getTypeKind() ) {
+			case TYPE_VARIABLE: {
+				return true;
+			}
+			case PARAMETERIZED_TYPE: {
+				final List<TypeDetails> arguments = ( (ParameterizedTypeDetails) type ).getArguments();
+				for ( int i = 0; i < arguments.size(); i++ ) {
+					if ( containsTypeVariables( arguments.get( i ) ) ) {
+						return true;
+					}
+				}
+				return false;
+			}
+			case WILDCARD_TYPE: {
+				return containsTypeVariables( ( (WildcardTypeDetails) type ).getBound() );
+			}
+			case ARRAY: {
+				return containsTypeVariables( ( (ArrayTypeDetails) type ).getComponentType() );
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Collect the names of the classes referenced by {@code type}, including those of any type
+	 * arguments.  Type variables are not followed.
+	 */
+	public static void collectClassNames(TypeDetails type, Set<String> classNames) {
+		if ( type == null ) {
+			return;
+		}
+		switch ( type.getTypeKind() ) {
+			case CLASS: {
+				final ClassDetails classDetails = ( (ClassTypeDetails) type ).getClassDetails();
+				if ( classDetails != null ) {
+					classNames.add( classDetails.getName() );
+				}
+				break;
+			}
+			case PARAMETERIZED_TYPE: {
+				final ParameterizedTypeDetails parameterizedType = (ParameterizedTypeDetails) type;
+				classNames.add( parameterizedType.getRawClassName() );
+				final List<TypeDetails> arguments = parameterizedType.getArguments();
+				for ( int i = 0; i < arguments.size(); i++ ) {
+					collectClassNames( arguments.get( i ), classNames );
+				}
+				break;
+			}
+			case WILDCARD_TYPE: {
+				collectClassNames( ( (WildcardTypeDetails) type ).getBound(), classNames );
+				break;
+			}
+			case ARRAY: {
+				collectClassNames( ( (ArrayTypeDetails) type ).getComponentType(), classNames );
+				break;
+			}
+			default: {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Resolve the type variables referenced by {@code type} based on the type arguments
+	 * given in the super type hierarchy of {@code container}.  E.g., given {@code T id}
+	 * declared on {@code Base<T>} and {@code class Person extends Base<Integer>}, the
+	 * type of {@code id} relative to {@code Person} is {@code Integer}.
+	 * <p/>
+	 * Variables not bound within the hierarchy (the container's own type parameters, or
+	 * those of a raw super type) are left as they are.
+	 */
+	public static TypeDetails resolveRelativeType(TypeDetails type, ClassDetails container) {
+		if ( !containsTypeVariables( type ) ) {
+			return type;
+		}
+
+		final Map<String, TypeDetails> bindings = collectBindings( container );
+		if ( bindings.isEmpty() ) {
+			return type;
+		}
+		return resolve( type, bindings );
+	}
+
+	private static Map<String, TypeDetails> collectBindings(ClassDetails container) {
+		final Map<String, TypeDetails> bindings = new HashMap<>();
+
+		ClassDetails current = container;
+		while ( current != null ) {
+			final TypeDetails genericSuperType = current.getGenericSuperType();
+			if ( genericSuperType instanceof ParameterizedTypeDetails ) {
+				final ParameterizedTypeDetails parameterizedSuperType = (ParameterizedTypeDetails) genericSuperType;
+				final ClassDetails superType = parameterizedSuperType.getRawClassDetails();
+				final List<TypeVariableDetails> typeParameters = superType.getTypeParameters();
+				final List<TypeDetails> arguments = parameterizedSuperType.getArguments();
+				// the arguments refer to the variables of `current`, which are already bound (if at all)
+				for ( int i = 0; i < typeParameters.size() && i < arguments.size(); i++ ) {
+					bindings.put(
+							bindingKey( superType.getName(), typeParameters.get( i ).getIdentifier() ),
+							resolve( arguments.get( i ), bindings )
+					);
+				}
+			}
+			current = current.getSuperType();
+		}
+
+		return bindings;
+	}
+
+	private static String bindingKey(String declaringTypeName, String identifier) {
+		return declaringTypeName + "#" + identifier;
+	}
+
+	private static TypeDetails resolve(TypeDetails type, Map<String, TypeDetails> bindings) {
+		switch ( type.getTypeKind() ) {
+			case TYPE_VARIABLE: {
+				final TypeVariableDetails typeVariable = (TypeVariableDetails) type;
+				if ( typeVariable.getDeclaringTypeName() == null ) {
+					return type;
+				}
+				final TypeDetails bound = bindings.get(
+						bindingKey( typeVariable.getDeclaringTypeName(), typeVariable.getIdentifier() )
+				);
+				return bound == null ? type : bound;
+			}
+			case PARAMETERIZED_TYPE: {
+				final ParameterizedTypeDetails parameterizedType = (ParameterizedTypeDetails) type;
+				final List<TypeDetails> arguments = parameterizedType.getArguments();
+				List<TypeDetails> resolvedArguments = null;
+				for ( int i = 0; i < arguments.size(); i++ ) {
+					final TypeDetails argument = arguments.get( i );
+					final TypeDetails resolvedArgument = resolve( argument, bindings );
+					if ( resolvedArgument != argument && resolvedArguments == null ) {
+						resolvedArguments = new ArrayList<>( arguments.subList( 0, i ) );
+					}
+					if ( resolvedArguments != null ) {
+						resolvedArguments.add( resolvedArgument );
+					}
+				}
+				if ( resolvedArguments == null ) {
+					return type;
+				}
+				final ClassDetailsHandle rawClassHandle = parameterizedType instanceof ParameterizedTypeDetailsImpl
+						? ( (ParameterizedTypeDetailsImpl) parameterizedType ).getRawClassHandle()
+						: ClassDetailsHandle.of( parameterizedType.getRawClassDetails() );
+				return new ParameterizedTypeDetailsImpl( rawClassHandle, resolvedArguments );
+			}
+			case WILDCARD_TYPE: {
+				final WildcardTypeDetails wildcardType = (WildcardTypeDetails) type;
+				if ( wildcardType.getBound() == null ) {
+					return type;
+				}
+				final TypeDetails resolvedBound = resolve( wildcardType.getBound(), bindings );
+				return resolvedBound == wildcardType.getBound()
+						? type
+						: new WildcardTypeDetailsImpl( resolvedBound, wildcardType.isExtends() );
+			}
+			case ARRAY: {
+				final TypeDetails componentType = ( (ArrayTypeDetails) type ).getComponentType();
+				final TypeDetails resolvedComponentType = resolve( componentType, bindings );
+				return resolvedComponentType == componentType
+						? type
+						: new ArrayTypeDetailsImpl( resolvedComponentType );
+			}
+			default: {
+				return type;
+			}
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.source.spi.ClassDetails;
+
+/**
+ * Precomputed index over the type hierarchy of a fixed set of {@linkplain ClassDetails},
+ * allowing subtype checks without walking the hierarchy.
+ * <p/>
+ * Each type is assigned a dense id.  The class hierarchy ({@linkplain ClassDetails#getSuperType() super types})
+ * is a tree, which is numbered using pre-order / post-order intervals - {@code A} is a superclass of
+ * {@code B} exactly when {@code B}'s interval is contained in {@code A}'s.  Interfaces do not form a
+ * tree, so each type additionally keeps the sorted ids of all interfaces it (transitively) implements.
+ * <p/>
+ * Subclass checks are therefore constant time; interface checks are a binary search over a
+ * generally very small array.
+ *
+ * @author Steve Ebersole
+ */
+public final class TypeHierarchyIndex {
+	private static final int[] NO_IDS = new int[0];
+
+	private final Map<ClassDetails, Integer> idByType;
+	private final ClassDetails[] types;
+	private final int[] superTypeIds;
+	private final int[] preOrder;
+	private final int[] postOrder;
+	private final int[][] interfaceIds;
+
+	private TypeHierarchyIndex(Map<ClassDetails, Integer> idByType, ClassDetails[] types) {
+		this.idByType = idByType;
+		this.types = types;
+
+		final int count = types.length;
+		this.superTypeIds = new int[count];
+		for ( int i = 0; i < count; i++ ) {
+			final ClassDetails superType = types[i].getSuperType();
+			superTypeIds[i] = superType == null ? -1 : idByType.get( superType );
+		}
+
+		this.preOrder = new int[count];
+		this.postOrder = new int[count];
+		numberClassTree();
+
+		this.interfaceIds = new int[count][];
+		for ( int i = 0; i < count; i++ ) {
+			resolveInterfaceIds( i );
+		}
+	}
+
+	/**
+	 * Build the index for the given types and all of their super types
+	 */
+	public static TypeHierarchyIndex build(Collection<ClassDetails> classDetails) {
+		final Map<ClassDetails, Integer> idByType = new IdentityHashMap<>( classDetails.size() * 2 );
+		final List<ClassDetails> types = new ArrayList<>( classDetails.size() );
+		for ( ClassDetails details : classDetails ) {
+			assignId( details, idByType, types );
+		}
+		return new TypeHierarchyIndex( idByType, types.toArray( new ClassDetails[0] ) );
+	}
+
+	private static void assignId(ClassDetails details, Map<ClassDetails, Integer> idByType, List<ClassDetails> types) {
+		if ( details == null || idByType.containsKey( details ) ) {
+			return;
+		}
+		idByType.put( details, types.size() );
+		types.add( details );
+
+		assignId( details.getSuperType(), idByType, types );
+		final List<ClassDetails> interfaces = details.getImplementedInterfaceTypes();
+		for ( int i = 0; i < interfaces.size(); i++ ) {
+			assignId( interfaces.get( i ), idByType, types );
+		}
+	}
+
+	private void numberClassTree() {
+		final int count = types.length;
+
+		// children lists in compressed form - childStart[i] .. childStart[i+1] in children
+		final int[] childStart = new int[count + 1];
+		for ( int i = 0; i < count; i++ ) {
+			if ( superTypeIds[i] >= 0 ) {
+				childStart[superTypeIds[i] + 1]++;
+			}
+		}
+		for ( int i = 0; i < count; i++ ) {
+			childStart[i + 1] += childStart[i];
+		}
+		final int[] children = new int[childStart[count]];
+		final int[] fill = Arrays.copyOf( childStart, count );
+		for ( int i = 0; i < count; i++ ) {
+			if ( superTypeIds[i] >= 0 ) {
+				children[fill[superTypeIds[i]]++] = i;
+			}
+		}
+
+		// iterative depth-first walk from each root
+		final int[] stack = new int[count];
+		final int[] nextChild = new int[count];
+		int counter = 0;
+		for ( int root = 0; root < count; root++ ) {
+			if ( superTypeIds[root] >= 0 ) {
+				continue;
+			}
+			int depth = 0;
+			stack[depth] = root;
+			nextChild[root] = childStart[root];
+			preOrder[root] = counter++;
+			while ( depth >= 0 ) {
+				final int current = stack[depth];
+				if ( nextChild[current] < childStart[current + 1] ) {
+					final int child = children[nextChild[current]++];
+					stack[++depth] = child;
+					nextChild[child] = childStart[child];
+					preOrder[child] = counter++;
+				}
+				else {
+					postOrder[current] = counter++;
+					depth--;
+				}
+			}
+		}
+	}
+
+	private int[] resolveInterfaceIds(int id) {
+		final int[] existing = interfaceIds[id];
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final ClassDetails type = types[id];
+		final List<ClassDetails> interfaces = type.getImplementedInterfaceTypes();
+		final int superTypeId = superTypeIds[id];
+		if ( interfaces.isEmpty() ) {
+			final int[] inherited = superTypeId < 0 ? NO_IDS : resolveInterfaceIds( superTypeId );
+			interfaceIds[id] = inherited;
+			return inherited;
+		}
+
+		int[] collected = superTypeId < 0 ? NO_IDS : resolveInterfaceIds( superTypeId );
+		for ( int i = 0; i < interfaces.size(); i++ ) {
+			final int interfaceId = idByType.get( interfaces.get( i ) );
+			collected = union( collected, new int[] { interfaceId } );
+			collected = union( collected, resolveInterfaceIds( interfaceId ) );
+		}
+		interfaceIds[id] = collected;
+		return collected;
+	}
+
+	private static int[] union(int[] first, int[] second) {
+		if ( second.length == 0 ) {
+			return first;
+		}
+		if ( first.length == 0 ) {
+			return second;
+		}
+
+		final int[] result = new int[first.length + second.length];
+		int i = 0, j = 0, k = 0;
+		while ( i < first.length && j < second.length ) {
+			if ( first[i] < second[j] ) {
+				result[k++] = first[i++];
+			}
+			else if ( first[i] > second[j] ) {
+				result[k++] = second[j++];
+			}
+			else {
+				result[k++] = first[i++];
+				j++;
+			}
+		}
+		while ( i < first.length ) {
+			result[k++] = first[i++];
+		}
+		while ( j < second.length ) {
+			result[k++] = second[j++];
+		}
+		return k == result.length ? result : Arrays.copyOf( result, k );
+	}
+
+	/**
+	 * The id assigned to the type, or {@code -1} if the type is not part of this index
+	 */
+	public int idOf(ClassDetails classDetails) {
+		final Integer id = idByType.get( classDetails );
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * The number of types in the index
+	 */
+	public int size() {
+		return types.length;
+	}
+
+	/**
+	 * Whether the type with the given id is the {@code checkId} type or one of its subtypes
+	 *
+	 * @see #idOf
+	 */
+	public boolean isImplementor(int id, int checkId) {
+		if ( preOrder[checkId] <= preOrder[id] && postOrder[id] <= postOrder[checkId] ) {
+			// the type itself or one of its superclasses
+			return true;
+		}
+		return Arrays.binarySearch( interfaceIds[id], checkId ) >= 0;
+	}
+
+	/**
+	 * All super types (superclasses first, nearest first, followed by interfaces) of the
+	 * given type, or {@code null} if the type is not part of this index
+	 */
+	public List<ClassDetails> getAllSuperTypes(ClassDetails classDetails) {
+		final int id = idOf( classDetails );
+		if ( id < 0 ) {
+			return null;
+		}
+
+		final int[] interfaces = interfaceIds[id];
+		final List<ClassDetails> result = new ArrayList<>( interfaces.length + 4 );
+		for ( int superTypeId = superTypeIds[id]; superTypeId >= 0; superTypeId = superTypeIds[superTypeId] ) {
+			result.add( types[superTypeId] );
+		}
+		for ( int i = 0; i < interfaces.length; i++ ) {
+			result.add( types[interfaces[i]] );
+		}
+		return Collections.unmodifiableList( result );
+	}
+}
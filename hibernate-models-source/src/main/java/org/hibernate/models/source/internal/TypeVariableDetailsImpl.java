@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.List;
+
+import org.hibernate.models.source.spi.TypeDetails;
+import org.hibernate.models.source.spi.TypeVariableDetails;
+
+/**
+ * @author Steve Ebersole
+ */
+public class TypeVariableDetailsImpl implements TypeVariableDetails {
+	private final String identifier;
+	private final String declaringTypeName;
+	private final List<TypeDetails> bounds;
+
+	public TypeVariableDetailsImpl(String identifier, String declaringTypeName, List<TypeDetails> bounds) {
+		this.identifier = identifier;
+		this.declaringTypeName = declaringTypeName;
+		this.bounds = bounds;
+	}
+
+	@Override
+	public String getIdentifier() {
+		return identifier;
+	}
+
+	@Override
+	public String getDeclaringTypeName() {
+		return declaringTypeName;
+	}
+
+	@Override
+	public List<TypeDetails> getBounds() {
+		return bounds;
+	}
+
+	@Override
+	public String getName() {
+		return identifier;
+	}
+
+	@Override
+	public String toString() {
+		return "TypeVariableDetails(" + declaringTypeName + "#" + identifier + ")";
+	}
+}
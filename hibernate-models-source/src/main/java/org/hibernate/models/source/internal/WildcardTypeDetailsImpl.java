@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import org.hibernate.models.source.spi.TypeDetails;
+import org.hibernate.models.source.spi.WildcardTypeDetails;
+
+/**
+ * @author Steve Ebersole
+ */
+public class WildcardTypeDetailsImpl implements WildcardTypeDetails {
+	private final TypeDetails bound;
+	private final boolean isExtends;
+
+	public WildcardTypeDetailsImpl(TypeDetails bound, boolean isExtends) {
+		this.bound = bound;
+		this.isExtends = isExtends;
+	}
+
+	@Override
+	public TypeDetails getBound() {
+		return bound;
+	}
+
+	@Override
+	public boolean isExtends() {
+		return isExtends;
+	}
+
+	@Override
+	public String getName() {
+		if ( bound == null ) {
+			return "?";
+		}
+		return ( isExtends ? "? extends " : "? super " ) + bound.getName();
+	}
+
+	@Override
+	public String toString() {
+		return "WildcardTypeDetails(" + getName() + ")";
+	}
+}
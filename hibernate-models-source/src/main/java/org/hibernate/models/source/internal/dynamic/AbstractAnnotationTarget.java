@@ -7,11 +7,10 @@
 package org.hibernate.models.source.internal.dynamic;
 
 import java.lang.annotation.Annotation;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 import org.hibernate.models.source.internal.AnnotationTargetSupport;
+import org.hibernate.models.source.internal.AnnotationUsageIndex;
+import org.hibernate.models.source.internal.AnnotationUsages;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
@@ -20,7 +19,7 @@ import org.hibernate.models.source.spi.SourceModelBuildingContext;
  */
 public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
 	private final SourceModelBuildingContext buildingContext;
-	private final Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap = new HashMap<>();
+	private final AnnotationUsages usages = new AnnotationUsages();
 
 	public AbstractAnnotationTarget(SourceModelBuildingContext buildingContext) {
 		this.buildingContext = buildingContext;
@@ -32,18 +31,18 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 	}
 
 	@Override
-	public Map<Class<? extends Annotation>, AnnotationUsage<? extends Annotation>> getUsageMap() {
-		return usageMap;
+	public AnnotationUsages getUsages() {
+		return usages;
 	}
 
 	@Override
 	public void clearAnnotationUsages() {
-		usageMap.clear();
+		usages.clear();
 	}
 
 	@Override
 	public <X extends Annotation> void removeAnnotationUsage(Class<X> annotationType) {
-		usageMap.remove( annotationType );
+		usages.remove( annotationType );
 	}
 
 	/**
@@ -52,7 +51,8 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 	 * @todo It is undefined currently what happens if the annotation type is already applied on this target.
 	 */
 	public <X extends Annotation> void addAnnotationUsage(AnnotationUsage<X> annotationUsage) {
-		final AnnotationUsage<?> previous = usageMap.put( annotationUsage.getAnnotationType(), annotationUsage );
+		final AnnotationUsage<?> previous = usages.put( annotationUsage );
+		AnnotationUsageIndex.usageAdded( this, annotationUsage );
 
 		if ( previous != null ) {
 			// todo : ignore?  log?  exception?
@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.models.source.internal.ClassDetailsSupport;
+import org.hibernate.models.source.internal.EffectiveAnnotationUsages;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.FieldDetails;
 import org.hibernate.models.source.spi.MethodDetails;
@@ -30,6 +31,8 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 
 	private Class<?> javaType;
 
+	private final EffectiveAnnotationUsages effectiveUsages = new EffectiveAnnotationUsages();
+
 	public DynamicClassDetails(String name, SourceModelBuildingContext buildingContext) {
 		this( name, null, buildingContext );
 	}
@@ -71,6 +74,11 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 		return superType;
 	}
 
+	@Override
+	public EffectiveAnnotationUsages getEffectiveUsages() {
+		return effectiveUsages;
+	}
+
 	@Override
 	public List<ClassDetails> getImplementedInterfaceTypes() {
 		// todo : do we need these for dynamic classes?
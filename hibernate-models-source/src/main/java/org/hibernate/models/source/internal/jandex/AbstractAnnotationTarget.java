@@ -7,9 +7,10 @@
 package org.hibernate.models.source.internal.jandex;
 
 import java.lang.annotation.Annotation;
-import java.util.Map;
 
 import org.hibernate.models.source.internal.AnnotationTargetSupport;
+import org.hibernate.models.source.internal.AnnotationUsageIndex;
+import org.hibernate.models.source.internal.AnnotationUsages;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
@@ -21,7 +22,7 @@ import static org.hibernate.models.source.internal.jandex.AnnotationUsageBuilder
 public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
 	private final SourceModelBuildingContext buildingContext;
 
-	private Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap;
+	private volatile AnnotationUsages usages;
 
 	public AbstractAnnotationTarget(SourceModelBuildingContext buildingContext) {
 		this.buildingContext = buildingContext;
@@ -29,31 +30,35 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 
 	/**
 	 * The Jandex AnnotationTarget we can use to read the AnnotationInstance from
-	 * which to build the {@linkplain #getUsageMap() AnnotationUsage map}
+	 * which to build the {@linkplain #getUsages() AnnotationUsages}
 	 */
 	protected abstract org.jboss.jandex.AnnotationTarget getJandexAnnotationTarget();
 
 	@Override
-	public Map<Class<? extends Annotation>, AnnotationUsage<?>> getUsageMap() {
-		if ( usageMap == null ) {
-			usageMap = collectUsages( getJandexAnnotationTarget(), this, buildingContext );
+	public AnnotationUsages getUsages() {
+		AnnotationUsages result = usages;
+		if ( result == null ) {
+			// collected completely before being published
+			result = collectUsages( getJandexAnnotationTarget(), this, buildingContext );
+			usages = result;
 		}
-		return usageMap;
+		return result;
 	}
 
 	@Override
 	public void clearAnnotationUsages() {
-		getUsageMap().clear();
+		getUsages().clear();
 	}
 
 	@Override
 	public <X extends Annotation> void removeAnnotationUsage(Class<X> annotationType) {
-		usageMap.remove( annotationType );
+		getUsages().remove( annotationType );
 	}
 
 	@Override
 	public <X extends Annotation> void addAnnotationUsage(AnnotationUsage<X> annotationUsage) {
-		getUsageMap().put( annotationUsage.getAnnotationType(), annotationUsage );
+		getUsages().put( annotationUsage );
+		AnnotationUsageIndex.usageAdded( this, annotationUsage );
 	}
 
 	@Override
@@ -14,10 +14,13 @@ import java.lang.annotation.Target;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
 import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.source.internal.AnnotationExtractionPlan;
+import org.hibernate.models.source.internal.AnnotationUsages;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.AnnotationTarget;
@@ -42,34 +45,41 @@ public class AnnotationUsageBuilder {
 	public static final DotName DOCUMENTED = DotName.createSimple( Documented.class );
 
 	/**
-	 * Create the AnnotationUsages map for a given target
+	 * Create the AnnotationUsages for a given target
 	 */
-	public static Map<Class<? extends Annotation>, AnnotationUsage<?>> collectUsages(
+	public static AnnotationUsages collectUsages(
 			org.jboss.jandex.AnnotationTarget jandexAnnotationTarget,
 			AnnotationTarget target,
 			SourceModelBuildingContext buildingContext) {
 		if ( jandexAnnotationTarget == null ) {
-			return Collections.emptyMap();
+			return new AnnotationUsages();
 		}
-		final Map<Class<? extends Annotation>, AnnotationUsage<?>> result = new HashMap<>();
+		final Collection<AnnotationInstance> annotations = jandexAnnotationTarget.declaredAnnotations();
+		final AnnotationUsages result = new AnnotationUsages( annotations.size() );
 		processAnnotations(
-				jandexAnnotationTarget.declaredAnnotations(),
+				annotations,
 				target,
-				result::put,
+				(descriptor, usage) -> result.put( descriptor.getOrdinal(), usage ),
 				buildingContext
 		);
+		result.trimToSize();
 		return result;
 	}
 
 	/**
-	 * Process annotations creating usage instances passed back to the consumer
+	 * Process annotations creating usage instances passed back to the consumer.
+	 * <p/>
+	 * Descriptors are resolved by name, building them from the Jandex index when
+	 * needed, so that the annotation Classes need not be loaded.
 	 */
 	public static void processAnnotations(
 			Collection<AnnotationInstance> annotations,
 			AnnotationTarget target,
-			BiConsumer<Class<? extends Annotation>, AnnotationUsage<?>> consumer,
+			BiConsumer<AnnotationDescriptor<?>, AnnotationUsage<?>> consumer,
 			SourceModelBuildingContext buildingContext) {
 		final AnnotationDescriptorRegistry annotationDescriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+		final AnnotationDescriptorRegistry.NamedDescriptorCreator descriptorCreator =
+				(annotationName) -> JandexBuilders.buildAnnotationDescriptor( annotationName, buildingContext );
 
 		for ( AnnotationInstance annotation : annotations ) {
 			if ( annotation.name().equals( DOCUMENTED )
@@ -79,18 +89,17 @@ public class AnnotationUsageBuilder {
 				continue;
 			}
 
-			final Class<? extends Annotation> annotationType = buildingContext
-					.getClassLoading()
-					.classForName( annotation.name().toString() );
-
-			final AnnotationDescriptor<?> annotationDescriptor = annotationDescriptorRegistry.getDescriptor( annotationType );
+			final AnnotationDescriptor<?> annotationDescriptor = annotationDescriptorRegistry.resolveDescriptor(
+					annotation.name(),
+					descriptorCreator
+			);
 			final AnnotationUsage<?> usage = makeUsage(
 					annotation,
 					annotationDescriptor,
 					target,
 					buildingContext
 			);
-			consumer.accept( annotationType, usage );
+			consumer.accept( annotationDescriptor, usage );
 		}
 	}
 
@@ -105,37 +114,45 @@ public class AnnotationUsageBuilder {
 	/**
 	 * Extracts values from an annotation creating AnnotationAttributeValue references.
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public static <A extends Annotation> Map<String,?> extractAttributeValues(
 			AnnotationInstance annotationInstance,
 			AnnotationDescriptor<A> annotationDescriptor,
 			AnnotationTarget target,
 			SourceModelBuildingContext buildingContext) {
-		if ( CollectionHelper.isEmpty( annotationDescriptor.getAttributes() ) ) {
+		final AnnotationExtractionPlan extractionPlan = AnnotationExtractionPlan.forDescriptor( annotationDescriptor );
+		final int attributeCount = extractionPlan.getAttributeCount();
+		if ( attributeCount == 0 ) {
 			return Collections.emptyMap();
 		}
 
-		if ( annotationDescriptor.getAttributes().size() == 1 ) {
-			final AttributeDescriptor attributeDescriptor = annotationDescriptor.getAttributes().get( 0 );
-			final ValueExtractor<AnnotationInstance, ?> extractor = attributeDescriptor
-					.getTypeDescriptor()
-					.createJandexExtractor( buildingContext );
-			final Object attributeValue = extractor.extractValue( annotationInstance, attributeDescriptor, target, buildingContext );
-			return Collections.singletonMap( attributeDescriptor.getName(), attributeValue );
+		final List<AttributeDescriptor<?>> attributes = annotationDescriptor.getAttributes();
+		if ( attributeCount == 1 ) {
+			final Object attributeValue = extractionPlan.extractValue( annotationInstance, 0, target, buildingContext );
+			return Collections.singletonMap( attributes.get( 0 ).getName(), attributeValue );
 		}
 
-		final Map<String,Object> valueMap = new HashMap<>();
-		for ( int i = 0; i < annotationDescriptor.getAttributes().size(); i++ ) {
-			final AttributeDescriptor attributeDescriptor = annotationDescriptor.getAttributes().get( i );
-			final ValueExtractor<AnnotationInstance, ?> extractor = attributeDescriptor
-					.getTypeDescriptor()
-					.createJandexExtractor( buildingContext );
-			final Object attributeValue = extractor.extractValue( annotationInstance, attributeDescriptor, target, buildingContext );
-			valueMap.put( attributeDescriptor.getName(), attributeValue );
+		final Map<String,Object> valueMap = new HashMap<>( (int) ( attributeCount / CollectionHelper.LOAD_FACTOR ) + 1 );
+		for ( int i = 0; i < attributeCount; i++ ) {
+			final Object attributeValue = extractionPlan.extractValue( annotationInstance, i, target, buildingContext );
+			valueMap.put( attributes.get( i ).getName(), attributeValue );
 		}
 		return valueMap;
 	}
 
+	/**
+	 * Extracts the value of a single attribute from an annotation
+	 */
+	public static <V> V extractAttributeValue(
+			AnnotationInstance annotationInstance,
+			AttributeDescriptor<V> attributeDescriptor,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		final ValueExtractor<AnnotationInstance, V> extractor = attributeDescriptor
+				.getTypeDescriptor()
+				.createJandexExtractor( buildingContext );
+		return extractor.extractValue( annotationInstance, attributeDescriptor, target, buildingContext );
+	}
+
 	private AnnotationUsageBuilder() {
 		// disallow direct instantiation
 	}
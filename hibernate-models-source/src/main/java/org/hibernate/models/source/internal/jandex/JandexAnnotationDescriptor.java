@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jandex;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.hibernate.models.source.internal.AbstractAnnotationDescriptor;
+import org.hibernate.models.source.internal.AnnotationOrdinals;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AttributeDescriptor;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+
+import static org.hibernate.models.source.internal.jandex.AnnotationUsageBuilder.REPEATABLE;
+import static org.hibernate.models.source.internal.jandex.AnnotationUsageBuilder.TARGET;
+
+/**
+ * AnnotationDescriptor built from the Jandex {@linkplain ClassInfo} for the annotation type,
+ * without loading the annotation Class.  The Class is only loaded if
+ * {@linkplain #getAnnotationType() explicitly requested}.
+ *
+ * @author Steve Ebersole
+ */
+public class JandexAnnotationDescriptor<A extends Annotation> extends AbstractAnnotationDescriptor<A> {
+	private static final DotName INHERITED = DotName.createSimple( Inherited.class );
+
+	private final ClassInfo annotationInfo;
+	private final SourceModelBuildingContext buildingContext;
+
+	private final AnnotationOrdinals.Ordinal ordinal;
+	private final EnumSet<Kind> allowableTargets;
+	private final boolean inherited;
+	private final AnnotationDescriptor<?> repeatableContainer;
+	private final List<AttributeDescriptor<?>> attributeDescriptors;
+
+	private volatile Class<A> annotationType;
+
+	public JandexAnnotationDescriptor(ClassInfo annotationInfo, SourceModelBuildingContext buildingContext) {
+		assert annotationInfo.isAnnotation();
+
+		this.annotationInfo = annotationInfo;
+		this.buildingContext = buildingContext;
+
+		this.ordinal = AnnotationOrdinals.acquire( annotationInfo.name().toString() );
+		this.allowableTargets = extractTargets( annotationInfo );
+		this.inherited = annotationInfo.hasDeclaredAnnotation( INHERITED );
+		this.repeatableContainer = resolveRepeatableContainer( annotationInfo, buildingContext );
+		this.attributeDescriptors = extractAttributeDescriptors( annotationInfo, buildingContext );
+	}
+
+	private static EnumSet<Kind> extractTargets(ClassInfo annotationInfo) {
+		final AnnotationInstance targetAnnotation = annotationInfo.declaredAnnotation( TARGET );
+		if ( targetAnnotation == null ) {
+			return EnumSet.allOf( Kind.class );
+		}
+
+		final String[] elementTypeNames = targetAnnotation.value().asEnumArray();
+		final ElementType[] elementTypes = new ElementType[elementTypeNames.length];
+		for ( int i = 0; i < elementTypeNames.length; i++ ) {
+			elementTypes[i] = ElementType.valueOf( elementTypeNames[i] );
+		}
+		return Kind.from( elementTypes );
+	}
+
+	private static AnnotationDescriptor<?> resolveRepeatableContainer(
+			ClassInfo annotationInfo,
+			SourceModelBuildingContext buildingContext) {
+		final AnnotationInstance repeatableAnnotation = annotationInfo.declaredAnnotation( REPEATABLE );
+		if ( repeatableAnnotation == null ) {
+			return null;
+		}
+		return JandexBuilders.resolveAnnotationDescriptor( repeatableAnnotation.value().asClass().name(), buildingContext );
+	}
+
+	private List<AttributeDescriptor<?>> extractAttributeDescriptors(
+			ClassInfo annotationInfo,
+			SourceModelBuildingContext buildingContext) {
+		final List<MethodInfo> methods = annotationInfo.methods();
+		final List<AttributeDescriptor<?>> attributeDescriptors = new ArrayList<>( methods.size() );
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodInfo method = methods.get( i );
+			if ( Modifier.isStatic( method.flags() ) ) {
+				// e.g. a static initializer for constants defined on the annotation
+				continue;
+			}
+			attributeDescriptors.add( new JandexAttributeDescriptor<>( this, method.name(), method.returnType(), buildingContext ) );
+		}
+		return attributeDescriptors;
+	}
+
+	/**
+	 * The Jandex descriptor for the annotation type
+	 */
+	public ClassInfo getAnnotationInfo() {
+		return annotationInfo;
+	}
+
+	@Override
+	public Class<A> getAnnotationType() {
+		Class<A> result = annotationType;
+		if ( result == null ) {
+			result = buildingContext.getClassLoading().classForName( annotationInfo.name().toString() );
+			annotationType = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Whether the annotation Class has been loaded
+	 */
+	public boolean isAnnotationTypeLoaded() {
+		return annotationType != null;
+	}
+
+	@Override
+	public int getOrdinal() {
+		return ordinal.getValue();
+	}
+
+	@Override
+	public String getName() {
+		return annotationInfo.name().toString();
+	}
+
+	@Override
+	public EnumSet<Kind> getAllowableTargets() {
+		return allowableTargets;
+	}
+
+	@Override
+	public boolean isInherited() {
+		return inherited;
+	}
+
+	@Override
+	public AnnotationDescriptor<?> getRepeatableContainer() {
+		return repeatableContainer;
+	}
+
+	@Override
+	public List<AttributeDescriptor<?>> getAttributes() {
+		return attributeDescriptors;
+	}
+}
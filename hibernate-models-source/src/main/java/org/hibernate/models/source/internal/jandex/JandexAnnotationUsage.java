@@ -7,8 +7,11 @@
 package org.hibernate.models.source.internal.jandex;
 
 import java.lang.annotation.Annotation;
-import java.util.Map;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 
+import org.hibernate.models.source.UnknownAnnotationAttributeException;
+import org.hibernate.models.source.internal.AnnotationExtractionPlan;
 import org.hibernate.models.source.internal.MutableAnnotationUsage;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationTarget;
@@ -17,38 +20,60 @@ import org.hibernate.models.source.spi.SourceModelBuildingContext;
 import org.jboss.jandex.AnnotationInstance;
 
 /**
- * AnnotationUsage implementation based on the Jandex AnnotationInstance
+ * AnnotationUsage implementation based on the Jandex AnnotationInstance.
+ * <p/>
+ * Attribute values are decoded lazily - each is extracted from the AnnotationInstance the first
+ * time it is {@linkplain #getAttributeValue accessed} and then cached.  This avoids the cost of
+ * decoding attributes which are never accessed, which is significant for nested annotations and
+ * Class values (which trigger resolution of {@linkplain org.hibernate.models.source.spi.ClassDetails}).
+ * Decoding uses the descriptor's {@linkplain AnnotationExtractionPlan extraction plan}.
  *
  * @author Steve Ebersole
  */
 public class JandexAnnotationUsage<A extends Annotation> implements MutableAnnotationUsage<A> {
-	private final Class<A> annotationType;
+	private static final Object UNRESOLVED = new Object();
+	private static final Object[] EMPTY_VALUES = new Object[0];
+	// decoding races are benign - each thread decodes the same value - but the
+	// decoded value needs to be safely published
+	private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle( Object[].class );
+
+	private final AnnotationInstance annotationInstance;
+	private final AnnotationDescriptor<A> annotationDescriptor;
 	private final AnnotationTarget annotationTarget;
+	private final SourceModelBuildingContext buildingContext;
+	private final AnnotationExtractionPlan extractionPlan;
 
-	private final Map<String,?> attributeValueMap;
+	private final Object[] attributeValues;
 
 	public JandexAnnotationUsage(
 			AnnotationInstance annotationInstance,
 			AnnotationDescriptor<A> annotationDescriptor,
 			AnnotationTarget annotationTarget,
-			SourceModelBuildingContext processingContext) {
+			SourceModelBuildingContext buildingContext) {
 		assert annotationInstance != null : "Jandex AnnotationInstance was null";
 		assert annotationDescriptor != null : "AnnotationDescriptor was null - " + annotationInstance;
 
+		this.annotationInstance = annotationInstance;
+		this.annotationDescriptor = annotationDescriptor;
 		this.annotationTarget = annotationTarget;
-		this.annotationType = annotationDescriptor.getAnnotationType();
-
-		this.attributeValueMap = AnnotationUsageBuilder.extractAttributeValues(
-				annotationInstance,
-				annotationDescriptor,
-				annotationTarget,
-				processingContext
-		);
+		this.buildingContext = buildingContext;
+		this.extractionPlan = AnnotationExtractionPlan.forDescriptor( annotationDescriptor );
+
+		final int attributeCount = extractionPlan.getAttributeCount();
+		if ( attributeCount == 0 ) {
+			this.attributeValues = EMPTY_VALUES;
+		}
+		else {
+			this.attributeValues = new Object[attributeCount];
+			for ( int i = 0; i < attributeCount; i++ ) {
+				attributeValues[i] = UNRESOLVED;
+			}
+		}
 	}
 
 	@Override
 	public Class<A> getAnnotationType() {
-		return annotationType;
+		return annotationDescriptor.getAnnotationType();
 	}
 
 	@Override
@@ -58,13 +83,45 @@ public class JandexAnnotationUsage<A extends Annotation> implements MutableAnnot
 
 	@Override
 	public <W> W getAttributeValue(String name) {
+		final int position = attributePosition( name );
+		if ( position < 0 ) {
+			return null;
+		}
+
+		Object value = VALUES.getAcquire( attributeValues, position );
+		if ( value == UNRESOLVED ) {
+			value = extractionPlan.extractValue( annotationInstance, position, annotationTarget, buildingContext );
+			if ( !VALUES.compareAndSet( attributeValues, position, UNRESOLVED, value ) ) {
+				// another thread decoded it first, or it was explicitly set
+				value = VALUES.getAcquire( attributeValues, position );
+			}
+		}
 		//noinspection unchecked
-		return (W) attributeValueMap.get( name );
+		return (W) value;
 	}
 
 	@Override
 	public <V> V setAttributeValue(String name, V value) {
-		//noinspection unchecked
-		return (V) ( (Map<String,Object>) attributeValueMap ).put( name, value );
+		final int position = attributePosition( name );
+		if ( position < 0 ) {
+			throw new UnknownAnnotationAttributeException( getAnnotationType(), name );
+		}
+
+		// make sure the previous value is decoded so it can be returned
+		final V previous = getAttributeValue( name );
+		VALUES.setRelease( attributeValues, position, value );
+		return previous;
+	}
+
+	/**
+	 * Whether the named attribute has been decoded (or explicitly set)
+	 */
+	public boolean isAttributeResolved(String name) {
+		final int position = attributePosition( name );
+		return position >= 0 && VALUES.getAcquire( attributeValues, position ) != UNRESOLVED;
+	}
+
+	private int attributePosition(String name) {
+		return extractionPlan.positionOf( name );
 	}
 }
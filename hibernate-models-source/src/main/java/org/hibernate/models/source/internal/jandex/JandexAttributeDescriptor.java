@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jandex;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.source.internal.TypeDescriptors;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AttributeDescriptor;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.ValueTypeDescriptor;
+
+import org.jboss.jandex.Type;
+
+/**
+ * AttributeDescriptor for a {@linkplain JandexAnnotationDescriptor Jandex-based annotation descriptor}.
+ * <p/>
+ * The {@linkplain #getTypeDescriptor() type descriptor} is resolved from the Jandex {@linkplain Type}
+ * on first access, and the {@linkplain #getAttributeMethod() attribute method} only when explicitly
+ * requested - which loads the annotation Class.
+ *
+ * @author Steve Ebersole
+ */
+public class JandexAttributeDescriptor<T> implements AttributeDescriptor<T> {
+	private final AnnotationDescriptor<?> annotationDescriptor;
+	private final String name;
+	private final Type type;
+	private final SourceModelBuildingContext buildingContext;
+
+	private volatile ValueTypeDescriptor<T> typeDescriptor;
+	private volatile Method method;
+
+	public JandexAttributeDescriptor(
+			AnnotationDescriptor<?> annotationDescriptor,
+			String name,
+			Type type,
+			SourceModelBuildingContext buildingContext) {
+		this.annotationDescriptor = annotationDescriptor;
+		this.name = name;
+		this.type = type;
+		this.buildingContext = buildingContext;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public ValueTypeDescriptor<T> getTypeDescriptor() {
+		ValueTypeDescriptor<T> result = typeDescriptor;
+		if ( result == null ) {
+			result = TypeDescriptors.resolveTypeDescriptor( type, buildingContext );
+			typeDescriptor = result;
+		}
+		return result;
+	}
+
+	@Override
+	public Method getAttributeMethod() {
+		Method result = method;
+		if ( result == null ) {
+			try {
+				result = annotationDescriptor.getAnnotationType().getDeclaredMethod( name );
+			}
+			catch (NoSuchMethodException e) {
+				throw new ModelsException( "Could not locate annotation attribute method - " + name, e );
+			}
+			method = result;
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"AttributeDescriptor(%s : %s)",
+				name,
+				type
+		);
+	}
+}
@@ -6,18 +6,35 @@
  */
 package org.hibernate.models.source.internal.jandex;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.models.ModelsException;
 import org.hibernate.models.internal.StringHelper;
 import org.hibernate.models.source.UnknownClassException;
+import org.hibernate.models.source.internal.ArrayTypeDetailsImpl;
+import org.hibernate.models.source.internal.ClassDetailsHandle;
+import org.hibernate.models.source.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.source.internal.ParameterizedTypeDetailsImpl;
+import org.hibernate.models.source.internal.TypeVariableDetailsImpl;
+import org.hibernate.models.source.internal.WildcardTypeDetailsImpl;
 import org.hibernate.models.source.internal.jdk.JdkBuilders;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
 
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
+import org.jboss.jandex.TypeVariable;
+import org.jboss.jandex.WildcardType;
 
 /**
  * Jandex based ClassDetailsBuilder
@@ -27,6 +44,8 @@ import org.jboss.jandex.Type;
 public class JandexBuilders implements ClassDetailsBuilder {
 	public static final JandexBuilders DEFAULT_BUILDER = new JandexBuilders();
 
+	private static final DotName OBJECT = DotName.createSimple( Object.class.getName() );
+
 	public JandexBuilders() {
 	}
 
@@ -45,6 +64,22 @@ public class JandexBuilders implements ClassDetailsBuilder {
 			String name,
 			IndexView jandexIndex,
 			SourceModelBuildingContext processingContext) {
+		final ClassDetails classDetails = findClassDetails( name, jandexIndex, processingContext );
+		if ( classDetails == null ) {
+			throw new UnknownClassException( "Could not find class [" + name + "] in Jandex index" );
+		}
+		return classDetails;
+	}
+
+	/**
+	 * Form of {@linkplain #buildClassDetailsStatic(String, IndexView, SourceModelBuildingContext)}
+	 * returning {@code null}, rather than throwing an exception, when the class is not part of the
+	 * index.  Used where a miss is expected and handled, e.g. falling back to reflection.
+	 */
+	public static ClassDetails findClassDetails(
+			String name,
+			IndexView jandexIndex,
+			SourceModelBuildingContext processingContext) {
 		if ( "void".equals( name ) ) {
 			name = Void.class.getName();
 		}
@@ -55,8 +90,7 @@ public class JandexBuilders implements ClassDetailsBuilder {
 			if ( primitiveClass != null ) {
 				return JdkBuilders.buildClassDetailsStatic( primitiveClass, processingContext );
 			}
-
-			throw new UnknownClassException( "Could not find class [" + name + "] in Jandex index" );
+			return null;
 		}
 		return new JandexClassDetails( classInfo, processingContext );
 	}
@@ -121,6 +155,40 @@ public class JandexBuilders implements ClassDetailsBuilder {
 		return null;
 	}
 
+	/**
+	 * Resolve the descriptor for the named annotation, building it from the Jandex index if not already known
+	 *
+	 * @see #buildAnnotationDescriptor(DotName, SourceModelBuildingContext)
+	 */
+	public static <A extends Annotation> AnnotationDescriptor<A> resolveAnnotationDescriptor(
+			DotName annotationName,
+			SourceModelBuildingContext buildingContext) {
+		return buildingContext.getAnnotationDescriptorRegistry().resolveDescriptor(
+				annotationName,
+				(name) -> buildAnnotationDescriptor( name, buildingContext )
+		);
+	}
+
+	/**
+	 * Build the descriptor for the named annotation.  If the annotation is part of the Jandex index,
+	 * the descriptor is built from its {@linkplain ClassInfo} without loading the annotation Class;
+	 * otherwise the Class is loaded and the descriptor built from it.
+	 */
+	public static AnnotationDescriptor<?> buildAnnotationDescriptor(
+			DotName annotationName,
+			SourceModelBuildingContext buildingContext) {
+		final IndexView jandexIndex = buildingContext.getJandexIndex();
+		final ClassInfo annotationInfo = jandexIndex == null ? null : jandexIndex.getClassByName( annotationName );
+		if ( annotationInfo != null && annotationInfo.isAnnotation() ) {
+			return new JandexAnnotationDescriptor<>( annotationInfo, buildingContext );
+		}
+
+		final Class<? extends Annotation> annotationType = buildingContext
+				.getClassLoading()
+				.classForName( annotationName.toString() );
+		return buildingContext.getAnnotationDescriptorRegistry().getDescriptor( annotationType );
+	}
+
 	public static JandexMethodDetails buildMethodDetails(
 			MethodInfo method,
 			SourceModelBuildingContext buildingContext) {
@@ -134,7 +202,7 @@ public class JandexBuilders implements ClassDetailsBuilder {
 					return new JandexMethodDetails(
 							method,
 							MethodDetails.MethodKind.GETTER,
-							buildingContext.getClassDetailsRegistry().resolveClassDetails( returnType.name().toString() ),
+							returnType,
 							buildingContext
 					);
 				}
@@ -144,7 +212,7 @@ public class JandexBuilders implements ClassDetailsBuilder {
 					return new JandexMethodDetails(
 							method,
 							MethodDetails.MethodKind.GETTER,
-							buildingContext.getClassDetailsRegistry().resolveClassDetails( returnType.name().toString() ),
+							returnType,
 							buildingContext
 					);
 				}
@@ -157,7 +225,7 @@ public class JandexBuilders implements ClassDetailsBuilder {
 			return new JandexMethodDetails(
 					method,
 					MethodDetails.MethodKind.SETTER,
-					buildingContext.getClassDetailsRegistry().resolveClassDetails( method.parameterType( 0 ).name().toString() ),
+					method.parameterType( 0 ),
 					buildingContext
 			);
 		}
@@ -170,6 +238,108 @@ public class JandexBuilders implements ClassDetailsBuilder {
 		);
 	}
 
+	/**
+	 * Build the TypeDetails for a Jandex type signature, used within {@code declaringClass}
+	 * (which determines the scope of type variables).  Returns {@code null} for {@code void}.
+	 */
+	public static TypeDetails buildTypeDetails(
+			Type type,
+			ClassInfo declaringClass,
+			SourceModelBuildingContext buildingContext) {
+		if ( type == null ) {
+			return null;
+		}
+
+		switch ( type.kind() ) {
+			case VOID: {
+				return null;
+			}
+			case CLASS:
+			case PRIMITIVE: {
+				return new ClassTypeDetailsImpl( ClassDetailsHandle.from( type, buildingContext ) );
+			}
+			case ARRAY: {
+				return new ArrayTypeDetailsImpl(
+						buildTypeDetails( type.asArrayType().component(), declaringClass, buildingContext )
+				);
+			}
+			case PARAMETERIZED_TYPE: {
+				final List<Type> arguments = type.asParameterizedType().arguments();
+				final List<TypeDetails> argumentDetails = new ArrayList<>( arguments.size() );
+				for ( int i = 0; i < arguments.size(); i++ ) {
+					argumentDetails.add( buildTypeDetails( arguments.get( i ), declaringClass, buildingContext ) );
+				}
+				return new ParameterizedTypeDetailsImpl(
+						ClassDetailsHandle.from( type.name(), buildingContext ),
+						argumentDetails
+				);
+			}
+			case WILDCARD_TYPE: {
+				final WildcardType wildcardType = type.asWildcardType();
+				if ( wildcardType.superBound() != null ) {
+					return new WildcardTypeDetailsImpl(
+							buildTypeDetails( wildcardType.superBound(), declaringClass, buildingContext ),
+							false
+					);
+				}
+				final Type extendsBound = wildcardType.extendsBound();
+				if ( extendsBound == null || OBJECT.equals( extendsBound.name() ) ) {
+					return new WildcardTypeDetailsImpl( null, true );
+				}
+				return new WildcardTypeDetailsImpl(
+						buildTypeDetails( extendsBound, declaringClass, buildingContext ),
+						true
+				);
+			}
+			case TYPE_VARIABLE: {
+				final TypeVariable typeVariable = type.asTypeVariable();
+				final List<Type> bounds = typeVariable.bounds();
+				final List<TypeDetails> boundDetails = new ArrayList<>( bounds.size() );
+				for ( int i = 0; i < bounds.size(); i++ ) {
+					boundDetails.add( buildTypeDetails( bounds.get( i ), declaringClass, buildingContext ) );
+				}
+				return new TypeVariableDetailsImpl(
+						typeVariable.identifier(),
+						determineDeclaringTypeName( typeVariable.identifier(), declaringClass ),
+						boundDetails
+				);
+			}
+			case TYPE_VARIABLE_REFERENCE: {
+				// recursive reference, e.g. `T extends Comparable<T>`
+				final String identifier = type.asTypeVariableReference().identifier();
+				return new TypeVariableDetailsImpl(
+						identifier,
+						determineDeclaringTypeName( identifier, declaringClass ),
+						Collections.emptyList()
+				);
+			}
+			case UNRESOLVED_TYPE_VARIABLE: {
+				return new TypeVariableDetailsImpl(
+						type.asUnresolvedTypeVariable().identifier(),
+						null,
+						Collections.emptyList()
+				);
+			}
+			default: {
+				throw new ModelsException( "Unexpected Jandex type kind - " + type );
+			}
+		}
+	}
+
+	private static String determineDeclaringTypeName(String identifier, ClassInfo declaringClass) {
+		if ( declaringClass == null ) {
+			return null;
+		}
+		final List<TypeVariable> typeParameters = declaringClass.typeParameters();
+		for ( int i = 0; i < typeParameters.size(); i++ ) {
+			if ( identifier.equals( typeParameters.get( i ).identifier() ) ) {
+				return declaringClass.name().toString();
+			}
+		}
+		// declared by a method
+		return null;
+	}
+
 	private static boolean isBoolean(Type type) {
 		if ( type.kind() == Type.Kind.PRIMITIVE ) {
 			return type.name().toString().equals( "boolean" );
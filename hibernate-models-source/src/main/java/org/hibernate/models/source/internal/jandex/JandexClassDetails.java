@@ -13,33 +13,46 @@ import java.util.List;
 
 import org.hibernate.models.internal.CollectionHelper;
 import org.hibernate.models.source.internal.ClassDetailsSupport;
+import org.hibernate.models.source.internal.EffectiveAnnotationUsages;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.FieldDetails;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
+import org.hibernate.models.source.spi.TypeVariableDetails;
 
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.TypeVariable;
 
 /**
  * @author Steve Ebersole
  */
 public class JandexClassDetails extends AbstractAnnotationTarget implements ClassDetailsSupport {
 	private final ClassInfo classInfo;
+	// cached - DotName#toString builds the String each time
+	private final String className;
 
 	private final ClassDetails superType;
 	private final List<ClassDetails> implementedInterfaces;
 
-	private List<FieldDetails> fields;
-	private List<MethodDetails> methods;
+	// built completely before being published - ClassDetails may be shared between threads
+	private volatile List<FieldDetails> fields;
+	private volatile List<MethodDetails> methods;
+
+	private volatile TypeDetails genericSuperType;
+	private volatile List<TypeVariableDetails> typeParameters;
+
+	private final EffectiveAnnotationUsages effectiveUsages = new EffectiveAnnotationUsages();
 
 	public JandexClassDetails(ClassInfo classInfo, SourceModelBuildingContext buildingContext) {
 		super( buildingContext );
 		this.classInfo = classInfo;
+		this.className = classInfo.name().toString();
 
 		this.superType = determineSuperType( classInfo, buildingContext );
 		this.implementedInterfaces = determineInterfaces( classInfo, buildingContext );
@@ -88,7 +101,7 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 
 	@Override
 	public String getClassName() {
-		return classInfo.name().toString();
+		return className;
 	}
 
 	@Override
@@ -101,6 +114,44 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 		return superType;
 	}
 
+	@Override
+	public EffectiveAnnotationUsages getEffectiveUsages() {
+		return effectiveUsages;
+	}
+
+	@Override
+	public TypeDetails getGenericSuperType() {
+		TypeDetails result = genericSuperType;
+		if ( result == null && classInfo.superClassType() != null ) {
+			result = JandexBuilders.buildTypeDetails( classInfo.superClassType(), classInfo, getBuildingContext() );
+			genericSuperType = result;
+		}
+		return result;
+	}
+
+	@Override
+	public List<TypeVariableDetails> getTypeParameters() {
+		List<TypeVariableDetails> result = typeParameters;
+		if ( result == null ) {
+			final List<TypeVariable> typeVariables = classInfo.typeParameters();
+			if ( typeVariables.isEmpty() ) {
+				result = Collections.emptyList();
+			}
+			else {
+				result = new ArrayList<>( typeVariables.size() );
+				for ( int i = 0; i < typeVariables.size(); i++ ) {
+					result.add( (TypeVariableDetails) JandexBuilders.buildTypeDetails(
+							typeVariables.get( i ),
+							classInfo,
+							getBuildingContext()
+					) );
+				}
+			}
+			typeParameters = result;
+		}
+		return result;
+	}
+
 	@Override
 	public List<ClassDetails> getImplementedInterfaceTypes() {
 		return implementedInterfaces;
@@ -108,10 +159,12 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 
 	@Override
 	public List<FieldDetails> getFields() {
-		if ( fields == null ) {
-			fields = resolveFields();
+		List<FieldDetails> result = fields;
+		if ( result == null ) {
+			result = resolveFields();
+			fields = result;
 		}
-		return fields;
+		return result;
 	}
 
 	private List<FieldDetails> resolveFields() {
@@ -130,10 +183,12 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 
 	@Override
 	public List<MethodDetails> getMethods() {
-		if ( methods == null ) {
-			methods = resolveMethods();
+		List<MethodDetails> result = methods;
+		if ( result == null ) {
+			result = resolveMethods();
+			methods = result;
 		}
-		return methods;
+		return result;
 	}
 
 	private List<MethodDetails> resolveMethods() {
@@ -6,10 +6,13 @@
  */
 package org.hibernate.models.source.internal.jandex;
 
+import org.hibernate.models.source.internal.ClassDetailsHandle;
 import org.hibernate.models.source.internal.MutableMemberDetails;
+import org.hibernate.models.source.internal.RelativeTypeCache;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.FieldDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
 
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.FieldInfo;
@@ -21,14 +24,17 @@ import static org.hibernate.models.source.internal.ModifierUtils.isPersistableFi
  */
 public class JandexFieldDetails extends AbstractAnnotationTarget implements FieldDetails, MutableMemberDetails {
 	private final FieldInfo fieldInfo;
-	private final ClassDetails type;
+	private final ClassDetailsHandle type;
+
+	private volatile TypeDetails genericType;
+	private final RelativeTypeCache relativeTypes = new RelativeTypeCache();
 
 	public JandexFieldDetails(
 			FieldInfo fieldInfo,
 			SourceModelBuildingContext buildingContext) {
 		super( buildingContext );
 		this.fieldInfo = fieldInfo;
-		this.type = buildingContext.getClassDetailsRegistry().resolveClassDetails( fieldInfo.type().name().toString() );
+		this.type = ClassDetailsHandle.from( fieldInfo.type(), buildingContext );
 	}
 
 	@Override
@@ -43,7 +49,27 @@ public class JandexFieldDetails extends AbstractAnnotationTarget implements Fiel
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return ClassDetailsHandle.resolve( type );
+	}
+
+	@Override
+	public String getTypeName() {
+		return ClassDetailsHandle.getName( type );
+	}
+
+	@Override
+	public TypeDetails getGenericType() {
+		TypeDetails result = genericType;
+		if ( result == null && type != null ) {
+			result = JandexBuilders.buildTypeDetails( fieldInfo.type(), fieldInfo.declaringClass(), getBuildingContext() );
+			genericType = result;
+		}
+		return result;
+	}
+
+	@Override
+	public TypeDetails resolveRelativeType(ClassDetails container) {
+		return relativeTypes.resolve( getGenericType(), container, getBuildingContext() );
 	}
 
 	@Override
@@ -9,11 +9,14 @@ package org.hibernate.models.source.internal.jandex;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.models.source.internal.ClassDetailsHandle;
 import org.hibernate.models.source.internal.MutableMemberDetails;
+import org.hibernate.models.source.internal.RelativeTypeCache;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
 
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.MethodInfo;
@@ -27,32 +30,27 @@ import static org.hibernate.models.source.internal.ModifierUtils.isPersistableMe
 public class JandexMethodDetails extends AbstractAnnotationTarget implements MethodDetails, MutableMemberDetails {
 	private final MethodInfo methodInfo;
 	private final MethodKind methodKind;
-	private final ClassDetails type;
+	private final ClassDetailsHandle type;
 
-	private final ClassDetails returnType;
-	private final List<ClassDetails> argumentTypes;
+	private volatile TypeDetails genericType;
+	private final RelativeTypeCache relativeTypes = new RelativeTypeCache();
+
+	private final ClassDetailsHandle returnType;
+	private volatile List<ClassDetails> argumentTypes;
 
 	public JandexMethodDetails(
 			MethodInfo methodInfo,
 			MethodKind methodKind,
-			ClassDetails type,
+			Type type,
 			SourceModelBuildingContext buildingContext) {
 		super( buildingContext );
 		this.methodInfo = methodInfo;
 		this.methodKind = methodKind;
-		this.type = type;
 
-		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
-		if ( methodInfo.returnType().kind() == Type.Kind.VOID ) {
-			returnType = null;
-		}
-		else {
-			returnType = classDetailsRegistry.resolveClassDetails( methodInfo.returnType().name().toString() );
-		}
-		argumentTypes = new ArrayList<>( methodInfo.parametersCount() );
-		for ( int i = 0; i < methodInfo.parametersCount(); i++ ) {
-			argumentTypes.add( classDetailsRegistry.resolveClassDetails( methodInfo.parameterType( i ).name().toString() ) );
-		}
+		this.returnType = ClassDetailsHandle.from( methodInfo.returnType(), buildingContext );
+		this.type = methodKind == MethodKind.GETTER
+				? returnType
+				: ClassDetailsHandle.from( type, buildingContext );
 	}
 
 	@Override
@@ -72,17 +70,50 @@ public class JandexMethodDetails extends AbstractAnnotationTarget implements Met
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return ClassDetailsHandle.resolve( type );
+	}
+
+	@Override
+	public String getTypeName() {
+		return ClassDetailsHandle.getName( type );
+	}
+
+	@Override
+	public TypeDetails getGenericType() {
+		TypeDetails result = genericType;
+		if ( result == null && type != null ) {
+			result = JandexBuilders.buildTypeDetails(
+					methodKind == MethodKind.SETTER ? methodInfo.parameterType( 0 ) : methodInfo.returnType(),
+					methodInfo.declaringClass(),
+					getBuildingContext()
+			);
+			genericType = result;
+		}
+		return result;
+	}
+
+	@Override
+	public TypeDetails resolveRelativeType(ClassDetails container) {
+		return relativeTypes.resolve( getGenericType(), container, getBuildingContext() );
 	}
 
 	@Override
 	public ClassDetails getReturnType() {
-		return returnType;
+		return ClassDetailsHandle.resolve( returnType );
 	}
 
 	@Override
 	public List<ClassDetails> getArgumentTypes() {
-		return argumentTypes;
+		List<ClassDetails> result = argumentTypes;
+		if ( result == null ) {
+			final ClassDetailsRegistry classDetailsRegistry = getBuildingContext().getClassDetailsRegistry();
+			result = new ArrayList<>( methodInfo.parametersCount() );
+			for ( int i = 0; i < methodInfo.parametersCount(); i++ ) {
+				result.add( classDetailsRegistry.resolveClassDetails( methodInfo.parameterType( i ).name().toString() ) );
+			}
+			argumentTypes = result;
+		}
+		return result;
 	}
 
 	@Override
@@ -91,7 +122,8 @@ public class JandexMethodDetails extends AbstractAnnotationTarget implements Met
 			return false;
 		}
 
-		if ( "void".equals( type.getName() ) || "Void".equals( type.getName() ) ) {
+		final String typeName = getTypeName();
+		if ( typeName == null || "void".equals( typeName ) || "Void".equals( typeName ) ) {
 			return false;
 		}
 
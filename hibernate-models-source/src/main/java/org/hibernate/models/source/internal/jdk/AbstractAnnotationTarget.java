@@ -7,11 +7,11 @@
 package org.hibernate.models.source.internal.jdk;
 
 import java.lang.annotation.Annotation;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Supplier;
 
 import org.hibernate.models.source.internal.AnnotationTargetSupport;
+import org.hibernate.models.source.internal.AnnotationUsageIndex;
+import org.hibernate.models.source.internal.AnnotationUsages;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
@@ -25,7 +25,7 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 	private final Supplier<Annotation[]> annotationSupplier;
 	private final SourceModelBuildingContext buildingContext;
 
-	private Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap;
+	private volatile AnnotationUsages usages;
 
 	public AbstractAnnotationTarget(
 			Supplier<Annotation[]> annotationSupplier,
@@ -40,38 +40,41 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 	}
 
 	@Override
-	public Map<Class<? extends Annotation>, AnnotationUsage<? extends Annotation>> getUsageMap() {
-		if ( usagesMap == null ) {
-			usagesMap = buildUsagesMap();
+	public AnnotationUsages getUsages() {
+		if ( usages == null ) {
+			usages = buildUsages();
 		}
-		return usagesMap;
+		return usages;
 	}
 
-	private Map<Class<? extends Annotation>, AnnotationUsage<?>> buildUsagesMap() {
-		final Map<Class<? extends Annotation>, AnnotationUsage<?>> result = new HashMap<>();
+	private AnnotationUsages buildUsages() {
+		final Annotation[] annotations = annotationSupplier.get();
+		final AnnotationUsages result = new AnnotationUsages( annotations.length );
 		AnnotationUsageBuilder.processAnnotations(
-				annotationSupplier.get(),
+				annotations,
 				this,
-				result::put,
+				(annotationType, usage) -> result.put( usage ),
 				buildingContext
 		);
+		result.trimToSize();
 		return result;
 	}
 
 	@Override
 	public void clearAnnotationUsages() {
-		getUsageMap().clear();
+		getUsages().clear();
 	}
 
 	@Override
 	public <X extends Annotation> void removeAnnotationUsage(Class<X> annotationType) {
-		if ( usagesMap != null ) {
-			usagesMap.remove( annotationType );
+		if ( usages != null ) {
+			usages.remove( annotationType );
 		}
 	}
 
 	@Override
 	public <X extends Annotation> void addAnnotationUsage(AnnotationUsage<X> annotationUsage) {
-		getUsageMap().put( annotationUsage.getAnnotationType(), annotationUsage );
+		getUsages().put( annotationUsage );
+		AnnotationUsageIndex.usageAdded( this, annotationUsage );
 	}
 }
@@ -9,12 +9,11 @@ package org.hibernate.models.source.internal.jdk;
 import java.lang.annotation.Annotation;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.function.Consumer;
 
-import org.hibernate.models.source.UnknownAnnotationAttributeException;
+import org.hibernate.models.source.internal.AbstractAnnotationDescriptor;
 import org.hibernate.models.source.internal.AnnotationHelper;
+import org.hibernate.models.source.internal.AnnotationOrdinals;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
-import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.AttributeDescriptor;
 
 import static org.hibernate.models.source.internal.jdk.JdkBuilders.extractAttributeDescriptors;
@@ -24,8 +23,9 @@ import static org.hibernate.models.source.internal.jdk.JdkBuilders.extractAttrib
  *
  * @author Steve Ebersole
  */
-public class AnnotationDescriptorImpl<A extends Annotation> implements AnnotationDescriptor<A> {
+public class AnnotationDescriptorImpl<A extends Annotation> extends AbstractAnnotationDescriptor<A> {
 	private final Class<A> annotationType;
+	private final int ordinal;
 	private final EnumSet<Kind> allowableTargets;
 
 	private final boolean inherited;
@@ -39,6 +39,7 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 
 	public AnnotationDescriptorImpl(Class<A> annotationType, AnnotationDescriptor<?> repeatableContainer) {
 		this.annotationType = annotationType;
+		this.ordinal = AnnotationOrdinals.ordinalOf( annotationType );
 		this.repeatableContainer = repeatableContainer;
 
 		this.inherited = AnnotationHelper.isInherited( annotationType );
@@ -52,6 +53,7 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 			AnnotationDescriptor<?> repeatableContainer,
 			List<AttributeDescriptor<?>> attributeDescriptors) {
 		this.annotationType = annotationType;
+		this.ordinal = AnnotationOrdinals.ordinalOf( annotationType );
 		this.repeatableContainer = repeatableContainer;
 		this.attributeDescriptors = attributeDescriptors;
 
@@ -64,6 +66,11 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 		return annotationType;
 	}
 
+	@Override
+	public int getOrdinal() {
+		return ordinal;
+	}
+
 	@Override
 	public EnumSet<Kind> getAllowableTargets() {
 		return allowableTargets;
@@ -84,79 +91,8 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 		return attributeDescriptors;
 	}
 
-	@Override
-	public <V> AttributeDescriptor<V> getAttribute(String name) {
-		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
-			final AttributeDescriptor<?> attributeDescriptor = attributeDescriptors.get( i );
-			if ( attributeDescriptor.getName().equals( name ) ) {
-				//noinspection unchecked
-				return (AttributeDescriptor<V>) attributeDescriptor;
-			}
-		}
-		throw new UnknownAnnotationAttributeException( annotationType, name );
-	}
-
 	@Override
 	public String getName() {
 		return annotationType.getName();
 	}
-
-	@Override
-	public <X extends Annotation> AnnotationUsage<X> getAnnotationUsage(AnnotationDescriptor<X> descriptor) {
-		// there are none
-		return null;
-	}
-
-	@Override
-	public <X extends Annotation> AnnotationUsage<X> getAnnotationUsage(Class<X> type) {
-		// there are none
-		return null;
-	}
-
-	@Override
-	public <X extends Annotation> List<AnnotationUsage<X>> getRepeatedAnnotationUsages(AnnotationDescriptor<X> type) {
-		// there are none
-		return null;
-	}
-
-	@Override
-	public <X extends Annotation> List<AnnotationUsage<X>> getRepeatedAnnotationUsages(Class<X> type) {
-		// there are none
-		return null;
-	}
-
-	@Override
-	public <X extends Annotation> void forEachAnnotationUsage(
-			AnnotationDescriptor<X> type,
-			Consumer<AnnotationUsage<X>> consumer) {
-		// there are none
-	}
-
-	@Override
-	public <X extends Annotation> void forEachAnnotationUsage(Class<X> type, Consumer<AnnotationUsage<X>> consumer) {
-		// there are none
-	}
-
-	@Override
-	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotationUsage(
-			AnnotationDescriptor<X> type,
-			String matchName,
-			String attributeToMatch) {
-		// there are none
-		return null;
-	}
-
-	@Override
-	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotationUsage(
-			Class<X> type,
-			String matchName,
-			String attributeToMatch) {
-		// there are none
-		return null;
-	}
-
-	@Override
-	public String toString() {
-		return "AnnotationDescriptor(" + annotationType + ")";
-	}
 }
@@ -13,17 +13,18 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
 import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.source.internal.AnnotationExtractionPlan;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.AttributeDescriptor;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
-import org.hibernate.models.source.spi.ValueExtractor;
 
 /**
  * Helper for building {@link AnnotationUsage} instances
@@ -78,34 +79,26 @@ public class AnnotationUsageBuilder {
 	/**
 	 * Extracts values from an annotation
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public static <A extends Annotation> Map<String,?> extractAttributeValues(
 			A annotation,
 			AnnotationDescriptor<A> annotationDescriptor,
 			AnnotationTarget target,
 			SourceModelBuildingContext buildingContext) {
-		if ( CollectionHelper.isEmpty( annotationDescriptor.getAttributes() ) ) {
+		final AnnotationExtractionPlan extractionPlan = AnnotationExtractionPlan.forDescriptor( annotationDescriptor );
+		final int attributeCount = extractionPlan.getAttributeCount();
+		if ( attributeCount == 0 ) {
 			return Collections.emptyMap();
 		}
 
-		if ( annotationDescriptor.getAttributes().size() == 1 ) {
-			final AttributeDescriptor attributeDescriptor = annotationDescriptor.getAttributes().get( 0 );
-			final ValueExtractor valueExtractor = attributeDescriptor
-					.getTypeDescriptor()
-					.createJdkExtractor( buildingContext );
-			final Object value = valueExtractor.extractValue( annotation, attributeDescriptor, target, buildingContext );
-			return Collections.singletonMap( attributeDescriptor.getName(), value );
-
+		final List<AttributeDescriptor<?>> attributes = annotationDescriptor.getAttributes();
+		final Object[] values = extractionPlan.extractValues( annotation, target, buildingContext );
+		if ( attributeCount == 1 ) {
+			return Collections.singletonMap( attributes.get( 0 ).getName(), values[0] );
 		}
 
-		final Map<String,Object> valueMap = new HashMap<>();
-		for ( int i = 0; i < annotationDescriptor.getAttributes().size(); i++ ) {
-			final AttributeDescriptor attributeDescriptor = annotationDescriptor.getAttributes().get( i );
-			final ValueExtractor valueExtractor = attributeDescriptor
-					.getTypeDescriptor()
-					.createJdkExtractor( buildingContext );
-			final Object value = valueExtractor.extractValue( annotation, attributeDescriptor, target, buildingContext );
-			valueMap.put( attributeDescriptor.getName(), value );
+		final Map<String,Object> valueMap = new HashMap<>( (int) ( attributeCount / CollectionHelper.LOAD_FACTOR ) + 1 );
+		for ( int i = 0; i < attributeCount; i++ ) {
+			valueMap.put( attributes.get( i ).getName(), values[i] );
 		}
 		return valueMap;
 	}
@@ -19,6 +19,9 @@ public class ClassValueWrapper implements ValueWrapper<ClassDetails,Class<?>> {
 
 	@Override
 	public ClassDetails wrap(Class<?> rawValue, AnnotationTarget target, SourceModelBuildingContext buildingContext) {
-		return buildingContext.getClassDetailsRegistry().resolveClassDetails( rawValue.getName() );
+		return buildingContext.getClassDetailsRegistry().resolveClassDetails(
+				rawValue.getName(),
+				() -> JdkBuilders.buildClassDetailsStatic( rawValue, buildingContext )
+		);
 	}
 }
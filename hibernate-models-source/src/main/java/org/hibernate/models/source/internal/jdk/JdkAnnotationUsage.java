@@ -7,21 +7,28 @@
 package org.hibernate.models.source.internal.jdk;
 
 import java.lang.annotation.Annotation;
-import java.util.Map;
 
+import org.hibernate.models.source.UnknownAnnotationAttributeException;
+import org.hibernate.models.source.internal.AnnotationExtractionPlan;
 import org.hibernate.models.source.internal.MutableAnnotationUsage;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 /**
+ * AnnotationUsage implementation based on the JDK Annotation.
+ * <p/>
+ * Attribute values are extracted eagerly using the descriptor's {@linkplain AnnotationExtractionPlan extraction plan}
+ * and stored by attribute position.
+ *
  * @author Steve Ebersole
  */
 public class JdkAnnotationUsage<A extends Annotation> implements MutableAnnotationUsage<A> {
 	private final Class<A> annotationType;
 	private final AnnotationTarget location;
+	private final AnnotationExtractionPlan extractionPlan;
 
-	private final Map<String,?> valueMap;
+	private final Object[] attributeValues;
 
 	public JdkAnnotationUsage(
 			A annotation,
@@ -30,8 +37,9 @@ public class JdkAnnotationUsage<A extends Annotation> implements MutableAnnotati
 			SourceModelBuildingContext buildingContext) {
 		this.annotationType = annotationDescriptor.getAnnotationType();
 		this.location = location;
+		this.extractionPlan = AnnotationExtractionPlan.forDescriptor( annotationDescriptor );
 
-		this.valueMap = AnnotationUsageBuilder.extractAttributeValues( annotation, annotationDescriptor, location, buildingContext );
+		this.attributeValues = extractionPlan.extractValues( annotation, location, buildingContext );
 	}
 
 	@Override
@@ -46,14 +54,24 @@ public class JdkAnnotationUsage<A extends Annotation> implements MutableAnnotati
 
 	@Override
 	public <W> W getAttributeValue(String name) {
+		final int position = extractionPlan.positionOf( name );
+		if ( position < 0 ) {
+			return null;
+		}
 		//noinspection unchecked
-		return (W) valueMap.get( name );
+		return (W) attributeValues[position];
 	}
 
 	@Override
 	public <V> V setAttributeValue(String name, V value) {
+		final int position = extractionPlan.positionOf( name );
+		if ( position < 0 ) {
+			throw new UnknownAnnotationAttributeException( annotationType, name );
+		}
 		//noinspection unchecked
-		return (V) ( (Map<String,Object>) valueMap ).put( name, value );
+		final V previous = (V) attributeValues[position];
+		attributeValues[position] = value;
+		return previous;
 	}
 
 	@Override
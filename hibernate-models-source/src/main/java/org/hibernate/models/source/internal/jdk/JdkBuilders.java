@@ -8,18 +8,33 @@ package org.hibernate.models.source.internal.jdk;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Repeatable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.models.ModelsException;
 import org.hibernate.models.source.internal.AnnotationDescriptorRegistryStandard;
+import org.hibernate.models.source.internal.ArrayTypeDetailsImpl;
+import org.hibernate.models.source.internal.ClassDetailsHandle;
+import org.hibernate.models.source.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.source.internal.ParameterizedTypeDetailsImpl;
 import org.hibernate.models.source.internal.TypeDescriptors;
+import org.hibernate.models.source.internal.TypeVariableDetailsImpl;
+import org.hibernate.models.source.internal.WildcardTypeDetailsImpl;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.AttributeDescriptor;
 import org.hibernate.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
 import org.hibernate.models.source.spi.ValueTypeDescriptor;
 
 /**
@@ -104,7 +119,7 @@ public class JdkBuilders implements ClassDetailsBuilder {
 		return new JdkMethodDetails(
 				method,
 				MethodDetails.MethodKind.GETTER,
-				buildingContext.getClassDetailsRegistry().resolveClassDetails( type.getName() ),
+				type,
 				buildingContext
 		);
 	}
@@ -117,11 +132,100 @@ public class JdkBuilders implements ClassDetailsBuilder {
 		return new JdkMethodDetails(
 				method,
 				MethodDetails.MethodKind.SETTER,
-				buildingContext.getClassDetailsRegistry().resolveClassDetails( type.getName() ),
+				type,
 				buildingContext
 		);
 	}
 
+	/**
+	 * Build the TypeDetails for a JDK type.  Returns {@code null} for {@code void}.
+	 */
+	public static TypeDetails buildTypeDetails(Type type, SourceModelBuildingContext buildingContext) {
+		return buildTypeDetails( type, Collections.emptyList(), buildingContext );
+	}
+
+	private static TypeDetails buildTypeDetails(
+			Type type,
+			List<TypeVariable<?>> inFlightVariables,
+			SourceModelBuildingContext buildingContext) {
+		if ( type == null ) {
+			return null;
+		}
+
+		if ( type instanceof Class ) {
+			final Class<?> classType = (Class<?>) type;
+			if ( classType.isArray() ) {
+				return new ArrayTypeDetailsImpl(
+						buildTypeDetails( classType.getComponentType(), inFlightVariables, buildingContext )
+				);
+			}
+			final ClassDetailsHandle handle = ClassDetailsHandle.from( classType, buildingContext );
+			return handle == null ? null : new ClassTypeDetailsImpl( handle );
+		}
+
+		if ( type instanceof ParameterizedType ) {
+			final ParameterizedType parameterizedType = (ParameterizedType) type;
+			final Type[] arguments = parameterizedType.getActualTypeArguments();
+			final List<TypeDetails> argumentDetails = new ArrayList<>( arguments.length );
+			for ( int i = 0; i < arguments.length; i++ ) {
+				argumentDetails.add( buildTypeDetails( arguments[i], inFlightVariables, buildingContext ) );
+			}
+			return new ParameterizedTypeDetailsImpl(
+					ClassDetailsHandle.from( (Class<?>) parameterizedType.getRawType(), buildingContext ),
+					argumentDetails
+			);
+		}
+
+		if ( type instanceof GenericArrayType ) {
+			return new ArrayTypeDetailsImpl(
+					buildTypeDetails( ( (GenericArrayType) type ).getGenericComponentType(), inFlightVariables, buildingContext )
+			);
+		}
+
+		if ( type instanceof WildcardType ) {
+			final WildcardType wildcardType = (WildcardType) type;
+			final Type[] lowerBounds = wildcardType.getLowerBounds();
+			if ( lowerBounds.length > 0 ) {
+				return new WildcardTypeDetailsImpl(
+						buildTypeDetails( lowerBounds[0], inFlightVariables, buildingContext ),
+						false
+				);
+			}
+			final Type[] upperBounds = wildcardType.getUpperBounds();
+			if ( upperBounds.length == 0 || upperBounds[0] == Object.class ) {
+				return new WildcardTypeDetailsImpl( null, true );
+			}
+			return new WildcardTypeDetailsImpl(
+					buildTypeDetails( upperBounds[0], inFlightVariables, buildingContext ),
+					true
+			);
+		}
+
+		if ( type instanceof TypeVariable ) {
+			final TypeVariable<?> typeVariable = (TypeVariable<?>) type;
+			final GenericDeclaration genericDeclaration = typeVariable.getGenericDeclaration();
+			final String declaringTypeName = genericDeclaration instanceof Class
+					? ( (Class<?>) genericDeclaration ).getName()
+					: null;
+			if ( inFlightVariables.contains( typeVariable ) ) {
+				// recursive reference, e.g. `T extends Comparable<T>`
+				return new TypeVariableDetailsImpl( typeVariable.getName(), declaringTypeName, Collections.emptyList() );
+			}
+
+			final List<TypeVariable<?>> variables = new ArrayList<>( inFlightVariables.size() + 1 );
+			variables.addAll( inFlightVariables );
+			variables.add( typeVariable );
+			final Type[] bounds = typeVariable.getBounds();
+			final List<TypeDetails> boundDetails = new ArrayList<>( bounds.length );
+			for ( int i = 0; i < bounds.length; i++ ) {
+				boundDetails.add( buildTypeDetails( bounds[i], variables, buildingContext ) );
+			}
+			return new TypeVariableDetailsImpl( typeVariable.getName(), declaringTypeName, boundDetails );
+		}
+
+		throw new ModelsException( "Unexpected type - " + type );
+	}
+
 	private static boolean isBoolean(Class<?> type) {
 		return type == boolean.class || type == Boolean.class;
 	}
@@ -181,7 +285,7 @@ public class JdkBuilders implements ClassDetailsBuilder {
 	public static <A extends Annotation> List<AttributeDescriptor<?>> extractAttributeDescriptors(
 			AnnotationDescriptor<A> annotationDescriptor,
 			Class<A> annotationType) {
-		final Method[] methods = annotationType.getDeclaredMethods();
+		final Method[] methods = JdkReflectionCache.getDeclaredMethods( annotationType );
 		final List<AttributeDescriptor<?>> attributeDescriptors = new ArrayList<>( methods.length );
 		for ( Method method : methods ) {
 			attributeDescriptors.add( createAttributeDescriptor( annotationDescriptor, method ) );
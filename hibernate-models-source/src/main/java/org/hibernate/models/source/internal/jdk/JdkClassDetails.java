@@ -9,6 +9,7 @@ package org.hibernate.models.source.internal.jdk;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -16,11 +17,14 @@ import java.util.List;
 import org.hibernate.models.internal.ArrayHelper;
 import org.hibernate.models.internal.CollectionHelper;
 import org.hibernate.models.source.internal.ClassDetailsSupport;
+import org.hibernate.models.source.internal.EffectiveAnnotationUsages;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.FieldDetails;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
+import org.hibernate.models.source.spi.TypeVariableDetails;
 
 import static org.hibernate.models.source.internal.jdk.JdkBuilders.buildMethodDetails;
 
@@ -34,10 +38,15 @@ public class JdkClassDetails extends AbstractAnnotationTarget implements ClassDe
 	private final Class<?> managedClass;
 
 	private final ClassDetails superType;
-	private List<ClassDetails> interfaces;
+	private volatile List<ClassDetails> interfaces;
 
-	private List<FieldDetails> fields;
-	private List<MethodDetails> methods;
+	private volatile List<FieldDetails> fields;
+	private volatile List<MethodDetails> methods;
+
+	private volatile TypeDetails genericSuperType;
+	private volatile List<TypeVariableDetails> typeParameters;
+
+	private final EffectiveAnnotationUsages effectiveUsages = new EffectiveAnnotationUsages();
 
 	public JdkClassDetails(
 			Class<?> managedClass,
@@ -49,7 +58,7 @@ public class JdkClassDetails extends AbstractAnnotationTarget implements ClassDe
 			String name,
 			Class<?> managedClass,
 			SourceModelBuildingContext buildingContext) {
-		super( managedClass::getAnnotations, buildingContext );
+		super( () -> JdkReflectionCache.getAnnotations( managedClass ), buildingContext );
 		this.name = name;
 		this.managedClass = managedClass;
 
@@ -95,6 +104,40 @@ public class JdkClassDetails extends AbstractAnnotationTarget implements ClassDe
 		return superType;
 	}
 
+	@Override
+	public EffectiveAnnotationUsages getEffectiveUsages() {
+		return effectiveUsages;
+	}
+
+	@Override
+	public TypeDetails getGenericSuperType() {
+		TypeDetails result = genericSuperType;
+		if ( result == null && managedClass.getGenericSuperclass() != null ) {
+			result = JdkBuilders.buildTypeDetails( managedClass.getGenericSuperclass(), getBuildingContext() );
+			genericSuperType = result;
+		}
+		return result;
+	}
+
+	@Override
+	public List<TypeVariableDetails> getTypeParameters() {
+		List<TypeVariableDetails> result = typeParameters;
+		if ( result == null ) {
+			final TypeVariable<?>[] typeVariables = managedClass.getTypeParameters();
+			if ( typeVariables.length == 0 ) {
+				result = Collections.emptyList();
+			}
+			else {
+				result = new ArrayList<>( typeVariables.length );
+				for ( int i = 0; i < typeVariables.length; i++ ) {
+					result.add( (TypeVariableDetails) JdkBuilders.buildTypeDetails( typeVariables[i], getBuildingContext() ) );
+				}
+			}
+			typeParameters = result;
+		}
+		return result;
+	}
+
 	@Override
 	public List<ClassDetails> getImplementedInterfaceTypes() {
 		if ( interfaces == null ) {
@@ -137,12 +180,14 @@ public class JdkClassDetails extends AbstractAnnotationTarget implements ClassDe
 	@Override
 	public List<FieldDetails> getFields() {
 		if ( fields == null ) {
-			final Field[] reflectionFields = managedClass.getDeclaredFields();
-			this.fields = CollectionHelper.arrayList( reflectionFields.length );
+			// build completely before publishing - platform ClassDetails are shared between threads
+			final Field[] reflectionFields = JdkReflectionCache.getDeclaredFields( managedClass );
+			final List<FieldDetails> fields = CollectionHelper.arrayList( reflectionFields.length );
 			for ( int i = 0; i < reflectionFields.length; i++ ) {
 				final Field reflectionField = reflectionFields[i];
 				fields.add( new JdkFieldDetails( reflectionField, getBuildingContext() ) );
 			}
+			this.fields = fields;
 		}
 		return fields;
 	}
@@ -155,11 +200,12 @@ public class JdkClassDetails extends AbstractAnnotationTarget implements ClassDe
 	@Override
 	public List<MethodDetails> getMethods() {
 		if ( methods == null ) {
-			final Method[] reflectionMethods = managedClass.getDeclaredMethods();
-			this.methods = CollectionHelper.arrayList( reflectionMethods.length );
+			final Method[] reflectionMethods = JdkReflectionCache.getDeclaredMethods( managedClass );
+			final List<MethodDetails> methods = CollectionHelper.arrayList( reflectionMethods.length );
 			for ( int i = 0; i < reflectionMethods.length; i++ ) {
-				this.methods.add( buildMethodDetails( reflectionMethods[i], getBuildingContext() ) );
+				methods.add( buildMethodDetails( reflectionMethods[i], getBuildingContext() ) );
 			}
+			this.methods = methods;
 		}
 		return methods;
 	}
@@ -8,10 +8,13 @@ package org.hibernate.models.source.internal.jdk;
 
 import java.lang.reflect.Field;
 
+import org.hibernate.models.source.internal.ClassDetailsHandle;
 import org.hibernate.models.source.internal.MutableMemberDetails;
+import org.hibernate.models.source.internal.RelativeTypeCache;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.FieldDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
 
 import static org.hibernate.models.source.internal.ModifierUtils.isPersistableField;
 
@@ -21,15 +24,15 @@ import static org.hibernate.models.source.internal.ModifierUtils.isPersistableFi
  */
 public class JdkFieldDetails extends AbstractAnnotationTarget implements FieldDetails, MutableMemberDetails {
 	private final Field field;
-	private final ClassDetails type;
+	private final ClassDetailsHandle type;
+
+	private volatile TypeDetails genericType;
+	private final RelativeTypeCache relativeTypes = new RelativeTypeCache();
 
 	public JdkFieldDetails(Field field, SourceModelBuildingContext buildingContext) {
-		super( field::getAnnotations, buildingContext );
+		super( () -> JdkReflectionCache.getAnnotations( field ), buildingContext );
 		this.field = field;
-		this.type = buildingContext.getClassDetailsRegistry().resolveClassDetails(
-				field.getType().getName(),
-				() -> JdkBuilders.buildClassDetailsStatic( field.getType(), getBuildingContext() )
-		);
+		this.type = ClassDetailsHandle.from( field.getType(), buildingContext );
 	}
 
 	@Override
@@ -39,7 +42,27 @@ public class JdkFieldDetails extends AbstractAnnotationTarget implements FieldDe
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return ClassDetailsHandle.resolve( type );
+	}
+
+	@Override
+	public String getTypeName() {
+		return ClassDetailsHandle.getName( type );
+	}
+
+	@Override
+	public TypeDetails getGenericType() {
+		TypeDetails result = genericType;
+		if ( result == null && type != null ) {
+			result = JdkBuilders.buildTypeDetails( field.getGenericType(), getBuildingContext() );
+			genericType = result;
+		}
+		return result;
+	}
+
+	@Override
+	public TypeDetails resolveRelativeType(ClassDetails container) {
+		return relativeTypes.resolve( getGenericType(), container, getBuildingContext() );
 	}
 
 	@Override
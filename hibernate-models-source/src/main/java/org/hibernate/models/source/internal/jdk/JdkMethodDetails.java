@@ -10,11 +10,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.models.source.internal.ClassDetailsHandle;
 import org.hibernate.models.source.internal.MutableMemberDetails;
+import org.hibernate.models.source.internal.RelativeTypeCache;
 import org.hibernate.models.source.spi.ClassDetails;
-import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeDetails;
 
 import static org.hibernate.models.source.internal.ModifierUtils.isPersistableMethod;
 
@@ -24,34 +26,27 @@ import static org.hibernate.models.source.internal.ModifierUtils.isPersistableMe
 public class JdkMethodDetails extends AbstractAnnotationTarget implements MethodDetails, MutableMemberDetails {
 	private final Method method;
 	private final MethodKind methodKind;
-	private final ClassDetails type;
+	private final ClassDetailsHandle type;
 
-	private final ClassDetails returnType;
-	private final List<ClassDetails> argumentTypes;
+	private volatile TypeDetails genericType;
+	private final RelativeTypeCache relativeTypes = new RelativeTypeCache();
+
+	private final ClassDetailsHandle returnType;
+	private volatile List<ClassDetails> argumentTypes;
 
 	public JdkMethodDetails(
 			Method method,
 			MethodKind methodKind,
-			ClassDetails type,
+			Class<?> type,
 			SourceModelBuildingContext buildingContext) {
-		super( method::getAnnotations, buildingContext );
+		super( () -> JdkReflectionCache.getAnnotations( method ), buildingContext );
 		this.method = method;
 		this.methodKind = methodKind;
-		this.type = type;
-
-		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
-
-		if ( void.class.equals( method.getReturnType() ) ) {
-			returnType = null;
-		}
-		else {
-			returnType = classDetailsRegistry.resolveClassDetails( method.getReturnType().getName() );
-		}
 
-		this.argumentTypes = new ArrayList<>( method.getParameterCount() );
-		for ( int i = 0; i < method.getParameterTypes().length; i++ ) {
-			argumentTypes.add( classDetailsRegistry.resolveClassDetails( method.getParameterTypes()[i].getName() ) );
-		}
+		this.returnType = ClassDetailsHandle.from( method.getReturnType(), buildingContext );
+		this.type = methodKind == MethodKind.GETTER
+				? returnType
+				: ClassDetailsHandle.from( type, buildingContext );
 	}
 
 	@Override
@@ -66,17 +61,49 @@ public class JdkMethodDetails extends AbstractAnnotationTarget implements Method
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return ClassDetailsHandle.resolve( type );
+	}
+
+	@Override
+	public String getTypeName() {
+		return ClassDetailsHandle.getName( type );
+	}
+
+	@Override
+	public TypeDetails getGenericType() {
+		TypeDetails result = genericType;
+		if ( result == null && type != null ) {
+			result = JdkBuilders.buildTypeDetails(
+					methodKind == MethodKind.SETTER ? method.getGenericParameterTypes()[0] : method.getGenericReturnType(),
+					getBuildingContext()
+			);
+			genericType = result;
+		}
+		return result;
+	}
+
+	@Override
+	public TypeDetails resolveRelativeType(ClassDetails container) {
+		return relativeTypes.resolve( getGenericType(), container, getBuildingContext() );
 	}
 
 	@Override
 	public ClassDetails getReturnType() {
-		return returnType;
+		return ClassDetailsHandle.resolve( returnType );
 	}
 
 	@Override
 	public List<ClassDetails> getArgumentTypes() {
-		return argumentTypes;
+		List<ClassDetails> result = argumentTypes;
+		if ( result == null ) {
+			final Class<?>[] parameterTypes = method.getParameterTypes();
+			result = new ArrayList<>( parameterTypes.length );
+			for ( int i = 0; i < parameterTypes.length; i++ ) {
+				result.add( ClassDetailsHandle.from( parameterTypes[i], getBuildingContext() ).resolve() );
+			}
+			argumentTypes = result;
+		}
+		return result;
 	}
 
 	@Override
@@ -86,7 +113,8 @@ public class JdkMethodDetails extends AbstractAnnotationTarget implements Method
 			return false;
 		}
 
-		if ( "void".equals( type.getName() ) || "Void".equals( type.getName() ) ) {
+		final String typeName = getTypeName();
+		if ( typeName == null || "void".equals( typeName ) || "Void".equals( typeName ) ) {
 			// again, should be the getter
 			return false;
 		}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jdk;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Process-wide cache of the raw reflective metadata used to build JDK-based
+ * {@linkplain org.hibernate.models.source.spi.ClassDetails}, shared by all
+ * {@linkplain org.hibernate.models.source.spi.SourceModelBuildingContext building contexts}.
+ * <p/>
+ * Reflection ({@linkplain Class#getDeclaredFields()}, {@linkplain Class#getDeclaredMethods()},
+ * {@linkplain Class#getAnnotations()}, ...) copies its results on every call.  Environments which
+ * build many contexts over the same library and JDK types (multiple persistence units, e.g.)
+ * would otherwise repeat that work for each context.
+ * <p/>
+ * Keyed by {@linkplain ClassValue}, so cached state does not prevent a class (and its loader)
+ * from being unloaded.  The cached arrays are shared and must never be modified.
+ *
+ * @author Steve Ebersole
+ */
+public final class JdkReflectionCache {
+	private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+	private static final ClassValue<ClassMetadata> METADATA = new ClassValue<>() {
+		@Override
+		protected ClassMetadata computeValue(Class<?> type) {
+			return new ClassMetadata( type );
+		}
+	};
+
+	/**
+	 * The declared fields of the class
+	 */
+	public static Field[] getDeclaredFields(Class<?> type) {
+		return METADATA.get( type ).getDeclaredFields();
+	}
+
+	/**
+	 * The declared methods of the class
+	 */
+	public static Method[] getDeclaredMethods(Class<?> type) {
+		return METADATA.get( type ).getDeclaredMethods();
+	}
+
+	/**
+	 * The annotations (including inherited annotations) of the class
+	 */
+	public static Annotation[] getAnnotations(Class<?> type) {
+		return METADATA.get( type ).getAnnotations();
+	}
+
+	/**
+	 * The annotations of the field.  Fields obtained from {@linkplain #getDeclaredFields}
+	 * are served from the cache.
+	 */
+	public static Annotation[] getAnnotations(Field field) {
+		return METADATA.get( field.getDeclaringClass() ).getFieldAnnotations( field );
+	}
+
+	/**
+	 * The annotations of the method.  Methods obtained from {@linkplain #getDeclaredMethods}
+	 * are served from the cache.
+	 */
+	public static Annotation[] getAnnotations(Method method) {
+		return METADATA.get( method.getDeclaringClass() ).getMethodAnnotations( method );
+	}
+
+	private JdkReflectionCache() {
+		// disallow direct instantiation
+	}
+
+	/**
+	 * The cached metadata for a single class.  Each piece is computed on first access - races
+	 * are benign as each thread computes equivalent state, which is safely published.
+	 */
+	private static final class ClassMetadata {
+		private final Class<?> type;
+
+		private volatile Annotation[] annotations;
+		private volatile Field[] declaredFields;
+		private volatile Annotation[][] fieldAnnotations;
+		private volatile Method[] declaredMethods;
+		private volatile Annotation[][] methodAnnotations;
+
+		private ClassMetadata(Class<?> type) {
+			this.type = type;
+		}
+
+		private Annotation[] getAnnotations() {
+			Annotation[] result = annotations;
+			if ( result == null ) {
+				result = type.getAnnotations();
+				annotations = result;
+			}
+			return result;
+		}
+
+		private Field[] getDeclaredFields() {
+			Field[] result = declaredFields;
+			if ( result == null ) {
+				result = type.getDeclaredFields();
+				declaredFields = result;
+			}
+			return result;
+		}
+
+		private Method[] getDeclaredMethods() {
+			Method[] result = declaredMethods;
+			if ( result == null ) {
+				result = type.getDeclaredMethods();
+				declaredMethods = result;
+			}
+			return result;
+		}
+
+		private Annotation[] getFieldAnnotations(Field field) {
+			final Field[] fields = getDeclaredFields();
+			final int position = positionOf( fields, field );
+			if ( position < 0 ) {
+				// not one of the cached instances
+				return field.getAnnotations();
+			}
+
+			Annotation[][] result = fieldAnnotations;
+			if ( result == null ) {
+				result = new Annotation[fields.length][];
+				for ( int i = 0; i < fields.length; i++ ) {
+					result[i] = nonEmpty( fields[i].getAnnotations() );
+				}
+				fieldAnnotations = result;
+			}
+			return result[position];
+		}
+
+		private Annotation[] getMethodAnnotations(Method method) {
+			final Method[] methods = getDeclaredMethods();
+			final int position = positionOf( methods, method );
+			if ( position < 0 ) {
+				// not one of the cached instances
+				return method.getAnnotations();
+			}
+
+			Annotation[][] result = methodAnnotations;
+			if ( result == null ) {
+				result = new Annotation[methods.length][];
+				for ( int i = 0; i < methods.length; i++ ) {
+					result[i] = nonEmpty( methods[i].getAnnotations() );
+				}
+				methodAnnotations = result;
+			}
+			return result[position];
+		}
+
+		private static int positionOf(Object[] members, Object member) {
+			for ( int i = 0; i < members.length; i++ ) {
+				if ( members[i] == member ) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private static Annotation[] nonEmpty(Annotation[] annotations) {
+			// share a single instance for the (common) case of no annotations
+			return annotations.length == 0 ? NO_ANNOTATIONS : annotations;
+		}
+	}
+}
@@ -27,6 +27,13 @@ public interface AnnotationDescriptor<A extends Annotation> extends AnnotationTa
 	 */
 	Class<A> getAnnotationType();
 
+	/**
+	 * Dense int identifier for the {@linkplain #getAnnotationType() annotation type}, used to
+	 * key the storage of annotation usages.  Assigned by the implementation; descriptors for
+	 * the same annotation type share the same ordinal.
+	 */
+	int getOrdinal();
+
 	/**
 	 * The places the described annotation can be used
 	 */
@@ -8,6 +8,8 @@ package org.hibernate.models.source.spi;
 
 import java.lang.annotation.Annotation;
 
+import org.jboss.jandex.DotName;
+
 /**
  * Registry of {@linkplain AnnotationDescriptor descriptors} for all known annotations
  *
@@ -23,6 +25,18 @@ public interface AnnotationDescriptorRegistry {
 	 */
 	<A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(Class<A> javaType, DescriptorCreator<A> creator);
 
+	/**
+	 * Get the descriptor for the annotation with the given name, if one is known.
+	 * Never loads the annotation class.
+	 */
+	<A extends Annotation> AnnotationDescriptor<A> findDescriptor(DotName annotationName);
+
+	/**
+	 * Get the descriptor for the annotation with the given name, using the {@code creator}
+	 * if one is not yet known.
+	 */
+	<A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(DotName annotationName, NamedDescriptorCreator creator);
+
 	/**
 	 * Assuming the {@code descriptor} is a {@linkplain AnnotationDescriptor#getRepeatableContainer() repeatable container},
 	 * return the descriptor of the annotation for which it acts as a container.
@@ -40,4 +54,9 @@ public interface AnnotationDescriptorRegistry {
 	interface DescriptorCreator<A extends Annotation> {
 		AnnotationDescriptor<A> createDescriptor(Class<A> annotationType);
 	}
+
+	@FunctionalInterface
+	interface NamedDescriptorCreator {
+		AnnotationDescriptor<?> createDescriptor(DotName annotationName);
+	}
 }
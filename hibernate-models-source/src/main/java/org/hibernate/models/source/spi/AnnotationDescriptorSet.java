@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of {@linkplain AnnotationDescriptor annotation descriptors}, represented by the sorted
+ * {@linkplain AnnotationDescriptor#getOrdinal() descriptor ordinals} plus a single-word mask over them
+ * (bit {@code ordinal % 64} per ordinal).  The mask rules out most non-members with one bitwise
+ * operation; the ordinals confirm the rest.  Its size depends on the number of descriptors, not on
+ * the ordinal values.
+ * <p/>
+ * Presence checks ({@linkplain #matchesPresence}) also match the {@linkplain AnnotationDescriptor#getRepeatableContainer()
+ * containers} of any repeatable descriptors, the same as {@linkplain AnnotationTarget#getAnnotationUsage}
+ * does; membership ({@linkplain #contains}) is limited to the descriptors themselves.
+ * <p/>
+ * Intended to be built once (generally as a constant) and used for checking multiple annotations
+ * against a target in one go - see {@linkplain AnnotationTarget#hasAnyAnnotationUsage} and
+ * {@linkplain AnnotationTarget#getAnnotationUsages(AnnotationDescriptorSet)}.
+ *
+ * @author Steve Ebersole
+ */
+public final class AnnotationDescriptorSet {
+	private final AnnotationDescriptor<?>[] descriptors;
+	private final int[] ordinals;
+	private final long mask;
+	// `ordinals` plus the containers of repeatable descriptors
+	private final int[] presenceOrdinals;
+	private final long presenceMask;
+
+	private AnnotationDescriptorSet(AnnotationDescriptor<?>[] descriptors, int[] ordinals, int[] presenceOrdinals) {
+		this.descriptors = descriptors;
+		this.ordinals = ordinals;
+		this.mask = maskOf( ordinals );
+		this.presenceOrdinals = presenceOrdinals;
+		this.presenceMask = maskOf( presenceOrdinals );
+	}
+
+	public static AnnotationDescriptorSet of(AnnotationDescriptor<?>... descriptors) {
+		final int[] ordinals = new int[descriptors.length];
+		int containerCount = 0;
+		for ( int i = 0; i < descriptors.length; i++ ) {
+			ordinals[i] = descriptors[i].getOrdinal();
+			if ( descriptors[i].getRepeatableContainer() != null ) {
+				containerCount++;
+			}
+		}
+		Arrays.sort( ordinals );
+
+		if ( containerCount == 0 ) {
+			return new AnnotationDescriptorSet( descriptors.clone(), ordinals, ordinals );
+		}
+
+		final int[] presenceOrdinals = Arrays.copyOf( ordinals, ordinals.length + containerCount );
+		int position = ordinals.length;
+		for ( int i = 0; i < descriptors.length; i++ ) {
+			final AnnotationDescriptor<?> container = descriptors[i].getRepeatableContainer();
+			if ( container != null ) {
+				presenceOrdinals[position++] = container.getOrdinal();
+			}
+		}
+		Arrays.sort( presenceOrdinals );
+		return new AnnotationDescriptorSet( descriptors.clone(), ordinals, presenceOrdinals );
+	}
+
+	private static long maskOf(int[] ordinals) {
+		long mask = 0;
+		for ( int i = 0; i < ordinals.length; i++ ) {
+			mask |= 1L << ordinals[i];
+		}
+		return mask;
+	}
+
+	public int size() {
+		return descriptors.length;
+	}
+
+	public List<AnnotationDescriptor<?>> getDescriptors() {
+		return Collections.unmodifiableList( Arrays.asList( descriptors ) );
+	}
+
+	public boolean contains(AnnotationDescriptor<?> descriptor) {
+		return containsOrdinal( descriptor.getOrdinal() );
+	}
+
+	public boolean containsOrdinal(int ordinal) {
+		return ( mask & ( 1L << ordinal ) ) != 0 && Arrays.binarySearch( ordinals, ordinal ) >= 0;
+	}
+
+	/**
+	 * Whether the given {@linkplain AnnotationDescriptor#getOrdinal() ordinal} is that of one of the
+	 * descriptors in this set, or of the container of a repeatable descriptor
+	 */
+	public boolean matchesPresence(int ordinal) {
+		return ( presenceMask & ( 1L << ordinal ) ) != 0 && Arrays.binarySearch( presenceOrdinals, ordinal ) >= 0;
+	}
+
+	/**
+	 * Single-word mask over the ordinals of the descriptors (bit {@code ordinal % 64} per ordinal).
+	 * No bit in common with a target's mask means none of the descriptors is present.
+	 */
+	public long getMask() {
+		return mask;
+	}
+
+	/**
+	 * Same as {@linkplain #getMask()}, also including the containers of repeatable descriptors
+	 */
+	public long getPresenceMask() {
+		return presenceMask;
+	}
+
+	@Override
+	public String toString() {
+		return "AnnotationDescriptorSet" + Arrays.toString( descriptors );
+	}
+}
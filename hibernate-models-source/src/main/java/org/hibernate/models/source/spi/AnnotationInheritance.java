@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+import java.lang.annotation.Inherited;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rules for which class-level annotations a class {@linkplain ClassDetails#getEffectiveAnnotationUsage inherits}
+ * from its super types.  In addition to annotations defined as {@linkplain Inherited inherited},
+ * allows treating other annotations as inherited (e.g. {@code @Inheritance} or {@code @Cacheable}
+ * in JPA) and limiting which super types contribute (e.g. only entities and mapped-superclasses).
+ * <p/>
+ * Effective usages are cached per class and rules instance, so instances are intended to be
+ * built once and kept as constants.
+ *
+ * @author Steve Ebersole
+ */
+public final class AnnotationInheritance {
+	/**
+	 * Standard Java semantics - only annotations defined as {@linkplain Inherited inherited}
+	 * are inherited, from any super class
+	 */
+	public static final AnnotationInheritance JAVA = new AnnotationInheritance( null, null );
+
+	private final AnnotationDescriptorSet inheritable;
+	private final AnnotationDescriptorSet contributorMarkers;
+
+	private AnnotationInheritance(AnnotationDescriptorSet inheritable, AnnotationDescriptorSet contributorMarkers) {
+		this.inheritable = inheritable;
+		this.contributorMarkers = contributorMarkers;
+	}
+
+	/**
+	 * Rules where the given annotations are also inherited, from any super class
+	 */
+	public static AnnotationInheritance of(AnnotationDescriptorSet inheritable) {
+		return of( inheritable, null );
+	}
+
+	/**
+	 * Rules where the given annotations are also inherited, but only from super classes
+	 * with a usage of any of the {@code contributorMarkers}.  Other super classes are
+	 * skipped, though their own super classes are still considered.
+	 *
+	 * @param inheritable Annotations to treat as inherited.  The containers of any
+	 * {@linkplain AnnotationDescriptor#isRepeatable() repeatable} annotations are included as well.
+	 * @param contributorMarkers Annotations marking a super class as contributing its
+	 * annotations, or {@code null} for all super classes.
+	 */
+	public static AnnotationInheritance of(AnnotationDescriptorSet inheritable, AnnotationDescriptorSet contributorMarkers) {
+		return new AnnotationInheritance( withContainers( inheritable ), contributorMarkers );
+	}
+
+	private static AnnotationDescriptorSet withContainers(AnnotationDescriptorSet descriptors) {
+		if ( descriptors == null ) {
+			return null;
+		}
+
+		final List<AnnotationDescriptor<?>> descriptorList = descriptors.getDescriptors();
+		final List<AnnotationDescriptor<?>> combined = new ArrayList<>( descriptorList );
+		for ( int i = 0; i < descriptorList.size(); i++ ) {
+			final AnnotationDescriptor<?> container = descriptorList.get( i ).getRepeatableContainer();
+			if ( container != null && !descriptors.contains( container ) ) {
+				combined.add( container );
+			}
+		}
+		if ( combined.size() == descriptorList.size() ) {
+			return descriptors;
+		}
+		return AnnotationDescriptorSet.of( combined.toArray( new AnnotationDescriptor<?>[0] ) );
+	}
+
+	/**
+	 * Whether usages of the described annotation are inherited
+	 */
+	public boolean isInheritable(AnnotationDescriptor<?> descriptor) {
+		return descriptor.isInherited()
+				|| ( inheritable != null && inheritable.contains( descriptor ) );
+	}
+
+	/**
+	 * Whether the given class contributes its annotations to its subclasses
+	 */
+	public boolean isContributor(ClassDetails classDetails) {
+		return contributorMarkers == null || classDetails.hasAnyAnnotationUsage( contributorMarkers );
+	}
+
+	@Override
+	public String toString() {
+		return "AnnotationInheritance(" + inheritable + ", " + contributorMarkers + ")";
+	}
+}
@@ -63,6 +63,28 @@ public interface AnnotationTarget {
 	 */
 	<A extends Annotation> AnnotationUsage<A> getAnnotationUsage(Class<A> type);
 
+	/**
+	 * Whether a usage of any of the given annotations is directly present on this target.
+	 * <p/>
+	 * Equivalent to checking {@linkplain #getAnnotationUsage(AnnotationDescriptor)} for each
+	 * of the {@code descriptors}, but performed as a check against a presence mask.
+	 *
+	 * @apiNote For {@linkplain Repeatable repeatable} annotation types, a usage of the
+	 * {@linkplain Repeatable#value() containing annotation} counts as well.
+	 */
+	boolean hasAnyAnnotationUsage(AnnotationDescriptorSet descriptors);
+
+	/**
+	 * Get the usages of all the given annotations which are directly present on this target,
+	 * in a single pass.
+	 *
+	 * @apiNote For {@linkplain Repeatable repeatable} annotation types, only the repeatable
+	 * annotation itself is considered - not its container.
+	 *
+	 * @return The usages, or an empty list if none are present
+	 */
+	List<AnnotationUsage<?>> getAnnotationUsages(AnnotationDescriptorSet descriptors);
+
 	/**
 	 * Get all usages of the specified {@code annotationType} in this scope.
 	 * <p/>
@@ -0,0 +1,24 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+/**
+ * An {@linkplain TypeDetails.Kind#ARRAY array} type, e.g. {@code T[]}
+ *
+ * @author Steve Ebersole
+ */
+public interface ArrayTypeDetails extends TypeDetails {
+	@Override
+	default Kind getTypeKind() {
+		return Kind.ARRAY;
+	}
+
+	/**
+	 * The type of the array's components.  For multidimensional arrays, this is itself an array type.
+	 */
+	TypeDetails getComponentType();
+}
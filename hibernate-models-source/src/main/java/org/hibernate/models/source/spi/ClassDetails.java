@@ -6,11 +6,14 @@
  */
 package org.hibernate.models.source.spi;
 
+import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
 import org.hibernate.models.internal.IndexedConsumer;
 import org.hibernate.models.source.internal.ClassDetailsHelper;
+import org.hibernate.models.source.internal.TypeDetailsHelper;
 
 /**
  * Abstraction for what Hibernate understands about a "class", generally before it has access to
@@ -52,6 +55,49 @@ public interface ClassDetails extends AnnotationTarget {
 	 */
 	ClassDetails getSuperType();
 
+	/**
+	 * The generic form of the {@linkplain #getSuperType() super type}, including any type
+	 * arguments - e.g. {@code Base<Integer>}
+	 */
+	default TypeDetails getGenericSuperType() {
+		return TypeDetailsHelper.forClass( getSuperType() );
+	}
+
+	/**
+	 * The type parameters declared by this class, e.g. {@code T} for {@code Base<T>}
+	 */
+	default List<TypeVariableDetails> getTypeParameters() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Get the usage of the given annotation which is effective for this class - either a local
+	 * usage or one inherited from a super type according to the {@code inheritance} rules.
+	 * <p/>
+	 * The effective usages are computed once per class and rules, and looked up directly afterward.
+	 *
+	 * @see #getAnnotationUsage(AnnotationDescriptor)
+	 */
+	<A extends Annotation> AnnotationUsage<A> getEffectiveAnnotationUsage(
+			AnnotationDescriptor<A> descriptor,
+			AnnotationInheritance inheritance);
+
+	/**
+	 * Form of {@linkplain #getEffectiveAnnotationUsage(AnnotationDescriptor, AnnotationInheritance)}
+	 * using {@linkplain AnnotationInheritance#JAVA standard Java} inheritance.
+	 */
+	default <A extends Annotation> AnnotationUsage<A> getEffectiveAnnotationUsage(AnnotationDescriptor<A> descriptor) {
+		return getEffectiveAnnotationUsage( descriptor, AnnotationInheritance.JAVA );
+	}
+
+	/**
+	 * Whether a usage of any of the given annotations is effective for this class.
+	 *
+	 * @see #getEffectiveAnnotationUsage(AnnotationDescriptor, AnnotationInheritance)
+	 * @see #hasAnyAnnotationUsage(AnnotationDescriptorSet)
+	 */
+	boolean hasAnyEffectiveAnnotationUsage(AnnotationDescriptorSet descriptors, AnnotationInheritance inheritance);
+
 	/**
 	 * Details for the interfaces this class implements.
 	 */
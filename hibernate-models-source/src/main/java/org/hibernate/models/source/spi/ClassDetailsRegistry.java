@@ -6,10 +6,15 @@
  */
 package org.hibernate.models.source.spi;
 
+import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.source.AnnotationAccessException;
 import org.hibernate.models.source.UnknownClassException;
+import org.hibernate.models.source.internal.ClassDetailsHelper;
 
 /**
  * Registry of all {@link ClassDetails} references
@@ -46,6 +51,42 @@ public interface ClassDetailsRegistry {
 	 */
 	void forEachDirectSubType(String superTypeName, ClassDetailsConsumer consumer);
 
+	/**
+	 * Get all subtypes (direct and indirect) of the named managed-class, in depth-first order -
+	 * each subtype is followed by its own subtypes.  Returns an empty list if there are none.
+	 */
+	List<ClassDetails> getAllSubTypes(String superTypeName);
+
+	/**
+	 * Visit each subtype (direct and indirect) of the named managed-class, in the
+	 * same order as {@linkplain #getAllSubTypes}
+	 */
+	void forEachSubType(String superTypeName, ClassDetailsConsumer consumer);
+
+	/**
+	 * Visit each subtype (direct and indirect) of the named managed-class which has a
+	 * usage of the given annotation, in the same order as {@linkplain #getAllSubTypes}
+	 */
+	void forEachSubType(String superTypeName, Class<? extends Annotation> annotationType, ClassDetailsConsumer consumer);
+
+	/**
+	 * Whether {@code classDetails} is an implementor of {@code checkType}.
+	 * <p/>
+	 * Same as {@linkplain ClassDetails#isImplementor(ClassDetails)}, but registries may answer
+	 * this without walking the hierarchy.
+	 */
+	default boolean isImplementor(ClassDetails classDetails, ClassDetails checkType) {
+		return classDetails.isImplementor( checkType );
+	}
+
+	/**
+	 * All super types of the given class - its superclasses, nearest first, followed by
+	 * all interfaces it implements directly or indirectly.
+	 */
+	default List<ClassDetails> getAllSuperTypes(ClassDetails classDetails) {
+		return ClassDetailsHelper.collectSuperTypes( classDetails );
+	}
+
 	/**
 	 * Adds a managed-class descriptor using its {@linkplain ClassDetails#getName() name}
 	 * as the registration key.
@@ -75,6 +116,20 @@ public interface ClassDetailsRegistry {
 	 */
 	ClassDetails resolveClassDetails(String name, ClassDetailsCreator creator);
 
+	/**
+	 * Resolves a managed-class by name, for the purpose of modifying it (applying XML overrides, e.g.).
+	 * <p/>
+	 * For registries layered over a shared parent registry, a class registered with the parent is
+	 * first copied into this registry ("copy-on-write") so that the modifications are not visible
+	 * through the parent.  The classes referring to it (its subtypes, classes with members of that
+	 * type, ...) are copied as well, so that they refer to the copy.  Such copies are built from the
+	 * original class source, and classes already resolved for modification are not copied again -
+	 * classes should therefore be resolved for modification before any are modified.
+	 */
+	default ClassDetails resolveClassDetailsForModification(String name) {
+		return resolveClassDetails( name );
+	}
+
 	/**
 	 * Resolve (find or create) the named PackageDetails.  If there is currently no
 	 * such registration, one is created using the specified {@code creator}.
@@ -101,6 +156,88 @@ public interface ClassDetailsRegistry {
 	 */
 	void forEachPackageDetails(PackageDetailsConsumer consumer);
 
+	/**
+	 * Find the named package or, if not registered, the nearest registered package enclosing it -
+	 * e.g. {@code com.acme} for {@code com.acme.model}.  Accepts either the package name or the
+	 * name of its {@code package-info} class.
+	 *
+	 * @return The PackageDetails, or null
+	 */
+	PackageDetails findNearestPackageDetails(String packageName);
+
+	/**
+	 * Find the nearest package - the named package or an enclosing one - with a usage of the given
+	 * annotation (or its {@linkplain AnnotationDescriptor#getRepeatableContainer() container}).
+	 * <p/>
+	 * Results are memoized per package and annotation, so resolving the same annotation for
+	 * many classes of a package costs a single lookup each.
+	 *
+	 * @return The PackageDetails, or null
+	 */
+	PackageDetails findNearestPackageDetails(String packageName, AnnotationDescriptor<?> descriptor);
+
+	/**
+	 * The usage of the given annotation from the {@linkplain #findNearestPackageDetails(String, AnnotationDescriptor)
+	 * nearest package} defining it, or {@code null}.
+	 * <p/>
+	 * For {@linkplain AnnotationDescriptor#isRepeatable() repeatable} annotations, the package may define it through
+	 * its container - a single contained usage is returned, the same as {@linkplain AnnotationTarget#getAnnotationUsage}.
+	 *
+	 * @throws AnnotationAccessException If the package defines more than one usage of a repeatable annotation
+	 */
+	default <A extends Annotation> AnnotationUsage<A> findPackageAnnotationUsage(
+			String packageName,
+			AnnotationDescriptor<A> descriptor) {
+		final PackageDetails packageDetails = findNearestPackageDetails( packageName, descriptor );
+		if ( packageDetails == null ) {
+			return null;
+		}
+		if ( !descriptor.isRepeatable() ) {
+			return packageDetails.getAnnotationUsage( descriptor );
+		}
+
+		// the direct usage and those from the container, flattened once per package
+		final List<AnnotationUsage<A>> usages = packageDetails.getRepeatedAnnotationUsages( descriptor );
+		if ( usages.isEmpty() ) {
+			return null;
+		}
+		if ( usages.size() > 1 ) {
+			throw new AnnotationAccessException(
+					"Found more than one usage of " + descriptor.getName() + " on package " + packageDetails.getName()
+			);
+		}
+		return usages.get( 0 );
+	}
+
+	/**
+	 * Same as {@linkplain #findPackageAnnotationUsage(String, AnnotationDescriptor)}, starting from
+	 * the package of the given class.  Returns {@code null} for dynamic models.
+	 */
+	default <A extends Annotation> AnnotationUsage<A> findPackageAnnotationUsage(
+			ClassDetails classDetails,
+			AnnotationDescriptor<A> descriptor) {
+		if ( classDetails.getClassName() == null ) {
+			return null;
+		}
+		return findPackageAnnotationUsage( StringHelper.qualifier( classDetails.getClassName() ), descriptor );
+	}
+
+	/**
+	 * The usages of the given {@linkplain AnnotationDescriptor#isRepeatable() repeatable} annotation from the
+	 * {@linkplain #findNearestPackageDetails(String, AnnotationDescriptor) nearest package} defining it, or
+	 * an empty list
+	 *
+	 * @see AnnotationTarget#getRepeatedAnnotationUsages(AnnotationDescriptor)
+	 */
+	default <A extends Annotation> List<AnnotationUsage<A>> findPackageAnnotationUsages(
+			String packageName,
+			AnnotationDescriptor<A> descriptor) {
+		final PackageDetails packageDetails = findNearestPackageDetails( packageName, descriptor );
+		return packageDetails == null
+				? Collections.emptyList()
+				: packageDetails.getRepeatedAnnotationUsages( descriptor );
+	}
+
 	@FunctionalInterface
 	interface PackageDetailsConsumer {
 		void consume(PackageDetails packageDetails);
@@ -0,0 +1,24 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+/**
+ * A {@linkplain TypeDetails.Kind#CLASS class} (or primitive) reference
+ *
+ * @author Steve Ebersole
+ */
+public interface ClassTypeDetails extends TypeDetails {
+	@Override
+	default Kind getTypeKind() {
+		return Kind.CLASS;
+	}
+
+	/**
+	 * The details of the referenced class
+	 */
+	ClassDetails getClassDetails();
+}
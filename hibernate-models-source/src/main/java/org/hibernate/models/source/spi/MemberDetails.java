@@ -8,6 +8,8 @@ package org.hibernate.models.source.spi;
 
 import java.lang.reflect.Member;
 
+import org.hibernate.models.source.internal.TypeDetailsHelper;
+
 /**
  * Details about a "{@linkplain Member member}" while processing annotations.
  *
@@ -32,6 +34,36 @@ public interface MemberDetails extends AnnotationTarget {
 	 */
 	ClassDetails getType();
 
+	/**
+	 * The name of the member's {@linkplain #getType() type}, or {@code null} when there is no type.
+	 * <p/>
+	 * Implementations generally know this without resolving the type's details, so prefer this
+	 * over {@code getType().getName()} for simple checks and comparisons.
+	 */
+	default String getTypeName() {
+		final ClassDetails type = getType();
+		return type == null ? null : type.getName();
+	}
+
+	/**
+	 * The generic form of the member's {@linkplain #getType() type}, e.g. {@code List<String>}
+	 * rather than just {@code List}, or {@code null} when there is no type.
+	 */
+	default TypeDetails getGenericType() {
+		return TypeDetailsHelper.forClass( getType() );
+	}
+
+	/**
+	 * The {@linkplain #getGenericType() generic type} of the member with any type variables
+	 * resolved relative to the given {@code container}, a subtype of the class declaring the
+	 * member.  E.g., given {@code T id} declared on {@code Base<T>} and
+	 * {@code class Person extends Base<Integer>}, the type of {@code id} relative to
+	 * {@code Person} is {@code Integer}.
+	 */
+	default TypeDetails resolveRelativeType(ClassDetails container) {
+		return TypeDetailsHelper.resolveRelativeType( getGenericType(), container );
+	}
+
 	/**
 	 * Whether the member is a field.
 	 *
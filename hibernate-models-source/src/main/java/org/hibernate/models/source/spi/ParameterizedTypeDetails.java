@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+import java.util.List;
+
+/**
+ * A {@linkplain TypeDetails.Kind#PARAMETERIZED_TYPE parameterized} class reference, e.g. {@code List<String>}
+ *
+ * @author Steve Ebersole
+ */
+public interface ParameterizedTypeDetails extends TypeDetails {
+	@Override
+	default Kind getTypeKind() {
+		return Kind.PARAMETERIZED_TYPE;
+	}
+
+	/**
+	 * The details of the (erased) class, e.g. {@code List}
+	 */
+	ClassDetails getRawClassDetails();
+
+	/**
+	 * The name of the raw class, available without resolving its details
+	 */
+	String getRawClassName();
+
+	/**
+	 * The type arguments, e.g. {@code String}
+	 */
+	List<TypeDetails> getArguments();
+}
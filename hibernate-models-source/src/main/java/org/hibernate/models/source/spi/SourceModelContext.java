@@ -19,4 +19,11 @@ public interface SourceModelContext {
 	 * Registry of managed-classes
 	 */
 	ClassDetailsRegistry getClassDetailsRegistry();
+
+	/**
+	 * Whether this context is the given context, or is (directly or not) layered over it
+	 */
+	default boolean isLayeredOver(SourceModelContext context) {
+		return context == this;
+	}
 }
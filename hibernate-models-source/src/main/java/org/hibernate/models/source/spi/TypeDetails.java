@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+/**
+ * Models a (possibly generic) type as it is used in a declaration - the type of a member,
+ * a type argument, the bound of a type variable, etc.  Unlike {@linkplain ClassDetails},
+ * which models the erased class, this retains the generic signature.
+ * <p/>
+ * Built from the Jandex signatures or using the {@linkplain java.lang.reflect.Type JDK type API},
+ * without loading any additional classes.  Type variables are resolved relative to a concrete
+ * subtype using {@linkplain MemberDetails#resolveRelativeType(ClassDetails)}.
+ *
+ * @see MemberDetails#getGenericType()
+ *
+ * @author Steve Ebersole
+ */
+public interface TypeDetails {
+	enum Kind {
+		/**
+		 * A class (or primitive) reference
+		 *
+		 * @see ClassTypeDetails
+		 */
+		CLASS,
+		/**
+		 * A class reference with type arguments
+		 *
+		 * @see ParameterizedTypeDetails
+		 */
+		PARAMETERIZED_TYPE,
+		/**
+		 * A reference to a type variable
+		 *
+		 * @see TypeVariableDetails
+		 */
+		TYPE_VARIABLE,
+		/**
+		 * A wildcard type argument
+		 *
+		 * @see WildcardTypeDetails
+		 */
+		WILDCARD_TYPE,
+		/**
+		 * An array type
+		 *
+		 * @see ArrayTypeDetails
+		 */
+		ARRAY
+	}
+
+	Kind getTypeKind();
+
+	/**
+	 * A readable name for the type, including any type arguments
+	 */
+	String getName();
+}
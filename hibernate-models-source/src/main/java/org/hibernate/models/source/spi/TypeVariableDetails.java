@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+import java.util.List;
+
+/**
+ * A {@linkplain TypeDetails.Kind#TYPE_VARIABLE type variable} reference, e.g. {@code T}
+ *
+ * @author Steve Ebersole
+ */
+public interface TypeVariableDetails extends TypeDetails {
+	@Override
+	default Kind getTypeKind() {
+		return Kind.TYPE_VARIABLE;
+	}
+
+	/**
+	 * The name of the variable, e.g. {@code T}
+	 */
+	String getIdentifier();
+
+	/**
+	 * The name of the class which declares the variable, or {@code null} if the
+	 * variable is not declared by a class (a generic method, e.g.)
+	 */
+	String getDeclaringTypeName();
+
+	/**
+	 * The upper bounds of the variable.  Empty for an unbounded variable, or for a
+	 * recursive reference to a variable (e.g. {@code T extends Comparable<T>}).
+	 */
+	List<TypeDetails> getBounds();
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+/**
+ * A {@linkplain TypeDetails.Kind#WILDCARD_TYPE wildcard} type argument, e.g. {@code ? extends Number}
+ *
+ * @author Steve Ebersole
+ */
+public interface WildcardTypeDetails extends TypeDetails {
+	@Override
+	default Kind getTypeKind() {
+		return Kind.WILDCARD_TYPE;
+	}
+
+	/**
+	 * The bound of the wildcard, or {@code null} for an unbounded wildcard ({@code ?})
+	 */
+	TypeDetails getBound();
+
+	/**
+	 * Whether the {@linkplain #getBound() bound} is an upper ({@code extends}) bound,
+	 * as opposed to a lower ({@code super}) bound
+	 */
+	boolean isExtends();
+}
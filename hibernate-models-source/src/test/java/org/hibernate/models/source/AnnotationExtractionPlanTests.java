@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import org.hibernate.models.source.internal.AnnotationExtractionPlan;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jdk.JdkAnnotationUsage;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+public class AnnotationExtractionPlanTests {
+	@Test
+	void testPlanReuse() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( SimpleEntity.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, SimpleEntity.class );
+		final AnnotationDescriptor<Column> columnDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Column.class );
+
+		final AnnotationExtractionPlan plan = AnnotationExtractionPlan.forDescriptor( columnDescriptor );
+		assertThat( AnnotationExtractionPlan.forDescriptor( columnDescriptor ) ).isSameAs( plan );
+		assertThat( plan.getAttributeCount() ).isEqualTo( columnDescriptor.getAttributes().size() );
+		for ( int i = 0; i < columnDescriptor.getAttributes().size(); i++ ) {
+			assertThat( plan.positionOf( columnDescriptor.getAttributes().get( i ).getName() ) ).isEqualTo( i );
+		}
+		assertThat( plan.positionOf( "doesNotExist" ) ).isEqualTo( -1 );
+
+		// the Jandex usages
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( SimpleEntity.class.getName() );
+		final AnnotationUsage<Column> jandexUsage = classDetails.findFieldByName( "name" ).getAnnotationUsage( columnDescriptor );
+		assertThat( jandexUsage.<String>getAttributeValue( "name" ) ).isEqualTo( "the_name" );
+		assertThat( jandexUsage.<Integer>getAttributeValue( "length" ) ).isEqualTo( 50 );
+		assertThat( jandexUsage.<Boolean>getAttributeValue( "nullable" ) ).isTrue();
+	}
+
+	@Test
+	void testJdkUsage() throws NoSuchFieldException {
+		final Index index = SourceModelTestHelper.buildJandexIndex( SimpleEntity.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, SimpleEntity.class );
+		final AnnotationDescriptor<Column> columnDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Column.class );
+
+		final Column column = SimpleEntity.class.getDeclaredField( "name" ).getAnnotation( Column.class );
+		final JdkAnnotationUsage<Column> jdkUsage = new JdkAnnotationUsage<>( column, columnDescriptor, null, buildingContext );
+		assertThat( jdkUsage.<String>getAttributeValue( "name" ) ).isEqualTo( "the_name" );
+		assertThat( jdkUsage.<Integer>getAttributeValue( "length" ) ).isEqualTo( 50 );
+		assertThat( jdkUsage.<Boolean>getAttributeValue( "nullable" ) ).isTrue();
+		assertThat( jdkUsage.<Object>getAttributeValue( "doesNotExist" ) ).isNull();
+
+		assertThat( jdkUsage.setAttributeValue( "length", 100 ) ).isEqualTo( 50 );
+		assertThat( jdkUsage.<Integer>getAttributeValue( "length" ) ).isEqualTo( 100 );
+		assertThatThrownBy( () -> jdkUsage.setAttributeValue( "doesNotExist", "value" ) )
+				.isInstanceOf( UnknownAnnotationAttributeException.class );
+	}
+
+	@Entity
+	public static class SimpleEntity {
+		@Id
+		private Integer id;
+		@Column( name = "the_name", length = 50 )
+		private String name;
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.source.internal.AnnotationOrdinals;
+import org.hibernate.models.source.internal.AnnotationUsages;
+import org.hibernate.models.source.internal.MutableAnnotationTarget;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.dynamic.DynamicAnnotationUsage;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.DiscriminatorColumn;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.ExcludeDefaultListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SecondaryTable;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+public class AnnotationUsagesTests {
+	@SuppressWarnings("unchecked")
+	private static final Class<? extends Annotation>[] ANNOTATION_TYPES = new Class[] {
+			Entity.class,
+			Table.class,
+			Cacheable.class,
+			Access.class,
+			NamedQuery.class,
+			SecondaryTable.class,
+			Inheritance.class,
+			DiscriminatorValue.class,
+			DiscriminatorColumn.class,
+			EntityListeners.class,
+			ExcludeDefaultListeners.class
+	};
+
+	@Test
+	void testOrdinals() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( FullyAnnotated.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, FullyAnnotated.class );
+		final AnnotationDescriptor<Entity> descriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Entity.class );
+
+		assertThat( descriptor.getOrdinal() ).isEqualTo( AnnotationOrdinals.ordinalOf( Entity.class ) );
+		assertThat( AnnotationOrdinals.ordinalOf( Entity.class ) ).isEqualTo( AnnotationOrdinals.ordinalOf( Entity.class ) );
+		assertThat( AnnotationOrdinals.ordinalOf( Entity.class ) ).isNotEqualTo( AnnotationOrdinals.ordinalOf( Table.class ) );
+		assertThat( AnnotationOrdinals.ordinalCount() ).isGreaterThan( AnnotationOrdinals.ordinalOf( Table.class ) );
+	}
+
+	@Test
+	void testOrdinalTokens() {
+		final AnnotationOrdinals.Ordinal first = AnnotationOrdinals.acquire( "org.hibernate.models.test.First" );
+		final AnnotationOrdinals.Ordinal second = AnnotationOrdinals.acquire( "org.hibernate.models.test.Second" );
+
+		// reserved while reachable
+		assertThat( AnnotationOrdinals.acquire( "org.hibernate.models.test.First" ) ).isSameAs( first );
+		assertThat( first.getValue() ).isNotEqualTo( second.getValue() );
+		assertThat( AnnotationOrdinals.ordinalCount() ).isGreaterThan( Math.max( first.getValue(), second.getValue() ) );
+	}
+
+	@Test
+	void testTargetUsages() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( FullyAnnotated.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, FullyAnnotated.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( FullyAnnotated.class.getName() );
+
+		// more than the linear-scan limit
+		for ( Class<? extends Annotation> annotationType : ANNOTATION_TYPES ) {
+			assertThat( classDetails.getAnnotationUsage( annotationType ) ).isNotNull();
+		}
+		assertThat( classDetails.getAnnotationUsage( Id.class ) ).isNull();
+		assertThat( classDetails.getAnnotationUsage( Table.class ).<String>getAttributeValue( "name" ) ).isEqualTo( "fully" );
+
+		( (MutableAnnotationTarget) classDetails ).removeAnnotationUsage( Table.class );
+		assertThat( classDetails.getAnnotationUsage( Table.class ) ).isNull();
+		assertThat( classDetails.getAnnotationUsage( Entity.class ) ).isNotNull();
+	}
+
+	@Test
+	void testPutRemoveClear() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( FullyAnnotated.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, FullyAnnotated.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( FullyAnnotated.class.getName() );
+
+		final AnnotationUsages usages = new AnnotationUsages();
+		assertThat( usages.isEmpty() ).isTrue();
+
+		// add in reverse, so every insert shifts
+		final List<AnnotationUsage<?>> added = new ArrayList<>();
+		for ( int i = ANNOTATION_TYPES.length - 1; i >= 0; i-- ) {
+			final AnnotationUsage<?> usage = createUsage( ANNOTATION_TYPES[i], classDetails );
+			added.add( usage );
+			assertThat( usages.put( usage ) ).isNull();
+		}
+		assertThat( usages.size() ).isEqualTo( ANNOTATION_TYPES.length );
+
+		for ( AnnotationUsage<?> usage : added ) {
+			assertThat( usages.find( usage.getAnnotationType() ) ).isSameAs( usage );
+		}
+		assertThat( usages.find( Id.class ) ).isNull();
+
+		final AnnotationDescriptor<Table> tableDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Table.class );
+		final AnnotationUsage<Table> table = usages.find( tableDescriptor );
+		assertThat( table ).isNotNull();
+
+		// replace
+		final DynamicAnnotationUsage<Table> replacement = new DynamicAnnotationUsage<>( Table.class, classDetails );
+		assertThat( usages.put( replacement ) ).isSameAs( table );
+		assertThat( usages.find( tableDescriptor ) ).isSameAs( replacement );
+		assertThat( usages.size() ).isEqualTo( ANNOTATION_TYPES.length );
+
+		// iteration is in ordinal order
+		final List<Integer> ordinals = new ArrayList<>();
+		usages.forEach( (usage) -> ordinals.add( AnnotationOrdinals.ordinalOf( usage.getAnnotationType() ) ) );
+		assertThat( ordinals ).isSorted();
+
+		assertThat( usages.remove( Table.class ) ).isSameAs( replacement );
+		assertThat( usages.remove( Table.class ) ).isNull();
+		assertThat( usages.find( Table.class ) ).isNull();
+		assertThat( usages.size() ).isEqualTo( ANNOTATION_TYPES.length - 1 );
+
+		usages.trimToSize();
+		assertThat( usages.find( Entity.class ) ).isNotNull();
+
+		usages.clear();
+		assertThat( usages.isEmpty() ).isTrue();
+		assertThat( usages.find( Entity.class ) ).isNull();
+	}
+
+	@Test
+	void testSharedPresenceBits() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( FullyAnnotated.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, FullyAnnotated.class );
+		final AnnotationDescriptor<Entity> entityDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Entity.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( FullyAnnotated.class.getName() );
+		final AnnotationDescriptorSet entitySet = AnnotationDescriptorSet.of( entityDescriptor );
+
+		// an ordinal sharing the presence bit of @Entity
+		final int sharingOrdinal = entityDescriptor.getOrdinal() + 64;
+		final AnnotationUsages usages = new AnnotationUsages();
+		usages.put( sharingOrdinal, createUsage( Table.class, classDetails ) );
+		assertThat( usages.isPresent( sharingOrdinal ) ).isTrue();
+		assertThat( usages.isPresent( entityDescriptor.getOrdinal() ) ).isFalse();
+		assertThat( usages.find( entityDescriptor ) ).isNull();
+		assertThat( usages.isAnyPresent( entitySet ) ).isFalse();
+		assertThat( usages.findAll( entitySet ) ).isEmpty();
+		assertThat( entitySet.containsOrdinal( sharingOrdinal ) ).isFalse();
+
+		final AnnotationUsage<?> entity = createUsage( Entity.class, classDetails );
+		usages.put( entity );
+		assertThat( usages.isAnyPresent( entitySet ) ).isTrue();
+		assertThat( usages.findAll( entitySet ) ).containsExactly( entity );
+
+		// removing one keeps the bit for the other
+		assertThat( usages.remove( Entity.class ) ).isSameAs( entity );
+		assertThat( usages.isPresent( sharingOrdinal ) ).isTrue();
+		assertThat( usages.isAnyPresent( entitySet ) ).isFalse();
+	}
+
+	@Test
+	void testDescriptorSets() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( FullyAnnotated.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, FullyAnnotated.class );
+		final AnnotationDescriptorRegistry descriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( FullyAnnotated.class.getName() );
+
+		final AnnotationDescriptorSet idAnnotations = AnnotationDescriptorSet.of(
+				descriptorRegistry.getDescriptor( Id.class ),
+				descriptorRegistry.getDescriptor( EmbeddedId.class )
+		);
+		assertThat( idAnnotations.size() ).isEqualTo( 2 );
+		assertThat( idAnnotations.contains( descriptorRegistry.getDescriptor( Id.class ) ) ).isTrue();
+		assertThat( idAnnotations.contains( descriptorRegistry.getDescriptor( Entity.class ) ) ).isFalse();
+
+		assertThat( classDetails.hasAnyAnnotationUsage( idAnnotations ) ).isFalse();
+		assertThat( classDetails.getAnnotationUsages( idAnnotations ) ).isEmpty();
+
+		final FieldDetails idField = classDetails.findFieldByName( "id" );
+		assertThat( idField.hasAnyAnnotationUsage( idAnnotations ) ).isTrue();
+		assertThat( idField.getAnnotationUsages( idAnnotations ) ).hasSize( 1 );
+
+		final AnnotationDescriptorSet tableAnnotations = AnnotationDescriptorSet.of(
+				descriptorRegistry.getDescriptor( Table.class ),
+				descriptorRegistry.getDescriptor( SecondaryTable.class ),
+				descriptorRegistry.getDescriptor( Id.class )
+		);
+		assertThat( classDetails.hasAnyAnnotationUsage( tableAnnotations ) ).isTrue();
+		final List<AnnotationUsage<?>> tableUsages = classDetails.getAnnotationUsages( tableAnnotations );
+		assertThat( tableUsages ).hasSize( 2 );
+		assertThat( tableUsages.stream().map( AnnotationUsage::getAnnotationType ) )
+				.containsExactlyInAnyOrder( Table.class, SecondaryTable.class );
+
+		( (MutableAnnotationTarget) classDetails ).removeAnnotationUsage( Table.class );
+		( (MutableAnnotationTarget) classDetails ).removeAnnotationUsage( SecondaryTable.class );
+		assertThat( classDetails.hasAnyAnnotationUsage( tableAnnotations ) ).isFalse();
+	}
+
+	@Test
+	void testRepeatedAndNamedUsages() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Queried.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, Queried.class );
+		final AnnotationDescriptor<NamedQuery> namedQueryDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( NamedQuery.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( Queried.class.getName() );
+
+		// only the container is directly present, but counts for presence checks
+		final AnnotationDescriptorSet namedQuerySet = AnnotationDescriptorSet.of( namedQueryDescriptor );
+		assertThat( classDetails.hasAnyAnnotationUsage( namedQuerySet ) ).isTrue();
+		assertThat( namedQuerySet.contains( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( NamedQueries.class ) ) ).isFalse();
+
+		// flattened from the container once, and kept
+		final List<AnnotationUsage<NamedQuery>> namedQueries = classDetails.getRepeatedAnnotationUsages( namedQueryDescriptor );
+		assertThat( namedQueries ).hasSize( 2 );
+		assertThat( classDetails.getRepeatedAnnotationUsages( namedQueryDescriptor ) ).isSameAs( namedQueries );
+		assertThatThrownBy( () -> namedQueries.add( namedQueries.get( 0 ) ) ).isInstanceOf( UnsupportedOperationException.class );
+
+		final AnnotationUsage<NamedQuery> second = classDetails.getNamedAnnotationUsage( namedQueryDescriptor, "second" );
+		assertThat( second ).isSameAs( namedQueries.get( 1 ) );
+		assertThat( classDetails.getNamedAnnotationUsage( namedQueryDescriptor, "first" ) ).isSameAs( namedQueries.get( 0 ) );
+		assertThat( classDetails.getNamedAnnotationUsage( namedQueryDescriptor, "from Queried", "query" ) ).isSameAs( namedQueries.get( 0 ) );
+		assertThat( classDetails.getNamedAnnotationUsage( namedQueryDescriptor, "second" ) ).isSameAs( second );
+		assertThat( classDetails.getNamedAnnotationUsage( namedQueryDescriptor, "third" ) ).isNull();
+
+		// non-repeated
+		assertThat( classDetails.getRepeatedAnnotationUsages( SequenceGenerator.class ) ).hasSize( 1 );
+		assertThat( classDetails.getNamedAnnotationUsage( SequenceGenerator.class, "queried_seq" ) ).isNotNull();
+
+		// discarded when the usages change
+		( (MutableAnnotationTarget) classDetails ).removeAnnotationUsage( NamedQueries.class );
+		assertThat( classDetails.getRepeatedAnnotationUsages( namedQueryDescriptor ) ).isEmpty();
+		assertThat( classDetails.getNamedAnnotationUsage( namedQueryDescriptor, "second" ) ).isNull();
+		assertThat( classDetails.hasAnyAnnotationUsage( namedQuerySet ) ).isFalse();
+	}
+
+	private static <A extends Annotation> AnnotationUsage<A> createUsage(Class<A> annotationType, ClassDetails target) {
+		return new DynamicAnnotationUsage<>( annotationType, target );
+	}
+
+	@Entity
+	@NamedQuery( name = "first", query = "from Queried" )
+	@NamedQuery( name = "second", query = "from Queried q where q.id = 1" )
+	@SequenceGenerator( name = "queried_seq" )
+	public static class Queried {
+		@Id
+		private Integer id;
+	}
+
+	@Entity
+	@Table( name = "fully" )
+	@Cacheable
+	@Access( AccessType.FIELD )
+	@NamedQuery( name = "fully", query = "from FullyAnnotated" )
+	@SecondaryTable( name = "fully_secondary" )
+	@Inheritance
+	@DiscriminatorValue( "fully" )
+	@DiscriminatorColumn( name = "fully_type" )
+	@EntityListeners( {} )
+	@ExcludeDefaultListeners
+	public static class FullyAnnotated {
+		@Id
+		private Integer id;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.models.source.internal.ClassDetailsRegistryConcurrent;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ConcurrentResolutionTests {
+	private static final int THREADS = 8;
+
+	@Test
+	void testSingleFlightResolution() throws Exception {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Root.class, Middle.class, Leaf1.class, Leaf2.class );
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				index,
+				null,
+				true
+		);
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		assertThat( classDetailsRegistry ).isInstanceOf( ClassDetailsRegistryConcurrent.class );
+
+		final String[] names = {
+				Leaf1.class.getName(),
+				Leaf2.class.getName(),
+				Middle.class.getName(),
+				Root.class.getName()
+		};
+
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final CountDownLatch startSignal = new CountDownLatch( 1 );
+			final List<Future<ClassDetails[]>> futures = new ArrayList<>();
+			for ( int t = 0; t < THREADS; t++ ) {
+				final int offset = t;
+				final Callable<ClassDetails[]> task = () -> {
+					startSignal.await();
+					final ClassDetails[] resolved = new ClassDetails[names.length];
+					for ( int i = 0; i < names.length; i++ ) {
+						// vary the order per thread to mix up which thread builds what
+						final int position = ( i + offset ) % names.length;
+						resolved[position] = classDetailsRegistry.resolveClassDetails( names[position] );
+					}
+					return resolved;
+				};
+				futures.add( executor.submit( task ) );
+			}
+			startSignal.countDown();
+
+			final ClassDetails[] first = futures.get( 0 ).get();
+			for ( Future<ClassDetails[]> future : futures ) {
+				final ClassDetails[] resolved = future.get();
+				for ( int i = 0; i < names.length; i++ ) {
+					assertThat( resolved[i] ).isNotNull();
+					assertThat( resolved[i] ).isSameAs( first[i] );
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		final ClassDetails middle = classDetailsRegistry.getClassDetails( Middle.class.getName() );
+		assertThat( classDetailsRegistry.getDirectSubTypes( Middle.class.getName() ) ).hasSize( 2 );
+		assertThat( classDetailsRegistry.getDirectSubTypes( Root.class.getName() ) ).containsExactly( middle );
+	}
+
+	public static class Root implements Serializable {
+	}
+
+	public static class Middle extends Root {
+	}
+
+	public static class Leaf1 extends Middle {
+	}
+
+	public static class Leaf2 extends Middle {
+	}
+}
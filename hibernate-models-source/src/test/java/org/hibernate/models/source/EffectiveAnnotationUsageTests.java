@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.models.source.internal.MutableAnnotationTarget;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.source.spi.AnnotationDescriptorSet;
+import org.hibernate.models.source.spi.AnnotationInheritance;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.MappedSuperclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class EffectiveAnnotationUsageTests {
+	@Test
+	void testJandexEffectiveUsages() {
+		final Index index = SourceModelTestHelper.buildJandexIndex(
+				Base.class,
+				Intermediate.class,
+				Leaf.class,
+				Tagged.class
+		);
+		verifyEffectiveUsages( new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, index ) );
+	}
+
+	@Test
+	void testJdkEffectiveUsages() {
+		verifyEffectiveUsages( new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null ) );
+	}
+
+	private static void verifyEffectiveUsages(SourceModelBuildingContextImpl buildingContext) {
+		final AnnotationDescriptorRegistry descriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+		final AnnotationDescriptor<Inheritance> inheritanceDescriptor = descriptorRegistry.getDescriptor( Inheritance.class );
+		final AnnotationDescriptor<Cacheable> cacheableDescriptor = descriptorRegistry.getDescriptor( Cacheable.class );
+		final AnnotationDescriptor<Entity> entityDescriptor = descriptorRegistry.getDescriptor( Entity.class );
+		final AnnotationDescriptor<MappedSuperclass> mappedSuperDescriptor = descriptorRegistry.getDescriptor( MappedSuperclass.class );
+		final AnnotationDescriptor<Tagged> taggedDescriptor = descriptorRegistry.getDescriptor( Tagged.class );
+
+		final AnnotationInheritance hierarchyInheritance = AnnotationInheritance.of(
+				AnnotationDescriptorSet.of( inheritanceDescriptor, cacheableDescriptor ),
+				AnnotationDescriptorSet.of( entityDescriptor, mappedSuperDescriptor )
+		);
+
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final ClassDetails leafDetails = classDetailsRegistry.resolveClassDetails( Leaf.class.getName() );
+		final ClassDetails intermediateDetails = classDetailsRegistry.resolveClassDetails( Intermediate.class.getName() );
+
+		// inherited from the mapped-superclass, skipping the intermediate (non-contributing) class
+		final AnnotationUsage<Inheritance> inheritance = leafDetails.getEffectiveAnnotationUsage( inheritanceDescriptor, hierarchyInheritance );
+		assertThat( inheritance ).isNotNull();
+		assertThat( inheritance.getAnnotationTarget().getName() ).isEqualTo( Base.class.getName() );
+		assertThat( inheritance.<InheritanceType>getAttributeValue( "strategy" ) ).isEqualTo( InheritanceType.JOINED );
+		assertThat( leafDetails.getEffectiveAnnotationUsage( inheritanceDescriptor, hierarchyInheritance ) ).isSameAs( inheritance );
+
+		// the local usage wins
+		final AnnotationUsage<Cacheable> cacheable = leafDetails.getEffectiveAnnotationUsage( cacheableDescriptor, hierarchyInheritance );
+		assertThat( cacheable.getAnnotationTarget().getName() ).isEqualTo( Leaf.class.getName() );
+		assertThat( cacheable.<Boolean>getAttributeValue( "value" ) ).isFalse();
+
+		// local usages are effective for the class itself, contributor or not
+		final AnnotationUsage<Inheritance> intermediateInheritance = intermediateDetails.getEffectiveAnnotationUsage( inheritanceDescriptor, hierarchyInheritance );
+		assertThat( intermediateInheritance.<InheritanceType>getAttributeValue( "strategy" ) ).isEqualTo( InheritanceType.SINGLE_TABLE );
+
+		// not inheritable
+		assertThat( leafDetails.getEffectiveAnnotationUsage( mappedSuperDescriptor, hierarchyInheritance ) ).isNull();
+		assertThat( leafDetails.hasAnyEffectiveAnnotationUsage( AnnotationDescriptorSet.of( mappedSuperDescriptor ), hierarchyInheritance ) ).isFalse();
+		assertThat( leafDetails.hasAnyEffectiveAnnotationUsage( AnnotationDescriptorSet.of( inheritanceDescriptor ), hierarchyInheritance ) ).isTrue();
+
+		// standard Java semantics - only @Inherited annotations
+		assertThat( leafDetails.getEffectiveAnnotationUsage( inheritanceDescriptor ) ).isNull();
+		final AnnotationUsage<Tagged> tagged = leafDetails.getEffectiveAnnotationUsage( taggedDescriptor );
+		assertThat( tagged ).isNotNull();
+		assertThat( tagged.getString( "value" ) ).isEqualTo( "intermediate" );
+		assertThat( leafDetails.getEffectiveAnnotationUsage( taggedDescriptor, hierarchyInheritance ).getString( "value" ) ).isEqualTo( "base" );
+
+		// the cached usages are a snapshot, not the live local usages - even with nothing inherited
+		final ClassDetails baseDetails = classDetailsRegistry.resolveClassDetails( Base.class.getName() );
+		final AnnotationUsage<Tagged> baseTagged = baseDetails.getEffectiveAnnotationUsage( taggedDescriptor );
+		assertThat( baseTagged ).isNotNull();
+		( (MutableAnnotationTarget) baseDetails ).removeAnnotationUsage( Tagged.class );
+		assertThat( baseDetails.getAnnotationUsage( taggedDescriptor ) ).isNull();
+		assertThat( baseDetails.getEffectiveAnnotationUsage( taggedDescriptor ) ).isSameAs( baseTagged );
+	}
+
+	@Retention( RetentionPolicy.RUNTIME )
+	@Target( ElementType.TYPE )
+	@Inherited
+	public @interface Tagged {
+		String value();
+	}
+
+	@MappedSuperclass
+	@Inheritance( strategy = InheritanceType.JOINED )
+	@Cacheable
+	@Tagged( "base" )
+	public static class Base {
+		@Id
+		private Integer id;
+	}
+
+	@Inheritance( strategy = InheritanceType.SINGLE_TABLE )
+	@Tagged( "intermediate" )
+	public static class Intermediate extends Base {
+	}
+
+	@Entity
+	@Cacheable( false )
+	public static class Leaf extends Intermediate {
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.ArrayTypeDetails;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.ParameterizedTypeDetails;
+import org.hibernate.models.source.spi.TypeDetails;
+import org.hibernate.models.source.spi.TypeVariableDetails;
+import org.hibernate.models.source.spi.WildcardTypeDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class GenericTypeTests {
+	@Test
+	void testJandexGenericTypes() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Base.class, Middle.class, Concrete.class );
+		verifyGenericTypes( new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, index ) );
+	}
+
+	@Test
+	void testJdkGenericTypes() {
+		verifyGenericTypes( new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null ) );
+	}
+
+	private static void verifyGenericTypes(SourceModelBuildingContextImpl buildingContext) {
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final ClassDetails baseDetails = classDetailsRegistry.resolveClassDetails( Base.class.getName() );
+		final ClassDetails middleDetails = classDetailsRegistry.resolveClassDetails( Middle.class.getName() );
+		final ClassDetails concreteDetails = classDetailsRegistry.resolveClassDetails( Concrete.class.getName() );
+
+		assertThat( baseDetails.getTypeParameters() ).hasSize( 2 );
+		assertThat( baseDetails.getTypeParameters().get( 0 ).getIdentifier() ).isEqualTo( "I" );
+		assertThat( concreteDetails.getGenericSuperType().getName() )
+				.isEqualTo( Middle.class.getName() + "<java.lang.String>" );
+
+		// declared types
+		final FieldDetails idField = baseDetails.findFieldByName( "id" );
+		assertThat( idField.getGenericType().getTypeKind() ).isEqualTo( TypeDetails.Kind.TYPE_VARIABLE );
+		final TypeVariableDetails idType = (TypeVariableDetails) idField.getGenericType();
+		assertThat( idType.getIdentifier() ).isEqualTo( "I" );
+		assertThat( idType.getDeclaringTypeName() ).isEqualTo( Base.class.getName() );
+		assertThat( idField.getType().getName() ).isEqualTo( Object.class.getName() );
+
+		final FieldDetails valuesField = baseDetails.findFieldByName( "values" );
+		final ParameterizedTypeDetails valuesType = (ParameterizedTypeDetails) valuesField.getGenericType();
+		assertThat( valuesType.getRawClassName() ).isEqualTo( List.class.getName() );
+		assertThat( valuesType.getArguments().get( 0 ).getTypeKind() ).isEqualTo( TypeDetails.Kind.TYPE_VARIABLE );
+
+		// resolved relative to the concrete subtype
+		final TypeDetails resolvedId = idField.resolveRelativeType( concreteDetails );
+		assertThat( resolvedId.getTypeKind() ).isEqualTo( TypeDetails.Kind.CLASS );
+		assertThat( resolvedId.getName() ).isEqualTo( Integer.class.getName() );
+		assertThat( idField.resolveRelativeType( concreteDetails ) ).isSameAs( resolvedId );
+		assertThat( baseDetails.findMethodByName( "getId" ).resolveRelativeType( concreteDetails ).getName() )
+				.isEqualTo( Integer.class.getName() );
+
+		assertThat( valuesField.resolveRelativeType( concreteDetails ).getName() )
+				.isEqualTo( "java.util.List<java.lang.String>" );
+
+		final TypeDetails resolvedArray = baseDetails.findFieldByName( "array" ).resolveRelativeType( concreteDetails );
+		assertThat( resolvedArray.getTypeKind() ).isEqualTo( TypeDetails.Kind.ARRAY );
+		assertThat( ( (ArrayTypeDetails) resolvedArray ).getComponentType().getName() ).isEqualTo( String.class.getName() );
+
+		final ParameterizedTypeDetails resolvedMap = (ParameterizedTypeDetails) baseDetails
+				.findFieldByName( "map" )
+				.resolveRelativeType( concreteDetails );
+		final WildcardTypeDetails mapValueType = (WildcardTypeDetails) resolvedMap.getArguments().get( 1 );
+		assertThat( mapValueType.isExtends() ).isTrue();
+		assertThat( mapValueType.getBound().getName() ).isEqualTo( String.class.getName() );
+
+		// partially resolved relative to the intermediate subtype
+		final ParameterizedTypeDetails middleValuesType = (ParameterizedTypeDetails) valuesField.resolveRelativeType( middleDetails );
+		final TypeVariableDetails middleValueType = (TypeVariableDetails) middleValuesType.getArguments().get( 0 );
+		assertThat( middleValueType.getIdentifier() ).isEqualTo( "X" );
+		assertThat( middleValueType.getDeclaringTypeName() ).isEqualTo( Middle.class.getName() );
+
+		// non-generic types resolve to themselves
+		final FieldDetails nameField = concreteDetails.findFieldByName( "name" );
+		assertThat( nameField.resolveRelativeType( concreteDetails ) ).isSameAs( nameField.getGenericType() );
+	}
+
+	@MappedSuperclass
+	public static class Base<I, V extends Comparable<V>> {
+		@Id
+		protected I id;
+		protected List<V> values;
+		protected V[] array;
+		protected Map<String, ? extends V> map;
+
+		public I getId() {
+			return id;
+		}
+	}
+
+	@MappedSuperclass
+	public static class Middle<X extends Comparable<X>> extends Base<Integer, X> {
+	}
+
+	@Entity
+	public static class Concrete extends Middle<String> {
+		private String name;
+	}
+}
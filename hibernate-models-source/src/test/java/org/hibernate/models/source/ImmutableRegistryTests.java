@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.source.internal.ClassDetailsRegistryImmutable;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ImmutableRegistryTests {
+	@Test
+	void testSnapshot() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Root.class, Branch1.class, Branch2.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext(
+				index,
+				Root.class,
+				Branch1.class,
+				Branch2.class
+		);
+		final ClassDetailsRegistry mutableRegistry = buildingContext.getClassDetailsRegistry();
+		final ClassDetailsRegistry immutableRegistry = mutableRegistry.makeImmutableCopy();
+		assertThat( immutableRegistry ).isInstanceOf( ClassDetailsRegistryImmutable.class );
+
+		mutableRegistry.forEachClassDetails( (classDetails) -> {
+			assertThat( immutableRegistry.getClassDetails( classDetails.getClassName() ) ).isSameAs( classDetails );
+		} );
+
+		final ClassDetails root = immutableRegistry.getClassDetails( Root.class.getName() );
+		assertThat( immutableRegistry.getDirectSubTypes( Root.class.getName() ) )
+				.containsExactlyInAnyOrderElementsOf( mutableRegistry.getDirectSubTypes( Root.class.getName() ) );
+		assertThat( immutableRegistry.getDirectSubTypes( Root.class.getName() ) ).hasSize( 2 );
+		assertThat( immutableRegistry.findClassDetails( "does.not.Exist" ) ).isNull();
+		assertThat( immutableRegistry.resolveClassDetails( Root.class.getName() ) ).isSameAs( root );
+		assertThatThrownBy( () -> immutableRegistry.resolveClassDetails( "does.not.Exist" ) )
+				.isInstanceOf( ModelsException.class );
+
+		final ClassDetailsRegistryImmutable.Footprint footprint = ( (ClassDetailsRegistryImmutable) immutableRegistry ).getFootprint();
+		final int[] classCount = new int[1];
+		mutableRegistry.forEachClassDetails( (classDetails) -> classCount[0]++ );
+		assertThat( footprint.getClassCount() ).isEqualTo( classCount[0] );
+		assertThat( footprint.getTableSlots() ).isGreaterThan( footprint.getClassCount() );
+		assertThat( footprint.getEstimatedBytes() ).isPositive();
+	}
+
+	@Test
+	void testSubTypeClosure() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Root.class, Branch1.class, Branch2.class, Leaf1.class, Leaf2.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext(
+				index,
+				Root.class,
+				Branch1.class,
+				Branch2.class,
+				Leaf1.class,
+				Leaf2.class
+		);
+		final ClassDetailsRegistry mutableRegistry = buildingContext.getClassDetailsRegistry();
+		final ClassDetailsRegistry immutableRegistry = mutableRegistry.makeImmutableCopy();
+
+		final ClassDetails branch1 = immutableRegistry.getClassDetails( Branch1.class.getName() );
+		final ClassDetails branch2 = immutableRegistry.getClassDetails( Branch2.class.getName() );
+		final ClassDetails leaf1 = immutableRegistry.getClassDetails( Leaf1.class.getName() );
+		final ClassDetails leaf2 = immutableRegistry.getClassDetails( Leaf2.class.getName() );
+
+		final List<ClassDetails> allSubTypes = immutableRegistry.getAllSubTypes( Root.class.getName() );
+		assertThat( allSubTypes ).containsExactlyInAnyOrder( branch1, branch2, leaf1, leaf2 );
+		assertThat( allSubTypes ).containsExactlyInAnyOrderElementsOf( mutableRegistry.getAllSubTypes( Root.class.getName() ) );
+		// depth-first - each subtype is followed by its own subtypes
+		final int branch1Position = allSubTypes.indexOf( branch1 );
+		assertThat( allSubTypes.subList( branch1Position + 1, branch1Position + 3 ) ).containsExactlyInAnyOrder( leaf1, leaf2 );
+		// stable
+		assertThat( immutableRegistry.getAllSubTypes( Root.class.getName() ) ).containsExactlyElementsOf( allSubTypes );
+
+		assertThat( immutableRegistry.getAllSubTypes( Branch1.class.getName() ) ).containsExactlyInAnyOrder( leaf1, leaf2 );
+		assertThat( immutableRegistry.getAllSubTypes( Leaf1.class.getName() ) ).isEmpty();
+		assertThat( immutableRegistry.getAllSubTypes( "does.not.Exist" ) ).isEmpty();
+
+		final List<ClassDetails> visited = new ArrayList<>();
+		immutableRegistry.forEachSubType( Root.class.getName(), visited::add );
+		assertThat( visited ).containsExactlyElementsOf( allSubTypes );
+
+		final List<ClassDetails> marked = new ArrayList<>();
+		immutableRegistry.forEachSubType( Root.class.getName(), Marker.class, marked::add );
+		assertThat( marked ).containsExactlyInAnyOrder( branch2, leaf2 );
+	}
+
+	@Retention( RetentionPolicy.RUNTIME )
+	@Target( ElementType.TYPE )
+	public @interface Marker {
+	}
+
+	public static class Root {
+	}
+
+	public static class Branch1 extends Root {
+	}
+
+	@Marker
+	public static class Branch2 extends Root {
+	}
+
+	public static class Leaf1 extends Branch1 {
+	}
+
+	@Marker
+	public static class Leaf2 extends Branch1 {
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import org.hibernate.models.source.internal.AnnotationOrdinals;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jandex.JandexAnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class JandexAnnotationDescriptorTests {
+	@Test
+	void testDescriptorFromIndex() {
+		final Index index = SourceModelTestHelper.buildJandexIndex(
+				TaggedEntity.class,
+				Tag.class,
+				Tags.class
+		);
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, TaggedEntity.class );
+		final AnnotationDescriptorRegistry descriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( TaggedEntity.class.getName() );
+
+		final AnnotationDescriptor<Tag> tagDescriptor = descriptorRegistry.findDescriptor( DotName.createSimple( Tag.class.getName() ) );
+		assertThat( tagDescriptor ).isInstanceOf( JandexAnnotationDescriptor.class );
+		assertThat( tagDescriptor.getName() ).isEqualTo( Tag.class.getName() );
+		assertThat( tagDescriptor.getOrdinal() ).isEqualTo( AnnotationOrdinals.acquire( Tag.class.getName() ).getValue() );
+		assertThat( tagDescriptor.getOrdinal() ).isEqualTo( AnnotationOrdinals.ordinalOf( Tag.class ) );
+		assertThat( tagDescriptor.getAllowableTargets() ).containsExactlyInAnyOrder( AnnotationTarget.Kind.CLASS, AnnotationTarget.Kind.FIELD );
+		assertThat( tagDescriptor.isInherited() ).isFalse();
+		assertThat( tagDescriptor.getAttributes() ).hasSize( 2 );
+		assertThat( tagDescriptor.getAttribute( "value" ).getName() ).isEqualTo( "value" );
+		assertThat( tagDescriptor.getAttribute( "priority" ).getName() ).isEqualTo( "priority" );
+
+		// the repeatable container is resolved by name as well
+		final AnnotationDescriptor<Tags> tagsDescriptor = descriptorRegistry.findDescriptor( DotName.createSimple( Tags.class.getName() ) );
+		assertThat( tagsDescriptor ).isInstanceOf( JandexAnnotationDescriptor.class );
+		assertThat( tagDescriptor.getRepeatableContainer() ).isSameAs( tagsDescriptor );
+		assertThat( descriptorRegistry.getContainedRepeatableDescriptor( tagsDescriptor ) ).isSameAs( tagDescriptor );
+
+		// building the model did not need the annotation Class
+		assertThat( ( (JandexAnnotationDescriptor<Tag>) tagDescriptor ).isAnnotationTypeLoaded() ).isFalse();
+
+		final AnnotationUsage<Tag> tagUsage = classDetails.findFieldByName( "name" ).getAnnotationUsage( tagDescriptor );
+		assertThat( tagUsage ).isNotNull();
+		assertThat( tagUsage.<String>getAttributeValue( "value" ) ).isEqualTo( "important" );
+		assertThat( tagUsage.<Integer>getAttributeValue( "priority" ) ).isEqualTo( 1 );
+
+		final AnnotationUsage<Tags> tagsUsage = classDetails.getAnnotationUsage( tagsDescriptor );
+		assertThat( tagsUsage ).isNotNull();
+		final List<AnnotationUsage<Tag>> tags = tagsUsage.getAttributeValue( "value" );
+		assertThat( tags ).hasSize( 2 );
+		assertThat( tags.get( 0 ).<String>getAttributeValue( "value" ) ).isEqualTo( "first" );
+		assertThat( tags.get( 1 ).<Integer>getAttributeValue( "priority" ) ).isEqualTo( 5 );
+
+		// Class-based access resolves to the same descriptor
+		assertThat( descriptorRegistry.getDescriptor( Tag.class ) ).isSameAs( tagDescriptor );
+		assertThat( classDetails.findFieldByName( "name" ).getAnnotationUsage( Tag.class ) ).isSameAs( tagUsage );
+	}
+
+	@Test
+	void testRegisteredDescriptorsByName() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( TaggedEntity.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, TaggedEntity.class );
+		final AnnotationDescriptorRegistry descriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+
+		final AnnotationDescriptor<Entity> entityDescriptor = descriptorRegistry.getDescriptor( Entity.class );
+		assertThat( descriptorRegistry.findDescriptor( DotName.createSimple( Entity.class.getName() ) ) ).isSameAs( entityDescriptor );
+	}
+
+	@Retention( RetentionPolicy.RUNTIME )
+	@Target( { ElementType.TYPE, ElementType.FIELD } )
+	@Repeatable( Tags.class )
+	public @interface Tag {
+		String value();
+		int priority() default 1;
+	}
+
+	@Retention( RetentionPolicy.RUNTIME )
+	@Target( { ElementType.TYPE, ElementType.FIELD } )
+	public @interface Tags {
+		Tag[] value();
+	}
+
+	@Entity
+	@Tag( "first" )
+	@Tag( value = "second", priority = 5 )
+	public static class TaggedEntity {
+		@Id
+		private Integer id;
+		@Tag( "important" )
+		private String name;
+	}
+}
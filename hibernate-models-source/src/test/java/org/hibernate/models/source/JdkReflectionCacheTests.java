@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.lang.reflect.Field;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jdk.JdkClassDetails;
+import org.hibernate.models.source.internal.jdk.JdkReflectionCache;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class JdkReflectionCacheTests {
+	@Test
+	void testSharedReflection() {
+		final Field[] fields = JdkReflectionCache.getDeclaredFields( CachedEntity.class );
+		assertThat( JdkReflectionCache.getDeclaredFields( CachedEntity.class ) ).isSameAs( fields );
+		assertThat( JdkReflectionCache.getAnnotations( CachedEntity.class ) )
+				.isSameAs( JdkReflectionCache.getAnnotations( CachedEntity.class ) );
+		assertThat( JdkReflectionCache.getDeclaredMethods( CachedEntity.class ) )
+				.isSameAs( JdkReflectionCache.getDeclaredMethods( CachedEntity.class ) );
+
+		for ( int i = 0; i < fields.length; i++ ) {
+			assertThat( JdkReflectionCache.getAnnotations( fields[i] ) )
+					.isSameAs( JdkReflectionCache.getAnnotations( fields[i] ) )
+					.containsExactlyInAnyOrder( fields[i].getAnnotations() );
+		}
+	}
+
+	@Test
+	void testMultipleContexts() {
+		// not part of the index, so both contexts use JDK reflection
+		final Index index = SourceModelTestHelper.buildJandexIndex();
+
+		for ( int i = 0; i < 2; i++ ) {
+			final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext(
+					index,
+					CachedEntity.class
+			);
+			final ClassDetails classDetails = buildingContext
+					.getClassDetailsRegistry()
+					.findClassDetails( CachedEntity.class.getName() );
+			assertThat( classDetails ).isInstanceOf( JdkClassDetails.class );
+			assertThat( classDetails.getAnnotationUsage( Entity.class ) ).isNotNull();
+			assertThat( classDetails.getFields() ).hasSize( 2 );
+
+			final FieldDetails idField = classDetails.findFieldByName( "id" );
+			assertThat( idField.getAnnotationUsage( Id.class ) ).isNotNull();
+			assertThat( idField.getAnnotationUsage( Column.class ) ).isNull();
+
+			final FieldDetails nameField = classDetails.findFieldByName( "name" );
+			assertThat( nameField.getAnnotationUsage( Id.class ) ).isNull();
+			assertThat( nameField.getAnnotationUsage( Column.class ).<String>getAttributeValue( "name" ) )
+					.isEqualTo( "the_name" );
+		}
+	}
+
+	@Entity
+	public static class CachedEntity {
+		@Id
+		private Integer id;
+		@Column( name = "the_name" )
+		private String name;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.util.List;
+
+import org.hibernate.models.source.internal.MutableClassDetails;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.SourceModelContext;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class LayeredRegistryTests {
+	@Test
+	void testCopyOnWrite() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Root.class, Sub.class, Owner.class, Other.class );
+		final SourceModelBuildingContextImpl sharedContext = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, index );
+		final ClassDetailsRegistry sharedRegistry = sharedContext.getClassDetailsRegistry();
+		final ClassDetails sharedRoot = sharedRegistry.resolveClassDetails( Root.class.getName() );
+		final ClassDetails sharedSub = sharedRegistry.resolveClassDetails( Sub.class.getName() );
+		final ClassDetails sharedOwner = sharedRegistry.resolveClassDetails( Owner.class.getName() );
+		assertThat( sharedSub.getSuperType() ).isSameAs( sharedRoot );
+
+		final SourceModelBuildingContextImpl unitContext1 = createUnitContext( index, sharedContext );
+		assertThat( unitContext1.isLayeredOver( sharedContext ) ).isTrue();
+		assertThat( sharedContext.isLayeredOver( unitContext1 ) ).isFalse();
+		final ClassDetailsRegistry unitRegistry1 = unitContext1.getClassDetailsRegistry();
+		final ClassDetailsRegistry unitRegistry2 = createUnitContext( index, sharedContext ).getClassDetailsRegistry();
+
+		// unmodified classes come from the shared registry
+		assertThat( unitRegistry1.resolveClassDetails( Root.class.getName() ) ).isSameAs( sharedRoot );
+		assertThat( unitRegistry2.resolveClassDetails( Sub.class.getName() ) ).isSameAs( sharedSub );
+
+		// resolving for modification copies the class and the classes referring to it
+		final ClassDetails unitRoot = unitRegistry1.resolveClassDetailsForModification( Root.class.getName() );
+		assertThat( unitRoot ).isNotSameAs( sharedRoot );
+		assertThat( unitRegistry1.resolveClassDetailsForModification( Root.class.getName() ) ).isSameAs( unitRoot );
+		assertThat( unitRegistry1.getClassDetails( Root.class.getName() ) ).isSameAs( unitRoot );
+
+		final ClassDetails unitSub = unitRegistry1.getClassDetails( Sub.class.getName() );
+		assertThat( unitSub ).isNotSameAs( sharedSub );
+		assertThat( unitSub.getSuperType() ).isSameAs( unitRoot );
+		assertThat( unitRegistry1.getDirectSubTypes( Root.class.getName() ) ).containsExactly( unitSub );
+
+		final ClassDetails unitOwner = unitRegistry1.getClassDetails( Owner.class.getName() );
+		assertThat( unitOwner ).isNotSameAs( sharedOwner );
+		assertThat( unitOwner.findFieldByName( "root" ).getType() ).isSameAs( unitRoot );
+		final AnnotationUsage<OneToMany> subs = unitOwner.findFieldByName( "subs" ).getAnnotationUsage( OneToMany.class );
+		assertThat( subs.<ClassDetails>getAttributeValue( "targetEntity" ) ).isSameAs( unitSub );
+
+		// unrelated classes are still shared
+		assertThat( unitRegistry1.resolveClassDetails( Other.class.getName() ) )
+				.isSameAs( sharedRegistry.resolveClassDetails( Other.class.getName() ) );
+
+		// modifications are not visible to the shared registry or other units
+		( (MutableClassDetails) unitRoot ).clearAnnotationUsages();
+		assertThat( unitRoot.getAnnotationUsage( MappedSuperclass.class ) ).isNull();
+		assertThat( sharedRoot.getAnnotationUsage( MappedSuperclass.class ) ).isNotNull();
+		assertThat( unitRegistry2.getClassDetails( Root.class.getName() ) ).isSameAs( sharedRoot );
+		assertThat( unitRegistry2.getDirectSubTypes( Root.class.getName() ) ).containsExactly( sharedSub );
+		assertThat( unitRegistry2.getClassDetails( Owner.class.getName() ) ).isSameAs( sharedOwner );
+		assertThat( sharedOwner.findFieldByName( "root" ).getType() ).isSameAs( sharedRoot );
+
+		// immutable copies see the copies
+		final ClassDetailsRegistry immutableRegistry = unitRegistry1.makeImmutableCopy();
+		assertThat( immutableRegistry.getClassDetails( Root.class.getName() ) ).isSameAs( unitRoot );
+		assertThat( immutableRegistry.getAllSubTypes( Root.class.getName() ) ).containsExactly( unitSub );
+	}
+
+	private static SourceModelBuildingContextImpl createUnitContext(Index index, SourceModelContext sharedContext) {
+		return new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				index,
+				null,
+				false,
+				sharedContext
+		);
+	}
+
+	@MappedSuperclass
+	public static class Root {
+		@Id
+		private Integer id;
+	}
+
+	@Entity
+	public static class Sub extends Root {
+		private String name;
+	}
+
+	@Entity
+	public static class Owner {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Root root;
+		@OneToMany( targetEntity = Sub.class )
+		private List<Object> subs;
+	}
+
+	@Entity
+	public static class Other {
+		@Id
+		private Integer id;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jandex.JandexAnnotationUsage;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+public class LazyAttributeValueTests {
+	@Test
+	void testLazyDecoding() {
+		// NOTE : the converter is intentionally not indexed
+		final Index index = SourceModelTestHelper.buildJandexIndex( EntityWithConvert.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, EntityWithConvert.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( EntityWithConvert.class.getName() );
+		final FieldDetails nameField = classDetails.findFieldByName( "name" );
+
+		final AnnotationUsage<Convert> convertUsage = nameField.getAnnotationUsage( Convert.class );
+		assertThat( convertUsage ).isInstanceOf( JandexAnnotationUsage.class );
+		final JandexAnnotationUsage<Convert> jandexUsage = (JandexAnnotationUsage<Convert>) convertUsage;
+
+		// reading the usage does not decode its attributes, nor resolve the referenced class
+		assertThat( jandexUsage.isAttributeResolved( "converter" ) ).isFalse();
+		assertThat( jandexUsage.isAttributeResolved( "attributeName" ) ).isFalse();
+		assertThat( buildingContext.getClassDetailsRegistry().findClassDetails( UpperCaseConverter.class.getName() ) ).isNull();
+
+		// the class is resolved after the registry is frozen - the frozen copy still sees it
+		final ClassDetailsRegistry frozenRegistry = buildingContext.getClassDetailsRegistry().makeImmutableCopy();
+		assertThat( frozenRegistry.findClassDetails( UpperCaseConverter.class.getName() ) ).isNull();
+
+		final ClassDetails converter = convertUsage.getAttributeValue( "converter" );
+		assertThat( converter.getName() ).isEqualTo( UpperCaseConverter.class.getName() );
+		assertThat( jandexUsage.isAttributeResolved( "converter" ) ).isTrue();
+		assertThat( jandexUsage.isAttributeResolved( "attributeName" ) ).isFalse();
+		assertThat( frozenRegistry.findClassDetails( UpperCaseConverter.class.getName() ) ).isSameAs( converter );
+		assertThat( frozenRegistry.getClassDetails( UpperCaseConverter.class.getName() ) ).isSameAs( converter );
+
+		// cached
+		assertThat( convertUsage.<ClassDetails>getAttributeValue( "converter" ) ).isSameAs( converter );
+
+		assertThat( convertUsage.<Object>getAttributeValue( "doesNotExist" ) ).isNull();
+	}
+
+	@Test
+	void testSetAttributeValue() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( EntityWithConvert.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext( index, EntityWithConvert.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.getClassDetails( EntityWithConvert.class.getName() );
+		final JandexAnnotationUsage<Convert> convertUsage = (JandexAnnotationUsage<Convert>) classDetails
+				.findFieldByName( "name" )
+				.getAnnotationUsage( Convert.class );
+
+		assertThat( convertUsage.setAttributeValue( "attributeName", "other" ) ).isEqualTo( "" );
+		assertThat( convertUsage.<String>getAttributeValue( "attributeName" ) ).isEqualTo( "other" );
+
+		assertThatThrownBy( () -> convertUsage.setAttributeValue( "doesNotExist", "value" ) )
+				.isInstanceOf( UnknownAnnotationAttributeException.class );
+	}
+
+	@Entity
+	public static class EntityWithConvert {
+		@Id
+		private Integer id;
+		@Convert( converter = UpperCaseConverter.class )
+		private String name;
+	}
+
+	public static class UpperCaseConverter implements AttributeConverter<String, String> {
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return attribute == null ? null : attribute.toUpperCase();
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			return dbData;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class LazyMemberTypeTests {
+	@Test
+	void testJandexMemberTypes() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( LazyEntity.class, Address.class );
+		verifyLazyMemberTypes( new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, index ) );
+	}
+
+	@Test
+	void testJdkMemberTypes() {
+		verifyLazyMemberTypes( new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null ) );
+	}
+
+	private static void verifyLazyMemberTypes(SourceModelBuildingContextImpl buildingContext) {
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final ClassDetails entityDetails = classDetailsRegistry.resolveClassDetails( LazyEntity.class.getName() );
+
+		final FieldDetails addressField = entityDetails.findFieldByName( "address" );
+		assertThat( addressField.getTypeName() ).isEqualTo( Address.class.getName() );
+		final MethodDetails addressGetter = entityDetails.findMethodByName( "getAddress" );
+		assertThat( addressGetter.getTypeName() ).isEqualTo( Address.class.getName() );
+		final MethodDetails addressSetter = entityDetails.findMethodByName( "setAddress" );
+		assertThat( addressSetter.getTypeName() ).isEqualTo( Address.class.getName() );
+
+		// the name is known without building the type's details
+		assertThat( classDetailsRegistry.findClassDetails( Address.class.getName() ) ).isNull();
+
+		// a frozen copy taken before the type is first accessed sees it once resolved
+		final ClassDetailsRegistry frozenRegistry = classDetailsRegistry.makeImmutableCopy();
+
+		final ClassDetails addressDetails = addressField.getType();
+		assertThat( addressDetails.getName() ).isEqualTo( Address.class.getName() );
+		assertThat( classDetailsRegistry.findClassDetails( Address.class.getName() ) ).isSameAs( addressDetails );
+		assertThat( frozenRegistry.findClassDetails( Address.class.getName() ) ).isSameAs( addressDetails );
+		assertThat( addressGetter.getType() ).isSameAs( addressDetails );
+		assertThat( addressGetter.getReturnType() ).isSameAs( addressDetails );
+		assertThat( addressSetter.getType() ).isSameAs( addressDetails );
+		assertThat( addressSetter.getReturnType() ).isNull();
+		assertThat( addressSetter.getArgumentTypes() ).containsExactly( addressDetails );
+	}
+
+	@Entity
+	public static class LazyEntity {
+		@Id
+		private Integer id;
+		private Address address;
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+	}
+
+	public static class Address {
+		private String street;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.util.List;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jandex.JandexPackageDetails;
+import org.hibernate.models.source.internal.jdk.JdkPackageDetailsImpl;
+import org.hibernate.models.source.pkg.inner.deep.PackagedEntity;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.PackageDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class PackageTreeTests {
+	private static final String OUTER_PACKAGE = "org.hibernate.models.source.pkg";
+	private static final String INNER_PACKAGE = OUTER_PACKAGE + ".inner";
+	private static final String DEEP_PACKAGE = INNER_PACKAGE + ".deep";
+
+	@Test
+	void testJandexPackages() throws ClassNotFoundException {
+		final Index index = SourceModelTestHelper.buildJandexIndex(
+				PackagedEntity.class,
+				packageInfo( OUTER_PACKAGE ),
+				packageInfo( INNER_PACKAGE )
+		);
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, index );
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+
+		final ClassDetails entityDetails = classDetailsRegistry.resolveClassDetails( PackagedEntity.class.getName() );
+		// nothing registered yet
+		assertThat( classDetailsRegistry.findNearestPackageDetails( DEEP_PACKAGE ) ).isNull();
+
+		for ( String packageName : List.of( OUTER_PACKAGE, INNER_PACKAGE ) ) {
+			final String packageInfoName = packageName + ".package-info";
+			classDetailsRegistry.resolvePackageDetails(
+					packageInfoName,
+					() -> new JandexPackageDetails( index.getClassByName( DotName.createSimple( packageInfoName ) ), buildingContext )
+			);
+		}
+
+		verifyPackageTree( entityDetails, buildingContext );
+	}
+
+	@Test
+	void testJdkPackages() throws ClassNotFoundException {
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null );
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+
+		final ClassDetails entityDetails = classDetailsRegistry.resolveClassDetails( PackagedEntity.class.getName() );
+		for ( String packageName : List.of( OUTER_PACKAGE, INNER_PACKAGE ) ) {
+			final Package javaPackage = packageInfo( packageName ).getPackage();
+			classDetailsRegistry.resolvePackageDetails(
+					packageName,
+					() -> new JdkPackageDetailsImpl( javaPackage, buildingContext )
+			);
+		}
+
+		verifyPackageTree( entityDetails, buildingContext );
+	}
+
+	private static void verifyPackageTree(ClassDetails entityDetails, SourceModelBuildingContextImpl buildingContext) {
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final AnnotationDescriptor<SequenceGenerator> sequenceGeneratorDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( SequenceGenerator.class );
+		final AnnotationDescriptor<NamedQuery> namedQueryDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( NamedQuery.class );
+
+		// the deep package has no package-info
+		final PackageDetails innerPackage = classDetailsRegistry.findNearestPackageDetails( DEEP_PACKAGE );
+		assertThat( innerPackage ).isNotNull();
+		assertThat( innerPackage.getName() ).startsWith( INNER_PACKAGE );
+		assertThat( classDetailsRegistry.findNearestPackageDetails( "com.acme" ) ).isNull();
+
+		// the nearest package with the annotation
+		final PackageDetails sequenceGeneratorPackage = classDetailsRegistry.findNearestPackageDetails( DEEP_PACKAGE, sequenceGeneratorDescriptor );
+		assertThat( sequenceGeneratorPackage ).isSameAs( innerPackage );
+		assertThat( classDetailsRegistry.findNearestPackageDetails( DEEP_PACKAGE, sequenceGeneratorDescriptor ) ).isSameAs( sequenceGeneratorPackage );
+
+		final AnnotationUsage<SequenceGenerator> sequenceGenerator = classDetailsRegistry.findPackageAnnotationUsage(
+				entityDetails,
+				sequenceGeneratorDescriptor
+		);
+		assertThat( sequenceGenerator.getString( "name" ) ).isEqualTo( "inner-seq" );
+		assertThat( classDetailsRegistry.findPackageAnnotationUsage( OUTER_PACKAGE, sequenceGeneratorDescriptor ).getString( "name" ) )
+				.isEqualTo( "outer-seq" );
+
+		// repeatable, from the enclosing package
+		final PackageDetails namedQueryPackage = classDetailsRegistry.findNearestPackageDetails( DEEP_PACKAGE, namedQueryDescriptor );
+		assertThat( namedQueryPackage.getName() ).startsWith( OUTER_PACKAGE );
+		assertThat( namedQueryPackage.getName() ).doesNotStartWith( INNER_PACKAGE );
+		final List<AnnotationUsage<NamedQuery>> namedQueries = classDetailsRegistry.findPackageAnnotationUsages(
+				DEEP_PACKAGE,
+				namedQueryDescriptor
+		);
+		assertThat( namedQueries ).hasSize( 2 );
+		// defined through the container, more than once
+		assertThatThrownBy( () -> classDetailsRegistry.findPackageAnnotationUsage( DEEP_PACKAGE, namedQueryDescriptor ) )
+				.isInstanceOf( AnnotationAccessException.class );
+	}
+
+	private static Class<?> packageInfo(String packageName) throws ClassNotFoundException {
+		return Class.forName( packageName + ".package-info" );
+	}
+}
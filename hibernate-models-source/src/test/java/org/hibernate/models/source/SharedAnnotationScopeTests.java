@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.util.List;
+
+import org.hibernate.models.source.internal.MutableAnnotationTarget;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.dynamic.DynamicAnnotationUsage;
+import org.hibernate.models.source.internal.jdk.JdkClassDetails;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class SharedAnnotationScopeTests {
+	@Test
+	void testJandexUsages() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Entity1.class, Entity2.class, Entity3.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext(
+				index,
+				Entity1.class,
+				Entity2.class,
+				Entity3.class
+		);
+
+		final List<AnnotationUsage<NamedQuery>> namedQueries = buildingContext.getAllAnnotationUsages( NamedQuery.class );
+		assertThat( namedQueries ).hasSize( 3 );
+		assertThat( namedQueries.stream().map( (usage) -> usage.<String>getAttributeValue( "name" ) ) )
+				.containsExactlyInAnyOrder( "q1", "q2", "q3" );
+
+		final List<AnnotationUsage<Id>> ids = buildingContext.getAllAnnotationUsages( Id.class );
+		assertThat( ids ).hasSize( 3 );
+		ids.forEach( (usage) -> assertThat( usage.getAnnotationTarget().getName() ).isEqualTo( "id" ) );
+
+		final AnnotationDescriptor<NamedQuery> descriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( NamedQuery.class );
+		final AnnotationUsage<NamedQuery> q2 = buildingContext.getNamedAnnotation( descriptor, "q2" );
+		assertThat( q2 ).isNotNull();
+		assertThat( q2.getAnnotationTarget().getName() ).isEqualTo( Entity2.class.getName() );
+	}
+
+	@Test
+	void testJdkUsages() {
+		// no Jandex index - the classes are built from the JDK
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null );
+		final ClassDetails entity1 = buildingContext.getClassDetailsRegistry().resolveClassDetails( Entity1.class.getName() );
+		buildingContext.getClassDetailsRegistry().resolveClassDetails( Entity2.class.getName() );
+		buildingContext.getClassDetailsRegistry().resolveClassDetails( Entity3.class.getName() );
+		assertThat( entity1 ).isInstanceOf( JdkClassDetails.class );
+
+		final List<AnnotationUsage<NamedQuery>> namedQueries = buildingContext.getAllAnnotationUsages( NamedQuery.class );
+		assertThat( namedQueries.stream().map( (usage) -> usage.<String>getAttributeValue( "name" ) ) )
+				.containsExactlyInAnyOrder( "q1", "q2", "q3" );
+
+		final List<AnnotationUsage<Id>> ids = buildingContext.getAllAnnotationUsages( Id.class );
+		assertThat( ids ).hasSize( 3 );
+		ids.forEach( (usage) -> assertThat( usage.getAnnotationTarget().getName() ).isEqualTo( "id" ) );
+
+		final AnnotationDescriptor<NamedQuery> descriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( NamedQuery.class );
+		final AnnotationUsage<NamedQuery> q2 = buildingContext.getNamedAnnotation( descriptor, "q2" );
+		assertThat( q2 ).isNotNull();
+		assertThat( q2.getAnnotationTarget().getName() ).isEqualTo( Entity2.class.getName() );
+
+		// added usages are seen once, along with the built ones
+		final ClassDetails entity3 = buildingContext.getClassDetailsRegistry().getClassDetails( Entity3.class.getName() );
+		final DynamicAnnotationUsage<NamedQuery> added = new DynamicAnnotationUsage<>( NamedQuery.class, entity3 );
+		added.setAttributeValue( "name", "q4" );
+		( (MutableAnnotationTarget) entity3 ).addAnnotationUsage( added );
+		assertThat( buildingContext.getAllAnnotationUsages( NamedQuery.class ) ).hasSize( 4 );
+	}
+
+	@Test
+	void testAddedUsages() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( Entity1.class, Entity2.class, Entity3.class );
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext(
+				index,
+				Entity1.class,
+				Entity2.class,
+				Entity3.class
+		);
+
+		final ClassDetails entity3 = buildingContext.getClassDetailsRegistry().getClassDetails( Entity3.class.getName() );
+		final DynamicAnnotationUsage<NamedQuery> added = new DynamicAnnotationUsage<>( NamedQuery.class, entity3 );
+		added.setAttributeValue( "name", "q4" );
+		( (MutableAnnotationTarget) entity3 ).addAnnotationUsage( added );
+
+		assertThat( buildingContext.getAllAnnotationUsages( NamedQuery.class ) ).hasSize( 4 );
+
+		final ClassDetails entity1 = buildingContext.getClassDetailsRegistry().getClassDetails( Entity1.class.getName() );
+		( (MutableAnnotationTarget) entity1 ).removeAnnotationUsage( NamedQuery.class );
+
+		final List<AnnotationUsage<NamedQuery>> namedQueries = buildingContext.getAllAnnotationUsages( NamedQuery.class );
+		assertThat( namedQueries.stream().map( (usage) -> usage.<String>getAttributeValue( "name" ) ) )
+				.containsExactlyInAnyOrder( "q2", "q3", "q4" );
+	}
+
+	@Entity(name = "Entity1")
+	@NamedQuery(name = "q1", query = "from Entity1")
+	public static class Entity1 {
+		@Id
+		private Integer id;
+	}
+
+	@Entity(name = "Entity2")
+	@NamedQueries({
+			@NamedQuery(name = "q2", query = "from Entity2"),
+			@NamedQuery(name = "q3", query = "from Entity2")
+	})
+	public static class Entity2 {
+		@Id
+		private Integer id;
+	}
+
+	@Entity(name = "Entity3")
+	public static class Entity3 {
+		@Id
+		private Integer id;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.util.HashSet;
+import java.util.IntSummaryStatistics;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.SourceModelPlatform;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class SourceModelPlatformTests {
+	@Test
+	void testSharedPlatform() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( SimpleEntity.class );
+		final SourceModelPlatform platform = new SourceModelPlatform(
+				SIMPLE_CLASS_LOADING,
+				(contributions, buildingContext) -> contributions.registerAnnotation(
+						JdkBuilders.buildAnnotationDescriptor( Entity.class, buildingContext )
+				)
+		);
+		final SourceModelBuildingContextImpl context1 = createBuildingContext( index, platform );
+		final SourceModelBuildingContextImpl context2 = createBuildingContext( index, platform );
+
+		// the base-line types and annotation descriptors come from the platform
+		final ClassDetails string1 = context1.getClassDetailsRegistry().getClassDetails( String.class.getName() );
+		final ClassDetails string2 = context2.getClassDetailsRegistry().getClassDetails( String.class.getName() );
+		assertThat( string1 ).isSameAs( string2 );
+		assertThat( string1 ).isSameAs( platform.getClassDetailsRegistry().getClassDetails( String.class.getName() ) );
+
+		assertThat( context1.getAnnotationDescriptorRegistry().getDescriptor( Entity.class ) )
+				.isSameAs( context2.getAnnotationDescriptorRegistry().getDescriptor( Entity.class ) )
+				.isSameAs( platform.getAnnotationDescriptorRegistry().findDescriptor( DotName.createSimple( Entity.class.getName() ) ) );
+
+		// each context has its own registrations, which do not leak into the platform
+		final ClassDetails entity1 = context1.getClassDetailsRegistry().getClassDetails( SimpleEntity.class.getName() );
+		final ClassDetails entity2 = context2.getClassDetailsRegistry().getClassDetails( SimpleEntity.class.getName() );
+		assertThat( entity1 ).isNotSameAs( entity2 );
+		assertThat( entity1.getAnnotationUsage( Entity.class ) ).isNotNull();
+		assertThat( entity1.findFieldByName( "id" ).getAnnotationUsage( Id.class ) ).isNotNull();
+		assertThat( platform.getClassDetailsRegistry().findClassDetails( SimpleEntity.class.getName() ) ).isNull();
+
+		// the super type is shared
+		assertThat( entity1.getSuperType() ).isSameAs( entity2.getSuperType() );
+		assertThat( context1.getClassDetailsRegistry().getDirectSubTypes( Object.class.getName() ) ).contains( entity1 );
+		assertThat( context2.getClassDetailsRegistry().getDirectSubTypes( Object.class.getName() ) ).doesNotContain( entity1 );
+
+		// immutable copies are self-contained
+		final ClassDetailsRegistry immutableRegistry = context1.getClassDetailsRegistry().makeImmutableCopy();
+		assertThat( immutableRegistry.getClassDetails( String.class.getName() ) ).isSameAs( string1 );
+		assertThat( immutableRegistry.getClassDetails( SimpleEntity.class.getName() ) ).isSameAs( entity1 );
+		assertThat( immutableRegistry.getDirectSubTypes( Object.class.getName() ) ).contains( entity1 );
+	}
+
+	@Test
+	void testBaselinePlatform() {
+		final SourceModelBuildingContextImpl context1 = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null );
+		final SourceModelBuildingContextImpl context2 = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null );
+
+		final ClassDetails object = SourceModelPlatform.baseline().getClassDetailsRegistry().getClassDetails( Object.class.getName() );
+		assertThat( context1.getClassDetailsRegistry().getClassDetails( Object.class.getName() ) ).isSameAs( object );
+		assertThat( context2.getClassDetailsRegistry().getClassDetails( Object.class.getName() ) ).isSameAs( object );
+	}
+
+	@Test
+	void testFrozenPlatform() {
+		final SourceModelPlatform platform = new SourceModelPlatform();
+		final ClassDetailsRegistry platformRegistry = platform.getClassDetailsRegistry();
+		final Set<String> platformClassNames = new HashSet<>();
+		platformRegistry.forEachClassDetails( (classDetails) -> platformClassNames.add( classDetails.getName() ) );
+
+		// the members of the platform classes are resolved as the platform is built
+		final ClassDetails string = platformRegistry.getClassDetails( String.class.getName() );
+		final ClassDetails intStream = string.findMethodByName( "chars" ).getReturnType();
+		assertThat( platformRegistry.findClassDetails( IntStream.class.getName() ) ).isSameAs( intStream );
+
+		// anything resolved afterward is not registered, whichever context asks, but is built only once
+		final SourceModelBuildingContextImpl buildingContext = createBuildingContext(
+				SourceModelTestHelper.buildJandexIndex( SimpleEntity.class ),
+				platform
+		);
+		final ClassDetails summaryStatistics = intStream.findMethodByName( "summaryStatistics" ).getReturnType();
+		assertThat( summaryStatistics.getName() ).isEqualTo( IntSummaryStatistics.class.getName() );
+		assertThat( platformRegistry.findClassDetails( IntSummaryStatistics.class.getName() ) ).isNull();
+		assertThat( buildingContext.getClassDetailsRegistry().findClassDetails( IntSummaryStatistics.class.getName() ) ).isNull();
+		assertThat( summaryStatistics.findMethodByName( "combine" ).getArgumentTypes().get( 0 ) ).isSameAs( summaryStatistics );
+
+		final Set<String> frozenClassNames = new HashSet<>();
+		platformRegistry.forEachClassDetails( (classDetails) -> frozenClassNames.add( classDetails.getName() ) );
+		assertThat( frozenClassNames ).isEqualTo( platformClassNames );
+		assertThatThrownBy( () -> platformRegistry.resolveClassDetails( SimpleEntity.class.getName() ) )
+				.isInstanceOf( ModelsException.class );
+	}
+
+	private static SourceModelBuildingContextImpl createBuildingContext(Index index, SourceModelPlatform platform) {
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				index,
+				null,
+				false,
+				platform
+		);
+		buildingContext.getClassDetailsRegistry().resolveClassDetails( SimpleEntity.class.getName() );
+		return buildingContext;
+	}
+
+	@Entity
+	public static class SimpleEntity {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.StandardClassDetailsBuilder;
+import org.hibernate.models.source.internal.jandex.JandexClassDetails;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
+import org.hibernate.models.source.internal.jdk.JdkClassDetails;
+import org.hibernate.models.source.spi.ClassDetails;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class StandardClassDetailsBuilderTests {
+	@Test
+	void testFallbackCounts() {
+		final Index index = SourceModelTestHelper.buildJandexIndex( IndexedEntity.class );
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, index );
+		final StandardClassDetailsBuilder builder = new StandardClassDetailsBuilder( JdkBuilders.DEFAULT_BUILDER, index );
+
+		final ClassDetails indexed = builder.buildClassDetails( IndexedEntity.class.getName(), buildingContext );
+		assertThat( indexed ).isInstanceOf( JandexClassDetails.class );
+		assertThat( builder.getJandexHitCount() ).isEqualTo( 1 );
+
+		final ClassDetails notIndexed = builder.buildClassDetails( NotIndexedEntity.class.getName(), buildingContext );
+		assertThat( notIndexed ).isInstanceOf( JdkClassDetails.class );
+		assertThat( notIndexed.getAnnotationUsage( Entity.class ) ).isNotNull();
+		assertThat( builder.getJandexMissCount() ).isEqualTo( 1 );
+		assertThat( builder.getKnownMissCount() ).isEqualTo( 0 );
+		assertThat( builder.getFallbackCount() ).isEqualTo( 1 );
+
+		// the index is not probed again for a known miss
+		builder.buildClassDetails( NotIndexedEntity.class.getName(), buildingContext );
+		assertThat( builder.getJandexMissCount() ).isEqualTo( 1 );
+		assertThat( builder.getKnownMissCount() ).isEqualTo( 1 );
+		assertThat( builder.getFallbackCount() ).isEqualTo( 2 );
+		assertThat( builder.getJandexHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testWithoutIndex() {
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, null );
+		final StandardClassDetailsBuilder builder = new StandardClassDetailsBuilder( JdkBuilders.DEFAULT_BUILDER, null );
+
+		assertThat( builder.buildClassDetails( NotIndexedEntity.class.getName(), buildingContext ) ).isInstanceOf( JdkClassDetails.class );
+		assertThat( builder.getJandexMissCount() ).isEqualTo( 0 );
+		assertThat( builder.getFallbackCount() ).isEqualTo( 1 );
+	}
+
+	@Entity
+	public static class IndexedEntity {
+		@Id
+		private Integer id;
+	}
+
+	@Entity
+	public static class NotIndexedEntity {
+		@Id
+		private Integer id;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.io.Serializable;
+
+import org.hibernate.models.source.internal.ClassDetailsHelper;
+import org.hibernate.models.source.internal.ClassDetailsRegistryImmutable;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.SourceModelPlatform;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class TypeHierarchyIndexTests {
+	@Test
+	void testHierarchyChecks() {
+		final Index index = SourceModelTestHelper.buildJandexIndex(
+				Named.class,
+				Versioned.class,
+				Root.class,
+				Branch.class,
+				Leaf.class,
+				Other.class
+		);
+		final SourceModelBuildingContextImpl buildingContext = SourceModelTestHelper.createBuildingContext(
+				index,
+				Named.class,
+				Versioned.class,
+				Root.class,
+				Branch.class,
+				Leaf.class,
+				Other.class
+		);
+		final ClassDetailsRegistry registry = buildingContext.getClassDetailsRegistry().makeImmutableCopy();
+		assertThat( registry ).isInstanceOf( ClassDetailsRegistryImmutable.class );
+		assertThat( ( (ClassDetailsRegistryImmutable) registry ).getTypeHierarchyIndex().size() ).isPositive();
+
+		final ClassDetails named = registry.getClassDetails( Named.class.getName() );
+		final ClassDetails versioned = registry.getClassDetails( Versioned.class.getName() );
+		final ClassDetails serializable = registry.getClassDetails( Serializable.class.getName() );
+		final ClassDetails object = registry.getClassDetails( Object.class.getName() );
+		final ClassDetails root = registry.getClassDetails( Root.class.getName() );
+		final ClassDetails branch = registry.getClassDetails( Branch.class.getName() );
+		final ClassDetails leaf = registry.getClassDetails( Leaf.class.getName() );
+		final ClassDetails other = registry.getClassDetails( Other.class.getName() );
+
+		final ClassDetails[] all = { named, versioned, serializable, object, root, branch, leaf, other };
+		for ( int i = 0; i < all.length; i++ ) {
+			for ( int j = 0; j < all.length; j++ ) {
+				// the index agrees with walking the hierarchy
+				assertThat( registry.isImplementor( all[i], all[j] ) )
+						.describedAs( "%s -> %s", all[i].getName(), all[j].getName() )
+						.isEqualTo( ClassDetailsHelper.isImplementor( all[j], all[i] ) );
+			}
+		}
+
+		assertThat( registry.isImplementor( leaf, root ) ).isTrue();
+		assertThat( registry.isImplementor( leaf, named ) ).isTrue();
+		assertThat( registry.isImplementor( leaf, serializable ) ).isTrue();
+		assertThat( registry.isImplementor( leaf, versioned ) ).isTrue();
+		assertThat( registry.isImplementor( branch, versioned ) ).isFalse();
+		assertThat( registry.isImplementor( root, leaf ) ).isFalse();
+		assertThat( registry.isImplementor( other, root ) ).isFalse();
+		assertThat( registry.isImplementor( other, named ) ).isTrue();
+
+		assertThat( registry.getAllSuperTypes( leaf ) ).startsWith( branch, root, object );
+		assertThat( registry.getAllSuperTypes( leaf ) ).containsExactlyInAnyOrder( branch, root, object, named, serializable, versioned );
+		assertThat( registry.getAllSuperTypes( leaf ) )
+				.containsExactlyInAnyOrderElementsOf( ClassDetailsHelper.collectSuperTypes( leaf ) );
+	}
+
+	@Test
+	void testClassDetailsUseRegistryIndex() {
+		// the frozen platform registry is indexed, so its classes answer through the index
+		final ClassDetailsRegistryImmutable platformRegistry = (ClassDetailsRegistryImmutable) SourceModelPlatform
+				.baseline()
+				.getClassDetailsRegistry();
+		final ClassDetails string = platformRegistry.getClassDetails( String.class.getName() );
+		final ClassDetails charSequence = platformRegistry.getClassDetails( CharSequence.class.getName() );
+		final ClassDetails integer = platformRegistry.getClassDetails( Integer.class.getName() );
+
+		assertThat( string.isImplementor( charSequence ) ).isTrue();
+		assertThat( string.isImplementor( CharSequence.class ) ).isTrue();
+		assertThat( string.isImplementor( integer ) ).isFalse();
+		assertThat( string.isImplementor( Number.class ) ).isFalse();
+		assertThat( integer.isImplementor( Number.class ) ).isTrue();
+
+		assertThat( ClassDetailsHelper.collectSuperTypes( string ) )
+				.isEqualTo( platformRegistry.getTypeHierarchyIndex().getAllSuperTypes( string ) );
+	}
+
+	public interface Named extends Serializable {
+	}
+
+	public interface Versioned {
+	}
+
+	public static class Root implements Named {
+	}
+
+	public static class Branch extends Root {
+	}
+
+	public static class Leaf extends Branch implements Versioned {
+	}
+
+	public static class Other implements Named {
+	}
+}
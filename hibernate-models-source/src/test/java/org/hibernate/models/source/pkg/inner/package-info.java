@@ -0,0 +1,14 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Nested package for {@linkplain org.hibernate.models.source.PackageTreeTests}
+ */
+@SequenceGenerator( name = "inner-seq" )
+package org.hibernate.models.source.pkg.inner;
+
+import jakarta.persistence.SequenceGenerator;
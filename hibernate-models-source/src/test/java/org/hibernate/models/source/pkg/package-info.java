@@ -0,0 +1,17 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Enclosing package for {@linkplain org.hibernate.models.source.PackageTreeTests}
+ */
+@NamedQuery( name = "outer-first", query = "from PackagedEntity" )
+@NamedQuery( name = "outer-second", query = "from PackagedEntity" )
+@SequenceGenerator( name = "outer-seq" )
+package org.hibernate.models.source.pkg;
+
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SequenceGenerator;
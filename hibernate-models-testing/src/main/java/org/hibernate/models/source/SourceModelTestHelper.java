@@ -53,9 +53,9 @@ public class SourceModelTestHelper {
 		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
 				classLoadingAccess,
 				jandexIndex,
-				(contributions, buildingContext1) -> {
-					OrmAnnotationHelper.forEachOrmAnnotation( contributions::registerAnnotation );
-				}
+				null,
+				false,
+				OrmAnnotationHelper.getOrmPlatform()
 		);
 		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
 		final AnnotationDescriptorRegistryStandard annotationDescriptorRegistry = (AnnotationDescriptorRegistryStandard) buildingContext.getAnnotationDescriptorRegistry();
@@ -94,10 +94,7 @@ public class SourceModelTestHelper {
 	}
 
 	public static Index buildJandexIndex(ClassLoading classLoadingAccess, Class<?>... modelClasses) {
-		final Indexer indexer = new Indexer();
-		BaseLineJavaTypes.forEachJavaType( (javaType) -> JandexIndexerHelper.apply( javaType, indexer, classLoadingAccess ) );
-		JpaAnnotations.forEachAnnotation( (descriptor) -> JandexIndexerHelper.apply( descriptor.getAnnotationType(), indexer, classLoadingAccess ) );
-		HibernateAnnotations.forEachAnnotation( (descriptor) -> JandexIndexerHelper.apply( descriptor.getAnnotationType(), indexer, classLoadingAccess ) );
+		final Indexer indexer = createIndexer( classLoadingAccess );
 
 		for ( Class<?> modelClass : modelClasses ) {
 			try {
@@ -110,4 +107,16 @@ public class SourceModelTestHelper {
 
 		return indexer.complete();
 	}
+
+	/**
+	 * Create a Jandex Indexer pre-filled with the base-line Java types and the JPA and
+	 * Hibernate annotations
+	 */
+	public static Indexer createIndexer(ClassLoading classLoadingAccess) {
+		final Indexer indexer = new Indexer();
+		BaseLineJavaTypes.forEachJavaType( (javaType) -> JandexIndexerHelper.apply( javaType, indexer, classLoadingAccess ) );
+		JpaAnnotations.forEachAnnotation( (descriptor) -> JandexIndexerHelper.apply( descriptor.getAnnotationType(), indexer, classLoadingAccess ) );
+		HibernateAnnotations.forEachAnnotation( (descriptor) -> JandexIndexerHelper.apply( descriptor.getAnnotationType(), indexer, classLoadingAccess ) );
+		return indexer;
+	}
 }
@@ -0,0 +1,476 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.models.ModelsException;
+
+import jakarta.persistence.AccessType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Version;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.FixedValue;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * Generates synthetic domain models as bytecode, for testing and benchmarking against
+ * models of realistic size.
+ * <p/>
+ * A generated model consists of -<ul>
+ *     <li>
+ *         entity hierarchies of a {@linkplain #hierarchyDepth configurable depth}, whose roots extend
+ *         a mapped-superclass defining the id and version.  Each hierarchy uses either field or
+ *         property access, according to the {@linkplain #propertyAccessRatio property access ratio}
+ *     </li>
+ *     <li>
+ *         for each entity, a {@linkplain #attributeCount number} of basic attributes, an embedded
+ *         attribute and to-one associations to other entities according to the
+ *         {@linkplain #associationDensity association density}
+ *     </li>
+ *     <li>{@linkplain #embeddableCount embeddables}</li>
+ *     <li>{@linkplain #converterCount attribute converters}, applied to the first basic attribute of each entity</li>
+ *     <li>{@linkplain #namedQueryCount named queries} on each hierarchy root</li>
+ *     <li>optionally, an {@linkplain #generateOrmXml orm.xml} overriding the first basic attribute of each entity</li>
+ * </ul>
+ * Generation is deterministic for a given set of parameters (including the {@linkplain #seed seed}).
+ *
+ * @author Steve Ebersole
+ */
+public class DomainModelGenerator {
+	public static final String DEFAULT_PACKAGE_NAME = "org.hibernate.models.generated";
+
+	private static final Class<?>[] BASIC_TYPES = { String.class, Integer.class, Long.class, LocalDate.class };
+
+	private String packageName = DEFAULT_PACKAGE_NAME;
+	private int entityCount = 100;
+	private int hierarchyDepth = 1;
+	private int attributeCount = 5;
+	private int embeddableCount = -1;
+	private double associationDensity = 0.5;
+	private double propertyAccessRatio = 0;
+	private int namedQueryCount = 0;
+	private int converterCount = 0;
+	private boolean generateOrmXml;
+	private long seed = 1;
+
+	/**
+	 * The package for the generated classes
+	 */
+	public DomainModelGenerator packageName(String packageName) {
+		this.packageName = packageName;
+		return this;
+	}
+
+	/**
+	 * The total number of entities to generate
+	 */
+	public DomainModelGenerator entityCount(int entityCount) {
+		if ( entityCount < 1 ) {
+			throw new ModelsException( "Entity count must be positive - " + entityCount );
+		}
+		this.entityCount = entityCount;
+		return this;
+	}
+
+	/**
+	 * The number of entities in each hierarchy (root plus subclasses).  The default is 1
+	 */
+	public DomainModelGenerator hierarchyDepth(int hierarchyDepth) {
+		if ( hierarchyDepth < 1 ) {
+			throw new ModelsException( "Hierarchy depth must be positive - " + hierarchyDepth );
+		}
+		this.hierarchyDepth = hierarchyDepth;
+		return this;
+	}
+
+	/**
+	 * The number of basic attributes declared by each entity
+	 */
+	public DomainModelGenerator attributeCount(int attributeCount) {
+		if ( attributeCount < 0 ) {
+			throw new ModelsException( "Attribute count must not be negative - " + attributeCount );
+		}
+		this.attributeCount = attributeCount;
+		return this;
+	}
+
+	/**
+	 * The number of embeddables to generate, shared across the entities.  The default is
+	 * one for every 10 entities; 0 means no embedded attributes.
+	 */
+	public DomainModelGenerator embeddableCount(int embeddableCount) {
+		if ( embeddableCount < 0 ) {
+			throw new ModelsException( "Embeddable count must not be negative - " + embeddableCount );
+		}
+		this.embeddableCount = embeddableCount;
+		return this;
+	}
+
+	/**
+	 * The average number of to-one associations declared by each entity.  E.g. {@code 0.5} means
+	 * that about half the entities declare an association; {@code 2} means each declares 2
+	 */
+	public DomainModelGenerator associationDensity(double associationDensity) {
+		if ( associationDensity < 0 ) {
+			throw new ModelsException( "Association density must not be negative - " + associationDensity );
+		}
+		this.associationDensity = associationDensity;
+		return this;
+	}
+
+	/**
+	 * The fraction (0 to 1) of hierarchies using property, rather than field, access
+	 */
+	public DomainModelGenerator propertyAccessRatio(double propertyAccessRatio) {
+		if ( propertyAccessRatio < 0 || propertyAccessRatio > 1 ) {
+			throw new ModelsException( "Property access ratio must be between 0 and 1 - " + propertyAccessRatio );
+		}
+		this.propertyAccessRatio = propertyAccessRatio;
+		return this;
+	}
+
+	/**
+	 * The number of named queries declared on each hierarchy root
+	 */
+	public DomainModelGenerator namedQueryCount(int namedQueryCount) {
+		if ( namedQueryCount < 0 ) {
+			throw new ModelsException( "Named query count must not be negative - " + namedQueryCount );
+		}
+		this.namedQueryCount = namedQueryCount;
+		return this;
+	}
+
+	/**
+	 * The number of attribute converters to generate
+	 */
+	public DomainModelGenerator converterCount(int converterCount) {
+		if ( converterCount < 0 ) {
+			throw new ModelsException( "Converter count must not be negative - " + converterCount );
+		}
+		this.converterCount = converterCount;
+		return this;
+	}
+
+	/**
+	 * Whether to generate an orm.xml document for the model
+	 */
+	public DomainModelGenerator generateOrmXml(boolean generateOrmXml) {
+		this.generateOrmXml = generateOrmXml;
+		return this;
+	}
+
+	/**
+	 * Seed for the random choices (access type, associations)
+	 */
+	public DomainModelGenerator seed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	public GeneratedDomainModel generate() {
+		return new Generation().generate();
+	}
+
+	/**
+	 * The state of a single generation
+	 */
+	private class Generation {
+		private final ByteBuddy byteBuddy = new ByteBuddy();
+		private final Random random = new Random( seed );
+
+		private final Map<String, byte[]> classFiles = new LinkedHashMap<>();
+		private final List<String> rootEntityClassNames = new ArrayList<>();
+		private final List<String> entityClassNames = new ArrayList<>();
+		private final List<String> mappedSuperclassNames = new ArrayList<>();
+		private final List<String> embeddableClassNames = new ArrayList<>();
+		private final List<String> converterClassNames = new ArrayList<>();
+
+		private final List<TypeDescription> entityTypes = new ArrayList<>();
+		private final List<TypeDescription> embeddableTypes = new ArrayList<>();
+		private final List<TypeDescription> converterTypes = new ArrayList<>();
+		private final List<String> overriddenAttributeNames = new ArrayList<>();
+
+		private TypeDescription fieldAccessBase;
+		private TypeDescription propertyAccessBase;
+
+		private GeneratedDomainModel generate() {
+			for ( int i = 0; i < converterCount; i++ ) {
+				generateConverter( i );
+			}
+
+			final int embeddables = embeddableCount < 0 ? Math.max( 1, entityCount / 10 ) : embeddableCount;
+			for ( int i = 0; i < embeddables; i++ ) {
+				generateEmbeddable( i );
+			}
+
+			AccessType accessType = AccessType.FIELD;
+			TypeDescription superType = null;
+			for ( int i = 0; i < entityCount; i++ ) {
+				final int level = i % hierarchyDepth;
+				if ( level == 0 ) {
+					accessType = random.nextDouble() < propertyAccessRatio ? AccessType.PROPERTY : AccessType.FIELD;
+					superType = resolveBase( accessType );
+				}
+				superType = generateEntity( i, level, superType, accessType );
+			}
+
+			return new GeneratedDomainModel(
+					packageName,
+					classFiles,
+					rootEntityClassNames,
+					entityClassNames,
+					mappedSuperclassNames,
+					embeddableClassNames,
+					converterClassNames,
+					generateOrmXml ? buildOrmXml() : null
+			);
+		}
+
+		private String className(String simpleName) {
+			return packageName + "." + simpleName;
+		}
+
+		private TypeDescription register(DynamicType.Unloaded<?> type, List<String> names) {
+			final TypeDescription typeDescription = type.getTypeDescription();
+			classFiles.put( typeDescription.getName(), type.getBytes() );
+			names.add( typeDescription.getName() );
+			return typeDescription;
+		}
+
+		private void generateConverter(int index) {
+			final DynamicType.Unloaded<?> converterType = byteBuddy
+					.subclass( Object.class )
+					.implement( TypeDescription.Generic.Builder.parameterizedType( AttributeConverter.class, String.class, String.class ).build() )
+					.name( className( "Converter" + index ) )
+					.annotateType( AnnotationDescription.Builder.ofType( Converter.class ).build() )
+					.method( named( "convertToDatabaseColumn" ).or( named( "convertToEntityAttribute" ) ) )
+					.intercept( FixedValue.argument( 0 ) )
+					.make();
+			converterTypes.add( register( converterType, converterClassNames ) );
+		}
+
+		private void generateEmbeddable(int index) {
+			DynamicType.Builder<?> builder = byteBuddy
+					.subclass( Object.class )
+					.name( className( "Component" + index ) )
+					.annotateType( AnnotationDescription.Builder.ofType( Embeddable.class ).build() );
+			// the access type of an embeddable comes from its owner, so define both forms
+			for ( String attributeName : new String[] { "street", "city", "postalCode" } ) {
+				builder = defineAttribute(
+						builder,
+						attributeName,
+						TypeDescription.ForLoadedType.of( String.class ),
+						AccessType.PROPERTY,
+						List.of()
+				);
+			}
+			embeddableTypes.add( register( builder.make(), embeddableClassNames ) );
+		}
+
+		private TypeDescription resolveBase(AccessType accessType) {
+			if ( accessType == AccessType.PROPERTY ) {
+				if ( propertyAccessBase == null ) {
+					propertyAccessBase = generateBase( "PropertyAccessBase", AccessType.PROPERTY );
+				}
+				return propertyAccessBase;
+			}
+
+			if ( fieldAccessBase == null ) {
+				fieldAccessBase = generateBase( "FieldAccessBase", AccessType.FIELD );
+			}
+			return fieldAccessBase;
+		}
+
+		private TypeDescription generateBase(String simpleName, AccessType accessType) {
+			DynamicType.Builder<?> builder = byteBuddy
+					.subclass( Object.class )
+					.name( className( simpleName ) )
+					.annotateType( AnnotationDescription.Builder.ofType( MappedSuperclass.class ).build() );
+			builder = defineAttribute(
+					builder,
+					"id",
+					TypeDescription.ForLoadedType.of( Integer.class ),
+					accessType,
+					List.of( AnnotationDescription.Builder.ofType( Id.class ).build() )
+			);
+			builder = defineAttribute(
+					builder,
+					"version",
+					TypeDescription.ForLoadedType.of( Integer.class ),
+					accessType,
+					List.of( AnnotationDescription.Builder.ofType( Version.class ).build() )
+			);
+			return register( builder.make(), mappedSuperclassNames );
+		}
+
+		private TypeDescription generateEntity(int index, int level, TypeDescription superType, AccessType accessType) {
+			final String simpleName = "Entity" + index;
+			DynamicType.Builder<?> builder = byteBuddy
+					.subclass( superType, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_PUBLIC )
+					.name( className( simpleName ) )
+					.annotateType( AnnotationDescription.Builder.ofType( Entity.class ).build() );
+
+			if ( level == 0 ) {
+				if ( hierarchyDepth > 1 ) {
+					builder = builder.annotateType( AnnotationDescription.Builder.ofType( Inheritance.class )
+							.define( "strategy", InheritanceType.SINGLE_TABLE )
+							.build() );
+				}
+				if ( namedQueryCount > 0 ) {
+					builder = builder.annotateType( namedQueries( simpleName ) );
+				}
+			}
+
+			// attribute names are unique within the hierarchy
+			final String prefix = "level" + level;
+
+			for ( int a = 0; a < attributeCount; a++ ) {
+				final String attributeName = prefix + "Attribute" + a;
+				final Class<?> attributeType = BASIC_TYPES[a % BASIC_TYPES.length];
+				final List<AnnotationDescription> annotations = new ArrayList<>();
+				annotations.add( AnnotationDescription.Builder.ofType( Basic.class ).build() );
+				annotations.add( AnnotationDescription.Builder.ofType( Column.class )
+						.define( "name", simpleName.toLowerCase( Locale.ROOT ) + "_attribute" + a )
+						.build() );
+				if ( a == 0 ) {
+					overriddenAttributeNames.add( attributeName );
+					if ( !converterTypes.isEmpty() ) {
+						annotations.add( AnnotationDescription.Builder.ofType( Convert.class )
+								.define( "converter", converterTypes.get( index % converterTypes.size() ) )
+								.build() );
+					}
+				}
+				builder = defineAttribute( builder, attributeName, TypeDescription.ForLoadedType.of( attributeType ), accessType, annotations );
+			}
+			if ( attributeCount == 0 ) {
+				overriddenAttributeNames.add( null );
+			}
+
+			if ( !embeddableTypes.isEmpty() ) {
+				builder = defineAttribute(
+						builder,
+						prefix + "Component",
+						embeddableTypes.get( index % embeddableTypes.size() ),
+						accessType,
+						List.of( AnnotationDescription.Builder.ofType( Embedded.class ).build() )
+				);
+			}
+
+			final int associationCount = (int) associationDensity
+					+ ( random.nextDouble() < associationDensity - (int) associationDensity ? 1 : 0 );
+			for ( int a = 0; a < associationCount && !entityTypes.isEmpty(); a++ ) {
+				builder = defineAttribute(
+						builder,
+						prefix + "Association" + a,
+						entityTypes.get( random.nextInt( entityTypes.size() ) ),
+						accessType,
+						List.of( AnnotationDescription.Builder.ofType( ManyToOne.class )
+								.define( "fetch", FetchType.LAZY )
+								.build() )
+				);
+			}
+
+			final TypeDescription entityType = register( builder.make(), entityClassNames );
+			entityTypes.add( entityType );
+			if ( level == 0 ) {
+				rootEntityClassNames.add( entityType.getName() );
+			}
+			return entityType;
+		}
+
+		private AnnotationDescription namedQueries(String entityName) {
+			final AnnotationDescription[] namedQueries = new AnnotationDescription[namedQueryCount];
+			for ( int q = 0; q < namedQueryCount; q++ ) {
+				namedQueries[q] = AnnotationDescription.Builder.ofType( NamedQuery.class )
+						.define( "name", entityName + ".query" + q )
+						.define( "query", "select e from " + entityName + " e where e.id = :id" )
+						.build();
+			}
+			return AnnotationDescription.Builder.ofType( NamedQueries.class )
+					.defineAnnotationArray( "value", TypeDescription.ForLoadedType.of( NamedQuery.class ), namedQueries )
+					.build();
+		}
+
+		private byte[] buildOrmXml() {
+			final StringBuilder buffer = new StringBuilder();
+			buffer.append( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" );
+			buffer.append( "<entity-mappings xmlns=\"http://www.hibernate.org/xsd/orm/mapping\" version=\"3.1\">\n" );
+			buffer.append( "    <package>" ).append( packageName ).append( "</package>\n" );
+			for ( int i = 0; i < entityClassNames.size(); i++ ) {
+				final String entityClassName = entityClassNames.get( i );
+				buffer.append( "    <entity class=\"" ).append( entityClassName.substring( packageName.length() + 1 ) ).append( "\">\n" );
+				final String attributeName = overriddenAttributeNames.get( i );
+				if ( attributeName != null ) {
+					buffer.append( "        <attributes>\n" );
+					buffer.append( "            <basic name=\"" ).append( attributeName ).append( "\">\n" );
+					buffer.append( "                <column name=\"xml_attribute_" ).append( i ).append( "\"/>\n" );
+					buffer.append( "            </basic>\n" );
+					buffer.append( "        </attributes>\n" );
+				}
+				buffer.append( "    </entity>\n" );
+			}
+			buffer.append( "</entity-mappings>\n" );
+			return buffer.toString().getBytes( StandardCharsets.UTF_8 );
+		}
+	}
+
+	/**
+	 * Defines a private field for the attribute.  For property access, also defines the
+	 * getter and setter, with the annotations applied to the getter.
+	 */
+	private static DynamicType.Builder<?> defineAttribute(
+			DynamicType.Builder<?> builder,
+			String name,
+			TypeDefinition type,
+			AccessType accessType,
+			List<AnnotationDescription> annotations) {
+		if ( accessType == AccessType.FIELD ) {
+			return builder.defineField( name, type, Visibility.PRIVATE ).annotateField( annotations );
+		}
+
+		final String capitalized = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+		return builder
+				.defineField( name, type, Visibility.PRIVATE )
+				.defineMethod( "get" + capitalized, type, Visibility.PUBLIC )
+				.intercept( FieldAccessor.ofField( name ) )
+				.annotateMethod( annotations )
+				.defineMethod( "set" + capitalized, TypeDescription.ForLoadedType.of( void.class ), Visibility.PUBLIC )
+				.withParameters( type )
+				.intercept( FieldAccessor.ofField( name ) );
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.source.SourceModelTestHelper;
+import org.hibernate.models.spi.ClassLoading;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+
+/**
+ * The result of {@linkplain DomainModelGenerator generating} a domain model - the class files,
+ * the names of the classes by category and, if requested, an orm.xml document.
+ * <p/>
+ * The classes are available to Jandex (see {@linkplain #indexInto} and {@linkplain #buildJandexIndex})
+ * and to be loaded through a {@linkplain #getClassLoader() ClassLoader} specific to the model.
+ *
+ * @author Steve Ebersole
+ */
+public class GeneratedDomainModel {
+	private final String packageName;
+	private final Map<String, byte[]> classFiles;
+	private final List<String> rootEntityClassNames;
+	private final List<String> entityClassNames;
+	private final List<String> mappedSuperclassNames;
+	private final List<String> embeddableClassNames;
+	private final List<String> converterClassNames;
+	private final byte[] ormXml;
+
+	private final ClassLoader classLoader;
+	private final ClassLoading classLoading;
+
+	public GeneratedDomainModel(
+			String packageName,
+			Map<String, byte[]> classFiles,
+			List<String> rootEntityClassNames,
+			List<String> entityClassNames,
+			List<String> mappedSuperclassNames,
+			List<String> embeddableClassNames,
+			List<String> converterClassNames,
+			byte[] ormXml) {
+		this.packageName = packageName;
+		this.classFiles = classFiles;
+		this.rootEntityClassNames = rootEntityClassNames;
+		this.entityClassNames = entityClassNames;
+		this.mappedSuperclassNames = mappedSuperclassNames;
+		this.embeddableClassNames = embeddableClassNames;
+		this.converterClassNames = converterClassNames;
+		this.ormXml = ormXml;
+
+		this.classLoader = new ByteArrayClassLoader(
+				GeneratedDomainModel.class.getClassLoader(),
+				false,
+				classFiles,
+				ByteArrayClassLoader.PersistenceHandler.MANIFEST
+		);
+		this.classLoading = new GeneratedClassLoading( classLoader );
+	}
+
+	public String getPackageName() {
+		return packageName;
+	}
+
+	/**
+	 * The bytecode of all generated classes, keyed by class name
+	 */
+	public Map<String, byte[]> getClassFiles() {
+		return Collections.unmodifiableMap( classFiles );
+	}
+
+	public int getClassCount() {
+		return classFiles.size();
+	}
+
+	public List<String> getRootEntityClassNames() {
+		return Collections.unmodifiableList( rootEntityClassNames );
+	}
+
+	public List<String> getEntityClassNames() {
+		return Collections.unmodifiableList( entityClassNames );
+	}
+
+	public List<String> getMappedSuperclassNames() {
+		return Collections.unmodifiableList( mappedSuperclassNames );
+	}
+
+	public List<String> getEmbeddableClassNames() {
+		return Collections.unmodifiableList( embeddableClassNames );
+	}
+
+	public List<String> getConverterClassNames() {
+		return Collections.unmodifiableList( converterClassNames );
+	}
+
+	/**
+	 * Names of the entities, mapped-superclasses and embeddables
+	 */
+	public List<String> getManagedClassNames() {
+		final List<String> names = new ArrayList<>( mappedSuperclassNames );
+		names.addAll( embeddableClassNames );
+		names.addAll( entityClassNames );
+		return names;
+	}
+
+	/**
+	 * The generated orm.xml document, or {@code null} if one was not requested
+	 */
+	public byte[] getOrmXml() {
+		return ormXml;
+	}
+
+	/**
+	 * ClassLoader for loading the generated classes
+	 */
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	/**
+	 * ClassLoading for loading the generated classes
+	 */
+	public ClassLoading getClassLoading() {
+		return classLoading;
+	}
+
+	/**
+	 * Load the named generated classes
+	 */
+	public List<Class<?>> loadClasses(List<String> classNames) {
+		final List<Class<?>> classes = new ArrayList<>( classNames.size() );
+		for ( int i = 0; i < classNames.size(); i++ ) {
+			classes.add( classLoading.classForName( classNames.get( i ) ) );
+		}
+		return classes;
+	}
+
+	/**
+	 * Index all generated classes into the given Indexer
+	 */
+	public void indexInto(Indexer indexer) {
+		for ( Map.Entry<String, byte[]> entry : classFiles.entrySet() ) {
+			try {
+				indexer.index( new ByteArrayInputStream( entry.getValue() ) );
+			}
+			catch (IOException e) {
+				throw new ModelsException( "Unable to index generated class - " + entry.getKey(), e );
+			}
+		}
+	}
+
+	/**
+	 * Build a Jandex index of the generated classes, along with the base-line Java types and the
+	 * JPA and Hibernate annotations.  See {@linkplain SourceModelTestHelper#createIndexer}
+	 */
+	public Index buildJandexIndex() {
+		final Indexer indexer = SourceModelTestHelper.createIndexer( classLoading );
+		indexInto( indexer );
+		return indexer.complete();
+	}
+
+	private static class GeneratedClassLoading implements ClassLoading {
+		private final ClassLoader classLoader;
+
+		private GeneratedClassLoading(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		public <T> Class<T> classForName(String name) {
+			try {
+				//noinspection unchecked
+				return (Class<T>) classLoader.loadClass( name );
+			}
+			catch (ClassNotFoundException e) {
+				throw new ModelsException( "Unable to locate class - " + name, e );
+			}
+		}
+
+		@Override
+		public Package packageForName(String name) {
+			return classLoader.getDefinedPackage( name );
+		}
+
+		@Override
+		public URL locateResource(String resourceName) {
+			return classLoader.getResource( resourceName );
+		}
+	}
+}
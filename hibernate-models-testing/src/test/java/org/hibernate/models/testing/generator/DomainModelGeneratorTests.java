@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.hibernate.models.source.SourceModelTestHelper;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.NamedQueries;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class DomainModelGeneratorTests {
+	@Test
+	void testIndexedModel() {
+		final GeneratedDomainModel model = new DomainModelGenerator()
+				.entityCount( 20 )
+				.hierarchyDepth( 3 )
+				.attributeCount( 4 )
+				.embeddableCount( 2 )
+				.associationDensity( 1 )
+				.namedQueryCount( 2 )
+				.converterCount( 2 )
+				.generate();
+
+		assertThat( model.getEntityClassNames() ).hasSize( 20 );
+		assertThat( model.getRootEntityClassNames() ).hasSize( 7 );
+		assertThat( model.getEmbeddableClassNames() ).hasSize( 2 );
+		assertThat( model.getConverterClassNames() ).hasSize( 2 );
+		assertThat( model.getMappedSuperclassNames() ).hasSize( 1 );
+		assertThat( model.getClassCount() ).isEqualTo( 25 );
+		assertThat( model.getOrmXml() ).isNull();
+
+		final Index index = model.buildJandexIndex();
+		assertThat( index.getAnnotations( DotName.createSimple( Entity.class.getName() ) ) ).hasSize( 20 );
+		assertThat( index.getAnnotations( DotName.createSimple( MappedSuperclass.class.getName() ) ) ).hasSize( 1 );
+		assertThat( index.getAnnotations( DotName.createSimple( Converter.class.getName() ) ) ).hasSize( 2 );
+		assertThat( index.getAnnotations( DotName.createSimple( NamedQueries.class.getName() ) ) ).hasSize( 7 );
+		assertThat( index.getAnnotations( DotName.createSimple( Convert.class.getName() ) ) ).hasSize( 20 );
+		// every entity other than the first has exactly one association
+		assertThat( index.getAnnotations( DotName.createSimple( ManyToOne.class.getName() ) ) ).hasSize( 19 );
+
+		final SourceModelBuildingContext buildingContext = SourceModelTestHelper.createBuildingContext(
+				index,
+				model.getClassLoading()
+		);
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+
+		// the 3rd entity is the deepest of the first hierarchy
+		final ClassDetails leaf = classDetailsRegistry.resolveClassDetails( model.getEntityClassNames().get( 2 ) );
+		assertThat( leaf.getAnnotationUsage( Entity.class ) ).isNotNull();
+		assertThat( leaf.getSuperType().getClassName() ).isEqualTo( model.getEntityClassNames().get( 1 ) );
+		assertThat( leaf.getSuperType().getSuperType().getClassName() ).isEqualTo( model.getRootEntityClassNames().get( 0 ) );
+		assertThat( leaf.getSuperType().getSuperType().getSuperType().getClassName() )
+				.isEqualTo( model.getMappedSuperclassNames().get( 0 ) );
+
+		final FieldDetails attribute = leaf.findFieldByName( "level2Attribute0" );
+		assertThat( attribute ).isNotNull();
+		assertThat( attribute.getAnnotationUsage( Basic.class ) ).isNotNull();
+		assertThat( attribute.getAnnotationUsage( Convert.class ) ).isNotNull();
+		assertThat( leaf.findFieldByName( "level2Component" ) ).isNotNull();
+	}
+
+	@Test
+	void testPropertyAccess() {
+		final GeneratedDomainModel model = new DomainModelGenerator()
+				.entityCount( 5 )
+				.attributeCount( 2 )
+				.propertyAccessRatio( 1 )
+				.generate();
+
+		final SourceModelBuildingContext buildingContext = SourceModelTestHelper.createBuildingContext(
+				model.buildJandexIndex(),
+				model.getClassLoading()
+		);
+		final ClassDetails entity = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( model.getEntityClassNames().get( 0 ) );
+
+		final FieldDetails field = entity.findFieldByName( "level0Attribute0" );
+		assertThat( field ).isNotNull();
+		assertThat( field.getAnnotationUsage( Basic.class ) ).isNull();
+
+		final MethodDetails getter = entity.findMethodByName( "getLevel0Attribute0" );
+		assertThat( getter ).isNotNull();
+		assertThat( getter.getAnnotationUsage( Basic.class ) ).isNotNull();
+
+		final MethodDetails idGetter = entity.getSuperType().findMethodByName( "getId" );
+		assertThat( idGetter ).isNotNull();
+		assertThat( idGetter.getAnnotationUsage( Id.class ) ).isNotNull();
+	}
+
+	@Test
+	void testLoading() throws Exception {
+		final GeneratedDomainModel model = new DomainModelGenerator()
+				.entityCount( 10 )
+				.hierarchyDepth( 2 )
+				.propertyAccessRatio( 0.5 )
+				.converterCount( 1 )
+				.generate();
+
+		final List<Class<?>> entityClasses = model.loadClasses( model.getEntityClassNames() );
+		assertThat( entityClasses ).hasSize( 10 );
+		for ( Class<?> entityClass : entityClasses ) {
+			assertThat( entityClass.isAnnotationPresent( Entity.class ) ).isTrue();
+			assertThat( entityClass.getDeclaredConstructor().newInstance() ).isNotNull();
+		}
+
+		final List<Class<?>> converterClasses = model.loadClasses( model.getConverterClassNames() );
+		@SuppressWarnings("unchecked")
+		final jakarta.persistence.AttributeConverter<String, String> converter =
+				(jakarta.persistence.AttributeConverter<String, String>) converterClasses.get( 0 ).getDeclaredConstructor().newInstance();
+		assertThat( converter.convertToDatabaseColumn( "value" ) ).isEqualTo( "value" );
+	}
+
+	@Test
+	void testOrmXml() {
+		final GeneratedDomainModel model = new DomainModelGenerator()
+				.entityCount( 12 )
+				.generateOrmXml( true )
+				.generate();
+
+		final String ormXml = new String( model.getOrmXml(), StandardCharsets.UTF_8 );
+		assertThat( ormXml ).contains( "<package>" + DomainModelGenerator.DEFAULT_PACKAGE_NAME + "</package>" );
+		assertThat( ormXml.split( "<entity class=" ) ).hasSize( 13 );
+		assertThat( ormXml ).contains( "<basic name=\"level0Attribute0\">" );
+	}
+
+	@Test
+	void testDeterminism() {
+		final DomainModelGenerator generator = new DomainModelGenerator()
+				.entityCount( 50 )
+				.hierarchyDepth( 2 )
+				.associationDensity( 1.5 )
+				.propertyAccessRatio( 0.5 )
+				.seed( 42 );
+
+		final GeneratedDomainModel first = generator.generate();
+		final GeneratedDomainModel second = generator.generate();
+		assertThat( second.getClassFiles().keySet() ).containsExactlyElementsOf( first.getClassFiles().keySet() );
+		for ( String className : first.getClassFiles().keySet() ) {
+			assertThat( second.getClassFiles().get( className ) ).isEqualTo( first.getClassFiles().get( className ) );
+		}
+	}
+}